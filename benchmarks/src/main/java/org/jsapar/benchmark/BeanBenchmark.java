@@ -0,0 +1,74 @@
+package org.jsapar.benchmark;
+
+import org.jsapar.bean.BeanMap;
+import org.jsapar.compose.bean.BeanComposer;
+import org.jsapar.compose.bean.BeanFactoryByMap;
+import org.jsapar.model.Line;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures composing of beans from lines. Each benchmark operation composes exactly one line into a
+ * {@link SyntheticBean}, so the reported throughput is lines per second. Run with {@code -prof gc} and the
+ * {@code gc.alloc.rate.norm} figure is the number of bytes allocated per composed bean.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BeanBenchmark {
+
+    /**
+     * The cell type mix that matches the properties of {@link SyntheticBean}.
+     */
+    static final String MIX     = "STRING,INTEGER,DECIMAL,FLOAT,LOCAL_DATE,BOOLEAN";
+    static final int    COLUMNS = 6;
+
+    @Param({"1000"})
+    public int rows;
+
+    private Line[]                      lines;
+    private int                         next = 0;
+    private BeanComposer<SyntheticBean> beanComposer;
+    private SyntheticBean               composed;
+
+    static BeanMap beanMap() {
+        return BeanMap.builder()
+                .withLine(SyntheticData.LINE_TYPE, SyntheticBean.class, b -> {
+                    for (int i = 0; i < COLUMNS; i++)
+                        b.withCell(SyntheticData.cellName(i));
+                    return b;
+                })
+                .build();
+    }
+
+    @Setup
+    public void setUp() {
+        lines = new SyntheticData(COLUMNS, MIX).lines(rows).toArray(new Line[0]);
+        beanComposer = new BeanComposer<>(new BeanFactoryByMap<>(beanMap()));
+        beanComposer.setBeanConsumer(bean -> composed = bean);
+    }
+
+    @Benchmark
+    public void beanCompose(Blackhole blackhole) {
+        Line line = lines[next++];
+        if (next == lines.length)
+            next = 0;
+        blackhole.consume(beanComposer.composeLine(line));
+        blackhole.consume(composed);
+    }
+}
@@ -0,0 +1,73 @@
+package org.jsapar.benchmark;
+
+import org.jsapar.TextComposer;
+import org.jsapar.model.Line;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures composing of CSV and fixed width text. Each benchmark operation composes exactly one line into a writer
+ * that discards all output, so the reported throughput is lines per second. Run with {@code -prof gc} and the
+ * {@code gc.alloc.rate.norm} figure is the number of bytes allocated per composed line.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComposeBenchmark {
+
+    @Param({"1000"})
+    public int rows;
+
+    @Param({"10"})
+    public int columns;
+
+    @Param({"STRING", "INTEGER,DECIMAL,FLOAT", "STRING,INTEGER,DECIMAL,LOCAL_DATE,BOOLEAN"})
+    public String mix;
+
+    private Line[]       lines;
+    private int          next = 0;
+    private TextComposer csvComposer;
+    private TextComposer fixedWidthComposer;
+
+    @Setup
+    public void setUp() {
+        SyntheticData data = new SyntheticData(columns, mix);
+        List<Line> parsed = data.lines(rows);
+        lines = parsed.toArray(new Line[0]);
+        csvComposer = new TextComposer(data.csvSchema(), Writer.nullWriter());
+        fixedWidthComposer = new TextComposer(data.fixedWidthSchema(), Writer.nullWriter());
+    }
+
+    private Line nextLine() {
+        Line line = lines[next++];
+        if (next == lines.length)
+            next = 0;
+        return line;
+    }
+
+    @Benchmark
+    public boolean csvCompose() {
+        return csvComposer.composeLine(nextLine());
+    }
+
+    @Benchmark
+    public boolean fixedWidthCompose() {
+        return fixedWidthComposer.composeLine(nextLine());
+    }
+}
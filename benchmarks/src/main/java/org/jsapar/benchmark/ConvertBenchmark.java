@@ -0,0 +1,86 @@
+package org.jsapar.benchmark;
+
+import org.jsapar.Text2BeanConverter;
+import org.jsapar.Text2XmlConverter;
+import org.jsapar.schema.CsvSchema;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the converters that parse a complete CSV document of {@code rows} lines into beans or into xml. One benchmark
+ * operation is one complete document. The secondary result {@code lines} reports the number of converted lines per
+ * second. Divide the {@code gc.alloc.rate.norm} figure of {@code -prof gc} by {@code rows} to get bytes allocated per
+ * line.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConvertBenchmark {
+
+    @Param({"1000"})
+    public int rows;
+
+    private String                            beanText;
+    private Text2BeanConverter<SyntheticBean> text2BeanConverter;
+    private String                            xmlText;
+    private Text2XmlConverter                 text2XmlConverter;
+
+    /**
+     * Counts the number of converted lines.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class LineCounter {
+        public long lines;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            lines = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        SyntheticData beanData = new SyntheticData(BeanBenchmark.COLUMNS, BeanBenchmark.MIX);
+        beanText = beanData.csvText(rows);
+        text2BeanConverter = new Text2BeanConverter<>(beanData.csvSchema(), BeanBenchmark.beanMap());
+
+        SyntheticData xmlData = new SyntheticData(10, "STRING,INTEGER,DECIMAL,LOCAL_DATE,BOOLEAN");
+        xmlText = xmlData.csvText(rows);
+        CsvSchema xmlSchema = xmlData.csvSchema();
+        text2XmlConverter = new Text2XmlConverter(xmlSchema);
+    }
+
+    @Benchmark
+    public long text2Bean(Blackhole blackhole, LineCounter counter) throws IOException {
+        long count = text2BeanConverter.convertForEach(new StringReader(beanText), blackhole::consume);
+        counter.lines += count;
+        return count;
+    }
+
+    @Benchmark
+    public void text2Xml(LineCounter counter) {
+        text2XmlConverter.convert(new StringReader(xmlText), Writer.nullWriter());
+        counter.lines += rows;
+    }
+}
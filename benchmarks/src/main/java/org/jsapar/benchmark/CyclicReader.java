@@ -0,0 +1,44 @@
+package org.jsapar.benchmark;
+
+import java.io.Reader;
+
+/**
+ * A reader that endlessly repeats the same text. Makes it possible to let each benchmark operation parse exactly one
+ * line without ever reaching end of input.
+ */
+final class CyclicReader extends Reader {
+    private final char[] text;
+    private int pos = 0;
+
+    /**
+     * @param text The text to repeat. Should end with a line separator.
+     */
+    CyclicReader(String text) {
+        if (text.isEmpty())
+            throw new IllegalArgumentException("Text to repeat can not be empty");
+        this.text = text.toCharArray();
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) {
+        int toCopy = Math.min(len, text.length - pos);
+        System.arraycopy(text, pos, cbuf, off, toCopy);
+        pos += toCopy;
+        if (pos == text.length)
+            pos = 0;
+        return toCopy;
+    }
+
+    @Override
+    public int read() {
+        char c = text[pos++];
+        if (pos == text.length)
+            pos = 0;
+        return c;
+    }
+
+    @Override
+    public void close() {
+        // Nothing to close
+    }
+}
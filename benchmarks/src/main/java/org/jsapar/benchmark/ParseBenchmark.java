@@ -0,0 +1,68 @@
+package org.jsapar.benchmark;
+
+import org.jsapar.TextParser;
+import org.jsapar.model.Line;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing of CSV and fixed width text. Each benchmark operation parses exactly one line, so the reported
+ * throughput is lines per second. Run with {@code -prof gc} and the {@code gc.alloc.rate.norm} figure is the number of
+ * bytes allocated per parsed line.
+ * <p>
+ * The parsers read from a reader that endlessly repeats {@code rows} generated lines.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseBenchmark {
+
+    @Param({"1000"})
+    public int rows;
+
+    @Param({"10"})
+    public int columns;
+
+    @Param({"STRING", "INTEGER,DECIMAL,FLOAT", "STRING,INTEGER,DECIMAL,LOCAL_DATE,BOOLEAN"})
+    public String mix;
+
+    private Iterator<Line> csvLines;
+    private Iterator<Line> fixedWidthLines;
+
+    @Setup
+    public void setUp() throws IOException {
+        SyntheticData data = new SyntheticData(columns, mix);
+        csvLines = new TextParser(data.csvSchema())
+                .stream(new CyclicReader(data.csvText(rows)))
+                .iterator();
+        fixedWidthLines = new TextParser(data.fixedWidthSchema())
+                .stream(new CyclicReader(data.fixedWidthText(rows)))
+                .iterator();
+    }
+
+    @Benchmark
+    public Line csvParse() {
+        return csvLines.next();
+    }
+
+    @Benchmark
+    public Line fixedWidthParse() {
+        return fixedWidthLines.next();
+    }
+}
@@ -0,0 +1,65 @@
+package org.jsapar.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Bean that lines of {@link BeanBenchmark#MIX} are composed into. Properties are named as the cells, {@code c0} to
+ * {@code c5}.
+ */
+public class SyntheticBean {
+    private String     c0;
+    private long       c1;
+    private BigDecimal c2;
+    private double     c3;
+    private LocalDate  c4;
+    private boolean    c5;
+
+    public String getC0() {
+        return c0;
+    }
+
+    public void setC0(String c0) {
+        this.c0 = c0;
+    }
+
+    public long getC1() {
+        return c1;
+    }
+
+    public void setC1(long c1) {
+        this.c1 = c1;
+    }
+
+    public BigDecimal getC2() {
+        return c2;
+    }
+
+    public void setC2(BigDecimal c2) {
+        this.c2 = c2;
+    }
+
+    public double getC3() {
+        return c3;
+    }
+
+    public void setC3(double c3) {
+        this.c3 = c3;
+    }
+
+    public LocalDate getC4() {
+        return c4;
+    }
+
+    public void setC4(LocalDate c4) {
+        this.c4 = c4;
+    }
+
+    public boolean isC5() {
+        return c5;
+    }
+
+    public void setC5(boolean c5) {
+        this.c5 = c5;
+    }
+}
@@ -0,0 +1,212 @@
+package org.jsapar.benchmark;
+
+import org.jsapar.TextParser;
+import org.jsapar.model.CellType;
+import org.jsapar.model.Line;
+import org.jsapar.schema.CsvSchema;
+import org.jsapar.schema.CsvSchemaLine;
+import org.jsapar.schema.FixedWidthSchema;
+import org.jsapar.schema.FixedWidthSchemaCell;
+import org.jsapar.schema.FixedWidthSchemaLine;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Generates schemas and matching synthetic text input for the benchmarks. The data is generated from a fixed seed so
+ * that repeated runs use exactly the same input.
+ * <p>
+ * The columns of the generated schemas cycle through the cell types of the mix, e.g. a mix of
+ * {@code "STRING,INTEGER"} with five columns gives the types STRING, INTEGER, STRING, INTEGER, STRING. Cells are named
+ * {@code c0}, {@code c1} and so on and all lines have the line type {@link #LINE_TYPE}. Numeric cells of fixed width
+ * lines are right aligned.
+ */
+public final class SyntheticData {
+
+    /**
+     * The line type of all generated lines.
+     */
+    public static final String LINE_TYPE = "row";
+
+    /**
+     * The cell types that can be used within a mix.
+     */
+    public static final List<CellType> SUPPORTED_TYPES = List.of(
+            CellType.STRING, CellType.INTEGER, CellType.DECIMAL, CellType.FLOAT, CellType.LOCAL_DATE, CellType.BOOLEAN);
+
+    private static final String LINE_SEPARATOR = "\n";
+    private static final String CELL_SEPARATOR = ";";
+    private static final long   SEED           = 4711L;
+
+    private final CellType[] cellTypes;
+
+    /**
+     * @param columns Number of columns of each line.
+     * @param mix     Comma separated list of cell types that the columns cycle through.
+     */
+    public SyntheticData(int columns, String mix) {
+        if (columns <= 0)
+            throw new IllegalArgumentException("Number of columns needs to be a positive number");
+        CellType[] mixTypes = Arrays.stream(mix.split(","))
+                .map(String::trim)
+                .map(CellType::valueOf)
+                .toArray(CellType[]::new);
+        for (CellType cellType : mixTypes) {
+            if (!SUPPORTED_TYPES.contains(cellType))
+                throw new IllegalArgumentException("Cell type " + cellType + " is not supported by the benchmarks. Use one of " + SUPPORTED_TYPES);
+        }
+        this.cellTypes = new CellType[columns];
+        for (int i = 0; i < columns; i++) {
+            this.cellTypes[i] = mixTypes[i % mixTypes.length];
+        }
+    }
+
+    public int getColumns() {
+        return cellTypes.length;
+    }
+
+    public static String cellName(int column) {
+        return "c" + column;
+    }
+
+    /**
+     * @return A CSV schema with one line type where all lines may occur any number of times.
+     */
+    public CsvSchema csvSchema() {
+        return CsvSchema.builder()
+                .withLineSeparator(LINE_SEPARATOR)
+                .withLine(LINE_TYPE, line -> {
+                    CsvSchemaLine.Builder b = line.withCellSeparator(CELL_SEPARATOR).withQuoteChar('"');
+                    for (int i = 0; i < cellTypes.length; i++) {
+                        CellType cellType = cellTypes[i];
+                        b.withCell(cellName(i), cell -> cell.withType(cellType));
+                    }
+                    return b;
+                })
+                .build();
+    }
+
+    /**
+     * @return A fixed width schema with one line type where all lines may occur any number of times.
+     */
+    public FixedWidthSchema fixedWidthSchema() {
+        return FixedWidthSchema.builder()
+                .withLineSeparator(LINE_SEPARATOR)
+                .withLine(LINE_TYPE, line -> {
+                    FixedWidthSchemaLine.Builder b = line;
+                    for (int i = 0; i < cellTypes.length; i++) {
+                        CellType cellType = cellTypes[i];
+                        FixedWidthSchemaCell.Alignment alignment = cellType.isNumber() ? FixedWidthSchemaCell.Alignment.RIGHT : FixedWidthSchemaCell.Alignment.LEFT;
+                        b.withCell(cellName(i), fixedWidthOf(cellType), cell -> cell.withType(cellType).withAlignment(alignment));
+                    }
+                    return b;
+                })
+                .build();
+    }
+
+    /**
+     * @param rows Number of lines to generate.
+     * @return CSV text with the supplied number of lines, each line terminated by a line separator.
+     */
+    public String csvText(int rows) {
+        Random random = new Random(SEED);
+        StringBuilder sb = new StringBuilder();
+        for (int row = 0; row < rows; row++) {
+            for (int i = 0; i < cellTypes.length; i++) {
+                if (i > 0)
+                    sb.append(CELL_SEPARATOR);
+                String value = valueOf(cellTypes[i], random);
+                if (value.contains(CELL_SEPARATOR))
+                    sb.append('"').append(value).append('"');
+                else
+                    sb.append(value);
+            }
+            sb.append(LINE_SEPARATOR);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @param rows Number of lines to generate.
+     * @return Fixed width text with the supplied number of lines, each line terminated by a line separator.
+     */
+    public String fixedWidthText(int rows) {
+        Random random = new Random(SEED);
+        StringBuilder sb = new StringBuilder();
+        for (int row = 0; row < rows; row++) {
+            for (CellType cellType : cellTypes) {
+                String value = valueOf(cellType, random).replace(CELL_SEPARATOR, " ");
+                int width = fixedWidthOf(cellType);
+                if (cellType.isNumber())
+                    sb.append(" ".repeat(Math.max(0, width - value.length())));
+                sb.append(value, 0, Math.min(width, value.length()));
+                if (!cellType.isNumber())
+                    sb.append(" ".repeat(Math.max(0, width - value.length())));
+            }
+            sb.append(LINE_SEPARATOR);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @param rows Number of lines to generate.
+     * @return Lines with parsed cell values, useful as input to composers.
+     */
+    public List<Line> lines(int rows) {
+        try {
+            return new TextParser(csvSchema())
+                    .stream(new StringReader(csvText(rows)))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int fixedWidthOf(CellType cellType) {
+        switch (cellType) {
+        case INTEGER:
+            return 10;
+        case LOCAL_DATE:
+            return 10;
+        case BOOLEAN:
+            return 5;
+        default:
+            return 12;
+        }
+    }
+
+    private static String valueOf(CellType cellType, Random random) {
+        switch (cellType) {
+        case INTEGER:
+            return String.valueOf(random.nextInt(2_000_000) - 1_000_000);
+        case DECIMAL:
+            return (random.nextInt(1_000_000) - 500_000) / 100 + "." + String.format("%02d", random.nextInt(100));
+        case FLOAT:
+            return String.valueOf(Math.round(random.nextDouble() * 1_000_000) / 1000.0);
+        case LOCAL_DATE:
+            return LocalDate.of(2000, 1, 1).plusDays(random.nextInt(10_000)).toString();
+        case BOOLEAN:
+            return String.valueOf(random.nextBoolean());
+        default:
+            return randomText(random);
+        }
+    }
+
+    private static String randomText(Random random) {
+        int length = 3 + random.nextInt(9);
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++)
+            chars[i] = (char) ('a' + random.nextInt(26));
+        // Roughly one in ten text values contains the cell separator and thus needs quoting.
+        if (length > 4 && random.nextInt(10) == 0)
+            chars[length / 2] = CELL_SEPARATOR.charAt(0);
+        return new String(chars);
+    }
+}
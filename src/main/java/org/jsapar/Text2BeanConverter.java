@@ -5,6 +5,7 @@ import org.jsapar.compose.bean.*;
 import org.jsapar.convert.AbstractConverter;
 import org.jsapar.error.BeanException;
 import org.jsapar.model.Line;
+import org.jsapar.parse.StreamPublisher;
 import org.jsapar.parse.text.TextParseTask;
 import org.jsapar.parse.text.TextSchemaParser;
 import org.jsapar.schema.Schema;
@@ -15,6 +16,7 @@ import org.jsapar.text.TextParseConfig;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.List;
+import java.util.concurrent.Flow;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -136,6 +138,23 @@ public class Text2BeanConverter<T> extends AbstractConverter {
         }
     }
 
+    /**
+     * Returns a publisher that parses lines from the reader and composes beans only as they are requested by the
+     * subscriber, which makes it possible to feed a consumer that signals its demand without buffering the beans.
+     * Parsing starts when the first bean is requested and stops when all beans have been published or when the
+     * subscription is cancelled. The beans are published by the thread that requests them.
+     * <p>
+     * Only one subscriber can subscribe to the returned publisher. Errors that are not handled by the error consumer,
+     * including errors while reading from the reader, are signalled to the subscriber. The reader is not closed by
+     * this method.
+     * @param reader The reader to read the text from.
+     * @return A publisher of the beans composed from the lines of the reader, in the order they were parsed.
+     * @since 2.5
+     */
+    public Flow.Publisher<T> publisher(Reader reader) {
+        return new StreamPublisher<>(() -> stream(reader));
+    }
+
     /**
      * Executes the actual convert. For each bean that is composed, the bean composer will be called.
      * @param reader The reader to read the text from.
@@ -16,6 +16,7 @@ import java.io.Writer;
  * See {@link AbstractConverter} for details about error handling and manipulating data.
  *
  * @see org.jsapar.concurrent.ConcurrentText2TextConverter
+ * @see org.jsapar.concurrent.ParallelText2TextConverter
  */
 public class Text2TextConverter extends AbstractConverter {
     private final Schema<? extends SchemaLine<? extends SchemaCell>>          parseSchema;
@@ -1,5 +1,6 @@
 package org.jsapar;
 
+import org.jsapar.compose.ChunkedEncodingWriter;
 import org.jsapar.compose.Composer;
 import org.jsapar.compose.internal.ComposerFactory;
 import org.jsapar.compose.internal.SchemaComposer;
@@ -10,8 +11,11 @@ import org.jsapar.model.Line;
 import org.jsapar.schema.Schema;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
 import java.util.function.Consumer;
 
 /**
@@ -36,6 +40,36 @@ public final class TextComposer implements Composer, AutoCloseable {
         this(schema, writer, new TextComposerFactory());
     }
 
+    /**
+     * Creates an TextComposer that encodes the text output and writes it to an output stream in large blocks, see
+     * {@link ChunkedEncodingWriter}. The output is not complete until the {@link #close()} or {@link #flush()} method
+     * of the created instance has been called.
+     *
+     * @param schema       The schema to use.
+     * @param outputStream The output stream to write encoded text output to. It is closed by the close method of the
+     *                     created instance.
+     * @param charset      The character set to encode the text output with.
+     * @since 2.5
+     */
+    public TextComposer(Schema<?> schema, OutputStream outputStream, Charset charset) {
+        this(schema, new ChunkedEncodingWriter(outputStream, charset));
+    }
+
+    /**
+     * Creates an TextComposer that encodes the text output and writes it to a channel, for instance a
+     * {@link java.nio.channels.FileChannel}, in large blocks, see {@link ChunkedEncodingWriter}. The output is not
+     * complete until the {@link #close()} or {@link #flush()} method of the created instance has been called.
+     *
+     * @param schema  The schema to use.
+     * @param channel The channel to write encoded text output to. It is closed by the close method of the created
+     *                instance.
+     * @param charset The character set to encode the text output with.
+     * @since 2.5
+     */
+    public TextComposer(Schema<?> schema, WritableByteChannel channel, Charset charset) {
+        this(schema, new ChunkedEncodingWriter(channel, charset));
+    }
+
     /**
      * Creates an TextComposer with a schema allowing to add custom {@link SchemaComposer}.
      *
@@ -110,6 +144,15 @@ public final class TextComposer implements Composer, AutoCloseable {
     }
 
 
+    /**
+     * Flushes the attached writer.
+     * @throws IOException In case of failing to flush
+     * @since 2.5
+     */
+    public void flush() throws IOException {
+        this.writer.flush();
+    }
+
     /**
      * Closes the attached writer.
      * @throws IOException In case of failing to close
@@ -4,6 +4,7 @@ import org.jsapar.model.Line;
 import org.jsapar.parse.AbstractParser;
 import org.jsapar.parse.LineEventListener;
 import org.jsapar.parse.LineEventListenerLineConsumer;
+import org.jsapar.parse.StreamPublisher;
 import org.jsapar.parse.text.TextParseTask;
 import org.jsapar.parse.text.TextSchemaParser;
 import org.jsapar.schema.Schema;
@@ -11,6 +12,12 @@ import org.jsapar.text.TextParseConfig;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -78,6 +85,46 @@ public class TextParser extends AbstractParser {
         return execute(parseTask, lineConsumer);
     }
 
+    /**
+     * Reads text from supplied file and parses each line. Each parsed line generates a call-back to the lineConsumer.
+     * <p>
+     * If the parallelism of the parse configuration is more than one, the file is split into chunks that are parsed
+     * in parallel, see {@link TextParseConfig#setParallelism(int)}. The line consumer and the error consumer are
+     * always called by the calling thread.
+     *
+     * @param path         The path of the file to parse.
+     * @param charset      The character set of the file.
+     * @param lineConsumer The line consumer that will be called for each line.
+     * @return Number of parsed lines.
+     * @throws IOException In case of IO error
+     * @since 2.5
+     */
+    public long parseForEach(Path path, Charset charset, Consumer<Line> lineConsumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return parseForEach(channel, charset, lineConsumer);
+        }
+    }
+
+    /**
+     * Reads text from supplied file channel and parses each line. Each parsed line generates a call-back to the
+     * lineConsumer. Reading starts at the current position of the channel. The channel is not closed by this method.
+     * <p>
+     * If the parallelism of the parse configuration is more than one, the input is split into chunks that are parsed
+     * in parallel, see {@link TextParseConfig#setParallelism(int)}. The line consumer and the error consumer are
+     * always called by the calling thread.
+     *
+     * @param channel      The file channel to read from.
+     * @param charset      The character set of the file.
+     * @param lineConsumer The line consumer that will be called for each line.
+     * @return Number of parsed lines.
+     * @throws IOException In case of IO error
+     * @since 2.5
+     */
+    public long parseForEach(FileChannel channel, Charset charset, Consumer<Line> lineConsumer) throws IOException {
+        TextSchemaParser parser = TextSchemaParser.ofSchema(parseSchema, channel, charset, parseConfig);
+        return parser.parse(lineConsumer, getErrorConsumer());
+    }
+
     /**
      * Returns a stream of lines that are lazily populated by lines when pulled from the stream. The reader is consumed
      * on the fly upon pulling items from the stream.
@@ -94,6 +141,74 @@ public class TextParser extends AbstractParser {
         return parser.stream(getErrorConsumer());
     }
 
+    /**
+     * Returns a publisher that parses lines from the reader only as they are requested by the subscriber, which makes
+     * it possible to feed a consumer that signals its demand without buffering the parsed lines. Parsing starts when
+     * the first line is requested and stops when all lines have been published or when the subscription is
+     * cancelled. The lines are published by the thread that requests them.
+     * <p>
+     * Only one subscriber can subscribe to the returned publisher. Errors that are not handled by the error consumer,
+     * including errors while reading from the reader, are signalled to the subscriber. The reader is not closed by
+     * this method.
+     * @param reader The reader to parse from.
+     * @return A publisher of the lines parsed from the reader, in the order they were parsed.
+     * @since 2.5
+     */
+    public Flow.Publisher<Line> publisher(Reader reader) {
+        return new StreamPublisher<>(() -> stream(reader));
+    }
+
+    /**
+     * Returns a stream of lines that are lazily populated by lines when pulled from the stream. The file is read on
+     * the fly upon pulling items from the stream and it is closed when the stream is closed, so make sure to close
+     * the stream, for instance by using a try-with-resources statement.
+     * <br/>
+     * The stream can be split into chunks of the file, which makes it possible to process the lines in parallel by
+     * calling {@link Stream#parallel()}. The size of each chunk is given by
+     * {@link TextParseConfig#setParallelChunkSize(int)}. Lines that are limited in number of occurrences and header
+     * lines are parsed before the rest of the file can be split. When the stream is parallel, the error consumer may be
+     * called by several threads at the same time.
+     * @param path    The path of the file to parse.
+     * @param charset The character set of the file.
+     * @return a stream of lines that are lazily populated by lines when pulled from the stream. The encounter order of
+     * the stream is according to the order of the lines within the file.
+     * @throws IOException If there is an error reading from the file.
+     * @since 2.5
+     */
+    public Stream<Line> stream(Path path, Charset charset) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return stream(channel, charset).onClose(() -> {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a stream of lines that are lazily populated by lines when pulled from the stream. The channel is read on
+     * the fly upon pulling items from the stream, starting at the current position. The channel is not closed by
+     * this method.
+     * <br/>
+     * The stream can be split into chunks of the file in the same way as for {@link #stream(Path, Charset)}.
+     * @param channel The file channel to read from.
+     * @param charset The character set of the file.
+     * @return a stream of lines that are lazily populated by lines when pulled from the stream. The encounter order of
+     * the stream is according to the order of the lines within the file.
+     * @throws IOException If there is an error reading from the file.
+     * @since 2.5
+     */
+    public Stream<Line> stream(FileChannel channel, Charset charset) throws IOException {
+        TextSchemaParser parser = TextSchemaParser.ofSchema(parseSchema, channel, charset, getParseConfig());
+        return parser.stream(getErrorConsumer());
+    }
+
 
     /**
      * Reads text from supplied reader and parses each line. Each parsed line generates a call-back to the lineConsumer.
@@ -0,0 +1,263 @@
+package org.jsapar.compose;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A writer that collects the written characters in a large buffer and, each time the buffer is full, encodes the whole
+ * buffer at once and writes the bytes to an {@link OutputStream} or a {@link WritableByteChannel}, such as a
+ * {@link java.nio.channels.FileChannel}, in one block. UTF-8 and ISO-8859-1 are encoded directly by this class, other
+ * character sets are encoded by a {@link CharsetEncoder}. Characters that cannot be encoded, as well as surrogate
+ * characters that are not part of a pair, are replaced in the same way as by {@link java.io.OutputStreamWriter}.
+ * <p>
+ * Since nothing is written to the output until the buffer is full, the writer needs to be flushed or closed when
+ * done. Instances of this class are not thread safe.
+ * @since 2.5
+ */
+public final class ChunkedEncodingWriter extends java.io.Writer {
+    /**
+     * The default number of characters to collect before encoding and writing them to the output.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 64;
+
+    private static final byte REPLACEMENT = '?';
+
+    private final OutputStream        outputStream;
+    private final WritableByteChannel channel;
+    private final boolean             utf8;
+    private final boolean             latin1;
+    private final CharsetEncoder      encoder;
+    private final char[]              chars;
+    private final byte[]              bytes;
+    private       int                 count;
+    private       boolean             closed;
+
+    /**
+     * Creates a writer with the default buffer size.
+     * @param outputStream The output stream to write the encoded bytes to.
+     * @param charset      The character set to encode with.
+     */
+    public ChunkedEncodingWriter(OutputStream outputStream, Charset charset) {
+        this(outputStream, charset, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param outputStream The output stream to write the encoded bytes to.
+     * @param charset      The character set to encode with.
+     * @param bufferSize   The number of characters to collect before encoding and writing them to the output.
+     */
+    public ChunkedEncodingWriter(OutputStream outputStream, Charset charset, int bufferSize) {
+        this(outputStream, null, charset, bufferSize);
+        if (outputStream == null)
+            throw new IllegalArgumentException("Output stream cannot be null");
+    }
+
+    /**
+     * Creates a writer with the default buffer size.
+     * @param channel The channel to write the encoded bytes to.
+     * @param charset The character set to encode with.
+     */
+    public ChunkedEncodingWriter(WritableByteChannel channel, Charset charset) {
+        this(channel, charset, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param channel    The channel to write the encoded bytes to.
+     * @param charset    The character set to encode with.
+     * @param bufferSize The number of characters to collect before encoding and writing them to the output.
+     */
+    public ChunkedEncodingWriter(WritableByteChannel channel, Charset charset, int bufferSize) {
+        this(null, channel, charset, bufferSize);
+        if (channel == null)
+            throw new IllegalArgumentException("Channel cannot be null");
+    }
+
+    private ChunkedEncodingWriter(OutputStream outputStream, WritableByteChannel channel, Charset charset, int bufferSize) {
+        if (bufferSize < 2)
+            throw new IllegalArgumentException("Buffer size needs to be at least 2 characters");
+        this.outputStream = outputStream;
+        this.channel = channel;
+        this.utf8 = charset.equals(StandardCharsets.UTF_8);
+        this.latin1 = charset.equals(StandardCharsets.ISO_8859_1);
+        this.chars = new char[bufferSize];
+        if (utf8) {
+            this.encoder = null;
+            this.bytes = new byte[bufferSize * 3];
+        } else if (latin1) {
+            this.encoder = null;
+            this.bytes = new byte[bufferSize];
+        } else {
+            this.encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            this.bytes = new byte[(int) Math.ceil(bufferSize * (double) encoder.maxBytesPerChar())];
+        }
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        ensureOpen();
+        if (count == chars.length)
+            encodeAndWrite(false);
+        chars[count++] = (char) c;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            if (count == chars.length)
+                encodeAndWrite(false);
+            final int n = Math.min(len, chars.length - count);
+            System.arraycopy(cbuf, off, chars, count, n);
+            count += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            if (count == chars.length)
+                encodeAndWrite(false);
+            final int n = Math.min(len, chars.length - count);
+            str.getChars(off, off + n, chars, count);
+            count += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Encodes and writes all collected characters, except for a trailing high surrogate that may be followed by its
+     * low surrogate in the next write, then flushes the output.
+     * @throws IOException If there is an error while writing to the output.
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        encodeAndWrite(false);
+        if (outputStream != null)
+            outputStream.flush();
+    }
+
+    /**
+     * Encodes and writes all collected characters, then closes the output.
+     * @throws IOException If there is an error while writing to or closing the output.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed)
+            return;
+        try {
+            encodeAndWrite(true);
+        } finally {
+            closed = true;
+            if (outputStream != null)
+                outputStream.close();
+            else
+                channel.close();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed)
+            throw new IOException("Writer is closed");
+    }
+
+    /**
+     * Encodes the collected characters and writes the bytes to the output. Characters that cannot be encoded yet are
+     * moved to the beginning of the buffer.
+     */
+    private void encodeAndWrite(boolean endOfInput) throws IOException {
+        final int consumed;
+        final int length;
+        if (utf8 || latin1) {
+            consumed = (count > 0 && Character.isHighSurrogate(chars[count - 1]) && !endOfInput) ? count - 1 : count;
+            length = utf8 ? encodeUtf8(consumed) : encodeLatin1(consumed);
+        } else {
+            CharBuffer in = CharBuffer.wrap(chars, 0, count);
+            ByteBuffer out = ByteBuffer.wrap(bytes);
+            CoderResult result = encoder.encode(in, out, endOfInput);
+            if (endOfInput && result.isUnderflow())
+                result = encoder.flush(out);
+            if (result.isError())
+                result.throwException();
+            consumed = in.position();
+            length = out.position();
+        }
+        if (length > 0)
+            writeBytes(length);
+        count -= consumed;
+        if (count > 0)
+            System.arraycopy(chars, consumed, chars, 0, count);
+    }
+
+    private int encodeUtf8(int end) {
+        final char[] chars = this.chars;
+        final byte[] bytes = this.bytes;
+        int j = 0;
+        for (int i = 0; i < end; i++) {
+            final char c = chars[i];
+            if (c < 0x80) {
+                bytes[j++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[j++] = (byte) (0xC0 | (c >> 6));
+                bytes[j++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(chars[i + 1])) {
+                    final int codePoint = Character.toCodePoint(c, chars[++i]);
+                    bytes[j++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[j++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[j++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[j++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    bytes[j++] = REPLACEMENT;
+                }
+            } else {
+                bytes[j++] = (byte) (0xE0 | (c >> 12));
+                bytes[j++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[j++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return j;
+    }
+
+    private int encodeLatin1(int end) {
+        final char[] chars = this.chars;
+        final byte[] bytes = this.bytes;
+        int j = 0;
+        for (int i = 0; i < end; i++) {
+            final char c = chars[i];
+            if (c <= 0xFF) {
+                bytes[j++] = (byte) c;
+            } else {
+                // A surrogate pair is one character that cannot be encoded.
+                if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(chars[i + 1]))
+                    i++;
+                bytes[j++] = REPLACEMENT;
+            }
+        }
+        return j;
+    }
+
+    private void writeBytes(int length) throws IOException {
+        if (outputStream != null) {
+            outputStream.write(bytes, 0, length);
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, length);
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+    }
+}
@@ -3,6 +3,8 @@ package org.jsapar.compose.cell;
 import org.jsapar.model.Cell;
 import org.jsapar.schema.SchemaCell;
 
+import java.io.IOException;
+
 /**
  * Interface for formatting a cell into a string.
  */
@@ -14,6 +16,18 @@ public interface CellFormat {
      */
     String format(Cell cell);
 
+    /**
+     * Formats the cell and appends the result to supplied target, without creating an intermediate string when the
+     * format of the cell supports it.
+     * @param cell   The cell to format.
+     * @param target The target to append the formatted value to.
+     * @throws IOException If appending to the target fails.
+     * @since 2.5
+     */
+    default void format(Cell<?> cell, Appendable target) throws IOException {
+        target.append(format(cell));
+    }
+
 
     /**
      * @param schemaCell The schema cell to produce a format for.
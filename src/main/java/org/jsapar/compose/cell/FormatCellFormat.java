@@ -3,6 +3,8 @@ package org.jsapar.compose.cell;
 import org.jsapar.model.Cell;
 import org.jsapar.text.Format;
 
+import java.io.IOException;
+
 /**
  * Cell format that uses a {@link Format}
  */
@@ -19,4 +21,12 @@ final class FormatCellFormat implements CellFormat {
     public String format(Cell cell) {
         return cell.isEmpty() ? defaultValue : format.format(cell.getValue());
     }
+
+    @Override
+    public void format(Cell<?> cell, Appendable target) throws IOException {
+        if (cell.isEmpty())
+            target.append(defaultValue);
+        else
+            format.format(cell.getValue(), target);
+    }
 }
@@ -16,6 +16,12 @@ final class CsvCellComposer {
     private final CsvSchemaCell schemaCell;
     private final Quoter quoter;
     private final CellFormat cellFormat;
+    /**
+     * Receives the formatted value of each cell, which is then quoted directly from the characters of the buffer so
+     * that no string needs to be created.
+     */
+    private final StringBuilder value = new StringBuilder();
+    private char[] chars = new char[32];
 
     CsvCellComposer(CsvSchemaCell schemaCell, Quoter quoter) {
         this.schemaCell = schemaCell;
@@ -31,7 +37,13 @@ final class CsvCellComposer {
      * @throws IOException In case of error in underlying IO operation
      */
     void compose(Writer writer, Cell<?> cell) throws IOException {
-        quoter.writeValue(writer, cellFormat.format(cell));
+        value.setLength(0);
+        cellFormat.format(cell, value);
+        final int length = value.length();
+        if (chars.length < length)
+            chars = new char[Math.max(length, chars.length * 2)];
+        value.getChars(0, length, chars, 0);
+        quoter.writeValue(writer, chars, length);
     }
 
 
@@ -13,7 +13,18 @@ import java.io.Writer;
 final public class CsvComposer extends AbstractSchemaComposer implements SchemaComposer {
 
     public CsvComposer(Writer writer, CsvSchema schema) {
-        super(writer, schema, schemaLine -> new CsvLineComposer(writer, (CsvSchemaLine) schemaLine, schema.getLineSeparator(), schema.getQuoteSyntax()));
+        this(writer, schema, true);
+    }
+
+    /**
+     * @param writer         The writer to write output to.
+     * @param schema         The schema to use.
+     * @param composeHeaders If false, header lines are never composed automatically before the first line of a type,
+     *                       only when calling {@link #composeHeader(String)}.
+     * @since 2.5
+     */
+    public CsvComposer(Writer writer, CsvSchema schema, boolean composeHeaders) {
+        super(writer, schema, schemaLine -> new CsvLineComposer(writer, (CsvSchemaLine) schemaLine, schema.getLineSeparator(), schema.getQuoteSyntax(), composeHeaders));
     }
 
 }
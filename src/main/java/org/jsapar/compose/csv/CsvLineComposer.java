@@ -1,6 +1,7 @@
 package org.jsapar.compose.csv;
 
 import org.jsapar.compose.csv.quote.*;
+import org.jsapar.compose.line.CellLocator;
 import org.jsapar.compose.line.LineComposer;
 import org.jsapar.model.Cell;
 import org.jsapar.model.Line;
@@ -10,7 +11,6 @@ import org.jsapar.schema.*;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.io.Writer;
-import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,14 +24,25 @@ final class CsvLineComposer implements LineComposer {
     private final String lineSeparator;
     private final QuoteSyntax quoteSyntax;
     private final List<CsvCellComposer> cellComposers;
-    private boolean firstRow=true;
+    private final CellLocator cellLocator;
+    private boolean firstRow;
 
     CsvLineComposer(Writer writer, CsvSchemaLine schemaLine, String lineSeparator, QuoteSyntax quoteSyntax) {
+        this(writer, schemaLine, lineSeparator, quoteSyntax, true);
+    }
+
+    /**
+     * @param composeHeader If false, the header line is not composed before the first line even if the schema line
+     *                      says so. It can still be composed by calling {@link #composeHeader()}.
+     */
+    CsvLineComposer(Writer writer, CsvSchemaLine schemaLine, String lineSeparator, QuoteSyntax quoteSyntax, boolean composeHeader) {
+        this.firstRow = composeHeader;
         this.writer = writer;
         this.schemaLine = schemaLine;
         this.lineSeparator = lineSeparator;
         this.quoteSyntax = quoteSyntax;
         cellComposers = makeCellComposers(schemaLine);
+        cellLocator = new CellLocator(cellComposers.stream().map(CsvCellComposer::getName).collect(Collectors.toList()));
     }
 
     private List<CsvCellComposer> makeCellComposers(CsvSchemaLine schemaLine) {
@@ -84,20 +95,17 @@ final class CsvLineComposer implements LineComposer {
         try {
             if (schemaLine.isIgnoreWrite())
                 return;
-            if (firstRow && schemaLine.isFirstLineAsSchema()) {
-                composeHeaderLine();
-                writer.write(lineSeparator);
-            }
+            if (firstRow)
+                composeHeader();
             firstRow = false;
             String sCellSeparator = schemaLine.getCellSeparator();
 
-            Iterator<CsvCellComposer> iter = cellComposers.iterator();
-            while (iter.hasNext()) {
-                CsvCellComposer cellComposer = iter.next();
-                Cell<?> cell = line.getCell(cellComposer.getName()).orElse(cellComposer.makeEmptyCell());
-                cellComposer.compose(writer, cell);
+            for (int i = 0; i < cellComposers.size(); i++) {
+                CsvCellComposer cellComposer = cellComposers.get(i);
+                Cell<?> cell = cellLocator.find(line, i);
+                cellComposer.compose(writer, cell != null ? cell : cellComposer.makeEmptyCell());
 
-                if (iter.hasNext())
+                if (i + 1 < cellComposers.size())
                     writer.write(sCellSeparator);
             }
         } catch (IOException e) {
@@ -110,6 +118,23 @@ final class CsvLineComposer implements LineComposer {
         return schemaLine.isIgnoreWrite();
     }
 
+    /**
+     * Composes the header line followed by a line separator if first line is schema.
+     * @throws UncheckedIOException If there is an error writing line to writer.
+     */
+    @Override
+    public boolean composeHeader() {
+        if (!schemaLine.isFirstLineAsSchema())
+            return false;
+        try {
+            composeHeaderLine();
+            writer.write(lineSeparator);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+
     /**
      * Writes header line if first line is schema.
      */
@@ -11,6 +11,15 @@ import java.io.Writer;
 final public class AlwaysQuote implements Quoter {
     private final ValueComposer valueComposer;
     private final char quoteChar;
+    /**
+     * True if quote characters within the value are escaped according to RFC4180.
+     */
+    private final boolean escaping;
+    private final char escapeChar;
+    /**
+     * The maximum number of characters to write between the quotes, counting escaped quotes as two characters.
+     */
+    private final int contentMaxLength;
 
     public AlwaysQuote(char quoteChar, int maxLength, QuoteSyntax quoteSyntax) {
         switch (quoteSyntax) {
@@ -26,6 +35,9 @@ final public class AlwaysQuote implements Quoter {
             throw new AssertionError("Unsupported quote syntax while composing: " + quoteSyntax);
         }
         this.quoteChar = (quoteChar == 0 ? '"' : quoteChar);
+        this.escaping = quoteSyntax == QuoteSyntax.RFC4180;
+        this.escapeChar = quoteChar;
+        this.contentMaxLength = maxLength >= 0 ? maxLength - 2 : Integer.MAX_VALUE;
     }
 
     @Override
@@ -35,6 +47,60 @@ final public class AlwaysQuote implements Quoter {
         writer.write(quoteChar);
     }
 
+    /**
+     * Writes the quoted value while scanning it once for quote characters to escape, writing the characters in between
+     * directly from the buffer.
+     */
+    @Override
+    public void writeValue(Writer writer, char[] value, int length) throws IOException {
+        writeValue(writer, value, length, 0);
+    }
+
+    /**
+     * Writes the quoted value, scanning for quote characters to escape from supplied index.
+     * @param writer The writer to write the quoted value to.
+     * @param value  The buffer that holds the value, beginning at index 0.
+     * @param length The number of characters of the value.
+     * @param from   The index to start scanning from. There must be no quote characters before this index.
+     * @throws IOException In case there was an error writing to output.
+     */
+    void writeValue(Writer writer, char[] value, int length, int from) throws IOException {
+        writer.write(quoteChar);
+        if (escaping)
+            writeEscaped(writer, value, length, from);
+        else
+            valueComposer.writeValue(writer, value, length);
+        writer.write(quoteChar);
+    }
+
+    /**
+     * Same behavior as {@link MaxLengthValueComposerRfc} and {@link ValueComposerRfc} but never writes a single escape
+     * character. Either both escape + quote or none is written.
+     */
+    private void writeEscaped(Writer writer, char[] value, int length, int from) throws IOException {
+        final int maxLength = contentMaxLength;
+        int written = 0;
+        int start = 0;
+        for (int i = from; i < length && written < maxLength; i++) {
+            if (value[i] != quoteChar)
+                continue;
+            final int len = Math.min(i - start, maxLength - written);
+            if (len > 0) {
+                writer.write(value, start, len);
+                written += len;
+            }
+            if (written + 2 <= maxLength) {
+                writer.write(escapeChar);
+                writer.write(quoteChar);
+            }
+            written += 2; // Increment also when not actually adding quote to avoid appending more chars
+            start = i + 1;
+        }
+        final int len = Math.min(length - start, maxLength - written);
+        if (len > 0)
+            writer.write(value, start, len);
+    }
+
     /**
      * Writes only supplied max length characters but makes sure that we never writes a single escape character. Either
      * both escape + quote or none should be written.
@@ -11,4 +11,9 @@ final public class AtomicValueComposer implements ValueComposer {
     public void writeValue(Writer writer, String value) throws IOException {
         writer.write(value);
     }
+
+    @Override
+    public void writeValue(Writer writer, char[] value, int length) throws IOException {
+        writer.write(value, 0, length);
+    }
 }
@@ -19,4 +19,9 @@ final public class MaxLengthComposer implements ValueComposer {
         else
             writer.write(value);
     }
+
+    @Override
+    public void writeValue(Writer writer, char[] value, int length) throws IOException {
+        writer.write(value, 0, Math.min(length, maxLength));
+    }
 }
@@ -18,4 +18,9 @@ final public class NeverQuote implements Quoter {
         valueComposer.writeValue(writer, value);
     }
 
+    @Override
+    public void writeValue(Writer writer, char[] value, int length) throws IOException {
+        valueComposer.writeValue(writer, value, length);
+    }
+
 }
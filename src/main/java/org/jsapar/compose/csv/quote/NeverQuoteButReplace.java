@@ -15,6 +15,7 @@ final public class NeverQuoteButReplace implements Quoter {
     private final Pattern cellSeparatorPattern;
     private final Pattern lineSeparatorPattern;
     private final String quotedReplacement;
+    private final SpecialCharacters specialCharacters;
 
 
     public NeverQuoteButReplace(int maxLength, String cellSeparator, String lineSeparator, String replaceString) {
@@ -32,6 +33,7 @@ final public class NeverQuoteButReplace implements Quoter {
         lineSeparatorPattern = Pattern.compile(lineSeparator, Pattern.LITERAL);
 
         quotedReplacement = Matcher.quoteReplacement(replaceString);
+        specialCharacters = new SpecialCharacters(cellSeparatorFirst, lineSeparatorFirst);
     }
 
 
@@ -44,6 +46,23 @@ final public class NeverQuoteButReplace implements Quoter {
         neverQuote.writeValue(writer, value);
     }
 
+    /**
+     * Writes the value directly from the buffer if it does not contain the first character of any of the separators,
+     * which is known after one pass through the characters. Otherwise, the replacements are made in the same way as by
+     * {@link #writeValue(Writer, String)}.
+     */
+    @Override
+    public void writeValue(Writer writer, char[] value, int length) throws IOException {
+        final SpecialCharacters specialCharacters = this.specialCharacters;
+        for (int i = 0; i < length; i++) {
+            if (specialCharacters.contains(value[i])) {
+                writeValue(writer, new String(value, 0, length));
+                return;
+            }
+        }
+        neverQuote.writeValue(writer, value, length);
+    }
+
     /**
      * Slight optimization. Avoid the overhead of doing full replacement if none of the first characters are present.
      * This way we normally only have to loop once but we take a penalty if we hit one of the first characters.
@@ -10,18 +10,19 @@ import java.io.Writer;
  */
 final public class QuoteIfNeeded implements Quoter {
     private final char quoteChar;
-    private final Quoter alwaysQuote;
+    private final AlwaysQuote alwaysQuote;
     private final Quoter neverQuote;
     private final String cellSeparator;
     private final String lineSeparator;
     private final char cellSeparatorFirst;
     private final char lineSeparatorFirst;
+    private final SpecialCharacters specialCharacters;
 
     public QuoteIfNeeded(char quoteChar, int maxLength, String cellSeparator, String lineSeparator, QuoteSyntax quoteSyntax) {
         this(quoteChar, maxLength, cellSeparator, lineSeparator, new AlwaysQuote(quoteChar, maxLength, quoteSyntax));
     }
 
-    private QuoteIfNeeded(char quoteChar, int maxLength, String cellSeparator, String lineSeparator, Quoter alwaysQuoter) {
+    private QuoteIfNeeded(char quoteChar, int maxLength, String cellSeparator, String lineSeparator, AlwaysQuote alwaysQuoter) {
         this.quoteChar = quoteChar;
         this.alwaysQuote = alwaysQuoter;
         this.neverQuote = new NeverQuote(maxLength);
@@ -29,6 +30,7 @@ final public class QuoteIfNeeded implements Quoter {
         this.lineSeparator = lineSeparator;
         this.cellSeparatorFirst = cellSeparator.charAt(0);
         this.lineSeparatorFirst = lineSeparator.charAt(0);
+        this.specialCharacters = new SpecialCharacters(quoteChar, cellSeparatorFirst, lineSeparatorFirst);
     }
 
     @Override
@@ -42,6 +44,31 @@ final public class QuoteIfNeeded implements Quoter {
             neverQuote.writeValue(writer, value);
     }
 
+    /**
+     * Classifies and writes the value in one pass. The characters are scanned until the first occurrence of the quote
+     * character, the cell separator or the line separator. If there is one, the quoted value is written by continuing
+     * the scan from there, escaping quote characters, without scanning the characters before it again. Otherwise, the
+     * value is written unquoted.
+     */
+    @Override
+    public void writeValue(Writer writer, char[] value, int length) throws IOException {
+        final SpecialCharacters specialCharacters = this.specialCharacters;
+        for (int i = 0; i < length; i++) {
+            if (specialCharacters.contains(value[i]) && isSpecialAt(value, i, length)) {
+                alwaysQuote.writeValue(writer, value, length, i);
+                return;
+            }
+        }
+        neverQuote.writeValue(writer, value, length);
+    }
+
+    private boolean isSpecialAt(char[] value, int index, int length) {
+        final char ch = value[index];
+        return ch == quoteChar
+                || (ch == cellSeparatorFirst && SpecialCharacters.matchesAt(value, index, length, cellSeparator))
+                || (ch == lineSeparatorFirst && SpecialCharacters.matchesAt(value, index, length, lineSeparator));
+    }
+
     /**
      * Only loop once unless some suspicious character is found.
      * @param value  The value to search
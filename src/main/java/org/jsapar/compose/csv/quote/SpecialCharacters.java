@@ -0,0 +1,58 @@
+package org.jsapar.compose.csv.quote;
+
+/**
+ * A precomputed lookup table of the characters that may need special treatment within a cell value, such as the quote
+ * character and the first characters of the cell and line separators. Testing a character is a single array lookup
+ * for ASCII characters.
+ */
+final class SpecialCharacters {
+    private final boolean[] ascii = new boolean[128];
+    private final char[]    others;
+
+    /**
+     * @param characters The special characters. Zero characters are ignored.
+     */
+    SpecialCharacters(char... characters) {
+        StringBuilder others = new StringBuilder();
+        for (char c : characters) {
+            if (c == 0)
+                continue;
+            if (c < ascii.length)
+                ascii[c] = true;
+            else if (others.indexOf(String.valueOf(c)) < 0)
+                others.append(c);
+        }
+        this.others = others.toString().toCharArray();
+    }
+
+    /**
+     * @param c The character to test.
+     * @return True if the character is one of the special characters.
+     */
+    boolean contains(char c) {
+        if (c < ascii.length)
+            return ascii[c];
+        for (char other : others) {
+            if (other == c)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param value  The buffer that holds the value.
+     * @param index  The index within the buffer to test.
+     * @param length The number of characters of the value.
+     * @param text   The text to look for.
+     * @return True if the text is found at the index of the value.
+     */
+    static boolean matchesAt(char[] value, int index, int length, String text) {
+        if (index + text.length() > length)
+            return false;
+        for (int i = 0; i < text.length(); i++) {
+            if (value[index + i] != text.charAt(i))
+                return false;
+        }
+        return true;
+    }
+}
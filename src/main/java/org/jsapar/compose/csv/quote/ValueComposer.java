@@ -15,4 +15,16 @@ public interface ValueComposer {
      */
     void writeValue(Writer writer, String value) throws IOException;
 
+    /**
+     * Writes a value that has been formatted into a buffer. The default implementation creates a string of the value.
+     * @param writer The writer to write the value to.
+     * @param value  The buffer that holds the value, beginning at index 0.
+     * @param length The number of characters of the value.
+     * @throws IOException In case there was an error writing to output.
+     * @since 2.5
+     */
+    default void writeValue(Writer writer, char[] value, int length) throws IOException {
+        writeValue(writer, new String(value, 0, length));
+    }
+
 }
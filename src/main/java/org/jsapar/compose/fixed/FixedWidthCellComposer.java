@@ -5,6 +5,7 @@ import org.jsapar.compose.fixed.pad.Pad;
 import org.jsapar.model.Cell;
 import org.jsapar.model.EmptyCell;
 import org.jsapar.schema.FixedWidthSchemaCell;
+import org.jsapar.utils.StringUtils;
 
 import java.io.IOException;
 import java.io.Writer;
@@ -17,6 +18,10 @@ final class FixedWidthCellComposer {
     private final CellFormat           cellFormat;
     private final FixedWidthSchemaCell schemaCell;
     private final Pad                  pad;
+    /**
+     * Receives the formatted value of each cell so that no string needs to be created.
+     */
+    private final StringBuilder        value = new StringBuilder();
 
     FixedWidthCellComposer(FixedWidthSchemaCell schemaCell) {
         this.cellFormat = CellFormat.ofSchemaCell(schemaCell);
@@ -62,6 +67,36 @@ final class FixedWidthCellComposer {
         }
     }
 
+    /**
+     * Places a cell within a buffer that holds a complete line. The cell value is formatted directly into a reused
+     * buffer.
+     *
+     * @param record The buffer to place the cell in.
+     * @param offset The index within the buffer where the cell begins.
+     * @param cell   The cell to place.
+     * @throws IOException If formatting the cell fails.
+     */
+    void compose(char[] record, int offset, Cell<?> cell) throws IOException {
+        value.setLength(0);
+        cellFormat.format(cell, value);
+        final int length = getLength();
+        if (value.length() == length) {
+            StringUtils.getChars(value, 0, length, record, offset);
+        } else if (value.length() > length) {
+            // If the cell value is larger than the cell length, we have to cut the value.
+            pad.fit(record, offset, value);
+        } else {
+            pad.pad(record, offset, value);
+        }
+    }
+
+    /**
+     * @return The number of characters of the cell.
+     */
+    int getLength() {
+        return Math.max(0, schemaCell.getLength());
+    }
+
     public String getName() {
         return schemaCell.getName();
     }
@@ -1,7 +1,9 @@
 package org.jsapar.compose.fixed;
 
 import org.jsapar.compose.fixed.pad.Filler;
+import org.jsapar.compose.line.CellLocator;
 import org.jsapar.compose.line.LineComposer;
+import org.jsapar.model.Cell;
 import org.jsapar.model.Line;
 import org.jsapar.schema.FixedWidthSchemaLine;
 
@@ -13,6 +15,11 @@ import java.util.stream.Collectors;
 
 /**
  * Composes line to a fixed width format based on line schema.
+ * <p>
+ * The line is composed within a record buffer that is written to the writer in one call. The buffer is initialized
+ * from a template where all cells already contain their empty value, which is the default value of the cell if there
+ * is one, padded to the length of the cell, and where the rest of the line is filled up to the minimum line length. That
+ * way only the cells that have a value need to be formatted.
  */
 final class FixedWidthLineComposer implements LineComposer {
 
@@ -20,6 +27,9 @@ final class FixedWidthLineComposer implements LineComposer {
     private final FixedWidthSchemaLine         lineSchema;
     private final List<FixedWidthCellComposer> cellComposers;
     private final Filler                       filler;
+    private final CellLocator                  cellLocator;
+    private final char[]                       template;
+    private final char[]                       record;
 
     FixedWidthLineComposer(Writer writer, FixedWidthSchemaLine lineSchema) {
         if(writer == null)
@@ -30,6 +40,25 @@ final class FixedWidthLineComposer implements LineComposer {
         this.lineSchema = lineSchema;
         this.cellComposers = lineSchema.stream().map(FixedWidthCellComposer::new).collect(Collectors.toList());
         filler = new Filler(lineSchema.getPadCharacter(), lineSchema.getMinLength());
+        cellLocator = new CellLocator(cellComposers.stream().map(FixedWidthCellComposer::getName).collect(Collectors.toList()));
+        template = makeTemplate();
+        record = new char[template.length];
+    }
+
+    private char[] makeTemplate() {
+        final int cellsLength = cellComposers.stream().mapToInt(FixedWidthCellComposer::getLength).sum();
+        char[] template = new char[Math.max(cellsLength, lineSchema.getMinLength())];
+        int offset = 0;
+        try {
+            for (FixedWidthCellComposer composer : cellComposers) {
+                composer.compose(template, offset, composer.makeEmptyCell());
+                offset += composer.getLength();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        filler.fill(template, offset, template.length - offset);
+        return template;
     }
 
     /**
@@ -49,14 +78,17 @@ final class FixedWidthLineComposer implements LineComposer {
             if (lineSchema.isIgnoreWrite())
                 return;
 
-            // Iterate all schema cells.
-            int totalLength = 0;
-            for (FixedWidthCellComposer composer : cellComposers) {
-                totalLength += composer.compose(writer, line.getCell(composer.getName()).orElse(composer.makeEmptyCell()));
-            }
-            if (lineSchema.getMinLength() > totalLength) {
-                filler.fill(writer, lineSchema.getMinLength() - totalLength);
+            System.arraycopy(template, 0, record, 0, template.length);
+            // Iterate all schema cells. Missing and empty cells are already in place from the template.
+            int offset = 0;
+            for (int i = 0; i < cellComposers.size(); i++) {
+                FixedWidthCellComposer composer = cellComposers.get(i);
+                Cell<?> cell = cellLocator.find(line, i);
+                if (cell != null && !cell.isEmpty())
+                    composer.compose(record, offset, cell);
+                offset += composer.getLength();
             }
+            writer.write(record, 0, record.length);
         }
         catch (IOException e){
             throw new UncheckedIOException(e);
@@ -33,4 +33,16 @@ final public class Filler {
     public void fill(Writer writer, int toFill) throws IOException, IndexOutOfBoundsException {
         writer.write(fillBuffer, 0, toFill);
     }
+
+    /**
+     * Places same character specified number of times within a buffer.
+     * @param buffer The buffer to fill.
+     * @param offset The index within the buffer where to start filling.
+     * @param toFill The number of characters to fill.
+     * @throws IndexOutOfBoundsException if toFill is larger than initialized length.
+     * @since 2.5
+     */
+    public void fill(char[] buffer, int offset, int toFill) throws IndexOutOfBoundsException {
+        System.arraycopy(fillBuffer, 0, buffer, offset, toFill);
+    }
 }
@@ -22,6 +22,24 @@ public interface Pad {
      */
     void pad(Writer writer, String value) throws IOException;
 
+    /**
+     * Places a truncated value, cut in the correct end, within a buffer.
+     * @param buffer The buffer to place the value in.
+     * @param offset The index within the buffer where the cell begins.
+     * @param value  The value to place.
+     * @since 2.5
+     */
+    void fit(char[] buffer, int offset, CharSequence value);
+
+    /**
+     * Places the supplied value within a buffer, padded to fill out the correct length.
+     * @param buffer The buffer to place the value in.
+     * @param offset The index within the buffer where the cell begins.
+     * @param value  The value to place.
+     * @since 2.5
+     */
+    void pad(char[] buffer, int offset, CharSequence value);
+
     /**
      * Creates a pad instance for specified alignment.
      * @param alignment  The alignment.
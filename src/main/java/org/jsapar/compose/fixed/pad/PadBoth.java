@@ -1,5 +1,7 @@
 package org.jsapar.compose.fixed.pad;
 
+import org.jsapar.utils.StringUtils;
+
 import java.io.IOException;
 import java.io.Writer;
 
@@ -25,4 +27,19 @@ final public class PadBoth implements Pad {
         writer.write(value);
         filler.fill(writer, toFill - remaining);
     }
+
+    @Override
+    public void fit(char[] buffer, int offset, CharSequence value) {
+        final int begin = (value.length() - length) / 2;
+        StringUtils.getChars(value, begin, begin + length, buffer, offset);
+    }
+
+    @Override
+    public void pad(char[] buffer, int offset, CharSequence value) {
+        final int toFill = length - value.length();
+        int remaining = toFill / 2;
+        filler.fill(buffer, offset, remaining);
+        StringUtils.getChars(value, 0, value.length(), buffer, offset + remaining);
+        filler.fill(buffer, offset + remaining + value.length(), toFill - remaining);
+    }
 }
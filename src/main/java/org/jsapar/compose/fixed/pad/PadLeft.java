@@ -1,5 +1,7 @@
 package org.jsapar.compose.fixed.pad;
 
+import org.jsapar.utils.StringUtils;
+
 import java.io.IOException;
 import java.io.Writer;
 
@@ -22,4 +24,16 @@ final class PadLeft implements Pad {
         filler.fill(writer, this.length - value.length());
         writer.write(value);
     }
+
+    @Override
+    public void fit(char[] buffer, int offset, CharSequence value) {
+        StringUtils.getChars(value, value.length() - length, value.length(), buffer, offset);
+    }
+
+    @Override
+    public void pad(char[] buffer, int offset, CharSequence value) {
+        final int toFill = this.length - value.length();
+        filler.fill(buffer, offset, toFill);
+        StringUtils.getChars(value, 0, value.length(), buffer, offset + toFill);
+    }
 }
@@ -15,4 +15,12 @@ final public class PadNone implements Pad {
     public void pad(Writer writer, String value) {
     }
 
+    @Override
+    public void fit(char[] buffer, int offset, CharSequence value) {
+    }
+
+    @Override
+    public void pad(char[] buffer, int offset, CharSequence value) {
+    }
+
 }
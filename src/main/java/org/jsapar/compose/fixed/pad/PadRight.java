@@ -1,5 +1,7 @@
 package org.jsapar.compose.fixed.pad;
 
+import org.jsapar.utils.StringUtils;
+
 import java.io.IOException;
 import java.io.Writer;
 
@@ -22,4 +24,15 @@ final class PadRight implements Pad {
         writer.write(value);
         filler.fill(writer,  this.length - value.length());
     }
+
+    @Override
+    public void fit(char[] buffer, int offset, CharSequence value) {
+        StringUtils.getChars(value, 0, length, buffer, offset);
+    }
+
+    @Override
+    public void pad(char[] buffer, int offset, CharSequence value) {
+        StringUtils.getChars(value, 0, value.length(), buffer, offset);
+        filler.fill(buffer, offset + value.length(), this.length - value.length());
+    }
 }
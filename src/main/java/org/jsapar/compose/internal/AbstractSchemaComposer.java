@@ -71,4 +71,10 @@ public abstract class AbstractSchemaComposer implements SchemaComposer{
         return true;
     }
 
+    @Override
+    public boolean composeHeader(String lineType) {
+        LineComposer lineComposer = lineComposers.get(lineType);
+        return lineComposer != null && !lineComposer.ignoreWrite() && lineComposer.composeHeader();
+    }
+
 }
@@ -22,4 +22,16 @@ public interface SchemaComposer {
      * @return True if line was actually composed, false otherwise.
      */
     boolean composeLine(Line line) ;
+
+    /**
+     * Composes the header line of supplied line type, followed by a line separator, if the schema says that lines of
+     * that type are preceded by a header line. The default implementation composes nothing.
+     *
+     * @param lineType The line type to compose the header line of.
+     * @return True if a header line was composed, false otherwise.
+     * @since 2.5
+     */
+    default boolean composeHeader(String lineType) {
+        return false;
+    }
 }
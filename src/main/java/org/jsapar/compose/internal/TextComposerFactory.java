@@ -31,4 +31,21 @@ final public class TextComposerFactory implements ComposerFactory {
         throw new IllegalArgumentException("Unknown schema type. Unable to create parser class for it.");
     }
 
+    /**
+     * Creates {@link SchemaComposer} based on the schema.
+     * @param schema         The schema to use while composing
+     * @param writer         The writer to write output to.
+     * @param composeHeaders If false, header lines are never composed automatically before the first line of a type,
+     *                       only when calling {@link SchemaComposer#composeHeader(String)}.
+     * @return A newly created {@link SchemaComposer}
+     * @throws IllegalArgumentException In case the schema is not of any type that is handled by this class.
+     * @since 2.5
+     */
+    public SchemaComposer makeComposer(Schema<?> schema, Writer writer, boolean composeHeaders)  {
+        if(schema instanceof CsvSchema){
+            return new CsvComposer(writer, (CsvSchema)schema, composeHeaders);
+        }
+        return makeComposer(schema, writer);
+    }
+
 }
@@ -0,0 +1,58 @@
+package org.jsapar.compose.line;
+
+import org.jsapar.model.Cell;
+import org.jsapar.model.CellIndex;
+import org.jsapar.model.IndexedLine;
+import org.jsapar.model.Line;
+
+import java.util.List;
+
+/**
+ * Internal class for locating the cells of a line that corresponds to the cells of a schema line while composing.
+ * <p>
+ * If the line to compose is an {@link IndexedLine}, the positions of the cells within the {@link CellIndex} of that
+ * line are calculated once for each cell index, after which cells are fetched by position instead of by name. Since
+ * parsed lines of the same type share the same cell index, this means that no lookup by name is needed while
+ * converting.
+ * <p>
+ * Instances of this class are not thread safe.
+ */
+public final class CellLocator {
+
+    private final String[]  names;
+    private       CellIndex cellIndex;
+    private       int[]     positions;
+
+    /**
+     * @param names The names of the cells to locate, in the order that they are composed.
+     */
+    public CellLocator(List<String> names) {
+        this.names = names.toArray(new String[0]);
+    }
+
+    /**
+     * @param line  The line to get the cell from.
+     * @param index The index of the cell name, as supplied to the constructor.
+     * @return The cell of the line with the name at supplied index or null if the line does not contain such cell.
+     */
+    public Cell<?> find(Line line, int index) {
+        if (line instanceof IndexedLine) {
+            IndexedLine indexedLine = (IndexedLine) line;
+            if (indexedLine.getCellIndex() != cellIndex)
+                updatePositions(indexedLine.getCellIndex());
+            int position = positions[index];
+            if (position >= 0)
+                return indexedLine.getCellAt(position);
+        }
+        return line.getCell(names[index]).orElse(null);
+    }
+
+    private void updatePositions(CellIndex cellIndex) {
+        int[] positions = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            positions[i] = cellIndex.indexOf(names[i]);
+        }
+        this.positions = positions;
+        this.cellIndex = cellIndex;
+    }
+}
@@ -24,4 +24,14 @@ public interface LineComposer {
      */
     boolean ignoreWrite();
 
+    /**
+     * Composes a header line, followed by a line separator, if lines of this type are preceded by a header line. The
+     * default implementation composes nothing.
+     * @return True if a header line was composed.
+     * @since 2.5
+     */
+    default boolean composeHeader() {
+        return false;
+    }
+
 }
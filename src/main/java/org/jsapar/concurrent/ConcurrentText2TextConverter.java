@@ -5,9 +5,14 @@ import org.jsapar.compose.Composer;
 import org.jsapar.convert.AbstractConverter;
 import org.jsapar.convert.ConvertTask;
 import org.jsapar.parse.ParseTask;
+import org.jsapar.parse.text.TextParseTask;
 import org.jsapar.text.TextParseConfig;
 import org.jsapar.schema.Schema;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
 /**
  * A multi-threaded version of {@link org.jsapar.Text2TextConverter} where the composer is started in a separate worker
  * thread.
@@ -42,11 +47,38 @@ public class ConcurrentText2TextConverter extends Text2TextConverter implements
         super(parseSchema, composeSchema, parseConfig);
     }
 
+    /**
+     * Converts text read from the reader according to the parse schema and writes the output to the writer according
+     * to the compose schema. Lines are never reused since they are composed by another thread.
+     *
+     * @param reader The reader to read input from
+     * @param writer The writer to write converted result to.
+     * @return Number of converted lines.
+     * @throws IOException In case of IO error
+     */
+    @Override
+    public long convert(Reader reader, Writer writer) throws IOException {
+        return execute(new TextParseTask(getParseSchema(), reader, withoutReusedLines(getParseConfig())), makeComposer(writer));
+    }
+
     @Override
     protected ConvertTask makeConvertTask(ParseTask parseTask, Composer composer) {
         return convertTaskFactory.makeConvertTask(parseTask, composer, getErrorConsumer(), getTransformer(), getManipulators());
     }
 
+    /**
+     * @param parseConfig The configuration.
+     * @return The configuration itself or, if lines are reused, a copy of it that does not reuse lines. Lines that are
+     * passed to another thread cannot be reused since they may be overwritten before the other thread is done with them.
+     */
+    static TextParseConfig withoutReusedLines(TextParseConfig parseConfig) {
+        if (!parseConfig.isReuseLines())
+            return parseConfig;
+        TextParseConfig copy = parseConfig.clone();
+        copy.setReuseLines(false);
+        return copy;
+    }
+
     public void registerOnStart(Runnable onStart) {
         this.convertTaskFactory.registerOnStart(onStart);
     }
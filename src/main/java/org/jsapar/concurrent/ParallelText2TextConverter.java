@@ -0,0 +1,144 @@
+package org.jsapar.concurrent;
+
+import org.jsapar.Text2TextConverter;
+import org.jsapar.compose.Composer;
+import org.jsapar.convert.AbstractConverter;
+import org.jsapar.convert.ConvertTask;
+import org.jsapar.model.Line;
+import org.jsapar.parse.ParseTask;
+import org.jsapar.parse.text.TextParseTask;
+import org.jsapar.schema.Schema;
+import org.jsapar.text.TextParseConfig;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A multi-threaded version of {@link org.jsapar.Text2TextConverter} where the parsed lines are manipulated and composed
+ * by a pool of worker threads. The lines are passed to the workers in batches and the composed text of each batch is
+ * written to the writer in the original order of the lines, so the output is exactly the same as with
+ * {@link org.jsapar.Text2TextConverter}.
+ * See {@link AbstractConverter} for details about error handling and manipulating data.
+ * <p>
+ * Since line manipulators and the line transformer are called concurrently by several worker threads, they need to be
+ * thread safe. Lines are still passed to the manipulators in the original order within each batch, but not across
+ * batches. Lines that are parsed are also kept in memory until the batch that they belong to has been composed.
+ * <p>
+ * This converter is only faster than the single threaded version when composing, or manipulating, is more expensive
+ * than parsing, for instance when composing numbers and dates or when the line manipulators do a lot of work. As a
+ * rule of thumb, don't use this parallel version unless your input normally exceeds at least a few MB of data.
+ *
+ * @see org.jsapar.Text2TextConverter
+ * @see ConcurrentText2TextConverter
+ * @since 2.5
+ */
+public class ParallelText2TextConverter extends Text2TextConverter {
+    /**
+     * The default number of lines that are passed to a worker thread at a time.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private int threadCount = Runtime.getRuntime().availableProcessors();
+    private int batchSize   = DEFAULT_BATCH_SIZE;
+
+    /**
+     * Creates a parallel text to text converter that can be used to convert between different text based formats.
+     * @param parseSchema The schema to use while parsing
+     * @param composeSchema The schema to use wile composing.
+     */
+    public ParallelText2TextConverter(Schema<?> parseSchema, Schema<?> composeSchema) {
+        super(parseSchema, composeSchema);
+    }
+
+    /**
+     * Creates a parallel text to text converter that can be used to convert between different text based formats.
+     * @param parseSchema The schema to use while parsing
+     * @param composeSchema The schema to use wile composing.
+     * @param parseConfig   Configuration about parsing behavior.
+     */
+    public ParallelText2TextConverter(Schema<?> parseSchema, Schema<?> composeSchema, TextParseConfig parseConfig) {
+        super(parseSchema, composeSchema, parseConfig);
+    }
+
+    /**
+     * Converts text read from the reader according to the parse schema and writes the output to the writer according
+     * to the compose schema. The reader is read and the writer is written to by the calling thread while the lines are
+     * manipulated and composed by the worker threads. The worker threads are stopped before this method returns.
+     * Lines are never reused since they are kept in batches and composed by the worker threads.
+     *
+     * @param reader The reader to read input from
+     * @param writer The writer to write converted result to.
+     * @return Number of converted lines.
+     * @throws IOException In case of IO error
+     */
+    @Override
+    public long convert(Reader reader, Writer writer) throws IOException {
+        try (ParallelTextComposer composer = new ParallelTextComposer(getComposeSchema(), writer,
+                this::makeLineConsumer, threadCount, batchSize)) {
+            TextParseTask parseTask = new TextParseTask(getParseSchema(), reader,
+                    ConcurrentText2TextConverter.withoutReusedLines(getParseConfig()));
+            long count = execute(parseTask, composer);
+            composer.complete();
+            return count;
+        }
+    }
+
+    /**
+     * The lines are manipulated by the worker threads, so the parser passes all lines directly to the composer.
+     */
+    @Override
+    protected ConvertTask makeConvertTask(ParseTask parseTask, Composer composer) {
+        return ConvertTask.of(parseTask, composer, getErrorConsumer());
+    }
+
+    /**
+     * @param composer The composer of a worker thread.
+     * @return The consumer that manipulates and composes the lines of a worker thread.
+     */
+    private Consumer<Line> makeLineConsumer(Composer composer) {
+        final Function<Line, List<Line>> transformer = getTransformer();
+        if (transformer != null)
+            return line -> transformer.apply(line).forEach(composer::composeLine);
+        return ConvertTask.makeManipulateAndComposeConsumer(composer, getManipulators());
+    }
+
+    /**
+     * @return The number of worker threads that manipulate and compose lines.
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Sets the number of worker threads that manipulate and compose lines. Default is the number of available
+     * processors.
+     * @param threadCount The number of worker threads. Needs to be at least 1.
+     */
+    public void setThreadCount(int threadCount) {
+        if (threadCount < 1)
+            throw new IllegalArgumentException("Thread count needs to be at least 1");
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * @return The number of lines that are passed to a worker thread at a time.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the number of lines that are passed to a worker thread at a time. Default is {@link #DEFAULT_BATCH_SIZE}.
+     * Larger batches reduce the overhead of passing lines between threads but more lines are kept in memory.
+     * @param batchSize The number of lines of each batch. Needs to be at least 1.
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1)
+            throw new IllegalArgumentException("Batch size needs to be at least 1");
+        this.batchSize = batchSize;
+    }
+}
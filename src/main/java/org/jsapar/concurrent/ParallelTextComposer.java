@@ -0,0 +1,287 @@
+package org.jsapar.concurrent;
+
+import org.jsapar.compose.Composer;
+import org.jsapar.compose.internal.SchemaComposer;
+import org.jsapar.compose.internal.TextComposerFactory;
+import org.jsapar.error.JSaParException;
+import org.jsapar.model.Line;
+import org.jsapar.schema.CsvSchemaLine;
+import org.jsapar.schema.Schema;
+import org.jsapar.schema.SchemaLine;
+
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Internal class. A composer that collects the lines into batches and processes each batch in a pool of worker
+ * threads. Each worker feeds the lines of a batch to its own line consumer. The consumer usually applies the line
+ * manipulators and then composes the lines with a worker composer that writes to a buffer of the batch. The buffers
+ * are then written to the writer in the original order of the lines by the thread that supplies the lines.
+ * <p>
+ * The output is exactly the same as if all lines had been composed by a {@link org.jsapar.TextComposer}. Line
+ * separators between batches are written in the same way as between lines. Header lines are never composed by the
+ * workers. Instead, a header line is written before the first line of its type when the buffers are written.
+ * <p>
+ * The lines are written while new lines are supplied but the last lines are not written until {@link #complete()} is
+ * called. The writer is never closed by this class.
+ */
+final class ParallelTextComposer implements Composer {
+    private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+    private final Schema<?>                          schema;
+    private final Writer                             writer;
+    private final SchemaComposer                     headerComposer;
+    private final Set<String>                        headerLineTypes;
+    private final Set<String>                        headersWritten = new HashSet<>();
+    private final Function<Composer, Consumer<Line>> lineConsumerFactory;
+    private final int                                batchSize;
+    private final int                                maxPendingBatches;
+    private final ExecutorService                    executor;
+    private final Queue<Worker>                      idleWorkers    = new ConcurrentLinkedQueue<>();
+    private final Queue<CompletableFuture<Chunk>>    pending        = new ArrayDeque<>();
+    private       List<Line>                         batch;
+    private       boolean                            breakBefore    = false;
+
+    /**
+     * @param schema              The schema to compose with.
+     * @param writer              The writer to write the composed lines to.
+     * @param lineConsumerFactory Creates the consumer that each worker feeds the lines to, given the composer of the
+     *                            worker. The consumer is called by one thread at a time but not always by the same
+     *                            thread.
+     * @param threadCount         The number of worker threads.
+     * @param batchSize           The number of lines of each batch.
+     */
+    ParallelTextComposer(Schema<?> schema,
+                         Writer writer,
+                         Function<Composer, Consumer<Line>> lineConsumerFactory,
+                         int threadCount,
+                         int batchSize) {
+        if (threadCount < 1 || batchSize < 1)
+            throw new IllegalArgumentException("Thread count and batch size need to be at least 1");
+        this.schema = schema;
+        this.writer = writer;
+        this.lineConsumerFactory = lineConsumerFactory;
+        this.batchSize = batchSize;
+        this.maxPendingBatches = threadCount * 2;
+        this.headerComposer = new TextComposerFactory().makeComposer(schema, writer);
+        this.headerLineTypes = schema.stream()
+                .filter(schemaLine -> schemaLine instanceof CsvSchemaLine && ((CsvSchemaLine) schemaLine).isFirstLineAsSchema())
+                .map(SchemaLine::getLineType)
+                .collect(Collectors.toSet());
+        final String threadName = "jsapar-compose-" + POOL_NUMBER.incrementAndGet();
+        this.executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    /**
+     * Adds the line to the current batch. The line is manipulated and composed later by a worker thread.
+     *
+     * @param line The line to compose
+     * @return Always true since it is not known yet if the line will be composed.
+     * @throws UncheckedIOException When a low level IO error occurs while writing earlier lines.
+     */
+    @Override
+    public boolean composeLine(Line line) {
+        batch.add(line);
+        if (batch.size() >= batchSize)
+            submitBatch();
+        return true;
+    }
+
+    @Override
+    public void setErrorConsumer(Consumer<JSaParException> errorConsumer) {
+        // Errors are not reported while composing.
+    }
+
+    /**
+     * Waits for all lines to be composed and writes them to the writer.
+     *
+     * @throws UncheckedIOException When a low level IO error occurs.
+     */
+    void complete() {
+        if (!batch.isEmpty())
+            submitBatch();
+        while (!pending.isEmpty())
+            write(join(pending.remove()));
+    }
+
+    /**
+     * Stops the worker threads. Lines that have not been written are discarded.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        pending.clear();
+    }
+
+    private void submitBatch() {
+        final List<Line> lines = batch;
+        batch = new ArrayList<>(batchSize);
+        pending.add(CompletableFuture.supplyAsync(() -> compose(lines), executor));
+        // Write what is already done and wait for the oldest batch if too many batches are pending.
+        while (!pending.isEmpty() && (pending.size() > maxPendingBatches || pending.peek().isDone()))
+            write(join(pending.remove()));
+    }
+
+    private Chunk compose(List<Line> lines) {
+        Worker worker = idleWorkers.poll();
+        if (worker == null)
+            worker = new Worker();
+        try {
+            return worker.compose(lines);
+        } finally {
+            idleWorkers.add(worker);
+        }
+    }
+
+    private static Chunk join(CompletableFuture<Chunk> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw new JSaParException("Exception in concurrent composing thread", cause);
+        }
+    }
+
+    /**
+     * Writes the composed lines of a batch, with the same line separator and header lines as if the lines had been
+     * composed one by one by a {@link org.jsapar.TextComposer}.
+     */
+    private void write(Chunk chunk) {
+        try {
+            if (chunk.attempted && breakBefore)
+                writer.write(schema.getLineSeparator());
+            int start = 0;
+            for (HeaderPosition header : chunk.headers) {
+                if (headersWritten.add(header.lineType)) {
+                    writer.write(chunk.text, start, header.offset - start);
+                    headerComposer.composeHeader(header.lineType);
+                    start = header.offset;
+                }
+            }
+            writer.write(chunk.text, start, chunk.text.length - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (chunk.attempted)
+            breakBefore = chunk.lastWritten;
+    }
+
+    /**
+     * Composes batches of lines into a buffer. Each worker is used by one thread at a time.
+     */
+    private final class Worker implements Composer {
+        private final CharArrayWriter      buffer = new CharArrayWriter();
+        private final SchemaComposer       schemaComposer;
+        private final Consumer<Line>       lineConsumer;
+        private       boolean              attempted;
+        private       boolean              lastWritten;
+        private       List<HeaderPosition> headers;
+
+        private Worker() {
+            this.schemaComposer = new TextComposerFactory().makeComposer(schema, buffer, false);
+            this.lineConsumer = lineConsumerFactory.apply(this);
+        }
+
+        private Chunk compose(List<Line> lines) {
+            buffer.reset();
+            attempted = false;
+            lastWritten = false;
+            headers = new ArrayList<>(0);
+            for (Line line : lines)
+                lineConsumer.accept(line);
+            return new Chunk(buffer.toCharArray(), attempted, lastWritten, headers);
+        }
+
+        /**
+         * Composes the line in the same way as {@link org.jsapar.TextComposer#composeLine(Line)}, except that no line
+         * separator is written before the first line of the batch.
+         */
+        @Override
+        public boolean composeLine(Line line) {
+            if (attempted && lastWritten)
+                schemaComposer.composeLineSeparator();
+            final int offset = buffer.size();
+            final boolean written = schemaComposer.composeLine(line);
+            if (written && headerLineTypes.contains(line.getLineType()) && isFirstInBatch(line.getLineType()))
+                headers.add(new HeaderPosition(line.getLineType(), offset));
+            attempted = true;
+            lastWritten = written;
+            return written;
+        }
+
+        private boolean isFirstInBatch(String lineType) {
+            for (HeaderPosition header : headers) {
+                if (header.lineType.equals(lineType))
+                    return false;
+            }
+            return true;
+        }
+
+        @Override
+        public void setErrorConsumer(Consumer<JSaParException> errorConsumer) {
+            // Errors are not reported while composing.
+        }
+    }
+
+    /**
+     * The composed text of a batch of lines.
+     */
+    private static final class Chunk {
+        private final char[]               text;
+        /**
+         * True if any line of the batch was passed on to the composer.
+         */
+        private final boolean              attempted;
+        /**
+         * True if the last line that was passed on to the composer was also composed.
+         */
+        private final boolean              lastWritten;
+        private final List<HeaderPosition> headers;
+
+        private Chunk(char[] text, boolean attempted, boolean lastWritten, List<HeaderPosition> headers) {
+            this.text = text;
+            this.attempted = attempted;
+            this.lastWritten = lastWritten;
+            this.headers = headers;
+        }
+    }
+
+    /**
+     * The position within a batch of the first line of a type that is preceded by a header line.
+     */
+    private static final class HeaderPosition {
+        private final String lineType;
+        private final int    offset;
+
+        private HeaderPosition(String lineType, int offset) {
+            this.lineType = lineType;
+            this.offset = offset;
+        }
+    }
+}
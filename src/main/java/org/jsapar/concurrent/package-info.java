@@ -8,6 +8,9 @@
  * As a rule of thumb while working with normal files on disc, don't use these concurrent versions unless your input
  * normally exceeds at least 1MB of data, as the overhead of starting
  * a new thread and synchronizing threads are otherwise greater than the gain by the concurrency.
+ * <p>
+ * Use a {@link org.jsapar.concurrent.ParallelText2TextConverter} to manipulate and compose lines in a pool of worker
+ * threads when composing is more expensive than parsing. The line manipulators then need to be thread safe.
  *
  */
 package org.jsapar.concurrent;
\ No newline at end of file
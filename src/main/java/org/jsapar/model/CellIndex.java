@@ -0,0 +1,63 @@
+package org.jsapar.model;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps cell names to positions within lines of one line type. Typically built once from the cells of a schema line
+ * and then shared between all lines that are parsed with that schema line, see {@link IndexedLine}.
+ * <p>
+ * Instances of this class are immutable and can be shared between threads.
+ * @since 2.5
+ */
+public final class CellIndex implements Serializable {
+    private static final long serialVersionUID = 4660581331839165427L;
+
+    private final String[]             names;
+    private final Map<String, Integer> positions;
+
+    /**
+     * @param names The names of the cells in the order of their positions. If the same name occurs more than once, the
+     *              name refers to the first of those positions.
+     */
+    public CellIndex(List<String> names) {
+        this.names = names.toArray(new String[0]);
+        this.positions = new HashMap<>(this.names.length * 4 / 3 + 1);
+        for (int i = 0; i < this.names.length; i++) {
+            positions.putIfAbsent(this.names[i], i);
+        }
+    }
+
+    /**
+     * @param name The name of a cell.
+     * @return The position of the cell with the supplied name or -1 if there is no such cell within this index.
+     */
+    public int indexOf(String name) {
+        Integer position = positions.get(name);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * @param position The position of a cell.
+     * @return The name of the cell at the supplied position.
+     * @throws ArrayIndexOutOfBoundsException If there is no cell at the supplied position.
+     */
+    public String nameAt(int position) {
+        return names[position];
+    }
+
+    /**
+     * @return The number of cell positions within this index.
+     */
+    public int size() {
+        return names.length;
+    }
+
+    @Override
+    public String toString() {
+        return "CellIndex" + Arrays.toString(names);
+    }
+}
@@ -3,12 +3,17 @@ package org.jsapar.model;
 /**
  * Float cell contains a double precision float number. Single precision float
  * values are converted into double precision values.
- * 
+ * <p>
+ * Cells created with {@link #of(String, double)} store the value as a primitive double. The value of such a cell is
+ * only boxed if it is requested by {@link #getValue()}, use {@link #doubleValue()} to avoid that.
  */
 public final class FloatCell extends NumberCell {
 
     private static final long serialVersionUID = 2102712515168714171L;
 
+    private final double  primitiveValue;
+    private final boolean primitive;
+
     /**
      * Creates a float number cell with supplied name. Converts the float value
      * into a double precision float value.
@@ -18,20 +23,58 @@ public final class FloatCell extends NumberCell {
      */
     public FloatCell(String name, Number value) {
         super(name, value, CellType.FLOAT);
+        this.primitiveValue = 0.0;
+        this.primitive = false;
+    }
+
+    private FloatCell(String name, double value) {
+        super(name, null, CellType.FLOAT);
+        this.primitiveValue = value;
+        this.primitive = true;
+    }
+
+    /**
+     * Creates a cell that stores the value as a primitive double.
+     *
+     * @param name  The name of the cell
+     * @param value The value
+     * @return A new float cell.
+     * @since 2.5
+     */
+    public static FloatCell of(String name, double value) {
+        return new FloatCell(name, value);
     }
 
+    @Override
+    public Number getValue() {
+        return primitive ? Double.valueOf(primitiveValue) : super.getValue();
+    }
+
+    @Override
+    public long longValue() {
+        return primitive ? (long) primitiveValue : super.longValue();
+    }
 
+    @Override
+    public double doubleValue() {
+        return primitive ? primitiveValue : super.doubleValue();
+    }
+
+    @Override
+    public String getStringValue() {
+        return primitive ? Double.toString(primitiveValue) : String.valueOf(super.getValue());
+    }
 
     @Override
     public int compareValueTo(Cell<Number> right) {
         if(!(right instanceof FloatCell))
-            return Double.compare(getValue().doubleValue(), right.getValue().doubleValue());
+            return Double.compare(doubleValue(), doubleValueOf(right));
         return super.compareValueTo(right);
     }
 
     @Override
     public Cell<Number> cloneWithName(String newName) {
-        return new FloatCell(newName, getValue());
+        return primitive ? new FloatCell(newName, primitiveValue) : new FloatCell(newName, getValue());
     }
 
     /**
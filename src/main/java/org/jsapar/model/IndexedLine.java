@@ -0,0 +1,239 @@
+package org.jsapar.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A line where cells are stored in an array by their position within a {@link CellIndex}. The cell index is shared
+ * between all lines of the same line type, typically built from the schema line that was used while parsing, which
+ * makes both memory usage and access by name cheaper than for a plain {@link Line}. Cells can also be accessed directly
+ * by their position, see {@link #getCellAt(int)}.
+ * <p>
+ * Cells with names that are not within the cell index can still be added to the line. Those cells are kept after the
+ * cells of the index. When iterating the cells of this line, the cells are returned in the order of the cell index
+ * instead of the order in which they were added.
+ * <p>
+ * An instance of this class can be reused for several lines, see {@link #reset(long)}.
+ * @since 2.5
+ */
+public class IndexedLine extends Line {
+
+    private static final long serialVersionUID = -2811329744049186567L;
+
+    private final CellIndex         cellIndex;
+    private       Cell<?>[]         cells;
+    private       int               cellCount = 0;
+    private       Map<String, Cell<?>> otherCells;
+
+    /**
+     * Creates an empty line.
+     *
+     * @param lineType   The type of the line.
+     * @param cellIndex  The cell index that determines the positions of cells within this line.
+     * @param lineNumber The line number of this line.
+     */
+    public IndexedLine(String lineType, CellIndex cellIndex, long lineNumber) {
+        super(lineType, lineNumber);
+        this.cellIndex = cellIndex;
+        this.cells = new Cell<?>[cellIndex.size()];
+    }
+
+    /**
+     * Removes all cells and cell errors from this line so that the same instance can be used for another line of the
+     * same type.
+     *
+     * @param lineNumber The line number of the next line.
+     * @return This line.
+     */
+    public IndexedLine reset(long lineNumber) {
+        Arrays.fill(cells, null);
+        cellCount = 0;
+        otherCells = null;
+        clearCellErrors();
+        setLineNumber(lineNumber);
+        return this;
+    }
+
+    /**
+     * @return The cell index that determines the positions of cells within this line.
+     */
+    public CellIndex getCellIndex() {
+        return cellIndex;
+    }
+
+    /**
+     * @param position The position of the cell within the cell index of this line.
+     * @return The cell at the supplied position or null if there is no cell at that position.
+     * @throws ArrayIndexOutOfBoundsException If the position is outside of the cell index.
+     */
+    public Cell<?> getCellAt(int position) {
+        return cells[position];
+    }
+
+    /**
+     * Gets the long integer value of the cell at supplied position without boxing the value if the cell is an
+     * {@link IntegerCell} or a {@link FloatCell}. Tries to parse a long integer value for other types of cells.
+     *
+     * @param position     The position of the cell within the cell index of this line.
+     * @param defaultValue The value to return if there is no cell at that position or if the cell is empty.
+     * @return The long integer value of the cell at supplied position.
+     * @throws NumberFormatException          If the cell value could not be converted into a long integer value.
+     * @throws ArrayIndexOutOfBoundsException If the position is outside of the cell index.
+     */
+    public long getLongAt(int position, long defaultValue) {
+        Cell<?> cell = cells[position];
+        return cell == null || cell.isEmpty() ? defaultValue : LineUtils.longCellValue(cell);
+    }
+
+    /**
+     * Gets the double value of the cell at supplied position without boxing the value if the cell is an
+     * {@link IntegerCell} or a {@link FloatCell}. Tries to parse a double value for other types of cells.
+     *
+     * @param position     The position of the cell within the cell index of this line.
+     * @param defaultValue The value to return if there is no cell at that position or if the cell is empty.
+     * @return The double value of the cell at supplied position.
+     * @throws NumberFormatException          If the cell value could not be converted into a double value.
+     * @throws ArrayIndexOutOfBoundsException If the position is outside of the cell index.
+     */
+    public double getDoubleAt(int position, double defaultValue) {
+        Cell<?> cell = cells[position];
+        return cell == null || cell.isEmpty() ? defaultValue : LineUtils.doubleCellValue(cell);
+    }
+
+    @Override
+    public List<Cell> getCells() {
+        List<Cell> result = new ArrayList<>(size());
+        iterator().forEachRemaining(result::add);
+        return result;
+    }
+
+    @Override
+    public Iterator<Cell> iterator() {
+        return new CellIterator();
+    }
+
+    @Override
+    public Line addCell(Cell<?> cell) {
+        if (getCell(cell.getName()).isPresent())
+            throw new IllegalStateException(
+                    "A cell with the name '" + cell.getName() + "' already exists. Failed to add cell.");
+        putCell(cell);
+        return this;
+    }
+
+    @Override
+    public Optional<Cell> removeCell(String sName) {
+        int position = cellIndex.indexOf(sName);
+        if (position < 0)
+            return otherCells == null ? Optional.empty() : Optional.ofNullable(otherCells.remove(sName));
+        Cell<?> old = cells[position];
+        if (old != null) {
+            cells[position] = null;
+            cellCount--;
+        }
+        return Optional.ofNullable(old);
+    }
+
+    @Override
+    public Optional<Cell> putCell(Cell<?> cell) {
+        int position = cellIndex.indexOf(cell.getName());
+        if (position < 0) {
+            if (otherCells == null)
+                otherCells = new LinkedHashMap<>();
+            return Optional.ofNullable(otherCells.put(cell.getName(), cell));
+        }
+        Cell<?> old = cells[position];
+        cells[position] = cell;
+        if (old == null)
+            cellCount++;
+        return Optional.ofNullable(old);
+    }
+
+    @Override
+    public Optional<Cell> getCell(String name) {
+        int position = cellIndex.indexOf(name);
+        if (position < 0)
+            return otherCells == null ? Optional.empty() : Optional.ofNullable(otherCells.get(name));
+        return Optional.ofNullable(cells[position]);
+    }
+
+    @Override
+    public int size() {
+        return otherCells == null ? cellCount : cellCount + otherCells.size();
+    }
+
+    @Override
+    public Stream<Cell> stream() {
+        return StreamSupport.stream(Spliterators.spliterator(iterator(), size(),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    @Override
+    public IndexedLine clone() {
+        IndexedLine clone = (IndexedLine) super.clone();
+        clone.cells = cells.clone();
+        if (otherCells != null)
+            clone.otherCells = new LinkedHashMap<>(otherCells);
+        return clone;
+    }
+
+    /**
+     * Iterates the cells of the index, then the other cells.
+     */
+    private final class CellIterator implements Iterator<Cell> {
+        private int            next     = 0;
+        private int            last     = -1;
+        private Iterator<Cell<?>> others;
+
+        @Override
+        public boolean hasNext() {
+            while (next < cells.length) {
+                if (cells[next] != null)
+                    return true;
+                next++;
+            }
+            if (others == null) {
+                if (otherCells == null)
+                    return false;
+                others = otherCells.values().iterator();
+            }
+            return others.hasNext();
+        }
+
+        @Override
+        public Cell next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            if (next < cells.length) {
+                last = next;
+                return cells[next++];
+            }
+            last = -1;
+            return others.next();
+        }
+
+        @Override
+        public void remove() {
+            if (last >= 0) {
+                if (cells[last] == null)
+                    throw new IllegalStateException();
+                cells[last] = null;
+                cellCount--;
+            } else if (others != null) {
+                others.remove();
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+    }
+}
@@ -2,31 +2,75 @@ package org.jsapar.model;
 
 /**
  * Integer cell that contains integer values of any length; Byte, Short, Integer and Long.
- *
+ * <p>
+ * Cells created with {@link #of(String, long)} store the value as a primitive long. The value of such a cell is only
+ * boxed if it is requested by {@link #getValue()}, use {@link #longValue()} to avoid that.
  */
 public final class IntegerCell extends NumberCell {
 
     private static final long serialVersionUID = -6131249480571994885L;
 
+    private final long    primitiveValue;
+    private final boolean primitive;
+
     /**
      * @param name The name of the cell
      * @param value The value
      */
     public IntegerCell(String name, Number value) {
         super(name, value, CellType.INTEGER);
+        this.primitiveValue = 0L;
+        this.primitive = false;
+    }
+
+    private IntegerCell(String name, long value) {
+        super(name, null, CellType.INTEGER);
+        this.primitiveValue = value;
+        this.primitive = true;
+    }
+
+    /**
+     * Creates a cell that stores the value as a primitive long.
+     *
+     * @param name  The name of the cell
+     * @param value The value
+     * @return A new integer cell.
+     * @since 2.5
+     */
+    public static IntegerCell of(String name, long value) {
+        return new IntegerCell(name, value);
     }
 
+    @Override
+    public Number getValue() {
+        return primitive ? Long.valueOf(primitiveValue) : super.getValue();
+    }
+
+    @Override
+    public long longValue() {
+        return primitive ? primitiveValue : super.longValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        return primitive ? (double) primitiveValue : super.doubleValue();
+    }
+
+    @Override
+    public String getStringValue() {
+        return primitive ? Long.toString(primitiveValue) : String.valueOf(super.getValue());
+    }
 
     @Override
     public int compareValueTo(Cell<Number> right) {
         if(!(right instanceof IntegerCell))
-            return Long.compare(getValue().longValue(), right.getValue().longValue());
+            return Long.compare(longValue(), longValueOf(right));
         return super.compareValueTo(right);
     }
 
     @Override
     public Cell<Number> cloneWithName(String newName) {
-        return new IntegerCell(newName, getValue());
+        return primitive ? new IntegerCell(newName, primitiveValue) : new IntegerCell(newName, getValue());
     }
 
     /**
@@ -28,7 +28,7 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
     private static final long   serialVersionUID = 6026541900371948403L;
 
     private Map<String, Cell> cells;
-    private Map<String, CellParseException> cellErrors = new LinkedHashMap<>();
+    private Map<String, CellParseException> cellErrors;
 
     /**
      * Line type.
@@ -65,6 +65,19 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
         this.lineNumber = lineNumber;
     }
 
+    /**
+     * Creates an empty line without any storage of cells. Sub-classes that use this constructor need to override all
+     * public methods that access cells.
+     *
+     * @param sLineType  The type of the line.
+     * @param lineNumber The line number of this line.
+     * @since 2.5
+     */
+    protected Line(String sLineType, long lineNumber) {
+        lineType = sLineType;
+        this.lineNumber = lineNumber;
+    }
+
     /**
      * Returns a clone of the internal collection that contains all the cells.
      * For better performance while iterating multiple lines, it is better to use the
@@ -142,9 +155,9 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
      */
     public <T> void putCellValue(String cellName, T value, BiFunction<String, T, Cell<? super T>> cellCreator) {
         if (value == null)
-            this.cells.remove(cellName);
+            removeCell(cellName);
         else
-            this.cells.put(cellName, cellCreator.apply(cellName, value));
+            putCell(cellCreator.apply(cellName, value));
     }
 
     /**
@@ -191,7 +204,7 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
      */
     public <T> Optional<T> getNonEmptyCellValue(String name, Class<T> valueType) throws ClassCastException {
         //noinspection unchecked
-        Cell<T> uncheckedCell = (Cell<T>) this.cells.get(name);
+        Cell<T> uncheckedCell = (Cell<T>) getCell(name).orElse(null);
         if(uncheckedCell == null || uncheckedCell.isEmpty())
             return Optional.empty();
 
@@ -279,24 +292,46 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
         }
 
         // No need to make a deep copy since cells are all final.
-        clone.cells = new LinkedHashMap<>(this.cells);
-        clone.cellErrors  = new LinkedHashMap<>(this.cellErrors);
+        if (this.cells != null)
+            clone.cells = new LinkedHashMap<>(this.cells);
+        if (this.cellErrors != null)
+            clone.cellErrors = new LinkedHashMap<>(this.cellErrors);
 
         return clone;
     }
 
+    /**
+     * Creates a copy of this line that is not affected by any later changes to this line. Lines that are delivered
+     * by a parser when {@link org.jsapar.text.TextParseConfig#setReuseLines(boolean)} is enabled are only valid
+     * during the call to the line consumer. Use this method in order to keep such a line for later use.
+     * @return A copy of this line. Cells are shared with this line since all cells are immutable.
+     * @since 2.5
+     */
+    public Line copy() {
+        return clone();
+    }
+
     /**
      * @param error The cell error to add.
      */
     public void addCellError(CellParseException error) {
+        if (this.cellErrors == null)
+            this.cellErrors = new LinkedHashMap<>();
         this.cellErrors.put(error.getCellName(), error);
     }
 
+    /**
+     * Removes all cell errors from this line.
+     */
+    void clearCellErrors() {
+        this.cellErrors = null;
+    }
+
     /**
      * @return True if the line has errors on any of the cells.
      */
     public boolean hasCellErrors(){
-        return !this.cellErrors.isEmpty();
+        return this.cellErrors != null && !this.cellErrors.isEmpty();
     }
 
     /**
@@ -304,7 +339,7 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
      * @return If there is an error for the given cell name, that error is returned.The error with the given cell name.
      */
     public Optional<CellParseException> getCellError(String cellName){
-        return Optional.ofNullable(cellErrors.get(cellName));
+        return cellErrors == null ? Optional.empty() : Optional.ofNullable(cellErrors.get(cellName));
     }
 
     /**
@@ -312,7 +347,7 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
      * @return All cell errors of this line.
      */
     public Collection<CellParseException> getCellErrors(){
-        return cellErrors.values();
+        return cellErrors == null ? Collections.emptyList() : cellErrors.values();
     }
 
     /**
@@ -70,7 +70,7 @@ public final class LineUtils {
      * @param value    The long integer value to set.
      */
     public static void setLongCellValue(Line line, String cellName, long value) {
-        line.putCell(new IntegerCell(cellName, value));
+        line.putCell(IntegerCell.of(cellName, value));
     }
 
     /**
@@ -82,7 +82,7 @@ public final class LineUtils {
      * @param value    The double value to set.
      */
     public static void setDoubleCellValue(Line line, String cellName, double value) {
-        line.putCellValue(cellName, value, FloatCell::new);
+        line.putCell(FloatCell.of(cellName, value));
     }
 
     /**
@@ -256,7 +256,8 @@ public final class LineUtils {
      * @see #getNumberCellValue(Line, String)
      */
     public static int getIntCellValue(Line line, String cellName, int defaultValue) throws NumberFormatException {
-        return line.getNonEmptyCell(cellName).map(LineUtils::intCellValue).orElse(defaultValue);
+        Cell<?> cell = line.getNonEmptyCell(cellName).orElse(null);
+        return cell != null ? intCellValue(cell) : defaultValue;
     }
 
     /**
@@ -275,6 +276,8 @@ public final class LineUtils {
     }
 
     private static int intCellValue(Cell<?> cell) {
+        if (cell instanceof IntegerCell)
+            return (int) ((IntegerCell) cell).longValue();
         if (cell instanceof NumberCell) {
             NumberCell numberCell = (NumberCell) cell;
             return numberCell.getValue().intValue();
@@ -301,7 +304,8 @@ public final class LineUtils {
      * @throws NumberFormatException If the cell value could not be converted into a long integer value.
      */
     public static long getLongCellValue(Line line, String cellName, long defaultValue) throws NumberFormatException {
-        return line.getNonEmptyCell(cellName).map(LineUtils::longCellValue).orElse(defaultValue);
+        Cell<?> cell = line.getNonEmptyCell(cellName).orElse(null);
+        return cell != null ? longCellValue(cell) : defaultValue;
     }
 
     /**
@@ -318,10 +322,10 @@ public final class LineUtils {
         return line.getNonEmptyCell(cellName).map(LineUtils::longCellValue);
     }
 
-    private static long longCellValue(Cell<?> cell) {
+    static long longCellValue(Cell<?> cell) {
         if (cell instanceof NumberCell) {
             NumberCell numberCell = (NumberCell) cell;
-            return numberCell.getValue().longValue();
+            return numberCell.longValue();
         }
 
         try {
@@ -553,7 +557,8 @@ public final class LineUtils {
      */
     public static double getDoubleCellValue(Line line, String cellName, double defaultValue)
             throws NumberFormatException{
-        return line.getNonEmptyCell(cellName).map(LineUtils::doubleCellValue).orElse(defaultValue);
+        Cell<?> cell = line.getNonEmptyCell(cellName).orElse(null);
+        return cell != null ? doubleCellValue(cell) : defaultValue;
     }
 
     /**
@@ -571,10 +576,10 @@ public final class LineUtils {
         return line.getNonEmptyCell(cellName).map(LineUtils::doubleCellValue);
     }
 
-    private static double doubleCellValue(Cell<?> cell) {
+    static double doubleCellValue(Cell<?> cell) {
         if (cell instanceof NumberCell) {
             NumberCell numberCell = (NumberCell) cell;
-            return numberCell.getValue().doubleValue();
+            return numberCell.doubleValue();
         }
 
         try {
@@ -31,7 +31,33 @@ abstract class NumberCell extends AbstractCell<Number> {
             return -right.compareValueTo(this);
         }
         assert right instanceof NumberCell : "Value of cell of type " + getCellType() + " can not be compared to value of cell of type " + right.getCellType();
-        return Double.compare(getValue().doubleValue(), right.getValue().doubleValue());
+        return Double.compare(doubleValue(), doubleValueOf(right));
+    }
+
+    static long longValueOf(Cell<Number> cell) {
+        return cell instanceof NumberCell ? ((NumberCell) cell).longValue() : cell.getValue().longValue();
+    }
+
+    static double doubleValueOf(Cell<Number> cell) {
+        return cell instanceof NumberCell ? ((NumberCell) cell).doubleValue() : cell.getValue().doubleValue();
+    }
+
+    /**
+     * @return The value of this cell as a long integer. Sub-classes that store primitive values return that value
+     * without boxing.
+     * @since 2.5
+     */
+    public long longValue() {
+        return getValue().longValue();
+    }
+
+    /**
+     * @return The value of this cell as a double precision float number. Sub-classes that store primitive values return
+     * that value without boxing.
+     * @since 2.5
+     */
+    public double doubleValue() {
+        return getValue().doubleValue();
     }
 
 }
@@ -0,0 +1,164 @@
+package org.jsapar.parse;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Internal class. A publisher that publishes the items of a lazily populated stream, pulling one item at a time from
+ * the stream only when the subscriber has requested more items. Since the items of a parser stream are parsed when
+ * they are pulled, no more lines are parsed than what has been requested and nothing needs to be buffered.
+ * <p>
+ * The stream is created when the subscriber subscribes and is closed when all items have been published, when an
+ * error occurs or when the subscription is cancelled. Only one subscriber can subscribe, since the input can only be
+ * parsed once. Items are published by the thread that requests them.
+ *
+ * @param <T> The type of the published items.
+ * @since 2.5
+ */
+public final class StreamPublisher<T> implements Flow.Publisher<T> {
+
+    /**
+     * Creates the stream to publish.
+     * @param <T> The type of the items of the stream.
+     */
+    @FunctionalInterface
+    public interface StreamSupplier<T> {
+        /**
+         * @return A lazily populated stream.
+         * @throws IOException If there is an error while creating the stream.
+         */
+        Stream<T> get() throws IOException;
+    }
+
+    private final StreamSupplier<T> streamSupplier;
+    private final AtomicBoolean     subscribed = new AtomicBoolean(false);
+
+    /**
+     * @param streamSupplier Creates the stream to publish when the subscriber subscribes.
+     */
+    public StreamPublisher(StreamSupplier<T> streamSupplier) {
+        this.streamSupplier = streamSupplier;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "Subscriber cannot be null");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("The input can only be published to one subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new StreamSubscription<>(subscriber, streamSupplier));
+    }
+
+    /**
+     * Publishes items while there is an outstanding demand. The thread that increases the demand from zero is the one
+     * that publishes, which makes it safe to request more items from within {@link Flow.Subscriber#onNext(Object)}.
+     */
+    private static final class StreamSubscription<T> implements Flow.Subscription {
+        private final Flow.Subscriber<? super T> subscriber;
+        private final StreamSupplier<T>          streamSupplier;
+        private final AtomicLong                 demand = new AtomicLong(0L);
+        private volatile boolean                 cancelled;
+        private volatile Throwable               invalidRequest;
+        private Stream<T>                        stream;
+        private Iterator<T>                      iterator;
+        private boolean                          done;
+
+        private StreamSubscription(Flow.Subscriber<? super T> subscriber, StreamSupplier<T> streamSupplier) {
+            this.subscriber = subscriber;
+            this.streamSupplier = streamSupplier;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("The number of requested items needs to be positive but was " + n);
+                n = 1; // Makes sure the error is delivered by the publishing thread.
+            }
+            if (addDemand(n) == 0)
+                publish();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            if (addDemand(1) == 0)
+                publish(); // Closes the stream unless another thread is publishing, in which case that thread closes it.
+        }
+
+        /**
+         * @return The demand before adding.
+         */
+        private long addDemand(long n) {
+            return demand.getAndAccumulate(n, (current, added) -> {
+                long sum = current + added;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+        }
+
+        private void publish() {
+            long requested = demand.get();
+            while (true) {
+                long published = 0;
+                while (published != requested) {
+                    if (done)
+                        return;
+                    if (cancelled) {
+                        finish();
+                        return;
+                    }
+                    Throwable error = invalidRequest;
+                    if (error != null) {
+                        fail(error);
+                        return;
+                    }
+                    try {
+                        if (iterator == null) {
+                            stream = streamSupplier.get();
+                            iterator = stream.iterator();
+                        }
+                        if (!iterator.hasNext()) {
+                            finish();
+                            subscriber.onComplete();
+                            return;
+                        }
+                        T item = iterator.next();
+                        subscriber.onNext(item);
+                    } catch (IOException | RuntimeException e) {
+                        fail(e);
+                        return;
+                    }
+                    published++;
+                }
+                requested = demand.addAndGet(-published);
+                if (requested == 0)
+                    return;
+            }
+        }
+
+        private void fail(Throwable error) {
+            finish();
+            subscriber.onError(error);
+        }
+
+        private void finish() {
+            done = true;
+            if (stream != null)
+                stream.close();
+        }
+    }
+}
@@ -4,6 +4,8 @@ import org.jsapar.model.BigDecimalCell;
 import org.jsapar.model.Cell;
 import org.jsapar.schema.SchemaCellFormat;
 import org.jsapar.text.Format;
+import org.jsapar.text.format.DecimalFormat;
+import org.jsapar.text.format.ImpliedDecimalFormat;
 
 import java.math.BigDecimal;
 import java.text.ParseException;
@@ -12,7 +14,7 @@ import java.util.Locale;
 /**
  * Parses decimal values into {@link Cell} objects
  */
-public class BigDecimalCellFactory implements CellFactory {
+public class BigDecimalCellFactory implements CellFactory<Number> {
 
     /**
      * @param name   The name to give the newly created cell.
@@ -22,16 +24,33 @@ public class BigDecimalCellFactory implements CellFactory {
      * @throws ParseException If there is an error parsing
      */
     @Override
-    public Cell makeCell(String name, String value, Format format) throws ParseException {
+    public Cell<Number> makeCell(String name, String value, Format format) throws ParseException {
         return new BigDecimalCell(name, (BigDecimal) format.parse(value));
     }
 
+    @Override
+    public boolean isParseFromCharsSupported(Format<Number> format) {
+        final Format<?> decimalFormat = format;
+        return decimalFormat instanceof DecimalFormat || decimalFormat instanceof ImpliedDecimalFormat;
+    }
+
+    @Override
+    public Cell<Number> makeCell(String name, char[] buffer, int begin, int end, Format<Number> format) throws ParseException {
+        // Decimal cells hold a Number but the decimal formats are Format<BigDecimal>, so check through a wildcard.
+        final Format<?> decimalFormat = format;
+        if (decimalFormat instanceof DecimalFormat)
+            return new BigDecimalCell(name, ((DecimalFormat) decimalFormat).parse(buffer, begin, end));
+        if (decimalFormat instanceof ImpliedDecimalFormat)
+            return new BigDecimalCell(name, ((ImpliedDecimalFormat) decimalFormat).parse(buffer, begin, end));
+        return makeCell(name, new String(buffer, begin, end - begin), format);
+    }
+
     /**
      * @param locale The locale to use for the format object.
      * @return A {@link java.text.NumberFormat} instance to use while parsing decimal values.
      */
     @Override
-    public Format makeFormat(Locale locale) {
+    public Format<BigDecimal> makeFormat(Locale locale) {
         return Format.ofDecimalInstance(locale);
     }
 
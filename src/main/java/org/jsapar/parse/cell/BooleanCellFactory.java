@@ -4,6 +4,7 @@ import org.jsapar.model.BooleanCell;
 import org.jsapar.model.Cell;
 import org.jsapar.schema.SchemaCell;
 import org.jsapar.text.Format;
+import org.jsapar.text.format.BooleanFormat;
 
 import java.text.ParseException;
 import java.util.Locale;
@@ -11,16 +12,28 @@ import java.util.Locale;
 /**
  * Parses boolean values into {@link Cell} objects
  */
-public class BooleanCellFactory implements CellFactory {
+public class BooleanCellFactory implements CellFactory<Boolean> {
     private final static Format<Boolean> defaultFormat = Format.ofBooleanInstance(true);
 
     @Override
-    public Cell makeCell(String name, String value, Format format) throws ParseException {
-        return new BooleanCell(name, (Boolean) format.parse(value));
+    public Cell<Boolean> makeCell(String name, String value, Format<Boolean> format) throws ParseException {
+        return new BooleanCell(name, format.parse(value));
     }
 
     @Override
-    public Format makeFormat(Locale locale) {
+    public boolean isParseFromCharsSupported(Format<Boolean> format) {
+        return format instanceof BooleanFormat;
+    }
+
+    @Override
+    public Cell<Boolean> makeCell(String name, char[] buffer, int begin, int end, Format<Boolean> format) throws ParseException {
+        if (format instanceof BooleanFormat)
+            return new BooleanCell(name, ((BooleanFormat) format).parse(buffer, begin, end));
+        return makeCell(name, new String(buffer, begin, end - begin), format);
+    }
+
+    @Override
+    public Format<Boolean> makeFormat(Locale locale) {
         return defaultFormat;
     }
 
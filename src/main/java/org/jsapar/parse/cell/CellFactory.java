@@ -32,6 +32,30 @@ public interface CellFactory<T> {
      */
     Cell<? extends T> makeCell(String name, String value, Format<T> format) throws ParseException;
 
+    /**
+     * @param format The format object to use while parsing.
+     * @return True if {@link #makeCell(String, char[], int, int, Format)} parses values with supplied format directly
+     * from the characters, without first creating a string.
+     */
+    default boolean isParseFromCharsSupported(Format<T> format) {
+        return false;
+    }
+
+    /**
+     * Parse and create a cell with the given name based on a range of characters and the provided format. This
+     * implementation creates a string of the characters and calls {@link #makeCell(String, String, Format)}.
+     * @param name The name to give the newly created cell.
+     * @param buffer The buffer that contains the characters to parse.
+     * @param begin The index of the first character to parse.
+     * @param end The index after the last character to parse.
+     * @param format The format object to use while parsing.
+     * @return A new cell.
+     * @throws ParseException If parsing could not be done with the given format object.
+     */
+    default Cell<? extends T> makeCell(String name, char[] buffer, int begin, int end, Format<T> format) throws ParseException {
+        return makeCell(name, new String(buffer, begin, end - begin), format);
+    }
+
     /**
      * Create a default format object for the current cell type given the locale.
      * @param locale The locale to use for the format object.
@@ -0,0 +1,136 @@
+package org.jsapar.parse.cell;
+
+import org.jsapar.model.Cell;
+import org.jsapar.schema.SchemaCell;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded pool of parsed cells that can be shared between parser instances and threads. Cells are immutable, so
+ * once a raw value has been parsed for a schema cell, the same cell instance can be used by any later parser that
+ * encounters the same raw value for the same schema cell instance. This is useful when many small inputs are parsed
+ * with the same schema, since each parser otherwise starts with empty cell caches.
+ * <p>
+ * Attach a pool to the parse configuration with {@link org.jsapar.text.TextParseConfig#setCellInternPool(CellInternPool)}.
+ * The parsers look in the pool when a value is not found in the cell cache of the column and add parsed cells to it.
+ * Cells that are parsed directly from characters without creating a string, such as numbers with the default
+ * formats, are not pooled.
+ * <p>
+ * The pool is a set associative table where each key maps to a bucket of {@value #WAYS} slots. Reads never lock.
+ * Writes lock one of a number of stripes of buckets, and when a bucket is full, its slots are replaced in turn.
+ * Schema cells are compared by identity, so the schema instance needs to be reused between parsers in order to get any
+ * benefit from the pool.
+ * @since 2.5
+ */
+public final class CellInternPool {
+    static final int WAYS = 4;
+    private static final int STRIPES = 64;
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final int                         bucketMask;
+    private final Object[]                    locks = new Object[STRIPES];
+    private final int[]                       nextVictims = new int[STRIPES];
+
+    /**
+     * @param maxSize The maximum number of cells to keep in the pool. Rounded up to the nearest power of two and to at
+     *                least {@value #WAYS}.
+     */
+    public CellInternPool(int maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("Max size of cell intern pool needs to be at least 1");
+        int capacity = Math.max(WAYS, Integer.highestOneBit(maxSize - 1) << 1);
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.bucketMask = capacity / WAYS - 1;
+        for (int i = 0; i < STRIPES; i++)
+            locks[i] = new Object();
+    }
+
+    /**
+     * @param schemaCell The schema cell that the value was parsed with.
+     * @param value      The raw value.
+     * @return The pooled cell or null if there is no cell in the pool for supplied schema cell and value.
+     */
+    public Cell<?> get(SchemaCell schemaCell, String value) {
+        final int hash = hash(schemaCell, value);
+        final int base = (hash & bucketMask) * WAYS;
+        for (int i = 0; i < WAYS; i++) {
+            Entry entry = entries.get(base + i);
+            if (entry != null && entry.matches(hash, schemaCell, value))
+                return entry.cell;
+        }
+        return null;
+    }
+
+    /**
+     * Adds a cell to the pool. If the bucket of the key is full, one of the existing cells of that bucket is replaced.
+     *
+     * @param schemaCell The schema cell that the value was parsed with.
+     * @param value      The raw value.
+     * @param cell       The cell that was parsed from the raw value.
+     */
+    public void put(SchemaCell schemaCell, String value, Cell<?> cell) {
+        final int hash = hash(schemaCell, value);
+        final int bucket = hash & bucketMask;
+        final int base = bucket * WAYS;
+        final int stripe = bucket & (STRIPES - 1);
+        synchronized (locks[stripe]) {
+            int free = -1;
+            for (int i = 0; i < WAYS; i++) {
+                Entry entry = entries.get(base + i);
+                if (entry == null) {
+                    if (free < 0)
+                        free = i;
+                } else if (entry.matches(hash, schemaCell, value)) {
+                    return;
+                }
+            }
+            if (free < 0)
+                free = nextVictims[stripe]++ & (WAYS - 1);
+            entries.set(base + free, new Entry(hash, schemaCell, value, cell));
+        }
+    }
+
+    /**
+     * Removes all cells from the pool.
+     */
+    public void clear() {
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            synchronized (locks[stripe]) {
+                for (int bucket = stripe; bucket <= bucketMask; bucket += STRIPES) {
+                    for (int i = 0; i < WAYS; i++)
+                        entries.set(bucket * WAYS + i, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The maximum number of cells in the pool.
+     */
+    public int capacity() {
+        return entries.length();
+    }
+
+    private static int hash(SchemaCell schemaCell, String value) {
+        final int h = System.identityHashCode(schemaCell) * 31 + value.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Entry {
+        private final int        hash;
+        private final SchemaCell schemaCell;
+        private final String     value;
+        private final Cell<?>    cell;
+
+        private Entry(int hash, SchemaCell schemaCell, String value, Cell<?> cell) {
+            this.hash = hash;
+            this.schemaCell = schemaCell;
+            this.value = value;
+            this.cell = cell;
+        }
+
+        private boolean matches(int hash, SchemaCell schemaCell, String value) {
+            return this.hash == hash && this.schemaCell == schemaCell && this.value.equals(value);
+        }
+    }
+}
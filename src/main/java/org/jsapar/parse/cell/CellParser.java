@@ -7,6 +7,8 @@ import org.jsapar.model.EmptyCell;
 import org.jsapar.parse.CellParseException;
 import org.jsapar.schema.SchemaCell;
 import org.jsapar.schema.SchemaException;
+import org.jsapar.text.CachePolicy;
+import org.jsapar.text.CacheStatistics;
 import org.jsapar.text.Format;
 import org.jsapar.utils.cache.Cache;
 
@@ -22,9 +24,11 @@ public class CellParser<S extends SchemaCell> {
     private final S schemaCell;
     private final Cell<?> defaultCell;
     private final EmptyCell<?> emptyCell;
-    private final CellFactory cellFactory;
-    private Format<?> format;
+    private final CellFactory<Object> cellFactory;
+    private final Format<Object> format;
     private final Cache<String, Cell<?>> cellCache ;
+    private final CellInternPool internPool;
+    private final boolean parseFromChars;
     private static final String EMPTY_STRING = "";
 
 
@@ -34,15 +38,29 @@ public class CellParser<S extends SchemaCell> {
      * @param maxCacheSize The maximum number of cells to keep in cache while parsing. The value 0 will disable cache.
      */
     protected CellParser(S schemaCell, int maxCacheSize) {
+        this(schemaCell, maxCacheSize, CachePolicy.LIMITED_SIZE, null, null);
+    }
+
+    /**
+     * Creates cell parser according to supplied schema and with a maximum cache size.
+     * @param schemaCell The schema to use.
+     * @param maxCacheSize The maximum number of cells to keep in cache while parsing. The value 0 will disable cache.
+     * @param cachePolicy The policy of the cell cache.
+     * @param cacheStatistics Statistics to record cache hits and misses to. Can be null if no statistics should be
+     *                        recorded.
+     * @param internPool A pool of cells shared with other parsers to use when a value is not found in the cache. Can
+     *                   be null.
+     * @since 2.5
+     */
+    protected CellParser(S schemaCell, int maxCacheSize, CachePolicy cachePolicy, CacheStatistics cacheStatistics, CellInternPool internPool) {
         this.schemaCell = schemaCell;
+        this.internPool = internPool;
 
         CellType cellType = schemaCell.getCellFormat().getCellType();
-        cellFactory = CellFactory.getInstance(cellType);
+        cellFactory = cellFactoryOf(cellType);
         assert cellFactory != null;
-        cellCache = Cache.ofMaxSize(cellFactory.actualCacheMaxSize(schemaCell, maxCacheSize));
-        format = schemaCell.getFormat();
-        if(format == null)
-            format  = cellFactory.makeFormat(schemaCell.getLocale());
+        cellCache = Cache.of(cachePolicy, cellFactory.actualCacheMaxSize(schemaCell, maxCacheSize), cacheStatistics);
+        format = formatOf(schemaCell.getFormat() != null ? schemaCell.getFormat() : cellFactory.makeFormat(schemaCell.getLocale()));
 
         try {
             this.defaultCell = schemaCell.isDefaultValue() ? makeCell(schemaCell.getDefaultValue()) : null;
@@ -50,6 +68,7 @@ public class CellParser<S extends SchemaCell> {
             throw new SchemaException("Failed to set default value of cell " + schemaCell.getName() + " to value [" + schemaCell.getDefaultValue() + "]", e);
         }
         this.emptyCell = schemaCell.makeEmptyCell();
+        this.parseFromChars = !schemaCell.hasEmptyCondition() && cellFactory.isParseFromCharsSupported(format);
     }
 
     /**
@@ -74,6 +93,42 @@ public class CellParser<S extends SchemaCell> {
         return doParse(sValue, errorEventListener);
     }
 
+    /**
+     * Creates a cell with a parsed value from a range of characters. If the cell type and format supports it, see
+     * {@link #isParseFromChars()}, the value is parsed directly from the characters without first creating a string and
+     * without using the cell cache. Otherwise, this method works the same way as {@link #parse(String, Consumer)}.
+     *
+     * @param buffer             The buffer that contains the characters of the cell.
+     * @param begin              The index of the first character of the cell.
+     * @param end                The index after the last character of the cell.
+     * @param errorEventListener Error event listener to deliver errors to.
+     * @return A new cell of a type according to the schema specified. Returns null if there was en error while parsing.
+     */
+    public Cell<?> parse(char[] buffer, int begin, int end, Consumer<JSaParException> errorEventListener) {
+        if (begin == end)
+            return parse(EMPTY_STRING, errorEventListener);
+        if (!parseFromChars)
+            return parse(new String(buffer, begin, end - begin), errorEventListener);
+        try {
+            Cell<?> cell = cellFactory.makeCell(schemaCell.getName(), buffer, begin, end, format);
+            validateRange(cell);
+            return cell;
+        } catch (java.text.ParseException e) {
+            errorEventListener.accept(
+                    new CellParseException(schemaCell.getName(), new String(buffer, begin, end - begin), schemaCell.getCellFormat(), e));
+            return null;
+        }
+    }
+
+    /**
+     * @return True if cells are parsed directly from characters by {@link #parse(char[], int, int, Consumer)}, which
+     * is the case for integer, float, decimal and boolean cells with the default formats and without any empty
+     * condition.
+     */
+    public boolean isParseFromChars() {
+        return parseFromChars;
+    }
+
     public boolean isDefaultValue() {
         return this.defaultCell != null;
     }
@@ -119,7 +174,12 @@ public class CellParser<S extends SchemaCell> {
         }
         Cell<?> cell = cellCache.get(sValue);
         if(cell == null) {
-            cell = cellFactory.makeCell(schemaCell.getName(), sValue, format);
+            cell = internPool == null ? null : internPool.get(schemaCell, sValue);
+            if(cell == null) {
+                cell = cellFactory.makeCell(schemaCell.getName(), sValue, format);
+                if(internPool != null)
+                    internPool.put(schemaCell, sValue, cell);
+            }
             cellCache.put(sValue, cell);
         }
         return cell;
@@ -139,11 +199,29 @@ public class CellParser<S extends SchemaCell> {
      */
     public static Cell<?> makeCell(CellType cellType, String sName, String sValue, Locale locale)
             throws java.text.ParseException {
-        CellFactory cellFactory = CellFactory.getInstance(cellType);
+        CellFactory<Object> cellFactory = cellFactoryOf(cellType);
 
-        Format<?> format = cellFactory.makeFormat(locale);
+        Format<Object> format = formatOf(cellFactory.makeFormat(locale));
         return cellFactory.makeCell(sName, sValue, format);
     }
+
+    /**
+     * The cell factory of a cell type is always used together with a format of the same cell type, see
+     * {@link #formatOf(Format)}, so it is safe to treat its value type as {@link Object}.
+     */
+    @SuppressWarnings("unchecked")
+    private static CellFactory<Object> cellFactoryOf(CellType cellType) {
+        return (CellFactory<Object>) CellFactory.getInstance(cellType);
+    }
+
+    /**
+     * The format of a cell is always used together with the cell factory of the same cell type, see
+     * {@link #cellFactoryOf(CellType)}, so it is safe to treat its value type as {@link Object}.
+     */
+    @SuppressWarnings("unchecked")
+    private static Format<Object> formatOf(Format<?> format) {
+        return (Format<Object>) format;
+    }
     /**
      * Validates that the cell value is within the valid range. Throws a SchemaException if value is
      * not within borders.
@@ -201,4 +279,21 @@ public class CellParser<S extends SchemaCell> {
         return new CellParser<>(schemaCell, maxCacheSize);
     }
 
+    /**
+     * Creates cell parser according to supplied schema and with a maximum cache size.
+     * @param schemaCell The schema to use.
+     * @param maxCacheSize The maximum number of cells to keep in cache while parsing. The value 0 will disable cache.
+     * @param cachePolicy The policy of the cell cache.
+     * @param cacheStatistics Statistics to record cache hits and misses to. Can be null if no statistics should be
+     *                        recorded.
+     * @param internPool A pool of cells shared with other parsers to use when a value is not found in the cache. Can
+     *                   be null.
+     * @return A {@link CellParser} instance to use for parsing supplied schemaCell.
+     * @param <S> The type of the schema cell.
+     * @since 2.5
+     */
+    public static <S extends SchemaCell> CellParser<S> ofSchemaCell(S schemaCell, int maxCacheSize, CachePolicy cachePolicy, CacheStatistics cacheStatistics, CellInternPool internPool) {
+        return new CellParser<>(schemaCell, maxCacheSize, cachePolicy, cacheStatistics, internPool);
+    }
+
 }
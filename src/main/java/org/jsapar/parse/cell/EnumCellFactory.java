@@ -21,6 +21,18 @@ public class EnumCellFactory<E extends Enum<E>> implements CellFactory<E> {
         return new EnumCell<>(name, enumValue);
     }
 
+    @Override
+    public boolean isParseFromCharsSupported(Format<E> format) {
+        return format instanceof EnumFormat;
+    }
+
+    @Override
+    public Cell<E> makeCell(String name, char[] buffer, int begin, int end, Format<E> format) throws ParseException {
+        if (format instanceof EnumFormat)
+            return new EnumCell<>(name, ((EnumFormat<E>) format).parse(buffer, begin, end));
+        return makeCell(name, new String(buffer, begin, end - begin), format);
+    }
+
     @Override
     public Format<E> makeFormat(Locale locale) {
         return null;
@@ -3,6 +3,8 @@ package org.jsapar.parse.cell;
 import org.jsapar.model.Cell;
 import org.jsapar.model.FloatCell;
 import org.jsapar.text.Format;
+import org.jsapar.text.format.NumberFormat;
+import org.jsapar.text.format.USDoubleFormat;
 
 import java.text.ParseException;
 import java.util.Locale;
@@ -13,13 +15,31 @@ import java.util.Locale;
 public class FloatCellFactory extends NumberCellFactory {
 
     @Override
-    public Cell makeCell(String name, String value, Format format) throws ParseException {
+    public Cell<Number> makeCell(String name, String value, Format format) throws ParseException {
+        if (format instanceof USDoubleFormat)
+            return FloatCell.of(name, ((USDoubleFormat) format).parseDouble(value));
+        if (format instanceof NumberFormat)
+            return FloatCell.of(name, ((NumberFormat) format).parseDouble(value));
         final Number number = super.parseNumber(format, value);
         return new FloatCell(name, number instanceof Double ? (Double) number : number.doubleValue());
     }
 
     @Override
-    public Format makeFormat(Locale locale) {
+    public boolean isParseFromCharsSupported(Format<Number> format) {
+        return format instanceof USDoubleFormat || format instanceof NumberFormat;
+    }
+
+    @Override
+    public Cell<Number> makeCell(String name, char[] buffer, int begin, int end, Format<Number> format) throws ParseException {
+        if (format instanceof USDoubleFormat)
+            return FloatCell.of(name, ((USDoubleFormat) format).parseDouble(buffer, begin, end));
+        if (format instanceof NumberFormat)
+            return FloatCell.of(name, ((NumberFormat) format).parseDouble(buffer, begin, end));
+        return makeCell(name, new String(buffer, begin, end - begin), format);
+    }
+
+    @Override
+    public Format<Number> makeFormat(Locale locale) {
         return Format.ofDoubleInstance(locale);
     }
 }
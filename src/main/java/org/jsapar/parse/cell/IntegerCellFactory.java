@@ -3,6 +3,8 @@ package org.jsapar.parse.cell;
 import org.jsapar.model.Cell;
 import org.jsapar.model.IntegerCell;
 import org.jsapar.text.Format;
+import org.jsapar.text.format.NumberFormat;
+import org.jsapar.text.format.USIntegerFormat;
 
 import java.text.ParseException;
 import java.util.Locale;
@@ -12,13 +14,31 @@ import java.util.Locale;
  */
 public class IntegerCellFactory extends NumberCellFactory {
     @Override
-    public Cell makeCell(String name, String value, Format format) throws ParseException {
+    public Cell<Number> makeCell(String name, String value, Format format) throws ParseException {
+        if (format instanceof USIntegerFormat)
+            return IntegerCell.of(name, ((USIntegerFormat) format).parseLong(value));
+        if (format instanceof NumberFormat)
+            return IntegerCell.of(name, ((NumberFormat) format).parseLong(value));
         Number number = super.parseNumber(format, value);
         return new IntegerCell(name, number.longValue());
     }
 
     @Override
-    public Format makeFormat(Locale locale) {
+    public boolean isParseFromCharsSupported(Format<Number> format) {
+        return format instanceof USIntegerFormat || format instanceof NumberFormat;
+    }
+
+    @Override
+    public Cell<Number> makeCell(String name, char[] buffer, int begin, int end, Format<Number> format) throws ParseException {
+        if (format instanceof USIntegerFormat)
+            return IntegerCell.of(name, ((USIntegerFormat) format).parseLong(buffer, begin, end));
+        if (format instanceof NumberFormat)
+            return IntegerCell.of(name, ((NumberFormat) format).parseLong(buffer, begin, end));
+        return makeCell(name, new String(buffer, begin, end - begin), format);
+    }
+
+    @Override
+    public Format<Number> makeFormat(Locale locale) {
         return Format.ofIntegerInstance(locale);
     }
 }
@@ -11,10 +11,10 @@ import java.util.Locale;
 /**
  * Abstract base class for parsing number values into {@link Cell} objects
  */
-public abstract class NumberCellFactory implements CellFactory {
+public abstract class NumberCellFactory implements CellFactory<Number> {
 
     @Override
-    public Format makeFormat(Locale locale) {
+    public Format<Number> makeFormat(Locale locale) {
         return Format.ofNumberInstance(locale);
     }
 
@@ -23,7 +23,7 @@ public abstract class NumberCellFactory implements CellFactory {
     }
 
     @Override
-    public Format makeFormat(Locale locale, String pattern) {
+    public Format<Number> makeFormat(Locale locale, String pattern) {
         if (locale == null)
             locale = SchemaCellFormat.defaultLocale;
         if(pattern == null || pattern.isEmpty())
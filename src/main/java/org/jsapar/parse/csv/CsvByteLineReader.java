@@ -0,0 +1,664 @@
+package org.jsapar.parse.csv;
+
+import org.jsapar.error.JSaParException;
+import org.jsapar.model.Cell;
+import org.jsapar.parse.LineParseException;
+import org.jsapar.parse.cell.CellParser;
+import org.jsapar.parse.text.ChunkSplitter;
+import org.jsapar.schema.CsvSchema;
+import org.jsapar.schema.CsvSchemaLine;
+import org.jsapar.schema.QuoteSyntax;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * This implementation reads bytes into a buffer and splits lines into cells directly on the bytes without first
+ * decoding them into characters. Cell values are only decoded when they are fetched from the returned list, which means
+ * that cells that are never used by the parser, for instance cells that should be ignored, are never decoded.
+ * <p>
+ * Follows exactly the same rules as {@link CsvLineReaderStates} but can only be used if the line separator, cell
+ * separators and quote characters are encoded as a single byte that can not occur within the encoding of any other
+ * character. This is the case for ASCII characters in UTF-8 and for any character set with a single byte per
+ * character, such as ISO-8859-1. See {@link #isSupported(CsvSchema, Charset)}.
+ */
+final class CsvByteLineReader implements CsvLineReader {
+    private static final String EMPTY_CELL = "";
+
+    private static final VarHandle LONG_VIEW             = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long      ONE_IN_EACH_BYTE      = 0x0101010101010101L;
+    private static final long      HIGH_BIT_IN_EACH_BYTE = 0x8080808080808080L;
+
+    private static final int BEGIN_CELL             = 0;
+    private static final int UNQUOTED_CELL          = 1;
+    private static final int QUOTED_CELL            = 2;
+    private static final int FOUND_END_QUOTE        = 3;
+    private static final int FOUND_END_QUOTE_WITHIN = 4;
+
+    private final ReadableByteChannel channel;
+    private final Charset             charset;
+    private final boolean             asciiCompatible;
+    private final int                 maxLineLength;
+    private final boolean             rfc4180;
+    private final byte[]              lineSeparator;
+    private final byte                lastEolByte;
+    private final long                eolPattern;
+    private final boolean             anyNewLineIsEol;
+    private final byte                carriageReturn;
+    private final boolean             multiByte;
+
+    private final byte[]     buffer;
+    private final ByteBuffer loadBuffer;
+    private       int        lineMark   = 0;
+    private       int        cellMark   = 0;
+    private       int        cursor     = 0;
+    private       int        bufferSize = 0;
+    private       int        lineLimit  = 0;
+
+    private final Cells   currentLine = new Cells();
+    private       int     state;
+    private       boolean eof;
+    private       boolean reset;
+
+    private String cellSeparator = ";";
+    private byte[] cellSeparatorBytes;
+    private byte   lastCellSeparatorByte;
+    private char   quoteChar     = '"';
+    private byte   quoteByte;
+    private long   cellSeparatorPattern;
+    private long   quotePattern;
+    private long   lineNumber;
+
+    private int    currentCellOffset  = 0;
+    private int    offsetFromEndQuote = 0;
+    private int    ignoresCount       = 0;
+    private int[]  ignoresAt          = new int[16];
+    private byte[] unescaped          = new byte[64];
+
+    /**
+     * @param lineSeparator   The line separator to use
+     * @param channel         The channel to read bytes from.
+     * @param charset         The character set of the input.
+     * @param maxLineLength   The maximum number of characters in a line. Make sure that all lines fits within this
+     *                        size.
+     * @param quoteSyntax     Determines the syntax of how quoted cells are parsed.
+     * @param firstLineNumber The number of lines that precedes the input of the channel. The first line read gets the
+     *                        line number after this.
+     */
+    CsvByteLineReader(String lineSeparator, ReadableByteChannel channel, Charset charset, int maxLineLength, QuoteSyntax quoteSyntax, long firstLineNumber) {
+        this.channel = channel;
+        this.charset = charset;
+        this.asciiCompatible = isAsciiCompatible(charset);
+        this.maxLineLength = maxLineLength;
+        this.rfc4180 = quoteSyntax == QuoteSyntax.RFC4180;
+        this.lineSeparator = lineSeparator.getBytes(charset);
+        this.lastEolByte = this.lineSeparator[this.lineSeparator.length - 1];
+        this.eolPattern = inEachByte(lastEolByte);
+        this.anyNewLineIsEol = Arrays.asList("\n", "\r\n").contains(lineSeparator);
+        this.carriageReturn = "\r".getBytes(charset)[0];
+        this.lineNumber = firstLineNumber;
+        final float maxBytesPerChar = charset.newEncoder().maxBytesPerChar();
+        this.multiByte = maxBytesPerChar > 1.0f;
+        this.buffer = new byte[(int) Math.min(Integer.MAX_VALUE - 8L, (long) Math.ceil(maxLineLength * (double) maxBytesPerChar))];
+        this.loadBuffer = ByteBuffer.wrap(buffer);
+        this.cellSeparatorBytes = cellSeparator.getBytes(charset);
+        this.lastCellSeparatorByte = cellSeparatorBytes[cellSeparatorBytes.length - 1];
+        this.cellSeparatorPattern = inEachByte(lastCellSeparatorByte);
+        this.quoteByte = String.valueOf(quoteChar).getBytes(charset)[0];
+        this.quotePattern = inEachByte(quoteByte);
+        beginCellState();
+    }
+
+    /**
+     * @param schema  The schema to test.
+     * @param charset The character set of the input.
+     * @return True if input with the supplied schema and character set can be read by this class.
+     */
+    static boolean isSupported(CsvSchema schema, Charset charset) {
+        if (schema.getLineSeparator().isEmpty() || !ChunkSplitter.isSingleByte(schema.getLineSeparator(), charset)
+                || !ChunkSplitter.isSingleByte(";", charset) || !ChunkSplitter.isSingleByte("\"", charset))
+            return false;
+        for (CsvSchemaLine schemaLine : schema) {
+            if (schemaLine.getCellSeparator().isEmpty()
+                    || !ChunkSplitter.isSingleByte(schemaLine.getCellSeparator(), charset)
+                    || !ChunkSplitter.isSingleByte(String.valueOf(schemaLine.getQuoteChar()), charset))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void reset() {
+        this.eof = false;
+        this.reset = true;
+    }
+
+    @Override
+    public void skipLine() throws IOException {
+        if (reset) {
+            reset = false;
+            return;
+        }
+        readLine(cellSeparator, quoteChar);
+    }
+
+    @Override
+    public boolean eofReached() {
+        return eof;
+    }
+
+    @Override
+    public long currentLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public boolean lastLineWasEmpty() {
+        return currentLine.isEmpty();
+    }
+
+    @Override
+    public List<String> readLine(String cellSeparator, char quoteChar) throws IOException {
+        if (reset)
+            return lastLine(cellSeparator, quoteChar);
+        setLineCharacteristics(cellSeparator, quoteChar);
+        lineMark = cursor;
+        lineLimit = lineMark + maxLineLength;
+        lineNumber++;
+        return processLine();
+    }
+
+    private void setLineCharacteristics(String cellSeparator, char quoteChar) {
+        if (!cellSeparator.equals(this.cellSeparator)) {
+            this.cellSeparator = cellSeparator;
+            this.cellSeparatorBytes = cellSeparator.getBytes(charset);
+            this.lastCellSeparatorByte = cellSeparatorBytes[cellSeparatorBytes.length - 1];
+            this.cellSeparatorPattern = inEachByte(lastCellSeparatorByte);
+        }
+        if (quoteChar != this.quoteChar) {
+            this.quoteChar = quoteChar;
+            this.quoteByte = String.valueOf(quoteChar).getBytes(charset)[0];
+            this.quotePattern = inEachByte(quoteByte);
+        }
+    }
+
+    /**
+     * Parses last line again but use different separator and quote character.
+     * @param cellSeparator The new cell separator to use.
+     * @param quoteChar     The quote character to use.
+     * @return A line
+     * @throws IOException In case of underlying io error.
+     */
+    private List<String> lastLine(String cellSeparator, char quoteChar) throws IOException {
+        reset = false;
+        if (quoteChar == this.quoteChar && cellSeparator.equals(this.cellSeparator))
+            return currentLine;
+        cursor = lineMark;
+        cellMark = lineMark;
+        setLineCharacteristics(cellSeparator, quoteChar);
+        return processLine();
+    }
+
+    private List<String> processLine() throws IOException {
+        currentLine.clear();
+
+        while (true) {
+            if ((cursor >= lineLimit && isLineLimitReached()) || cursor >= bufferSize) {
+                final int count = cursor >= lineLimit ? 0 : load();
+                if (count < 1) {
+                    if (state == QUOTED_CELL) {
+                        cursor = cellMark;
+                        resetCell();
+                        state = UNQUOTED_CELL;
+                        continue;
+                    } else if (count == 0) {
+                        throw lineTooLong();
+                    }
+                    this.eof = true;
+                    addToLineExcept(offsetFromEndQuote);
+                    return lineComplete();
+                }
+            }
+            if (state == UNQUOTED_CELL || state == QUOTED_CELL) {
+                // Skip bytes that would not change the state. Separators and quotes are rare compared to cell content.
+                final int end = Math.min(bufferSize, lineLimit);
+                cursor = (state == UNQUOTED_CELL)
+                        ? indexOf(cellSeparatorPattern, eolPattern, cursor, end)
+                        : indexOf(quotePattern, quotePattern, cursor, end);
+                if (cursor >= end)
+                    continue;
+            }
+            if (processByte(buffer[cursor++]))
+                return lineComplete();
+        }
+    }
+
+    /**
+     * Finds the first byte within a range of the buffer that matches any of two bytes. Eight bytes are tested at a time
+     * by treating them as one long word. See
+     * <a href="https://graphics.stanford.edu/~seander/bithacks.html#ValueInWord">Determine if a word has a byte equal
+     * to n</a>.
+     * @param pattern1 A byte to find, repeated in all bytes of the long.
+     * @param pattern2 Another byte to find, repeated in all bytes of the long.
+     * @param from     Index of first byte to test.
+     * @param to       Index after the last byte to test.
+     * @return The index of the first matching byte or to if no byte matches.
+     */
+    private int indexOf(final long pattern1, final long pattern2, int from, final int to) {
+        final byte[] bytes = buffer;
+        int i = from;
+        for (final int last = to - Long.BYTES; i <= last; i += Long.BYTES) {
+            final long word = (long) LONG_VIEW.get(bytes, i);
+            // Only the lowest marked byte is guaranteed to be a match but that is the only one we need.
+            final long found = zeroBytes(word ^ pattern1) | zeroBytes(word ^ pattern2);
+            if (found != 0)
+                return i + (Long.numberOfTrailingZeros(found) >>> 3);
+        }
+        final byte b1 = (byte) pattern1;
+        final byte b2 = (byte) pattern2;
+        for (; i < to; i++) {
+            final byte b = bytes[i];
+            if (b == b1 || b == b2)
+                return i;
+        }
+        return to;
+    }
+
+    /**
+     * @param word The bytes to test.
+     * @return A word where the highest bit is set for the lowest byte that is zero. Bytes above that may also be
+     * marked even if they are not zero.
+     */
+    private static long zeroBytes(long word) {
+        return (word - ONE_IN_EACH_BYTE) & ~word & HIGH_BIT_IN_EACH_BYTE;
+    }
+
+    private static long inEachByte(byte b) {
+        return (b & 0xFFL) * ONE_IN_EACH_BYTE;
+    }
+
+    /**
+     * A line may not contain more than the maximum line length number of characters, which corresponds to the size
+     * of the buffer of {@link CsvLineReaderStates}. Since no character is encoded as fewer than one byte, the line limit
+     * is first set to the maximum line length number of bytes after the line start. For multi byte character sets, the
+     * line limit is moved forward when it is reached until it matches the number of characters.
+     * @return True if the maximum line length number of characters has been read since the line start.
+     */
+    private boolean isLineLimitReached() {
+        if (cursor < lineLimit)
+            return false;
+        if (!multiByte)
+            return true;
+        final int remaining = maxLineLength - charCount(lineMark, cursor);
+        if (remaining <= 0)
+            return true;
+        lineLimit = cursor + remaining;
+        return false;
+    }
+
+    private LineParseException lineTooLong() {
+        return new LineParseException(lineNumber,
+                "Maximum line size exceeded. More than " + maxLineLength + " bytes were read without finding a line separator or maybe there is a miss-placed start quote without matching end quote.");
+    }
+
+    private List<String> lineComplete() {
+        beginCellState();
+        if (currentLine.size() == 1 && currentLine.get(0).trim().isEmpty())
+            currentLine.clear();
+        return currentLine;
+    }
+
+    /**
+     * Processes one byte according to current state.
+     * @param b The byte to process. The cursor points to the byte after.
+     * @return True if end of line was reached.
+     */
+    private boolean processByte(final byte b) {
+        switch (state) {
+        case BEGIN_CELL:
+            if (b == quoteByte) {
+                state = QUOTED_CELL;
+                currentCellOffset++;
+                return false;
+            }
+            if (b == lastCellSeparatorByte && cellSeparatorBytes.length == 1) {
+                currentLine.add(EMPTY_CELL);
+                cellMark = cursor;
+                currentCellOffset = 0;
+                return false;
+            }
+            if (b == lastEolByte && endOfLineAddPending(0))
+                return true; // An empty line without cells.
+            state = UNQUOTED_CELL;
+            return false;
+
+        case UNQUOTED_CELL:
+            if (b == lastCellSeparatorByte && tailOfCellMatches(cellSeparatorBytes)) {
+                addToLineExcept(cellSeparatorBytes.length);
+                beginCellState();
+                return false;
+            }
+            return b == lastEolByte && endOfLineAddPending(0);
+
+        case QUOTED_CELL:
+            if (b == quoteByte) {
+                offsetFromEndQuote = 1;
+                state = FOUND_END_QUOTE;
+            }
+            return false;
+
+        case FOUND_END_QUOTE:
+            if (b == lastCellSeparatorByte && cellSeparatorBytes.length == 1) {
+                addToLineExcept(2);
+                beginCellState();
+                return false;
+            }
+            if (b == lastEolByte && endOfLineAddPending(1))
+                return true;
+            if (b == quoteByte) {
+                if (rfc4180) {
+                    ignoreCurrent();
+                    state = QUOTED_CELL;
+                } else {
+                    offsetFromEndQuote = 1;
+                }
+                return false;
+            }
+            offsetFromEndQuote++;
+            state = FOUND_END_QUOTE_WITHIN;
+            return false;
+
+        case FOUND_END_QUOTE_WITHIN:
+            if (b == quoteByte) {
+                state = FOUND_END_QUOTE;
+                offsetFromEndQuote = 1;
+                return false;
+            }
+            if (b == lastCellSeparatorByte && tailOfCellMatches(cellSeparatorBytes)) {
+                if (cellSeparatorBytes.length == offsetFromEndQuote)
+                    addToLineExcept(cellSeparatorBytes.length + 1);
+                else
+                    addToLine(cellMark, cursor - cellMark - cellSeparatorBytes.length);
+                beginCellState();
+                return false;
+            }
+            if (b == lastEolByte) {
+                final int eolSize = eolMatchSize();
+                if (eolSize == offsetFromEndQuote) {
+                    addToLineExcept(eolSize + offsetFromEndQuote - 1);
+                    return true;
+                } else if (eolSize > 0) {
+                    addToLine(cellMark, cursor - cellMark - eolSize);
+                    return true;
+                }
+            }
+            offsetFromEndQuote++;
+            return false;
+
+        default:
+            throw new AssertionError("Unknown state " + state);
+        }
+    }
+
+    /**
+     * Sets state to begin cell state and resets cell offsets.
+     */
+    private void beginCellState() {
+        state = BEGIN_CELL;
+        cellMark = cursor;
+        resetCell();
+    }
+
+    private void resetCell() {
+        currentCellOffset = 0;
+        offsetFromEndQuote = 0;
+        ignoresCount = 0;
+    }
+
+    /**
+     * Checks tail of current cell matches supplied bytes. Assumes that the current byte is already checked.
+     * @param toMatch The bytes to match
+     * @return True if tail of current cell matches supplied bytes.
+     */
+    private boolean tailOfCellMatches(byte[] toMatch) {
+        int cellOffset = cursor - toMatch.length;
+        if (cellOffset < cellMark)
+            return false;
+        // Scan backwards to see if bytes before matches. Start at byte before current.
+        for (int i = toMatch.length - 2; i >= 0; i--) {
+            if (toMatch[i] != buffer[cellOffset + i])
+                return false;
+        }
+        return true;
+    }
+
+    private int eolMatchSize() {
+        if (anyNewLineIsEol)
+            return (cursor - 2 >= lineMark && buffer[cursor - 2] == carriageReturn) ? 2 : 1;
+        return tailOfCellMatches(lineSeparator) ? lineSeparator.length : 0;
+    }
+
+    private boolean endOfLineAddPending(int skip) {
+        int size = eolMatchSize();
+        if (size <= 0)
+            return false;
+        addToLineExcept(size + skip);
+        return true;
+    }
+
+    /**
+     * Adds a completed cell to the line.
+     * @param except Number of bytes to skip from end while adding cell to line.
+     */
+    private void addToLineExcept(int except) {
+        final int cellStart = cellMark + currentCellOffset;
+        addToLine(cellStart, cursor - except - cellStart);
+    }
+
+    /**
+     * Adds a completed cell to the line.
+     * @param offset Begin index
+     * @param count  Number of bytes to add
+     */
+    private void addToLine(int offset, int count) {
+        if (count == 0) {
+            currentLine.add(EMPTY_CELL);
+        } else if (ignoresCount == 0) {
+            currentLine.add(offset, count);
+        } else {
+            if (unescaped.length < count)
+                unescaped = new byte[Math.max(count, unescaped.length * 2)];
+            int length = 0;
+            for (int i = 0; i < ignoresCount; i++) {
+                int toAdd = ignoresAt[i] - offset;
+                System.arraycopy(buffer, offset, unescaped, length, toAdd);
+                length += toAdd;
+                offset = ignoresAt[i] + 1;
+                count -= (1 + toAdd);
+            }
+            System.arraycopy(buffer, offset, unescaped, length, count);
+            length += count;
+            currentLine.add(new String(unescaped, 0, length, charset));
+        }
+    }
+
+    private void ignoreCurrent() {
+        if (ignoresCount == ignoresAt.length)
+            ignoresAt = Arrays.copyOf(ignoresAt, ignoresAt.length * 2);
+        ignoresAt[ignoresCount++] = cursor - 1;
+    }
+
+    /**
+     * Loads new bytes to the buffer.
+     * @return The number of new bytes added to the buffer. 0 if there was no room in the buffer to load. -1 if end
+     * of input was reached.
+     * @throws IOException In case of underlying io error.
+     */
+    private int load() throws IOException {
+        if (lineMark == bufferSize) {
+            cursor = 0;
+            cellMark = 0;
+            bufferSize = 0;
+            lineLimit -= lineMark;
+            lineMark = 0;
+        } else if (bufferSize == buffer.length) {
+            if (lineMark == 0) {
+                // Max line size reached. No more space to load.
+                return 0;
+            }
+            // Shift remaining to the left
+            final int shift = lineMark;
+            System.arraycopy(buffer, shift, buffer, 0, bufferSize - shift);
+            cursor -= shift;
+            cellMark -= shift;
+            bufferSize -= shift;
+            lineLimit -= shift;
+            lineMark = 0;
+            currentLine.shift(shift);
+            for (int i = 0; i < ignoresCount; i++)
+                ignoresAt[i] -= shift;
+        }
+        loadBuffer.limit(buffer.length).position(bufferSize);
+        int count;
+        do {
+            count = channel.read(loadBuffer);
+        } while (count == 0);
+        if (count > 0)
+            bufferSize += count;
+        return count;
+    }
+
+    /**
+     * @param from Index of first byte.
+     * @param to   Index after last byte.
+     * @return The number of characters that the bytes are decoded into.
+     */
+    private int charCount(int from, int to) {
+        if (!multiByte)
+            return to - from;
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            final int b = buffer[i] & 0xFF;
+            if (b >= 0xF0)
+                count += 2; // Decoded as a surrogate pair.
+            else if (b < 0x80 || b >= 0xC0)
+                count++;
+        }
+        return count;
+    }
+
+    /**
+     * @param charset The character set to check.
+     * @return True if all bytes below 0x80 are decoded into the ASCII character with the same value.
+     */
+    static boolean isAsciiCompatible(Charset charset) {
+        byte[] ascii = new byte[0x80];
+        for (int i = 0; i < ascii.length; i++)
+            ascii[i] = (byte) i;
+        String decoded = new String(ascii, charset);
+        if (decoded.length() != ascii.length)
+            return false;
+        for (int i = 0; i < ascii.length; i++) {
+            if (decoded.charAt(i) != i)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * The cells of the current line. Cells are kept as positions within the buffer and decoded when fetched.
+     */
+    private final class Cells extends AbstractList<String> implements RawCells {
+        private int[]    offsets = new int[32];
+        private int[]    counts  = new int[32];
+        private String[] values  = new String[32];
+        private int      size    = 0;
+        private char[]   chars   = new char[64];
+
+        /**
+         * Cells that only contain ASCII characters are copied into a char array and parsed from there if the character
+         * set is ASCII compatible, all other cells are decoded into a string first.
+         */
+        @Override
+        public Cell<?> parse(int index, CellParser<?> cellParser, Consumer<JSaParException> errorListener) {
+            if (index >= size)
+                throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size);
+            if (values[index] != null || !asciiCompatible || !cellParser.isParseFromChars())
+                return cellParser.parse(get(index), errorListener);
+            final int offset = offsets[index];
+            final int count = counts[index];
+            if (chars.length < count)
+                chars = new char[Math.max(count, chars.length * 2)];
+            for (int i = 0; i < count; i++) {
+                final byte b = buffer[offset + i];
+                if (b < 0)
+                    return cellParser.parse(get(index), errorListener);
+                chars[i] = (char) b;
+            }
+            return cellParser.parse(chars, 0, count, errorListener);
+        }
+
+        @Override
+        public String get(int index) {
+            if (index >= size)
+                throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size);
+            String value = values[index];
+            if (value == null) {
+                value = new String(buffer, offsets[index], counts[index], charset);
+                values[index] = value;
+            }
+            return value;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(values, 0, size, null);
+            size = 0;
+        }
+
+        @Override
+        public boolean add(String value) {
+            ensureCapacity();
+            values[size++] = value;
+            return true;
+        }
+
+        private void add(int offset, int count) {
+            ensureCapacity();
+            offsets[size] = offset;
+            counts[size] = count;
+            values[size++] = null;
+        }
+
+        private void ensureCapacity() {
+            if (size == values.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+        }
+
+        /**
+         * Called when the content of the buffer was shifted to the left.
+         * @param shift Number of bytes that the content was shifted.
+         */
+        private void shift(int shift) {
+            for (int i = 0; i < size; i++)
+                offsets[i] -= shift;
+        }
+    }
+}
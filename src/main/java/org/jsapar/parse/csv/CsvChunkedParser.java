@@ -0,0 +1,117 @@
+package org.jsapar.parse.csv;
+
+import org.jsapar.parse.text.AbstractChunkedParser;
+import org.jsapar.parse.text.ChunkSplitter;
+import org.jsapar.parse.text.TextSchemaParser;
+import org.jsapar.schema.CsvSchema;
+import org.jsapar.schema.CsvSchemaLine;
+import org.jsapar.text.TextParseConfig;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Internal class for parsing CSV input from a file in chunks that can be parsed in parallel. The input is split into
+ * chunks at line boundaries that are safe with regards to quoted cells.
+ * <p>
+ * The first chunks are parsed sequentially until all lines that are limited in number of occurrences have been
+ * parsed and all header lines have been parsed. If the input cannot be split, for instance if schema lines use
+ * different cell separators, the input is parsed sequentially.
+ * <p>
+ * If the separators and quote characters of the schema are encoded as single bytes that can not be part of other
+ * characters, as is the case for ASCII characters in UTF-8 and in single byte character sets, lines are split into
+ * cells directly on the bytes of the input and only the cells that are actually parsed are decoded.
+ */
+public class CsvChunkedParser extends AbstractChunkedParser {
+    private final CsvSchema            schema;
+    private final TextParseConfig      parseConfig;
+    private final TextParseConfig      chunkParseConfig;
+    private final CsvLineParserFactory lineParserFactory;
+    private final boolean              byteLevel;
+
+    /**
+     * Creates a parser that parses chunks on the common {@link ForkJoinPool}.
+     * @param channel     The channel to read from. Reading starts at current position.
+     * @param charset     The character set of the input.
+     * @param schema      The schema.
+     * @param parseConfig The configuration. Determines parallelism, chunk size and order.
+     */
+    public CsvChunkedParser(FileChannel channel, Charset charset, CsvSchema schema, TextParseConfig parseConfig) {
+        this(channel, charset, schema, parseConfig, ForkJoinPool.commonPool());
+    }
+
+    CsvChunkedParser(FileChannel channel, Charset charset, CsvSchema schema, TextParseConfig parseConfig, Executor executor) {
+        super(channel, charset, parseConfig, executor);
+        this.schema = schema;
+        this.parseConfig = parseConfig;
+        this.chunkParseConfig = makeChunkParseConfig(parseConfig);
+        this.lineParserFactory = new CsvLineParserFactory(schema, chunkParseConfig);
+        this.byteLevel = CsvByteLineReader.isSupported(schema, charset);
+    }
+
+    @Override
+    protected Optional<ChunkSplitter.RecordScanner> makeRecordScanner(Charset charset) {
+        if (schema.isEmpty())
+            return Optional.empty();
+        return CsvRecordScanner.ofSchema(schema, charset).map(ChunkSplitter.RecordScanner.class::cast);
+    }
+
+    @Override
+    protected TextSchemaParser makeParser(ReadableByteChannel input) {
+        return makeChunkParser(input, 0, schema, new CsvLineParserFactory(schema, parseConfig));
+    }
+
+    @Override
+    protected TextSchemaParser makeLeadingChunkParser(ReadableByteChannel input, long firstLineNumber) {
+        return makeChunkParser(input, firstLineNumber, schema, lineParserFactory);
+    }
+
+    @Override
+    protected boolean isCompleted() {
+        return lineParserFactory.isEmpty();
+    }
+
+    @Override
+    protected boolean isStopped(TextSchemaParser parser) {
+        return ((CsvParser) parser).isStopped();
+    }
+
+    @Override
+    protected Optional<ChunkParserFactory> makeChunkParserFactory() {
+        return lineParserFactory.resolvedInfiniteSchemaLines().map(schemaLines -> {
+            CsvSchema chunkSchema = makeChunkSchema(schemaLines);
+            return (input, firstLineNumber) -> makeChunkParser(input, firstLineNumber, chunkSchema,
+                    new CsvLineParserFactory(chunkSchema, chunkParseConfig));
+        });
+    }
+
+    private CsvParser makeChunkParser(ReadableByteChannel input, long firstLineNumber, CsvSchema chunkSchema, CsvLineParserFactory chunkLineParserFactory) {
+        return new CsvParser(makeLineReader(input, firstLineNumber), chunkSchema, chunkLineParserFactory, parseConfig);
+    }
+
+    /**
+     * Reads directly from the bytes of the input if possible, otherwise the input is decoded by a reader.
+     */
+    private CsvLineReader makeLineReader(ReadableByteChannel input, long firstLineNumber) {
+        if (byteLevel)
+            return new CsvByteLineReader(schema.getLineSeparator(), input, getCharset(),
+                    parseConfig.getMaxLineLength(), schema.getQuoteSyntax(), firstLineNumber);
+        Reader reader = new InputStreamReader(Channels.newInputStream(input), getCharset());
+        return new CsvLineReaderStates(schema.getLineSeparator(), reader,
+                true, parseConfig.getMaxLineLength(), schema.getQuoteSyntax(), firstLineNumber);
+    }
+
+    private CsvSchema makeChunkSchema(List<CsvSchemaLine> schemaLines) {
+        CsvSchema.Builder builder = CsvSchema.builder(schema).withoutAnyLine();
+        schemaLines.forEach(builder::withLine);
+        return builder.build();
+    }
+}
@@ -2,6 +2,7 @@ package org.jsapar.parse.csv;
 
 import org.jsapar.error.JSaParException;
 import org.jsapar.model.Cell;
+import org.jsapar.model.IndexedLine;
 import org.jsapar.model.Line;
 import org.jsapar.model.StringCell;
 import org.jsapar.parse.LineParseException;
@@ -30,6 +31,7 @@ class CsvLineParser {
     private              long                            usedCount                       = 0L;
     private final ValidationHandler          validationHandler          = new ValidationHandler();
     private final LineDecoratorErrorConsumer lineDecoratorErrorConsumer = new LineDecoratorErrorConsumer();
+    private       IndexedLine                reusableLine;
     /**
      * Creates a csv line parser with the given line schema.
      *
@@ -56,7 +58,8 @@ class CsvLineParser {
     }
 
     private CellParser<CsvSchemaCell> makeCellParser(CsvSchemaCell schemaCell) {
-        return CellParser.ofSchemaCell(schemaCell, Math.min(config.getMaxCellCacheSize(), lineSchema.getOccurs() - 1));
+        return CellParser.ofSchemaCell(schemaCell, Math.min(config.getMaxCellCacheSize(), lineSchema.getOccurs() - 1),
+                config.getCellCachePolicy(), config.cellCacheStatisticsOf(schemaCell), config.getCellInternPool());
     }
 
     /**
@@ -80,6 +83,7 @@ class CsvLineParser {
 
         if (usedCount == 0 && lineSchema.isFirstLineAsSchema()) {
             lineSchema = buildSchemaFromHeader(lineSchema, rawCells, errorListener);
+            reusableLine = null;
             usedCount++;
             return true;
         }
@@ -88,16 +92,22 @@ class CsvLineParser {
         if(lineSchema.isIgnoreRead())
             return true;
 
-        // Create with same size as schema plus 1 to handle trailing cell separator which is quite common.
-        Line line = new Line(lineSchema.getLineType(), 1 + lineSchema.size(), lineReader.currentLineNumber());
+        Line line = makeLine(lineReader.currentLineNumber());
         lineDecoratorErrorConsumer.initialize(errorListener, line);
 
         java.util.Iterator<CellParser<CsvSchemaCell>> itParser = cellParsers.iterator();
-        for (String sCell : rawCells) {
+        for (int i = 0; i < rawCells.size(); i++) {
             if (itParser.hasNext()) {
-                addCellToLineBySchema(line, itParser.next(), sCell, lineDecoratorErrorConsumer);
+                CellParser<CsvSchemaCell> cellParser = itParser.next();
+                if (rawCells instanceof RawCells && isParsedFromChars(cellParser)) {
+                    addCellToLine(line, ((RawCells) rawCells).parse(i, cellParser, lineDecoratorErrorConsumer));
+                    continue;
+                }
+                // Cells that are ignored are not fetched since the line reader may decode cells when fetched.
+                String sCell = cellParser.getSchemaCell().isIgnoreRead() ? null : rawCells.get(i);
+                addCellToLineBySchema(line, cellParser, sCell, lineDecoratorErrorConsumer);
             } else {
-                if(!addCellToLineWithoutSchema(line, sCell, errorListener))
+                if(!addCellToLineWithoutSchema(line, rawCells.get(i), errorListener))
                     return true;
             }
         }
@@ -117,6 +127,33 @@ class CsvLineParser {
         return true;
     }
 
+    /**
+     * @param lineNumber The line number of the line.
+     * @return A new line or, if lines are reused, the line of this parser cleared from any previous content.
+     */
+    private Line makeLine(long lineNumber) {
+        if (!config.isReuseLines())
+            return new IndexedLine(lineSchema.getLineType(), lineSchema.getCellIndex(), lineNumber);
+        if (reusableLine == null)
+            reusableLine = new IndexedLine(lineSchema.getLineType(), lineSchema.getCellIndex(), lineNumber);
+        return reusableLine.reset(lineNumber);
+    }
+
+    /**
+     * @return The line schema that is used to parse lines. If the first line is used as schema, this is the schema line
+     * built from the header line once it has been parsed.
+     */
+    CsvSchemaLine getLineSchema() {
+        return lineSchema;
+    }
+
+    /**
+     * @return True if the header line has been parsed or if the first line is not used as schema.
+     */
+    boolean isLineSchemaResolved() {
+        return usedCount > 0 || !lineSchema.isFirstLineAsSchema();
+    }
+
     /**
      * Builds a CsvSchemaLine from a header line.
      *
@@ -194,7 +231,7 @@ class CsvLineParser {
      * Adds a cell to the line according to the schema.
      * @param line               The line to add a cell to
      * @param cellParser         The cell parser
-     * @param sCell              The string value of the cell
+     * @param sCell              The string value of the cell. Null if the cell should be ignored.
      * @param errorEventListener The error event listener to report errors to.
      *
      */
@@ -212,12 +249,25 @@ class CsvLineParser {
         }
         if (cellSchema.isMaxLength() && sCell.length() > cellSchema.getMaxLength())
             sCell = sCell.substring(0, cellSchema.getMaxLength());
-        Cell cell = cellParser.parse(sCell, errorEventListener);
+        addCellToLine(line, cellParser.parse(sCell, errorEventListener));
+    }
+
+    private static void addCellToLine(Line line, Cell<?> cell) {
         if(cell != null){
             line.addCell(cell);
         }
     }
 
+    /**
+     * @param cellParser The cell parser of a cell.
+     * @return True if the cell can be parsed directly from the characters of the line reader without first creating
+     * a string.
+     */
+    private static boolean isParsedFromChars(CellParser<CsvSchemaCell> cellParser) {
+        CsvSchemaCell cellSchema = cellParser.getSchemaCell();
+        return cellParser.isParseFromChars() && !cellSchema.isIgnoreRead() && !cellSchema.isMaxLength();
+    }
+
     /**
      * Adds overflowing cell to the line if there is no schema.
      *  @param line          The line to add cell to
@@ -0,0 +1,87 @@
+package org.jsapar.parse.csv;
+
+import org.jsapar.schema.CsvSchemaLine;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Finds the line parser matcher of a line by looking up the value of the control cell instead of testing the matchers
+ * one by one. Can only be used when all line schemas have exactly one control cell, at the same position and with the
+ * same cell separator and quote character, and when the conditions of the control cells only match literal values
+ * that are distinct between the line schemas. In that case at most one matcher can match each line, so the result is
+ * the same as when testing the matchers one by one, regardless of the order.
+ */
+class CsvLineParserDispatcher {
+    private final int                               controlCellPos;
+    private final String                            cellSeparator;
+    private final char                              quoteChar;
+    private final Map<String, CsvLineParserMatcher> matchersByValue = new HashMap<>();
+
+    private CsvLineParserDispatcher(int controlCellPos, String cellSeparator, char quoteChar) {
+        this.controlCellPos = controlCellPos;
+        this.cellSeparator = cellSeparator;
+        this.quoteChar = quoteChar;
+    }
+
+    /**
+     * @param matchers The line parser matchers to dispatch between.
+     * @return A dispatcher or null if the matchers cannot be told apart by the value of one control cell.
+     */
+    static CsvLineParserDispatcher of(List<CsvLineParserMatcher> matchers) {
+        if (matchers.size() < 2)
+            return null;
+        CsvSchemaLine firstSchemaLine = matchers.get(0).getSchemaLine();
+        CsvLineParserDispatcher dispatcher = new CsvLineParserDispatcher(matchers.get(0).singleControlCellPosition(),
+                firstSchemaLine.getCellSeparator(), firstSchemaLine.getQuoteChar());
+        if (dispatcher.controlCellPos < 0)
+            return null;
+        for (CsvLineParserMatcher matcher : matchers) {
+            CsvSchemaLine schemaLine = matcher.getSchemaLine();
+            if (matcher.singleControlCellPosition() != dispatcher.controlCellPos
+                    || !schemaLine.getCellSeparator().equals(dispatcher.cellSeparator)
+                    || schemaLine.getQuoteChar() != dispatcher.quoteChar)
+                return null;
+            Optional<Set<String>> values = matcher.singleControlCellValues();
+            if (values.isEmpty())
+                return null;
+            for (String value : values.get()) {
+                if (dispatcher.matchersByValue.putIfAbsent(value, matcher) != null)
+                    return null;
+            }
+        }
+        return dispatcher;
+    }
+
+    /**
+     * Peeks into next line and finds the matcher of its control cell value.
+     * @param lineReader A line reader to read the line from.
+     * @return The matcher of the line or null if the line is empty or if no matcher matches the line.
+     * @throws IOException If there is an io error.
+     */
+    CsvLineParserMatcher matcherOf(CsvLineReader lineReader) throws IOException {
+        List<String> cells = lineReader.readLine(cellSeparator, quoteChar);
+        if (null == cells || cells.isEmpty())
+            return null; // Empty line
+        try {
+            if (cells.size() <= controlCellPos)
+                return null;
+            String value = cells.get(controlCellPos);
+            return value == null ? null : matchersByValue.get(value);
+        } finally {
+            lineReader.reset();
+        }
+    }
+
+    /**
+     * Removes a matcher that is no longer needed.
+     * @param matcher The matcher to remove.
+     */
+    void remove(CsvLineParserMatcher matcher) {
+        matchersByValue.values().removeIf(m -> m == matcher);
+    }
+}
@@ -5,9 +5,11 @@ import org.jsapar.schema.CsvSchema;
 import org.jsapar.schema.CsvSchemaLine;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Creates csv line parsers based on schema.
@@ -15,12 +17,14 @@ import java.util.List;
 class CsvLineParserFactory {
 
     private final List<CsvLineParserMatcher> lineParserMatchers;
+    private final CsvLineParserDispatcher    dispatcher;
 
     CsvLineParserFactory(CsvSchema schema, TextParseConfig config) {
         lineParserMatchers = new LinkedList<>();
         for (CsvSchemaLine schemaLine : schema.getSchemaLines()) {
             lineParserMatchers.add(new CsvLineParserMatcher(schemaLine, config));
         }
+        dispatcher = CsvLineParserDispatcher.of(lineParserMatchers);
     }
 
     /**
@@ -31,14 +35,16 @@ class CsvLineParserFactory {
     CsvLineParser makeLineParser(CsvLineReader lineReader) throws IOException {
         if (lineParserMatchers.isEmpty())
             return null;
+        if (dispatcher != null)
+            return dispatchLineParser(lineReader);
         Iterator<CsvLineParserMatcher> iter = lineParserMatchers.iterator();
         boolean first = true;
         while (iter.hasNext()) {
             CsvLineParserMatcher currentMatcher = iter.next();
             CsvLineParser lineParser = currentMatcher.makeLineParserIfMatching(lineReader);
             if (lineParser == null) {
-                if (lineReader.eofReached())
-                    return null;
+                if (lineReader.eofReached() || lineReader.lastLineWasEmpty())
+                    return null; // An empty line was consumed. Start over with the next line.
             }
             else {
                 if (!currentMatcher.isOccursLeft())
@@ -56,6 +62,36 @@ class CsvLineParserFactory {
         return null;
     }
 
+    private CsvLineParser dispatchLineParser(CsvLineReader lineReader) throws IOException {
+        CsvLineParserMatcher matcher = dispatcher.matcherOf(lineReader);
+        if (matcher == null)
+            return null;
+        CsvLineParser lineParser = matcher.makeLineParserOfMatchingLine();
+        if (!matcher.isOccursLeft()) {
+            // No longer needed
+            lineParserMatchers.remove(matcher);
+            dispatcher.remove(matcher);
+        }
+        return lineParser;
+    }
+
+    /**
+     * Makes it possible to continue parsing the rest of the input with new instances of the line parsers that are
+     * independent of the state of this factory.
+     * @return The schema lines of the remaining line parsers in current order, or empty if any of the remaining schema
+     * lines is limited in number of occurrences or is still waiting for its header line.
+     */
+    Optional<List<CsvSchemaLine>> resolvedInfiniteSchemaLines() {
+        List<CsvSchemaLine> schemaLines = new ArrayList<>(lineParserMatchers.size());
+        for (CsvLineParserMatcher lineParserMatcher : lineParserMatchers) {
+            CsvSchemaLine schemaLine = lineParserMatcher.resolvedInfiniteSchemaLine();
+            if (schemaLine == null)
+                return Optional.empty();
+            schemaLines.add(schemaLine);
+        }
+        return Optional.of(schemaLines);
+    }
+
     boolean isEmpty() {
         return lineParserMatchers.isEmpty();
     }
@@ -1,5 +1,6 @@
 package org.jsapar.parse.csv;
 
+import org.jsapar.schema.MatchingCellValueCondition;
 import org.jsapar.text.TextParseConfig;
 import org.jsapar.schema.CsvSchemaCell;
 import org.jsapar.schema.CsvSchemaLine;
@@ -7,6 +8,9 @@ import org.jsapar.schema.CsvSchemaLine;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * Checks if line matches the current criteria defined within this line schema.
@@ -38,7 +42,10 @@ class CsvLineParserMatcher {
     }
 
     /**
-     * Creates a line parser object if next line to be parsed matches the criteria of this line chema.
+     * Creates a line parser object if next line to be parsed matches the criteria of this line chema. An empty line is
+     * consumed, in the same way as by {@link CsvLineParserDispatcher#matcherOf(CsvLineReader)}, and then
+     * {@link CsvLineReader#lastLineWasEmpty()} returns true. No other matcher should be tested in that case since the
+     * line that follows has not been tested by this matcher.
      * @param lineReader A line reader to read the line from.
      * @return A {@link CsvLineParser} ready to parse the line or null if next line cannot be parsed by using this schema.
      * @throws IOException If there is an io error.
@@ -50,7 +57,7 @@ class CsvLineParserMatcher {
         if (!controlCells.isEmpty()) {
             List<String> cells = lineReader.readLine(schemaLine.getCellSeparator(), schemaLine.getQuoteChar());
             if(null == cells || cells.isEmpty())
-                return null; // Empty line
+                return null; // Empty line is consumed.
             // We only peek into the line to follow.
             try {
                 if (cells.size() <= maxControlPos)
@@ -69,11 +76,47 @@ class CsvLineParserMatcher {
                 lineReader.reset();
             }
         }
+        return makeLineParserOfMatchingLine();
+    }
+
+    /**
+     * Creates a line parser object for a line that is already known to match the control cells of this line schema.
+     * @return A {@link CsvLineParser} ready to parse the line or null if the number of occurrences is exceeded.
+     */
+    CsvLineParser makeLineParserOfMatchingLine() {
+        if (occursLeft <= 0)
+            return null;
         if (!schemaLine.isOccursInfinitely())
             occursLeft--;
         return lineParser;
     }
 
+    /**
+     * @return The position of the only control cell of this line schema or -1 if there is not exactly one control
+     * cell.
+     */
+    int singleControlCellPosition() {
+        return controlCells.size() == 1 ? controlCells.get(0).pos : -1;
+    }
+
+    /**
+     * @return All the values that the only control cell of this line schema matches, or empty if there is not exactly
+     * one control cell or if its condition is not a {@link MatchingCellValueCondition} with literal values only.
+     * Sub-classes of {@link MatchingCellValueCondition} are never used since they may override how values are tested.
+     */
+    Optional<Set<String>> singleControlCellValues() {
+        if (controlCells.size() != 1)
+            return Optional.empty();
+        Predicate<String> condition = controlCells.get(0).schemaCell.getLineCondition();
+        if (condition == null || condition.getClass() != MatchingCellValueCondition.class)
+            return Optional.empty();
+        return ((MatchingCellValueCondition) condition).literalValues();
+    }
+
+    CsvSchemaLine getSchemaLine() {
+        return schemaLine;
+    }
+
     /**
      * Private internal class used to point to a control cell within a schema line.
      */
@@ -87,6 +130,18 @@ class CsvLineParserMatcher {
         }
     }
 
+    /**
+     * @return The schema line to use for parsing the lines following this point if the lines of this schema line can
+     * occur any number of times and its header line, if any, has been parsed. Otherwise null.
+     */
+    CsvSchemaLine resolvedInfiniteSchemaLine() {
+        if (!schemaLine.isOccursInfinitely() || !lineParser.isLineSchemaResolved())
+            return null;
+        return CsvSchemaLine.builder(schemaLine.getLineType(), lineParser.getLineSchema())
+                .withFirstLineAsSchema(false)
+                .build();
+    }
+
     /**
      * @return True if this line schema can be used regarding number of occurrences. False if number of occurrences are
      * exceeded.
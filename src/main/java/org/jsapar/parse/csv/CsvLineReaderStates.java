@@ -1,13 +1,17 @@
 package org.jsapar.parse.csv;
 
+import org.jsapar.error.JSaParException;
+import org.jsapar.model.Cell;
 import org.jsapar.parse.LineParseException;
+import org.jsapar.parse.cell.CellParser;
 import org.jsapar.schema.QuoteSyntax;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 
 /**
@@ -24,7 +28,7 @@ final class CsvLineReaderStates implements CsvLineReader {
     private final State quotedCellState;
     private final State unquotedCellState;
     private State state;
-    private final List<String> currentLine;
+    private final Cells currentLine;
     private final EolCheck eolCheck;
     private final char lastEolChar;
 
@@ -48,6 +52,21 @@ final class CsvLineReaderStates implements CsvLineReader {
      * @param quoteSyntax Determines the syntax of how quoted cells are parsed.
      */
     CsvLineReaderStates(String lineSeparator, Reader reader, boolean allowReadAhead, int maxLineLength, QuoteSyntax quoteSyntax) {
+        this(lineSeparator, reader, allowReadAhead, maxLineLength, quoteSyntax, 0L);
+    }
+
+    /**
+     * @param lineSeparator  The line separator to use
+     * @param reader The reader to read characters from.
+     * @param allowReadAhead If true, reading from the reader can be optimized by reading larger chunks of data into a
+     *                       buffer.
+     * @param maxLineLength The maximum number of characters in a line. Make sure that all lines fits within this size.
+     * @param quoteSyntax Determines the syntax of how quoted cells are parsed.
+     * @param firstLineNumber The number of lines that precedes the input of the reader. The first line read gets the
+     *                        line number after this.
+     */
+    CsvLineReaderStates(String lineSeparator, Reader reader, boolean allowReadAhead, int maxLineLength, QuoteSyntax quoteSyntax, long firstLineNumber) {
+        this.lineNumber = firstLineNumber;
         eolCheck = Arrays.asList("\n", "\r\n").contains(lineSeparator) ? new EolCheckCRLF() : new EolCheckCustom(lineSeparator);
         lastEolChar = eolCheck.getLastEolChar();
 
@@ -66,7 +85,7 @@ final class CsvLineReaderStates implements CsvLineReader {
         quotedCellState = new QuotedCellState();
         unquotedCellState = new UnquotedCellState();
 
-        currentLine = new ArrayList<>();
+        currentLine = new Cells();
         this.maxLineLength = maxLineLength;
         buffer = new ReadBuffer(reader, maxLineLength, (allowReadAhead ? maxLineLength : 1));
 
@@ -124,7 +143,9 @@ final class CsvLineReaderStates implements CsvLineReader {
 
         while (true) {
             if(buffer.cursor >= buffer.bufferSize){
+                final int cellMark = buffer.cellMark;
                 final int count = buffer.load();
+                currentCellCreator.shift(cellMark - buffer.cellMark);
                 if(count<1){
                     if(state == quotedCellState){
                         buffer.resetCell();
@@ -142,7 +163,8 @@ final class CsvLineReaderStates implements CsvLineReader {
                     return lineComplete();
                 }
             }
-            if(state.processChar(buffer.nextCharacter()))
+            state.skip();
+            if(buffer.cursor < buffer.bufferSize && state.processChar(buffer.nextCharacter()))
                 return lineComplete();
         }
     }
@@ -210,6 +232,13 @@ final class CsvLineReaderStates implements CsvLineReader {
      */
     private interface State {
         boolean processChar(final char c);
+
+        /**
+         * Moves the cursor of the buffer past all characters that would not change the state. Does nothing by
+         * default.
+         */
+        default void skip() {
+        }
     }
 
 
@@ -245,7 +274,7 @@ final class CsvLineReaderStates implements CsvLineReader {
             if(count==0)
                 currentLine.add(EMPTY_CELL);
             else if (ignoresCount==0)
-                currentLine.add(new String(buffer.buffer, offset, count));
+                currentLine.add(offset, count);
             else{
                 stringBuilder.delete(0, stringBuilder.length()); // Reset stringBuilder
                 for (int i = 0; i<ignoresCount; i++) {
@@ -270,6 +299,16 @@ final class CsvLineReaderStates implements CsvLineReader {
                 ignoresAt[ignoresCount++] = buffer.cursor-1;
         }
 
+        /**
+         * Called when the content of the buffer was shifted to the left while loading.
+         * @param shift Number of characters that the content was shifted.
+         */
+        void shift(int shift){
+            for(int i=0; i<ignoresCount; i++)
+                ignoresAt[i] -= shift;
+            currentLine.shift(shift);
+        }
+
         void reset(){
             currentCellOffset=0;
             offsetFromEndQuote=0;
@@ -313,6 +352,11 @@ final class CsvLineReaderStates implements CsvLineReader {
             }
             return c == lastEolChar && endOfLineAddPending(c, 0);
         }
+
+        @Override
+        public void skip() {
+            buffer.skipUntil(lastCellSeparatorChar, lastEolChar);
+        }
     }
 
     /**
@@ -327,6 +371,11 @@ final class CsvLineReaderStates implements CsvLineReader {
             }
             return false;
         }
+
+        @Override
+        public void skip() {
+            buffer.skipUntil(quoteChar);
+        }
     }
 
     /**
@@ -465,4 +514,79 @@ final class CsvLineReaderStates implements CsvLineReader {
         }
     }
 
+
+    /**
+     * The cells of the current line. Cells without escaped quotes are kept as positions within the buffer and are
+     * converted into strings when fetched.
+     */
+    private final class Cells extends AbstractList<String> implements RawCells {
+        private int[]    offsets = new int[32];
+        private int[]    counts  = new int[32];
+        private String[] values  = new String[32];
+        private int      size    = 0;
+
+        @Override
+        public String get(int index) {
+            if (index >= size)
+                throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size);
+            String value = values[index];
+            if (value == null) {
+                value = new String(buffer.buffer, offsets[index], counts[index]);
+                values[index] = value;
+            }
+            return value;
+        }
+
+        @Override
+        public Cell<?> parse(int index, CellParser<?> cellParser, Consumer<JSaParException> errorListener) {
+            if (index >= size)
+                throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size);
+            if (values[index] != null || !cellParser.isParseFromChars())
+                return cellParser.parse(get(index), errorListener);
+            final int offset = offsets[index];
+            return cellParser.parse(buffer.buffer, offset, offset + counts[index], errorListener);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(values, 0, size, null);
+            size = 0;
+        }
+
+        @Override
+        public boolean add(String value) {
+            ensureCapacity();
+            values[size++] = value;
+            return true;
+        }
+
+        private void add(int offset, int count) {
+            ensureCapacity();
+            offsets[size] = offset;
+            counts[size] = count;
+            values[size++] = null;
+        }
+
+        private void ensureCapacity() {
+            if (size == values.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+        }
+
+        /**
+         * Called when the content of the buffer was shifted to the left while loading.
+         * @param shift Number of characters that the content was shifted.
+         */
+        private void shift(int shift) {
+            for (int i = 0; i < size; i++)
+                offsets[i] -= shift;
+        }
+    }
 }
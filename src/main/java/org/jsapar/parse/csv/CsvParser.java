@@ -3,6 +3,7 @@ package org.jsapar.parse.csv;
 import org.jsapar.error.JSaParException;
 import org.jsapar.model.Line;
 import org.jsapar.parse.line.ValidationHandler;
+import org.jsapar.parse.text.ReadAheadReader;
 import org.jsapar.parse.text.TextSchemaParser;
 import org.jsapar.schema.CsvSchema;
 import org.jsapar.schema.SchemaLine;
@@ -25,6 +26,7 @@ public class CsvParser implements TextSchemaParser {
     private final CsvLineParserFactory lineParserFactory;
     private final TextParseConfig parseConfig;
     private final ValidationHandler validationHandler = new ValidationHandler();
+    private boolean stopped = false;
 
     CsvParser(Reader reader, CsvSchema schema) {
         this(reader, schema, new TextParseConfig());
@@ -32,10 +34,23 @@ public class CsvParser implements TextSchemaParser {
 
 
     public CsvParser(Reader reader, CsvSchema schema, TextParseConfig parseConfig) {
+        this(new CsvLineReaderStates(schema.getLineSeparator(), ReadAheadReader.ofConfig(reader, schema, parseConfig), schema.stream().anyMatch(SchemaLine::isOccursInfinitely), parseConfig.getMaxLineLength(), schema.getQuoteSyntax()),
+                schema, new CsvLineParserFactory(schema, parseConfig), parseConfig);
+    }
+
+    /**
+     * Creates a parser that reads from the supplied line reader and uses the supplied factory. The factory may be
+     * shared with a previous parser, in which case parsing continues with the state of that previous parser.
+     * @param lineReader        The line reader to read from.
+     * @param schema            The schema.
+     * @param lineParserFactory The factory to get line parsers from.
+     * @param parseConfig       The configuration.
+     */
+    CsvParser(CsvLineReader lineReader, CsvSchema schema, CsvLineParserFactory lineParserFactory, TextParseConfig parseConfig) {
         this.parseConfig = parseConfig;
-        lineReader = new CsvLineReaderStates(schema.getLineSeparator(), reader, schema.stream().anyMatch(SchemaLine::isOccursInfinitely), parseConfig.getMaxLineLength(), schema.getQuoteSyntax());
+        this.lineReader = lineReader;
         this.schema = schema;
-        this.lineParserFactory = new CsvLineParserFactory(schema, parseConfig);
+        this.lineParserFactory = lineParserFactory;
     }
     
 
@@ -55,8 +70,12 @@ public class CsvParser implements TextSchemaParser {
                 handleNoParser(lineReader, errorListener);
                 continue;
             }
-            if(!lineParser.parse(lineReader, listener, errorListener))
+            // The line parser returns false either at end of input or when a line could not be parsed at all.
+            boolean eofReached = lineReader.eofReached();
+            if(!lineParser.parse(lineReader, listener, errorListener)) {
+                stopped = !eofReached;
                 return lineNumber;
+            }
             if(!lineReader.lastLineWasEmpty())
                 lineNumber++;
         }
@@ -79,7 +98,11 @@ public class CsvParser implements TextSchemaParser {
                             handleNoParser(lineReader, errorListener);
                             return true;
                         }
-                        return lineParser.parse(lineReader, action, errorListener);
+                        boolean eofReached = lineReader.eofReached();
+                        if (lineParser.parse(lineReader, action, errorListener))
+                            return true;
+                        stopped = !eofReached;
+                        return false;
                     } catch (IOException e) {
                         throw new UncheckedIOException(e);
                     }
@@ -117,5 +140,12 @@ public class CsvParser implements TextSchemaParser {
         lineReader.skipLine();
     }
 
+    /**
+     * @return True if parsing stopped before the end of the input because a line could not be parsed at all.
+     */
+    boolean isStopped() {
+        return stopped;
+    }
+
 
 }
@@ -0,0 +1,161 @@
+package org.jsapar.parse.csv;
+
+import org.jsapar.parse.text.ChunkSplitter;
+import org.jsapar.schema.CsvSchema;
+import org.jsapar.schema.CsvSchemaLine;
+import org.jsapar.schema.QuoteSyntax;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Detects the end of csv lines within a byte input without decoding it into characters. Follows the same rules about
+ * quoted cells as {@link CsvLineReaderStates} so that a line separator within a quoted cell is not taken as the end of a
+ * line. This makes it safe to split the input at the lines found by this scanner.
+ * <p>
+ * The scanner can only be used if all lines of the schema use the same cell separator and quote character and if the
+ * line separator, cell separator and quote character are encoded as one byte per character, in which case no other
+ * character of the input can contain those bytes. This is the case for UTF-8 and ASCII characters or for any
+ * character set with a single byte per character.
+ */
+final class CsvRecordScanner implements ChunkSplitter.RecordScanner {
+    private static final int BEGIN_CELL       = 0;
+    private static final int UNQUOTED_CELL    = 1;
+    private static final int QUOTED_CELL      = 2;
+    private static final int FOUND_END_QUOTE  = 3;
+    private static final int END_QUOTE_WITHIN = 4;
+
+    private final byte[]  cellSeparator;
+    private final byte    lastCellSeparatorByte;
+    private final byte[]  lineSeparator;
+    private final byte    lastLineSeparatorByte;
+    private final boolean anyNewLineIsEol;
+    private final byte    quote;
+    private final boolean rfc4180;
+
+    private int state      = BEGIN_CELL;
+    private int cellLength = 0;
+
+    private CsvRecordScanner(byte[] cellSeparator, byte[] lineSeparator, boolean anyNewLineIsEol, byte quote, boolean rfc4180) {
+        this.cellSeparator = cellSeparator;
+        this.lastCellSeparatorByte = cellSeparator[cellSeparator.length - 1];
+        this.lineSeparator = lineSeparator;
+        this.lastLineSeparatorByte = lineSeparator[lineSeparator.length - 1];
+        this.anyNewLineIsEol = anyNewLineIsEol;
+        this.quote = quote;
+        this.rfc4180 = rfc4180;
+    }
+
+    /**
+     * @param schema  The schema to use.
+     * @param charset The character set of the input.
+     * @return A scanner for the schema or empty if the input cannot be scanned on byte level with this schema and
+     * character set.
+     */
+    static Optional<CsvRecordScanner> ofSchema(CsvSchema schema, Charset charset) {
+        Collection<CsvSchemaLine> schemaLines = schema.getSchemaLines();
+        if (schemaLines.isEmpty())
+            return Optional.empty();
+        CsvSchemaLine first = schemaLines.iterator().next();
+        for (CsvSchemaLine schemaLine : schemaLines) {
+            if (!schemaLine.getCellSeparator().equals(first.getCellSeparator()) || schemaLine.getQuoteChar() != first.getQuoteChar())
+                return Optional.empty();
+        }
+        String lineSeparator = schema.getLineSeparator();
+        String quote = String.valueOf(first.getQuoteChar());
+        if (first.getCellSeparator().isEmpty() || lineSeparator.isEmpty()
+                || !ChunkSplitter.isSingleByte(first.getCellSeparator(), charset) || !ChunkSplitter.isSingleByte(lineSeparator, charset)
+                || !ChunkSplitter.isSingleByte(quote, charset))
+            return Optional.empty();
+        return Optional.of(new CsvRecordScanner(
+                first.getCellSeparator().getBytes(charset),
+                lineSeparator.getBytes(charset),
+                Arrays.asList("\n", "\r\n").contains(lineSeparator),
+                quote.getBytes(charset)[0],
+                schema.getQuoteSyntax() == QuoteSyntax.RFC4180));
+    }
+
+    @Override
+    public int nextRecordEnd(byte[] buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            final byte b = buffer[i];
+            cellLength++;
+            switch (state) {
+            case BEGIN_CELL:
+                if (b == quote)
+                    state = QUOTED_CELL;
+                else if (b == lastCellSeparatorByte && cellSeparator.length == 1)
+                    cellLength = 0;
+                else if (b == lastLineSeparatorByte && isEndOfLine(buffer, i))
+                    return endOfLine(i);
+                else
+                    state = UNQUOTED_CELL;
+                break;
+            case UNQUOTED_CELL:
+                if (b == lastCellSeparatorByte && tailOfCellMatches(cellSeparator, buffer, i))
+                    beginCell();
+                else if (b == lastLineSeparatorByte && isEndOfLine(buffer, i))
+                    return endOfLine(i);
+                break;
+            case QUOTED_CELL:
+                if (b == quote)
+                    state = FOUND_END_QUOTE;
+                break;
+            case FOUND_END_QUOTE:
+                if (b == lastCellSeparatorByte && cellSeparator.length == 1)
+                    beginCell();
+                else if (b == lastLineSeparatorByte && isEndOfLine(buffer, i))
+                    return endOfLine(i);
+                else if (b == quote)
+                    state = rfc4180 ? QUOTED_CELL : FOUND_END_QUOTE;
+                else
+                    state = END_QUOTE_WITHIN;
+                break;
+            case END_QUOTE_WITHIN:
+                if (b == quote)
+                    state = FOUND_END_QUOTE;
+                else if (b == lastCellSeparatorByte && tailOfCellMatches(cellSeparator, buffer, i))
+                    beginCell();
+                else if (b == lastLineSeparatorByte && isEndOfLine(buffer, i))
+                    return endOfLine(i);
+                break;
+            default:
+                throw new AssertionError("Unknown state " + state);
+            }
+        }
+        return -1;
+    }
+
+    private void beginCell() {
+        state = BEGIN_CELL;
+        cellLength = 0;
+    }
+
+    private int endOfLine(int index) {
+        beginCell();
+        return index + 1;
+    }
+
+    private boolean isEndOfLine(byte[] buffer, int index) {
+        return anyNewLineIsEol || tailOfCellMatches(lineSeparator, buffer, index);
+    }
+
+    /**
+     * @param toMatch The bytes to match.
+     * @param buffer  The buffer.
+     * @param index   The index of the current byte, which is already matched with the last byte to match.
+     * @return True if the current cell ends with the bytes to match.
+     */
+    private boolean tailOfCellMatches(byte[] toMatch, byte[] buffer, int index) {
+        if (cellLength < toMatch.length)
+            return false;
+        int offset = index + 1 - toMatch.length;
+        for (int i = toMatch.length - 2; i >= 0; i--) {
+            if (toMatch[i] != buffer[offset + i])
+                return false;
+        }
+        return true;
+    }
+}
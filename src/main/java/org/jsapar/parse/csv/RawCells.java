@@ -0,0 +1,26 @@
+package org.jsapar.parse.csv;
+
+import org.jsapar.error.JSaParException;
+import org.jsapar.model.Cell;
+import org.jsapar.parse.cell.CellParser;
+
+import java.util.function.Consumer;
+
+/**
+ * Implemented by the lists of cells returned by {@link CsvLineReader#readLine(String, char)} that keep the characters
+ * of the cells within a buffer until the next line is read. Makes it possible to parse cells directly from those
+ * characters without first creating a string for each cell.
+ */
+interface RawCells {
+
+    /**
+     * Parses a cell of the current line.
+     *
+     * @param index         The index of the cell within the line.
+     * @param cellParser    The cell parser to use.
+     * @param errorListener Error event listener to deliver errors to.
+     * @return The parsed cell or null if there was an error while parsing.
+     * @see CellParser#parse(char[], int, int, Consumer)
+     */
+    Cell<?> parse(int index, CellParser<?> cellParser, Consumer<JSaParException> errorListener);
+}
@@ -0,0 +1,133 @@
+package org.jsapar.parse.fixed;
+
+import org.jsapar.schema.FixedWidthSchemaCell;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Finds the line parser matcher of a line by looking up the value of the control cell instead of testing the matchers
+ * one by one. Can only be used when all line schemas have exactly one control cell, at the same position, with the same
+ * length and trimmed the same way, and when the conditions of the control cells only match literal values that are
+ * distinct between the line schemas. In that case at most one matcher can match each line, so the result is the same
+ * as when testing the matchers one by one, regardless of the order.
+ * <p>
+ * The values are looked up directly from the characters of the read buffer, so no string is created while looking up
+ * the matcher of a line.
+ */
+class FWLineParserDispatcher {
+    private final int                              beginPos;
+    private final int                              length;
+    private final ReadBuffer.Trimmer               trimmer;
+    private       ValueEntry[]                     table;
+
+    private FWLineParserDispatcher(int beginPos, FixedWidthSchemaCell controlCell) {
+        this.beginPos = beginPos;
+        this.length = controlCell.getLength();
+        this.trimmer = ReadBuffer.makeTrimmer(controlCell);
+    }
+
+    /**
+     * @param matchers The line parser matchers to dispatch between.
+     * @return A dispatcher or null if the matchers cannot be told apart by the value of one control cell.
+     */
+    static FWLineParserDispatcher of(List<FWLineParserMatcher> matchers) {
+        if (matchers.size() < 2)
+            return null;
+        FixedWidthSchemaCell firstControlCell = matchers.get(0).singleControlCell();
+        if (firstControlCell == null)
+            return null;
+        FWLineParserDispatcher dispatcher = new FWLineParserDispatcher(matchers.get(0).singleControlCellBeginPos(),
+                firstControlCell);
+        Map<String, FWLineParserMatcher> matchersByValue = new HashMap<>();
+        for (FWLineParserMatcher matcher : matchers) {
+            FixedWidthSchemaCell controlCell = matcher.singleControlCell();
+            if (controlCell == null || matcher.singleControlCellBeginPos() != dispatcher.beginPos
+                    || controlCell.getLength() != dispatcher.length
+                    || !ReadBuffer.isSameTrimming(controlCell, firstControlCell))
+                return null;
+            Optional<Set<String>> values = matcher.singleControlCellValues();
+            if (values.isEmpty())
+                return null;
+            for (String value : values.get()) {
+                if (matchersByValue.putIfAbsent(value, matcher) != null)
+                    return null;
+            }
+        }
+        dispatcher.table = makeTable(matchersByValue);
+        return dispatcher;
+    }
+
+    private static ValueEntry[] makeTable(Map<String, FWLineParserMatcher> matchersByValue) {
+        ValueEntry[] table = new ValueEntry[Integer.highestOneBit(matchersByValue.size() * 2 + 1) * 2];
+        for (Map.Entry<String, FWLineParserMatcher> entry : matchersByValue.entrySet()) {
+            char[] value = entry.getKey().toCharArray();
+            int index = hashOf(value, 0, value.length) & (table.length - 1);
+            table[index] = new ValueEntry(value, entry.getValue(), table[index]);
+        }
+        return table;
+    }
+
+    private static int hashOf(char[] buffer, int begin, int end) {
+        int hash = 0;
+        for (int i = begin; i < end; i++)
+            hash = 31 * hash + buffer[i];
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Reads the control cell from the beginning of the line without creating a string of it. The caller is
+     * responsible for marking and resetting the line.
+     * @param lineReader A reader to read input from.
+     * @return False if end of input was reached, true otherwise.
+     * @throws IOException In case of error in underlying IO operation
+     */
+    boolean readControlCell(FWLineReader lineReader) throws IOException {
+        return lineReader.readCell(trimmer, beginPos, length);
+    }
+
+    /**
+     * @param lineReader A reader that has just read the control cell by {@link #readControlCell(FWLineReader)}.
+     * @return The matcher of the control cell value or null if no matcher matches the value.
+     */
+    FWLineParserMatcher matcherOfControlCell(FWLineReader lineReader) {
+        final char[] buffer = lineReader.cellChars();
+        final int begin = lineReader.cellBegin();
+        final int end = lineReader.cellEnd();
+        for (ValueEntry entry = table[hashOf(buffer, begin, end) & (table.length - 1)]; entry != null; entry = entry.next) {
+            if (Arrays.equals(entry.value, 0, entry.value.length, buffer, begin, end))
+                return entry.matcher;
+        }
+        return null;
+    }
+
+    /**
+     * Removes a matcher that is no longer needed.
+     * @param matcher The matcher to remove.
+     */
+    void remove(FWLineParserMatcher matcher) {
+        for (ValueEntry entry : table) {
+            for (; entry != null; entry = entry.next) {
+                if (entry.matcher == matcher)
+                    entry.matcher = null;
+            }
+        }
+    }
+
+    private static final class ValueEntry {
+        private final char[]              value;
+        private       FWLineParserMatcher matcher;
+        private final ValueEntry          next;
+
+        private ValueEntry(char[] value, FWLineParserMatcher matcher, ValueEntry next) {
+            this.value = value;
+            this.matcher = matcher;
+            this.next = next;
+        }
+    }
+}
@@ -2,10 +2,12 @@ package org.jsapar.parse.fixed;
 
 import org.jsapar.text.TextParseConfig;
 import org.jsapar.schema.FixedWidthSchema;
+import org.jsapar.schema.FixedWidthSchemaLine;
 
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -13,11 +15,13 @@ import java.util.stream.Collectors;
  */
 class FWLineParserFactory {
     private final List<FWLineParserMatcher> lineParserMatchers;
+    private final FWLineParserDispatcher    dispatcher;
     private LineParserMatcherResult lastResult;
 
     FWLineParserFactory(FixedWidthSchema schema, TextParseConfig config) {
         lineParserMatchers = schema.stream()
                 .map(schemaLine -> new FWLineParserMatcher(schemaLine, config)).collect(Collectors.toList());
+        dispatcher = FWLineParserDispatcher.of(lineParserMatchers);
     }
 
     /**
@@ -26,9 +30,11 @@ class FWLineParserFactory {
      * null, you can call {@link #getLastResult()} to get the reason for failure to return a line parser.
      * @throws IOException In case of error in underlying IO operation
      */
-    FixedWidthLineParser makeLineParser(ReadBuffer lineReader) throws IOException {
+    FixedWidthLineParser makeLineParser(FWLineReader lineReader) throws IOException {
         if(lineParserMatchers.isEmpty())
             return null;
+        if(dispatcher != null)
+            return dispatchLineParser(lineReader);
         Iterator<FWLineParserMatcher> iter = lineParserMatchers.iterator();
         boolean first = true;
         boolean eof = true;
@@ -64,10 +70,51 @@ class FWLineParserFactory {
         return null;
     }
 
+    private FixedWidthLineParser dispatchLineParser(FWLineReader lineReader) throws IOException {
+        FWLineParserMatcher matcher;
+        // We only peek into the line to follow.
+        lineReader.markLine();
+        try {
+            if(!dispatcher.readControlCell(lineReader)) {
+                lastResult = LineParserMatcherResult.EOF;
+                return null;
+            }
+            matcher = dispatcher.matcherOfControlCell(lineReader);
+        } finally {
+            lineReader.resetLine();
+        }
+        if(matcher == null) {
+            lastResult = LineParserMatcherResult.NOT_MATCHING;
+            return null;
+        }
+        LineParserMatcherResult lineParserResult = matcher.countMatchingLine();
+        if(lineParserResult != LineParserMatcherResult.SUCCESS || !matcher.isOccursLeft()) {
+            // No longer needed
+            lineParserMatchers.remove(matcher);
+            dispatcher.remove(matcher);
+        }
+        if(lineParserResult != LineParserMatcherResult.SUCCESS) {
+            lastResult = lineParserMatchers.isEmpty() ? LineParserMatcherResult.NO_OCCURS : LineParserMatcherResult.NOT_MATCHING;
+            return null;
+        }
+        lastResult = LineParserMatcherResult.SUCCESS;
+        return matcher.getLineParser();
+    }
+
     boolean isEmpty() {
         return lineParserMatchers.isEmpty();
     }
 
+    /**
+     * @return The schema lines that remain to be parsed, in the order they are currently tested, or empty if any of
+     * them is limited in number of occurrences.
+     */
+    Optional<List<FixedWidthSchemaLine>> remainingInfiniteSchemaLines() {
+        if (lineParserMatchers.stream().anyMatch(matcher -> !matcher.getSchemaLine().isOccursInfinitely()))
+            return Optional.empty();
+        return Optional.of(lineParserMatchers.stream().map(FWLineParserMatcher::getSchemaLine).collect(Collectors.toList()));
+    }
+
     LineParserMatcherResult getLastResult() {
         return lastResult;
     }
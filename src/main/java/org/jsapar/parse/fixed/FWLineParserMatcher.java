@@ -1,5 +1,6 @@
 package org.jsapar.parse.fixed;
 
+import org.jsapar.schema.MatchingCellValueCondition;
 import org.jsapar.text.TextParseConfig;
 import org.jsapar.schema.FixedWidthSchemaCell;
 import org.jsapar.schema.FixedWidthSchemaLine;
@@ -7,6 +8,9 @@ import org.jsapar.schema.FixedWidthSchemaLine;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * Tests if next line to parse can be used for the schemaLine of this instance.
@@ -30,7 +34,7 @@ class FWLineParserMatcher {
         }
     }
     
-    LineParserMatcherResult testLineParserIfMatching(ReadBuffer lineReader) throws IOException {
+    LineParserMatcherResult testLineParserIfMatching(FWLineReader lineReader) throws IOException {
         if(occursLeft <= 0)
             return LineParserMatcherResult.NO_OCCURS;
         if(!controlCells.isEmpty()) {
@@ -40,22 +44,74 @@ class FWLineParserMatcher {
                 int read = 0;
                 for (FWControlCell controlCell : controlCells) {
                     int offset = controlCell.beginPos - read;
-                    String value = lineReader.readToString(controlCell.trimmer, offset, controlCell.schemaCell.getLength());
-                    if (value == null)
-                        return LineParserMatcherResult.EOF; // EOF reached
-                    if (!controlCell.schemaCell.getLineCondition().test(value))
-                        return LineParserMatcherResult.NOT_MATCHING; // Not matching criteria.
+                    if (controlCell.matchingCondition != null) {
+                        // Test directly within the buffer without creating a string.
+                        if (!lineReader.readCell(controlCell.trimmer, offset, controlCell.schemaCell.getLength()))
+                            return LineParserMatcherResult.EOF; // EOF reached
+                        if (!controlCell.matchingCondition.test(lineReader.cellChars(), lineReader.cellBegin(), lineReader.cellEnd()))
+                            return LineParserMatcherResult.NOT_MATCHING; // Not matching criteria.
+                    } else {
+                        String value = lineReader.readToString(controlCell.trimmer, offset, controlCell.schemaCell.getLength());
+                        if (value == null)
+                            return LineParserMatcherResult.EOF; // EOF reached
+                        if (!controlCell.schemaCell.getLineCondition().test(value))
+                            return LineParserMatcherResult.NOT_MATCHING; // Not matching criteria.
+                    }
                     read = controlCell.beginPos + controlCell.schemaCell.getLength();
                 }
             } finally {
                 lineReader.resetLine();
             }
         }
+        return countMatchingLine();
+    }
+
+    /**
+     * Counts a line that is already known to match the control cells of this line schema.
+     * @return {@link LineParserMatcherResult#SUCCESS} or {@link LineParserMatcherResult#NO_OCCURS} if the number of
+     * occurrences is exceeded.
+     */
+    LineParserMatcherResult countMatchingLine() {
+        if (occursLeft <= 0)
+            return LineParserMatcherResult.NO_OCCURS;
         if (!schemaLine.isOccursInfinitely())
             occursLeft--;
         return LineParserMatcherResult.SUCCESS;
     }
 
+    /**
+     * @return The only control cell of this line schema or null if there is not exactly one control cell.
+     */
+    FixedWidthSchemaCell singleControlCell() {
+        return controlCells.size() == 1 ? controlCells.get(0).schemaCell : null;
+    }
+
+    /**
+     * @return The begin position of the only control cell of this line schema or -1 if there is not exactly one
+     * control cell.
+     */
+    int singleControlCellBeginPos() {
+        return controlCells.size() == 1 ? controlCells.get(0).beginPos : -1;
+    }
+
+    /**
+     * @return All the values that the only control cell of this line schema matches, or empty if there is not exactly
+     * one control cell or if its condition is not a {@link MatchingCellValueCondition} with literal values only.
+     * Sub-classes of {@link MatchingCellValueCondition} are never used since they may override how values are tested.
+     */
+    Optional<Set<String>> singleControlCellValues() {
+        if (controlCells.size() != 1)
+            return Optional.empty();
+        Predicate<String> condition = controlCells.get(0).schemaCell.getLineCondition();
+        if (condition == null || condition.getClass() != MatchingCellValueCondition.class)
+            return Optional.empty();
+        return ((MatchingCellValueCondition) condition).literalValues();
+    }
+
+    FixedWidthSchemaLine getSchemaLine() {
+        return schemaLine;
+    }
+
     FixedWidthLineParser getLineParser() {
         return lineParser;
     }
@@ -64,11 +120,16 @@ class FWLineParserMatcher {
         final int beginPos;
         final FixedWidthSchemaCell schemaCell;
         final ReadBuffer.Trimmer trimmer;
+        final MatchingCellValueCondition matchingCondition;
 
         FWControlCell(int beginPos, FixedWidthSchemaCell schemaCell, ReadBuffer.Trimmer trimmer) {
             this.beginPos = beginPos;
             this.schemaCell = schemaCell;
             this.trimmer = trimmer;
+            // Sub-classes may override how values are tested so they are always tested as strings.
+            Predicate<String> condition = schemaCell.getLineCondition();
+            this.matchingCondition = condition != null && condition.getClass() == MatchingCellValueCondition.class
+                    ? (MatchingCellValueCondition) condition : null;
         }
     }
 
@@ -0,0 +1,101 @@
+package org.jsapar.parse.fixed;
+
+import java.io.IOException;
+
+/**
+ * Reads fixed width lines cell by cell. A line is first located by calling {@link #nextLine(int)}, then cells are
+ * read or skipped from the current position within that line. The position can be marked with {@link #markLine()} and
+ * then reset with {@link #resetLine()} in order to peek into the line before the actual parsing.
+ */
+interface FWLineReader {
+
+    /**
+     * <ol>
+     * <li>Places the line mark at the beginning of the next line</li>
+     * <li>Finds the end of the next line when lines are separated
+     * so that this reader can detect if end of line has been reached while parsing the line. </li>
+     * <li>Increments the line number counter unless end of file has been reached.</li>
+     * </ol>
+     *
+     * @param allocate The number of characters to allocate for the next line. Used for performance optimization.
+     * @return The length of the next line or -1 if end of file was reached.
+     * @throws IOException In case of underlying io error.
+     */
+    int nextLine(int allocate) throws IOException;
+
+    /**
+     * Place a line mark at current position.
+     */
+    void markLine();
+
+    /**
+     * Reset cursor to last line mark.
+     */
+    void resetLine();
+
+    /**
+     * @param toSkip The number of characters to skip
+     * @return The number of characters skipped within line.
+     */
+    int skipWithinLine(int toSkip);
+
+    /**
+     * @param trimmer The trimmer to use for removing pad characters.
+     * @param offset  The number of characters to skip before reading the cell.
+     * @param length  The number of characters of the cell.
+     * @return The string value of the cell read at the position pointed to by the offset. Null if end of input was
+     * reached or if end of line was reached before the cell.
+     * @throws IOException If there is a problem while reading the input.
+     */
+    default String readToString(ReadBuffer.Trimmer trimmer, int offset, int length) throws IOException {
+        if (!readCell(trimmer, offset, length))
+            return null;
+        final int begin = cellBegin();
+        final int end = cellEnd();
+        return begin == end ? "" : new String(cellChars(), begin, end - begin);
+    }
+
+    /**
+     * Reads a cell without creating a string of it. After this call, the characters of the cell, with pad
+     * characters removed, can be found within {@link #cellChars()} from {@link #cellBegin()} to {@link #cellEnd()}
+     * until any other method of this reader is called.
+     *
+     * @param trimmer The trimmer to use for removing pad characters.
+     * @param offset  The number of characters to skip before reading the cell.
+     * @param length  The number of characters of the cell.
+     * @return False if end of input was reached or if end of line was reached before the cell, true otherwise.
+     * @throws IOException If there is a problem while reading the input.
+     */
+    boolean readCell(ReadBuffer.Trimmer trimmer, int offset, int length) throws IOException;
+
+    /**
+     * @return The buffer that contains the characters of the cell last read by
+     * {@link #readCell(ReadBuffer.Trimmer, int, int)}.
+     */
+    char[] cellChars();
+
+    /**
+     * @return The index of the first character of the cell last read within {@link #cellChars()}.
+     */
+    int cellBegin();
+
+    /**
+     * @return The index after the last character of the cell last read within {@link #cellChars()}.
+     */
+    int cellEnd();
+
+    /**
+     * @return Number of characters that remains on current line after current position.
+     */
+    int remainsForLine();
+
+    /**
+     * @return True if end of input was reached.
+     */
+    boolean eofReached();
+
+    /**
+     * @return The line number of the current line.
+     */
+    long getLineNumber();
+}
@@ -0,0 +1,87 @@
+package org.jsapar.parse.fixed;
+
+import org.jsapar.parse.text.ChunkSplitter;
+import org.jsapar.schema.FixedWidthSchema;
+import org.jsapar.schema.FixedWidthSchemaLine;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Detects the end of fixed width lines within a byte input without decoding it into characters. Lines are either
+ * separated by the line separator of the schema, which needs to be encoded as one byte per character, or, if the
+ * line separator is empty, all lines of the schema need to have the same length and the character set needs to
+ * have one byte per character.
+ */
+final class FWRecordScanner implements ChunkSplitter.RecordScanner {
+    private final byte[]  lineSeparator;
+    private final byte    lastLineSeparatorByte;
+    private final boolean anyNewLineIsEol;
+    private final int     recordLength;
+
+    private int lineLength = 0;
+
+    private FWRecordScanner(byte[] lineSeparator, boolean anyNewLineIsEol, int recordLength) {
+        this.lineSeparator = lineSeparator;
+        this.lastLineSeparatorByte = lineSeparator.length > 0 ? lineSeparator[lineSeparator.length - 1] : 0;
+        this.anyNewLineIsEol = anyNewLineIsEol;
+        this.recordLength = recordLength;
+    }
+
+    /**
+     * @param schema  The schema to use.
+     * @param charset The character set of the input.
+     * @return A scanner for the schema or empty if the input cannot be scanned on byte level with this schema and
+     * character set.
+     */
+    static Optional<FWRecordScanner> ofSchema(FixedWidthSchema schema, Charset charset) {
+        if (schema.isEmpty())
+            return Optional.empty();
+        String lineSeparator = schema.getLineSeparator();
+        if (!lineSeparator.isEmpty()) {
+            if (!ChunkSplitter.isSingleByte(lineSeparator, charset))
+                return Optional.empty();
+            return Optional.of(new FWRecordScanner(lineSeparator.getBytes(charset),
+                    Arrays.asList("\n", "\r\n").contains(lineSeparator), 0));
+        }
+        int[] lengths = schema.stream().mapToInt(FixedWidthSchemaLine::getTotalCellLength).distinct().toArray();
+        if (lengths.length != 1 || lengths[0] <= 0 || !charset.canEncode() || charset.newEncoder().maxBytesPerChar() != 1.0f)
+            return Optional.empty();
+        return Optional.of(new FWRecordScanner(new byte[0], false, lengths[0]));
+    }
+
+    @Override
+    public int nextRecordEnd(byte[] buffer, int from, int to) {
+        if (recordLength > 0) {
+            int end = from + recordLength - lineLength;
+            if (end > to) {
+                lineLength += to - from;
+                return -1;
+            }
+            lineLength = 0;
+            return end;
+        }
+        for (int i = from; i < to; i++) {
+            lineLength++;
+            if (buffer[i] == lastLineSeparatorByte && isEndOfLine(buffer, i)) {
+                lineLength = 0;
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isEndOfLine(byte[] buffer, int index) {
+        if (anyNewLineIsEol)
+            return true;
+        if (lineLength < lineSeparator.length)
+            return false;
+        int offset = index + 1 - lineSeparator.length;
+        for (int i = lineSeparator.length - 2; i >= 0; i--) {
+            if (lineSeparator[i] != buffer[offset + i])
+                return false;
+        }
+        return true;
+    }
+}
@@ -2,8 +2,11 @@ package org.jsapar.parse.fixed;
 
 import org.jsapar.error.JSaParException;
 import org.jsapar.model.Cell;
+import org.jsapar.parse.cell.CellInternPool;
 import org.jsapar.parse.cell.CellParser;
 import org.jsapar.schema.FixedWidthSchemaCell;
+import org.jsapar.text.CachePolicy;
+import org.jsapar.text.CacheStatistics;
 
 import java.io.IOException;
 import java.util.function.Consumer;
@@ -15,7 +18,11 @@ class FixedWidthCellParser extends CellParser<FixedWidthSchemaCell> {
     private final ReadBuffer.Trimmer trimmer;
 
     FixedWidthCellParser(FixedWidthSchemaCell fixedWidthSchemaCell, int maxCacheSize) {
-        super(fixedWidthSchemaCell, maxCacheSize);
+        this(fixedWidthSchemaCell, maxCacheSize, CachePolicy.LIMITED_SIZE, null, null);
+    }
+
+    FixedWidthCellParser(FixedWidthSchemaCell fixedWidthSchemaCell, int maxCacheSize, CachePolicy cachePolicy, CacheStatistics cacheStatistics, CellInternPool internPool) {
+        super(fixedWidthSchemaCell, maxCacheSize, cachePolicy, cacheStatistics, internPool);
         this.trimmer = ReadBuffer.makeTrimmer(fixedWidthSchemaCell);
     }
 
@@ -27,23 +34,25 @@ class FixedWidthCellParser extends CellParser<FixedWidthSchemaCell> {
      * @return A Cell filled with the parsed cell value and with the name of this schema cell.
      * @throws IOException In case there is an error reading from the reader.
      */
-    Cell parse(ReadBuffer lineReader, Consumer<JSaParException> errorEventListener) throws IOException {
-        String sValue = lineReader.readToString(trimmer,  0, getSchemaCell().getLength());
+    Cell<?> parse(FWLineReader lineReader, Consumer<JSaParException> errorEventListener) throws IOException {
         // If EOF
-        if(sValue == null) {
+        if(!lineReader.readCell(trimmer,  0, getSchemaCell().getLength())) {
             checkIfMandatory(errorEventListener);
             return null;
         }
-        return super.parse(sValue, errorEventListener);
+        return super.parse(lineReader.cellChars(), lineReader.cellBegin(), lineReader.cellEnd(), errorEventListener);
     }
 
     /**
      * Creates fixed width cell parser according to supplied schema and with a maximum cache size.
      * @param schemaCell The schema to use.
      * @param maxCacheSize The maximum number of cells to keep in cache while parsing. The value 0 will disable cache.
+     * @param cachePolicy The policy of the cell cache.
+     * @param cacheStatistics Statistics to record cache hits and misses to. Can be null.
+     * @param internPool A pool of cells shared with other parsers. Can be null.
      */
-    static FixedWidthCellParser ofSchemaCell(FixedWidthSchemaCell schemaCell, int maxCacheSize) {
-        return new FixedWidthCellParser(schemaCell, maxCacheSize);
+    static FixedWidthCellParser ofSchemaCell(FixedWidthSchemaCell schemaCell, int maxCacheSize, CachePolicy cachePolicy, CacheStatistics cacheStatistics, CellInternPool internPool) {
+        return new FixedWidthCellParser(schemaCell, maxCacheSize, cachePolicy, cacheStatistics, internPool);
     }
 
 }
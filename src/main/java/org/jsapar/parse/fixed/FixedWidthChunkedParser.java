@@ -0,0 +1,91 @@
+package org.jsapar.parse.fixed;
+
+import org.jsapar.parse.text.AbstractChunkedParser;
+import org.jsapar.parse.text.ChunkSplitter;
+import org.jsapar.parse.text.TextSchemaParser;
+import org.jsapar.schema.FixedWidthSchema;
+import org.jsapar.schema.FixedWidthSchemaLine;
+import org.jsapar.text.TextParseConfig;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Internal class for parsing fixed width input from a file in chunks that can be parsed in parallel. The input is
+ * split into chunks at the line separator or, if there is no line separator, at multiples of the line length.
+ * <p>
+ * The first chunks are parsed sequentially until all lines that are limited in number of occurrences have been
+ * parsed. If the input cannot be split, the input is parsed sequentially.
+ */
+public class FixedWidthChunkedParser extends AbstractChunkedParser {
+    private final FixedWidthSchema    schema;
+    private final TextParseConfig     parseConfig;
+    private final TextParseConfig     chunkParseConfig;
+    private final FWLineParserFactory lineParserFactory;
+
+    /**
+     * Creates a parser that parses chunks on the common {@link ForkJoinPool}.
+     * @param channel     The channel to read from. Reading starts at current position.
+     * @param charset     The character set of the input.
+     * @param schema      The schema.
+     * @param parseConfig The configuration. Determines parallelism, chunk size and order.
+     */
+    public FixedWidthChunkedParser(FileChannel channel, Charset charset, FixedWidthSchema schema, TextParseConfig parseConfig) {
+        this(channel, charset, schema, parseConfig, ForkJoinPool.commonPool());
+    }
+
+    FixedWidthChunkedParser(FileChannel channel, Charset charset, FixedWidthSchema schema, TextParseConfig parseConfig, Executor executor) {
+        super(channel, charset, parseConfig, executor);
+        this.schema = schema;
+        this.parseConfig = parseConfig;
+        this.chunkParseConfig = makeChunkParseConfig(parseConfig);
+        this.lineParserFactory = new FWLineParserFactory(schema, chunkParseConfig);
+    }
+
+    @Override
+    protected Optional<ChunkSplitter.RecordScanner> makeRecordScanner(Charset charset) {
+        return FWRecordScanner.ofSchema(schema, charset).map(ChunkSplitter.RecordScanner.class::cast);
+    }
+
+    @Override
+    protected TextSchemaParser makeParser(ReadableByteChannel input) {
+        return new FixedWidthParser(reader(input), schema, parseConfig);
+    }
+
+    @Override
+    protected TextSchemaParser makeLeadingChunkParser(ReadableByteChannel input, long firstLineNumber) {
+        return new FixedWidthParser(reader(input), schema, chunkParseConfig, lineParserFactory, firstLineNumber);
+    }
+
+    @Override
+    protected boolean isCompleted() {
+        return lineParserFactory.isEmpty();
+    }
+
+    @Override
+    protected Optional<ChunkParserFactory> makeChunkParserFactory() {
+        return lineParserFactory.remainingInfiniteSchemaLines().map(schemaLines -> {
+            FixedWidthSchema chunkSchema = makeChunkSchema(schemaLines);
+            return (input, firstLineNumber) -> new FixedWidthParser(reader(input), chunkSchema, chunkParseConfig,
+                    new FWLineParserFactory(chunkSchema, chunkParseConfig), firstLineNumber);
+        });
+    }
+
+    private Reader reader(ReadableByteChannel input) {
+        return new InputStreamReader(Channels.newInputStream(input), getCharset());
+    }
+
+    private FixedWidthSchema makeChunkSchema(List<FixedWidthSchemaLine> schemaLines) {
+        FixedWidthSchema.Builder builder = FixedWidthSchema.builder(schema).withoutAnyLine();
+        schemaLines.forEach(builder::withLine);
+        return builder.build();
+    }
+}
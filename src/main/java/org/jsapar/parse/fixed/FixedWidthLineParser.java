@@ -2,6 +2,7 @@ package org.jsapar.parse.fixed;
 
 import org.jsapar.error.JSaParException;
 import org.jsapar.model.Cell;
+import org.jsapar.model.IndexedLine;
 import org.jsapar.model.Line;
 import org.jsapar.parse.line.LineDecoratorErrorConsumer;
 import org.jsapar.parse.line.ValidationHandler;
@@ -25,6 +26,7 @@ final class FixedWidthLineParser {
     private final ValidationHandler    validationHandler = new ValidationHandler();
     private final TextParseConfig            config;
     private final LineDecoratorErrorConsumer lineDecoratorErrorConsumer = new LineDecoratorErrorConsumer();
+    private       IndexedLine                reusableLine;
 
     FixedWidthLineParser(FixedWidthSchemaLine lineSchema, TextParseConfig config) {
         this.lineSchema = lineSchema;
@@ -37,7 +39,21 @@ final class FixedWidthLineParser {
     }
 
     private FixedWidthCellParser makeCellParser(FixedWidthSchemaCell fixedWidthSchemaCell) {
-        return FixedWidthCellParser.ofSchemaCell(fixedWidthSchemaCell, Math.min(config.getMaxCellCacheSize(), lineSchema.getOccurs() - 1));
+        return FixedWidthCellParser.ofSchemaCell(fixedWidthSchemaCell, Math.min(config.getMaxCellCacheSize(), lineSchema.getOccurs() - 1),
+                config.getCellCachePolicy(), config.cellCacheStatisticsOf(fixedWidthSchemaCell),
+                config.getCellInternPool());
+    }
+
+    /**
+     * @param lineNumber The line number of the line.
+     * @return A new line or, if lines are reused, the line of this parser cleared from any previous content.
+     */
+    private Line makeLine(long lineNumber) {
+        if (!config.isReuseLines())
+            return new IndexedLine(lineSchema.getLineType(), lineSchema.getCellIndex(), lineNumber);
+        if (reusableLine == null)
+            reusableLine = new IndexedLine(lineSchema.getLineType(), lineSchema.getCellIndex(), lineNumber);
+        return reusableLine.reset(lineNumber);
     }
 
     boolean isIgnoreRead(){
@@ -45,8 +61,8 @@ final class FixedWidthLineParser {
     }
 
     @SuppressWarnings("UnnecessaryContinue")
-    public Line parse(ReadBuffer lineReader, Consumer<JSaParException> errorListener) throws IOException {
-        Line line = new Line(lineSchema.getLineType(), lineSchema.size(), lineReader.getLineNumber());
+    public Line parse(FWLineReader lineReader, Consumer<JSaParException> errorListener) throws IOException {
+        Line line = makeLine(lineReader.getLineNumber());
         boolean setDefaultsOnly = false;
         boolean oneRead = false;
         boolean oneIgnored = false;
@@ -110,7 +126,7 @@ final class FixedWidthLineParser {
     }
 
     @SuppressWarnings("BooleanMethodIsAlwaysInverted")
-    private boolean lineValidationInsufficient(ReadBuffer lineReader, Consumer<JSaParException> errorListener) {
+    private boolean lineValidationInsufficient(FWLineReader lineReader, Consumer<JSaParException> errorListener) {
         return validationHandler.lineValidation(lineReader.getLineNumber(), config.getOnLineInsufficient(),
                 errorListener, () -> "Insufficient number of characters for line of type " + lineSchema.getLineType()
                         + ". Expected at least " + lineSchema.getTotalCellLength());
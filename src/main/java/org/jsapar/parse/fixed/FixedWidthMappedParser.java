@@ -0,0 +1,172 @@
+package org.jsapar.parse.fixed;
+
+import org.jsapar.error.JSaParException;
+import org.jsapar.model.Line;
+import org.jsapar.parse.LineParseException;
+import org.jsapar.parse.line.ValidationHandler;
+import org.jsapar.parse.text.TextSchemaParser;
+import org.jsapar.schema.FixedWidthSchema;
+import org.jsapar.schema.FixedWidthSchemaLine;
+import org.jsapar.text.TextParseConfig;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Parses fixed width text directly from a memory mapped file. Can only be used for character sets where each character
+ * is encoded as a single byte, such as ISO-8859-1, US-ASCII or the EBCDIC character sets. Instead of reading all
+ * characters of the file into a buffer, lines are located within the mapped file and only the cells that are actually
+ * read are decoded. Cells with {@link org.jsapar.schema.SchemaCell#isIgnoreRead()} are skipped without being read at
+ * all, which makes this parser particularly efficient when only a few cells of long lines are needed.
+ * <p>
+ * If all lines of the schema have the same length, the lines can also be accessed randomly by
+ * {@link #parseLine(long, Consumer)}. This requires that all lines within the file have that length.
+ * <p>
+ * Instances of this class are not thread safe.
+ * @since 2.5
+ */
+public class FixedWidthMappedParser implements TextSchemaParser {
+    private static final long DEFAULT_WINDOW_SIZE = 1L << 30;
+
+    private final FileChannel      channel;
+    private final Charset          charset;
+    private final FixedWidthSchema schema;
+    private final TextParseConfig  config;
+    private final long             windowSize;
+    private final long             begin;
+    private final int              lineSize;
+    private final ValidationHandler validationHandler = new ValidationHandler();
+
+    private MappedReadBuffer    randomAccessReader;
+    private FWLineParserFactory randomAccessLineParserFactory;
+
+    /**
+     * @param channel The channel of the file to read from. Reading starts at the current position.
+     * @param charset The character set of the file. Needs to have one byte per character.
+     * @param schema  The schema to use.
+     * @param config  The parse configuration.
+     * @throws IOException              In case of io error.
+     * @throws IllegalArgumentException If the character set does not have one byte per character.
+     */
+    public FixedWidthMappedParser(FileChannel channel, Charset charset, FixedWidthSchema schema, TextParseConfig config) throws IOException {
+        this(channel, charset, schema, config, DEFAULT_WINDOW_SIZE);
+    }
+
+    FixedWidthMappedParser(FileChannel channel, Charset charset, FixedWidthSchema schema, TextParseConfig config, long windowSize) throws IOException {
+        if (!isSupported(charset))
+            throw new IllegalArgumentException("Character set " + charset + " does not have one byte per character.");
+        this.channel = channel;
+        this.charset = charset;
+        this.schema = schema;
+        this.config = config;
+        this.windowSize = windowSize;
+        this.begin = channel.position();
+        int[] lineLengths = schema.stream().mapToInt(FixedWidthSchemaLine::getTotalCellLength).distinct().toArray();
+        this.lineSize = (lineLengths.length == 1 && lineLengths[0] > 0)
+                ? lineLengths[0] + schema.getLineSeparator().getBytes(charset).length
+                : -1;
+    }
+
+    /**
+     * @param charset The character set to test.
+     * @return True if files with the supplied character set can be parsed by this class.
+     */
+    public static boolean isSupported(Charset charset) {
+        return MappedReadBuffer.isSupported(charset);
+    }
+
+    @Override
+    public long parse(Consumer<Line> lineConsumer, Consumer<JSaParException> errorConsumer) throws IOException {
+        return makeParser().parse(lineConsumer, errorConsumer);
+    }
+
+    @Override
+    public Stream<Line> stream(Consumer<JSaParException> errorConsumer) throws IOException {
+        return makeParser().stream(errorConsumer);
+    }
+
+    private FixedWidthParser makeParser() throws IOException {
+        channel.position(begin);
+        MappedReadBuffer lineReader = new MappedReadBuffer(channel, charset, schema.getLineSeparator(), config.getMaxLineLength(), windowSize);
+        return new FixedWidthParser(lineReader, schema, config, new FWLineParserFactory(schema, config));
+    }
+
+    /**
+     * @return True if all lines of the schema have the same length, which makes it possible to access lines randomly.
+     */
+    public boolean isRandomAccess() {
+        return lineSize > 0;
+    }
+
+    /**
+     * @return The number of lines of the file, given that all lines have the same length.
+     * @throws IOException           In case of io error.
+     * @throws IllegalStateException If the lines of the schema do not have the same length.
+     */
+    public long getLineCount() throws IOException {
+        checkRandomAccess();
+        long size = channel.size() - begin;
+        return (size + lineSize - 1) / lineSize;
+    }
+
+    /**
+     * Parses one line at a specified index within the file. Since the position of the line is calculated from its
+     * index, all lines within the file need to have the same length. Lines that are limited in number of
+     * occurrences within the schema are matched regardless of their occurrences.
+     *
+     * @param index         The index of the line to parse, where 0 is the first line of the file.
+     * @param errorConsumer The error consumer that will receive errors while parsing the line.
+     * @return The parsed line or empty if the line is empty, could not be parsed or if it is of a line type that
+     * should be ignored.
+     * @throws IOException               In case of io error.
+     * @throws IllegalStateException     If the lines of the schema do not have the same length.
+     * @throws IndexOutOfBoundsException If there is no line with the supplied index.
+     * @throws LineParseException        If the line is not preceded by a line separator, indicating that the lines
+     *                                   of the file do not have the same length.
+     */
+    public Optional<Line> parseLine(long index, Consumer<JSaParException> errorConsumer) throws IOException {
+        if (index < 0 || index >= getLineCount())
+            throw new IndexOutOfBoundsException("There is no line with index " + index);
+        if (randomAccessReader == null) {
+            randomAccessReader = new MappedReadBuffer(channel, charset, schema.getLineSeparator(), config.getMaxLineLength(), windowSize);
+            randomAccessLineParserFactory = new FWLineParserFactory(makeRandomAccessSchema(), config);
+        }
+        long position = begin + index * lineSize;
+        if (index > 0 && !schema.getLineSeparator().isEmpty() && !randomAccessReader.isLineSeparatorBefore(position))
+            throw new LineParseException(index + 1, "Line does not start at expected position " + position
+                    + ". All lines of the file need to be of the same length in order to access lines randomly.");
+        randomAccessReader.seek(position, index);
+        if (randomAccessReader.nextLine(lineSize) <= 0)
+            return Optional.empty();
+        FixedWidthLineParser lineParser = randomAccessLineParserFactory.makeLineParser(randomAccessReader);
+        if (lineParser == null) {
+            validationHandler.lineValidation(index + 1, config.getOnUndefinedLineType(), errorConsumer,
+                    () -> "No schema line could be used to parse line number " + (index + 1));
+            return Optional.empty();
+        }
+        Line line = lineParser.parse(randomAccessReader, errorConsumer);
+        if (lineParser.isIgnoreRead())
+            return Optional.empty();
+        return Optional.ofNullable(line);
+    }
+
+    private void checkRandomAccess() {
+        if (!isRandomAccess())
+            throw new IllegalStateException("Lines can only be accessed randomly if all lines of the schema have the same length.");
+    }
+
+    /**
+     * @return A copy of the schema where all lines may occur any number of times.
+     */
+    private FixedWidthSchema makeRandomAccessSchema() {
+        FixedWidthSchema.Builder builder = FixedWidthSchema.builder(schema).withoutAnyLine();
+        for (FixedWidthSchemaLine schemaLine : schema) {
+            builder.withLine(FixedWidthSchemaLine.builder(schemaLine.getLineType(), schemaLine).withOccursInfinitely().build());
+        }
+        return builder.build();
+    }
+}
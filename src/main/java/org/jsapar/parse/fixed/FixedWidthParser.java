@@ -3,6 +3,7 @@ package org.jsapar.parse.fixed;
 import org.jsapar.error.JSaParException;
 import org.jsapar.model.Line;
 import org.jsapar.parse.line.ValidationHandler;
+import org.jsapar.parse.text.ReadAheadReader;
 import org.jsapar.parse.text.TextSchemaParser;
 import org.jsapar.schema.FixedWidthSchema;
 import org.jsapar.schema.FixedWidthSchemaCell;
@@ -24,16 +25,46 @@ public class FixedWidthParser implements TextSchemaParser {
     private final FixedWidthSchema schema;
     private final TextParseConfig  config;
     private final ValidationHandler validationHandler = new ValidationHandler();
-    private final ReadBuffer lineReader;
+    private final FWLineReader lineReader;
     private final int minLineLength;
+    private final FWLineParserFactory lineParserFactory;
+    private final long firstLineNumber;
 
 
     public FixedWidthParser(Reader reader, FixedWidthSchema schema, TextParseConfig config) {
+        this(reader, schema, config, new FWLineParserFactory(schema, config), 0L);
+    }
+
+    /**
+     * Creates a parser that uses the supplied factory. The factory may be shared with a previous parser, in which case
+     * parsing continues with the state of that previous parser.
+     * @param reader            The reader to read from.
+     * @param schema            The schema.
+     * @param config            The configuration.
+     * @param lineParserFactory The factory to get line parsers from.
+     * @param firstLineNumber   The number of lines before the first line of the reader.
+     */
+    FixedWidthParser(Reader reader, FixedWidthSchema schema, TextParseConfig config, FWLineParserFactory lineParserFactory, long firstLineNumber) {
+        this(new ReadBuffer(schema.getLineSeparator(), ReadAheadReader.ofConfig(reader, schema, config), config.getMaxLineLength(),
+                        (schema.stream().anyMatch(SchemaLine::isOccursInfinitely) ? config.getMaxLineLength() : 1), firstLineNumber),
+                schema, config, lineParserFactory);
+    }
+
+    /**
+     * Creates a parser that reads lines from the supplied line reader. Parsing starts at the current line of the
+     * line reader.
+     * @param lineReader        The line reader to read from.
+     * @param schema            The schema.
+     * @param config            The configuration.
+     * @param lineParserFactory The factory to get line parsers from.
+     */
+    FixedWidthParser(FWLineReader lineReader, FixedWidthSchema schema, TextParseConfig config, FWLineParserFactory lineParserFactory) {
         this.schema = schema;
         this.config = config;
-        boolean allowReadAhead = schema.stream().anyMatch(SchemaLine::isOccursInfinitely);
-        this.lineReader = new ReadBuffer(schema.getLineSeparator(), reader, config.getMaxLineLength(), (allowReadAhead ? config.getMaxLineLength(): 1));
+        this.lineReader = lineReader;
         minLineLength = schema.stream().mapToInt(sl->sl.stream().mapToInt(FixedWidthSchemaCell::getLength).sum()).min().orElse(1);
+        this.lineParserFactory = lineParserFactory;
+        this.firstLineNumber = lineReader.getLineNumber();
     }
 
     private void handleNoParser(long lineNumber, LineParserMatcherResult result, Consumer<JSaParException> errorEventListener) {
@@ -52,13 +83,12 @@ public class FixedWidthParser implements TextSchemaParser {
 
     @Override
     public long parse(Consumer<Line> lineEventListener, Consumer<JSaParException> errorListener) throws IOException {
-        FWLineParserFactory lineParserFactory = new FWLineParserFactory(getSchema(), config);
         while(true){
             if(lineParserFactory.isEmpty())
-                return lineReader.getLineNumber();
+                return linesRead();
             int lineLength = lineReader.nextLine(minLineLength);
             if (lineLength < 0)
-                return lineReader.getLineNumber(); // End of stream.
+                return linesRead(); // End of stream.
             if (lineLength == 0)
                 continue; // Just ignore empty lines
             FixedWidthLineParser lineParser = lineParserFactory.makeLineParser(lineReader);
@@ -67,7 +97,7 @@ public class FixedWidthParser implements TextSchemaParser {
                 if(lineParserFactory.getLastResult() == LineParserMatcherResult.NOT_MATCHING)
                     continue;
                 else
-                    return lineReader.getLineNumber()-1;
+                    return linesRead()-1;
             }
             Line line = lineParser.parse(lineReader, errorListener);
             if(lineParser.isIgnoreRead())
@@ -75,17 +105,20 @@ public class FixedWidthParser implements TextSchemaParser {
             if (line != null)
                 lineEventListener.accept( line );
             else if(lineReader.eofReached())
-                return lineReader.getLineNumber()-1; // End of stream.
+                return linesRead()-1; // End of stream.
         }
     }
 
+    private long linesRead() {
+        return lineReader.getLineNumber() - firstLineNumber;
+    }
+
     @Override
     public Stream<Line> stream(Consumer<JSaParException> errorConsumer) throws IOException {
         if(schema.isEmpty()) {
             return Stream.empty();
         }
         try {
-            FWLineParserFactory lineParserFactory = new FWLineParserFactory(getSchema(), config);
             Spliterator<Line> spliterator = new Spliterator<>() {
                 @Override
                 public boolean tryAdvance(Consumer<? super Line> action) {
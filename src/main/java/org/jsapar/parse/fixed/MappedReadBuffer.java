@@ -0,0 +1,288 @@
+package org.jsapar.parse.fixed;
+
+import org.jsapar.parse.LineParseException;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Internal class that reads fixed width lines directly from a memory mapped file where each character is encoded as a
+ * single byte. Nothing is copied while locating lines or skipping cells, only the cells that are actually read are
+ * decoded into characters.
+ * <p>
+ * The file is mapped in windows of limited size so that files larger than what can be mapped at once can also be read.
+ * A new window is mapped, starting at the beginning of the current line, whenever the current line reaches beyond the
+ * current window.
+ */
+final class MappedReadBuffer implements FWLineReader {
+
+    private final FileChannel channel;
+    private final long        end;
+    private final long        windowSize;
+    private final int         maxLineLength;
+    private final char[]      decodeTable;
+    private final byte[]      lineSeparator;
+    private final boolean     anyNewLineIsEol;
+    private final byte        carriageReturn;
+    private final boolean     flat;
+
+    private MappedByteBuffer window;
+    private long             windowBegin   = 0;
+    private long             windowEnd     = 0;
+    private char[]           cellBuffer    = new char[64];
+    private long             cursor;
+    private long             lineMark;
+    private long             lineEnd;
+    private long             nextLineBegin;
+    private long             lineNumber    = 0;
+    private boolean          eof           = false;
+    private int              cellBegin     = 0;
+    private int              cellEnd       = 0;
+
+    /**
+     * @param channel       The channel of the file to read from. Reading starts at the current position.
+     * @param charset       The character set of the file. Needs to have one byte per character.
+     * @param lineSeparator The line separator. An empty string means that lines are not separated.
+     * @param maxLineLength The maximum number of characters of a line.
+     * @param windowSize    The maximum number of bytes to map at a time.
+     * @throws IOException In case of io error.
+     */
+    MappedReadBuffer(FileChannel channel, Charset charset, String lineSeparator, int maxLineLength, long windowSize) throws IOException {
+        this.channel = channel;
+        this.end = channel.size();
+        this.maxLineLength = maxLineLength;
+        this.decodeTable = makeDecodeTable(charset);
+        this.lineSeparator = lineSeparator.getBytes(charset);
+        // Make sure that a whole line always fits within a window that starts at the beginning of the line.
+        this.windowSize = Math.max(windowSize, 2L * (maxLineLength + this.lineSeparator.length + 1));
+        this.anyNewLineIsEol = Arrays.asList("\n", "\r\n").contains(lineSeparator);
+        this.carriageReturn = "\r".getBytes(charset)[0];
+        this.flat = lineSeparator.isEmpty();
+        this.cursor = channel.position();
+        this.lineMark = cursor;
+        this.lineEnd = cursor;
+        this.nextLineBegin = cursor;
+    }
+
+    /**
+     * @param charset The character set.
+     * @return True if the character set can be read by this class.
+     */
+    static boolean isSupported(Charset charset) {
+        return charset.canEncode() && charset.newEncoder().maxBytesPerChar() == 1.0f;
+    }
+
+    private static char[] makeDecodeTable(Charset charset) {
+        if (!isSupported(charset))
+            throw new IllegalArgumentException("Character set " + charset + " does not have one byte per character.");
+        char[] table = new char[256];
+        for (int b = 0; b < table.length; b++) {
+            String decoded = new String(new byte[]{(byte) b}, charset);
+            table[b] = decoded.length() == 1 ? decoded.charAt(0) : '\uFFFD';
+        }
+        return table;
+    }
+
+    /**
+     * Moves to the beginning of a line at a specified position.
+     * @param position   The position within the file of the first byte of the line.
+     * @param lineNumber The number of lines before that line.
+     */
+    void seek(long position, long lineNumber) {
+        this.cursor = position;
+        this.lineMark = position;
+        this.lineEnd = position;
+        this.nextLineBegin = position;
+        this.lineNumber = lineNumber;
+        this.eof = false;
+    }
+
+    /**
+     * @param position The position within the file.
+     * @return True if the line separator ends right before the supplied position.
+     * @throws IOException In case of io error.
+     */
+    boolean isLineSeparatorBefore(long position) throws IOException {
+        long begin = position - lineSeparator.length;
+        if (begin < 0)
+            return false;
+        int index = windowIndex(begin, lineSeparator.length);
+        for (int i = 0; i < lineSeparator.length; i++) {
+            if (window.get(index + i) != lineSeparator[i])
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int nextLine(int allocate) throws IOException {
+        final int length = flat ? nextFlatLine(allocate) : nextSeparatedLine();
+        if (length >= 0)
+            lineNumber++;
+        return length;
+    }
+
+    private int nextFlatLine(int allocate) {
+        lineMark = cursor;
+        lineEnd = end;
+        if (cursor >= end)
+            return -1;
+        return (int) Math.min(allocate, end - cursor);
+    }
+
+    private int nextSeparatedLine() throws IOException {
+        cursor = nextLineBegin;
+        lineMark = nextLineBegin;
+        final byte lastOfSeparator = lineSeparator[lineSeparator.length - 1];
+        final long limit = lineMark + maxLineLength + lineSeparator.length;
+        long position = lineMark;
+        while (position < end) {
+            if (position >= limit)
+                throw new LineParseException(lineNumber,
+                        "Line length exceeds maximum line length of " + maxLineLength + " characters");
+            int index = windowIndex(position, 1);
+            final long windowLimit = Math.min(windowEnd, limit);
+            while (position < windowLimit) {
+                if (window.get(index++) == lastOfSeparator) {
+                    if (isEndOfLine(position)) {
+                        nextLineBegin = position + 1;
+                        return (int) (lineEnd - lineMark);
+                    }
+                    position++;
+                    break; // The window may have been moved while testing end of line.
+                }
+                position++;
+            }
+        }
+        lineEnd = end;
+        nextLineBegin = end;
+        return lineMark == end ? -1 : (int) (end - lineMark);
+    }
+
+    /**
+     * Sets the line end if the line separator ends at the supplied position.
+     * @param position The position of a byte that is equal to the last byte of the line separator.
+     * @return True if end of line was found.
+     */
+    private boolean isEndOfLine(long position) throws IOException {
+        if (anyNewLineIsEol) {
+            lineEnd = (position > lineMark && byteAt(position - 1) == carriageReturn) ? position - 1 : position;
+            return true;
+        }
+        long separatorBegin = position + 1 - lineSeparator.length;
+        if (separatorBegin < lineMark)
+            return false;
+        for (int i = lineSeparator.length - 2; i >= 0; i--) {
+            if (byteAt(separatorBegin + i) != lineSeparator[i])
+                return false;
+        }
+        lineEnd = separatorBegin;
+        return true;
+    }
+
+    @Override
+    public void markLine() {
+        lineMark = cursor;
+    }
+
+    @Override
+    public void resetLine() {
+        eof = (cursor == lineMark);
+        cursor = lineMark;
+    }
+
+    @Override
+    public int skipWithinLine(int toSkip) {
+        toSkip = (int) Math.min(toSkip, lineEnd - cursor);
+        cursor += toSkip;
+        return toSkip;
+    }
+
+    @Override
+    public boolean readCell(ReadBuffer.Trimmer trimmer, int offset, int length) throws IOException {
+        if (length == 0) {
+            cellBegin = cellEnd = 0;
+            return true;
+        }
+
+        cursor += offset;
+        if (cursor + length > end) {
+            if (cursor >= end) {
+                this.eof = true;
+                return false; // EOF
+            }
+            length = (int) (end - cursor);
+        }
+        length = (int) Math.min(length, lineEnd - cursor);
+        if (length < 0)
+            return false; //EOL
+        if (length == 0) {
+            cellBegin = cellEnd = 0;
+            return true;
+        }
+        if (cellBuffer.length < length)
+            cellBuffer = new char[Math.max(length, cellBuffer.length * 2)];
+        final int index = windowIndex(cursor, length);
+        for (int i = 0; i < length; i++) {
+            cellBuffer[i] = decodeTable[window.get(index + i) & 0xFF];
+        }
+        cursor += length;
+        cellBegin = trimmer.findBegin(cellBuffer, 0, length);
+        cellEnd = trimmer.findEnd(cellBuffer, cellBegin, length);
+        return true;
+    }
+
+    @Override
+    public char[] cellChars() {
+        return cellBuffer;
+    }
+
+    @Override
+    public int cellBegin() {
+        return cellBegin;
+    }
+
+    @Override
+    public int cellEnd() {
+        return cellEnd;
+    }
+
+    @Override
+    public int remainsForLine() {
+        return flat ? 0 : (int) (lineEnd - cursor);
+    }
+
+    @Override
+    public boolean eofReached() {
+        return eof;
+    }
+
+    @Override
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    private byte byteAt(long position) throws IOException {
+        return window.get(windowIndex(position, 1));
+    }
+
+    /**
+     * Makes sure that the supplied range is within the current window.
+     * @param position The position within the file of the first byte of the range.
+     * @param length   The number of bytes of the range.
+     * @return The index within the window of the first byte of the range.
+     * @throws IOException In case of io error while mapping the file.
+     */
+    private int windowIndex(long position, int length) throws IOException {
+        if (position < windowBegin || position + length > windowEnd) {
+            long begin = (lineMark <= position && position - lineMark < windowSize / 2) ? lineMark : position;
+            windowBegin = begin;
+            windowEnd = Math.min(end, begin + windowSize);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, windowBegin, windowEnd - windowBegin);
+        }
+        return (int) (position - windowBegin);
+    }
+}
@@ -11,8 +11,7 @@ import java.util.Arrays;
  * Internal class that acts as a read buffer while parsing fixed width from a reader.
  */
 @SuppressWarnings("Duplicates")
-final class ReadBuffer {
-    private static final String     EMPTY_STRING  = "";
+final class ReadBuffer implements FWLineReader {
     private final        Reader     reader;
     private final        LineLoader lineLoader;
     private final int        maxLoadSize;
@@ -25,6 +24,8 @@ final class ReadBuffer {
     private       int     bufferSize = 0;
     private       long    lineNumber = 0;
     private       boolean eof        = false;
+    private       int     cellBegin  = 0;
+    private       int     cellEnd    = 0;
 
     /**
      * @param reader      The reader to read from
@@ -32,6 +33,17 @@ final class ReadBuffer {
      * @param maxLoadSize The maximum number of characters to load a a time to the buffer.
      */
     ReadBuffer(String lineSeparator, Reader reader, int bufferSize, int maxLoadSize) {
+        this(lineSeparator, reader, bufferSize, maxLoadSize, 0L);
+    }
+
+    /**
+     * @param reader          The reader to read from
+     * @param bufferSize      The buffer size to use.
+     * @param maxLoadSize     The maximum number of characters to load a a time to the buffer.
+     * @param firstLineNumber The number of lines before the first line of the reader.
+     */
+    ReadBuffer(String lineSeparator, Reader reader, int bufferSize, int maxLoadSize, long firstLineNumber) {
+        this.lineNumber = firstLineNumber;
         this.reader = reader;
         this.buffer = new char[bufferSize];
         this.maxLoadSize = Math.min(maxLoadSize, bufferSize);
@@ -93,14 +105,16 @@ final class ReadBuffer {
     /**
      * Place a line mark.
      */
-    void markLine() {
+    @Override
+    public void markLine() {
         lineMark = cursor;
     }
 
     /**
      * Reset cursor to last line mark.
      */
-    void resetLine() {
+    @Override
+    public void resetLine() {
         eof = (cursor == lineMark);
         cursor = lineMark;
     }
@@ -109,21 +123,20 @@ final class ReadBuffer {
      * @param toSkip The number of characters to skip
      * @return The number of characters skipped within line.
      */
-    int skipWithinLine(int toSkip) {
+    @Override
+    public int skipWithinLine(int toSkip) {
         final int availableWithinLine = lineEnd - cursor;
         toSkip = Math.min(toSkip, availableWithinLine);
         cursor += toSkip;
         return toSkip;
     }
 
-    /**
-     * @return The string value of the cell read from the reader at the position pointed to by the offset. Null if end
-     * of input stream was reached.
-     * @throws IOException If there is a problem while reading the input reader.
-     */
-    String readToString(Trimmer trimmer, int offset, int length) throws IOException {
-        if (length == 0)
-            return EMPTY_STRING;
+    @Override
+    public boolean readCell(Trimmer trimmer, int offset, int length) throws IOException {
+        if (length == 0) {
+            cellBegin = cellEnd = cursor;
+            return true;
+        }
 
         cursor += offset;
         int required = cursor + length - bufferSize;
@@ -132,7 +145,7 @@ final class ReadBuffer {
             if (loaded < 0) {
                 if (cursor >= bufferSize) {
                     this.eof = true;
-                    return null; // EOF
+                    return false; // EOF
                 }
                 length = bufferSize - cursor; // What remains in buffer.
             }
@@ -140,14 +153,27 @@ final class ReadBuffer {
         final int availableWithinLine = lineEnd - cursor;
         length = Math.min(length, availableWithinLine);
         if (length < 0)
-            return null; //EOL
-        if (length == 0)
-            return EMPTY_STRING;
+            return false; //EOL
         final int fieldEnd = cursor + length;
-        int cellBegin = trimmer.findBegin(buffer, cursor, fieldEnd);
-        int cellEnd = trimmer.findEnd(buffer, cellBegin, fieldEnd);
+        cellBegin = trimmer.findBegin(buffer, cursor, fieldEnd);
+        cellEnd = trimmer.findEnd(buffer, cellBegin, fieldEnd);
         cursor = fieldEnd;
-        return new String(buffer, cellBegin, cellEnd - cellBegin);
+        return true;
+    }
+
+    @Override
+    public char[] cellChars() {
+        return buffer;
+    }
+
+    @Override
+    public int cellBegin() {
+        return cellBegin;
+    }
+
+    @Override
+    public int cellEnd() {
+        return cellEnd;
     }
 
 
@@ -158,11 +184,32 @@ final class ReadBuffer {
      */
     static Trimmer makeTrimmer(FixedWidthSchemaCell schemaCell) {
         final Trimmer trimmer = schemaCell.isTrimPadCharacter() ? makeTrimmerByAlignment(schemaCell) : new NothingTrimmer();
-        if (schemaCell.isTrimLeadingSpaces() && schemaCell.getPadCharacter()!=' ')
+        if (isTrimmingLeadingSpaces(schemaCell))
             return new LeadingSpacesTrimmer(trimmer);
         return trimmer;
     }
 
+    /**
+     * @param schemaCell1 A schema cell.
+     * @param schemaCell2 Another schema cell.
+     * @return True if {@link #makeTrimmer(FixedWidthSchemaCell)} creates trimmers that trim the same way for both
+     * schema cells.
+     */
+    static boolean isSameTrimming(FixedWidthSchemaCell schemaCell1, FixedWidthSchemaCell schemaCell2) {
+        if (schemaCell1.isTrimPadCharacter() != schemaCell2.isTrimPadCharacter()
+                || isTrimmingLeadingSpaces(schemaCell1) != isTrimmingLeadingSpaces(schemaCell2))
+            return false;
+        if (!schemaCell1.isTrimPadCharacter())
+            return true;
+        return schemaCell1.getPadCharacter() == schemaCell2.getPadCharacter()
+                && schemaCell1.getAlignment() == schemaCell2.getAlignment()
+                && schemaCell1.getCellFormat().getCellType().isNumber() == schemaCell2.getCellFormat().getCellType().isNumber();
+    }
+
+    private static boolean isTrimmingLeadingSpaces(FixedWidthSchemaCell schemaCell) {
+        return schemaCell.isTrimLeadingSpaces() && schemaCell.getPadCharacter() != ' ';
+    }
+
     private static Trimmer makeTrimmerByAlignment(FixedWidthSchemaCell schemaCell) {
         char padCharacter = schemaCell.getPadCharacter();
         switch (schemaCell.getAlignment()) {
@@ -326,21 +373,25 @@ final class ReadBuffer {
      * @return The length of the next line or -1 if end of file was reached.
      * @throws IOException In case of underlying io error.
      */
-    int nextLine(int allocate) throws IOException {
+    @Override
+    public int nextLine(int allocate) throws IOException {
         final int length = lineLoader.nextLine(allocate);
         if(length>=0)
             lineNumber++;
         return length;
     }
 
-    int remainsForLine() {
+    @Override
+    public int remainsForLine() {
         return lineLoader.remainsForLine();
     }
 
-    boolean eofReached() {
+    @Override
+    public boolean eofReached() {
         return eof;
     }
 
+    @Override
     public long getLineNumber() {
         return lineNumber;
     }
@@ -0,0 +1,287 @@
+package org.jsapar.parse.text;
+
+import org.jsapar.error.JSaParException;
+import org.jsapar.model.Line;
+import org.jsapar.text.TextParseConfig;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Internal class. Abstract base class for parsers that split the input of a file into chunks at line boundaries so
+ * that the chunks can be parsed independently of each other.
+ * <p>
+ * The first chunks are always parsed sequentially, continuing the state of the previous chunk, until the sub-class
+ * reports that the remaining input can be parsed by independent parsers. This is typically when all header lines and
+ * all lines that are limited in number of occurrences have been parsed. The remaining chunks are then parsed concurrently on the
+ * executor when calling {@link #parse(Consumer, Consumer)} with a parallelism of more than one, or by the threads of a
+ * parallel stream when using {@link #stream(Consumer)}. If the input cannot be split, it is parsed sequentially.
+ * <p>
+ * If the parser of a chunk stops before the end of the chunk, nothing that follows in the input is parsed, the same
+ * way as when parsing the whole input sequentially. When lines are delivered unordered or by a parallel stream, lines
+ * of following chunks may however already have been delivered before the stop was detected.
+ */
+public abstract class AbstractChunkedParser implements TextSchemaParser {
+
+    /**
+     * Creates parsers for chunks that can be parsed independently of each other.
+     */
+    @FunctionalInterface
+    protected interface ChunkParserFactory {
+        /**
+         * @param input           The bytes of the chunk.
+         * @param firstLineNumber The number of lines within the input before the chunk.
+         * @return A new parser that parses the chunk.
+         */
+        TextSchemaParser makeParser(ReadableByteChannel input, long firstLineNumber);
+    }
+
+    private final FileChannel     channel;
+    private final Charset         charset;
+    private final TextParseConfig parseConfig;
+    private final Executor        executor;
+
+    /**
+     * @param channel     The channel to read from. Reading starts at current position.
+     * @param charset     The character set of the input.
+     * @param parseConfig The configuration. Determines parallelism, chunk size and order.
+     * @param executor    The executor to parse chunks with when calling {@link #parse(Consumer, Consumer)}.
+     */
+    protected AbstractChunkedParser(FileChannel channel, Charset charset, TextParseConfig parseConfig, Executor executor) {
+        this.channel = channel;
+        this.charset = charset;
+        this.parseConfig = parseConfig;
+        this.executor = executor;
+    }
+
+    /**
+     * @param charset The character set of the input.
+     * @return A scanner that detects the end of lines on byte level or empty if the input cannot be split.
+     */
+    protected abstract Optional<ChunkSplitter.RecordScanner> makeRecordScanner(Charset charset);
+
+    /**
+     * @param input The input to read bytes from.
+     * @return A parser that parses all of the input sequentially.
+     */
+    protected abstract TextSchemaParser makeParser(ReadableByteChannel input);
+
+    /**
+     * @param input           The bytes of the chunk.
+     * @param firstLineNumber The number of lines within the input before the chunk.
+     * @return A parser that parses one of the leading chunks, continuing the state of the parser of the previous chunk.
+     */
+    protected abstract TextSchemaParser makeLeadingChunkParser(ReadableByteChannel input, long firstLineNumber);
+
+    /**
+     * @return True if the leading chunks have been parsed to a state where no more lines can be parsed.
+     */
+    protected abstract boolean isCompleted();
+
+    /**
+     * @param parser A parser that was created by this class and that has parsed its input.
+     * @return True if the parser stopped parsing before the end of its input, in which case the input that follows is
+     * not parsed either. The default implementation returns false.
+     */
+    protected boolean isStopped(TextSchemaParser parser) {
+        return false;
+    }
+
+    /**
+     * Called after each leading chunk has been parsed.
+     * @return A factory for parsers of the remaining chunks or empty if the next chunk needs to be parsed as a leading
+     * chunk.
+     */
+    protected abstract Optional<ChunkParserFactory> makeChunkParserFactory();
+
+    @Override
+    public long parse(Consumer<Line> lineConsumer, Consumer<JSaParException> errorConsumer) throws IOException {
+        Optional<ChunkSplitter.RecordScanner> recordScanner = makeRecordScanner(charset);
+        if (parseConfig.getParallelism() <= 1 || recordScanner.isEmpty())
+            return makeParser(channel).parse(lineConsumer, errorConsumer);
+
+        ChunkSplitter splitter = makeSplitter(recordScanner.get());
+        long count = 0;
+        TextChunk chunk;
+        while ((chunk = splitter.nextChunk()) != null) {
+            TextSchemaParser leadingChunkParser = makeLeadingChunkParser(chunk.channel(), chunk.getFirstLineNumber());
+            count += leadingChunkParser.parse(lineConsumer, errorConsumer);
+            if (isCompleted() || isStopped(leadingChunkParser))
+                return count; // No more parsers or parsing stopped. We should not read anymore.
+            Optional<ChunkParserFactory> chunkParserFactory = makeChunkParserFactory();
+            if (chunkParserFactory.isPresent()) {
+                ChunkedParseExecutor parseExecutor = new ChunkedParseExecutor(
+                        parseConfig.getParallelism(), parseConfig.isParallelOrdered(), executor);
+                return count + parseExecutor.execute(splitter,
+                        (c, chunkLineConsumer, chunkErrorConsumer, onStopped) -> {
+                            TextSchemaParser chunkParser = chunkParserFactory.get().makeParser(c.channel(), c.getFirstLineNumber());
+                            long chunkCount = chunkParser.parse(chunkLineConsumer, chunkErrorConsumer);
+                            if (isStopped(chunkParser))
+                                onStopped.run();
+                            return chunkCount;
+                        },
+                        lineConsumer, errorConsumer);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns a stream that can be split into chunks of the input. All chunks are parsed lazily. If the stream is
+     * sequential, lines and errors are delivered in the same order as when streaming the whole input with a single
+     * parser. If the stream is parallel, the error consumer may be called by several threads at the same time and the
+     * remaining lines of a leading chunk may be parsed before they are delivered, since a leading chunk needs to be
+     * completely parsed before the next chunk can be parsed.
+     * @param errorConsumer The error consumer that will receive events for each error.
+     * @return a stream of lines that are lazily populated by lines when pulled from the stream.
+     * @throws IOException If there is an error reading from the input.
+     */
+    @Override
+    public Stream<Line> stream(Consumer<JSaParException> errorConsumer) throws IOException {
+        Optional<ChunkSplitter.RecordScanner> recordScanner = makeRecordScanner(charset);
+        if (recordScanner.isEmpty())
+            return makeParser(channel).stream(errorConsumer);
+        long inputSize = Math.max(0L, channel.size() - channel.position());
+        return StreamSupport.stream(
+                new ChunkSpliterator(makeSplitter(recordScanner.get()), new ChunkLines(errorConsumer), inputSize), false);
+    }
+
+    /**
+     * @param parseConfig The configuration.
+     * @return A copy of the configuration to use for parsers of chunks. Lines are never reused by those parsers since
+     * lines of a chunk may be kept until previous chunks have been delivered.
+     */
+    protected static TextParseConfig makeChunkParseConfig(TextParseConfig parseConfig) {
+        TextParseConfig chunkParseConfig = parseConfig.clone();
+        chunkParseConfig.setReuseLines(false);
+        return chunkParseConfig;
+    }
+
+    /**
+     * @return The character set of the input.
+     */
+    protected Charset getCharset() {
+        return charset;
+    }
+
+    private ChunkSplitter makeSplitter(ChunkSplitter.RecordScanner recordScanner) {
+        return new ChunkSplitter(channel, recordScanner, parseConfig.getParallelChunkSize(), maxLineSize());
+    }
+
+    /**
+     * @return The maximum number of bytes of one line.
+     */
+    private long maxLineSize() {
+        return (long) Math.ceil(parseConfig.getMaxLineLength() * (double) charset.newEncoder().maxBytesPerChar());
+    }
+
+    /**
+     * Provides the lines of each chunk to a {@link ChunkSpliterator}. Chunks are provided in order of the input by
+     * the one thread that currently owns the spliterator of the remaining input.
+     */
+    private final class ChunkLines implements ChunkSpliterator.ChunkLines {
+        private final Consumer<JSaParException> errorConsumer;
+        private       ChunkParserFactory        chunkParserFactory;
+        private       LeadingChunkLines         leadingChunkLines;
+        private       boolean                   completed = false;
+        private volatile boolean                stopped   = false;
+
+        private ChunkLines(Consumer<JSaParException> errorConsumer) {
+            this.errorConsumer = errorConsumer;
+        }
+
+        @Override
+        public Spliterator<Line> linesOf(TextChunk chunk) throws IOException {
+            if (leadingChunkLines != null) {
+                leadingChunkLines.complete();
+                leadingChunkLines = null;
+            }
+            if (stopped)
+                return null;
+            if (chunkParserFactory != null)
+                return linesOf(chunkParserFactory.makeParser(chunk.channel(), chunk.getFirstLineNumber()));
+            if (completed)
+                return null;
+            leadingChunkLines = new LeadingChunkLines(makeLeadingChunkParser(chunk.channel(), chunk.getFirstLineNumber()));
+            return leadingChunkLines;
+        }
+
+        /**
+         * @return The lines of the parser. No more chunks are parsed after the lines have been traversed if the parser
+         * stopped before the end of its chunk.
+         */
+        private Spliterator<Line> linesOf(TextSchemaParser chunkParser) throws IOException {
+            Spliterator<Line> lines = chunkParser.stream(errorConsumer).spliterator();
+            return new Spliterators.AbstractSpliterator<>(lines.estimateSize(), lines.characteristics()) {
+                @Override
+                public boolean tryAdvance(Consumer<? super Line> action) {
+                    if (lines.tryAdvance(action))
+                        return true;
+                    if (isStopped(chunkParser))
+                        stopped = true;
+                    return false;
+                }
+            };
+        }
+
+        /**
+         * The lines of a leading chunk, which are parsed lazily while traversed. The parser of the next chunk depends
+         * on the state of the parser of this chunk, so this chunk needs to be completed by {@link #complete()} before
+         * the next chunk is parsed. Since the lines may be traversed by another thread when the stream is parallel, the
+         * parser is only used while holding the lock of this instance.
+         */
+        private final class LeadingChunkLines extends Spliterators.AbstractSpliterator<Line> {
+            private final TextSchemaParser  parser;
+            private final Spliterator<Line> lines;
+            private       Iterator<Line>    remaining = Collections.emptyIterator();
+            private       boolean           parsed    = false;
+
+            private LeadingChunkLines(TextSchemaParser parser) throws IOException {
+                super(Long.MAX_VALUE, ORDERED | NONNULL);
+                this.parser = parser;
+                this.lines = parser.stream(errorConsumer).spliterator();
+            }
+
+            @Override
+            public synchronized boolean tryAdvance(Consumer<? super Line> action) {
+                if (!parsed) {
+                    if (lines.tryAdvance(action))
+                        return true;
+                    parsed = true;
+                }
+                if (!remaining.hasNext())
+                    return false;
+                action.accept(remaining.next());
+                return true;
+            }
+
+            /**
+             * Parses the lines that have not yet been traversed, if any, and determines how to parse the next chunk.
+             */
+            private synchronized void complete() {
+                if (!parsed) {
+                    List<Line> rest = new ArrayList<>();
+                    lines.forEachRemaining(rest::add);
+                    remaining = rest.iterator();
+                    parsed = true;
+                }
+                completed = isCompleted() || isStopped(parser);
+                if (!completed)
+                    chunkParserFactory = makeChunkParserFactory().orElse(null);
+            }
+        }
+    }
+}
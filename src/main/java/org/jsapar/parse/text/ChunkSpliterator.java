@@ -0,0 +1,166 @@
+package org.jsapar.parse.text;
+
+import org.jsapar.model.Line;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Internal class. A spliterator of the lines of an input that is split into chunks by a {@link ChunkSplitter}. Each
+ * call to {@link #trySplit()} splits off the next chunk, or the remainder of the chunk currently being traversed, as a
+ * spliterator of its own. Since the split-off part always precedes the remaining input, the encounter order of the
+ * lines is kept.
+ * <p>
+ * The number of lines is not known until the whole input has been read so the size is estimated from the number of
+ * bytes that remain and the average line size of the chunks read so far.
+ */
+public final class ChunkSpliterator implements Spliterator<Line> {
+
+    /**
+     * Provides the lines of each chunk.
+     */
+    @FunctionalInterface
+    public interface ChunkLines {
+        /**
+         * Called once for each chunk, in the order of the input.
+         * @param chunk The chunk to get the lines of.
+         * @return A spliterator of the lines of the chunk or null if no more lines can be parsed from the input.
+         * @throws IOException In case of io error.
+         */
+        Spliterator<Line> linesOf(TextChunk chunk) throws IOException;
+    }
+
+    private static final int CHARACTERISTICS = IMMUTABLE | ORDERED | NONNULL;
+
+    private final ChunkSplitter     splitter;
+    private final ChunkLines        chunkLines;
+    private final long              inputSize;
+    private       Spliterator<Line> current;
+    private       boolean           exhausted = false;
+    private       long              bytesRead = 0;
+    private       long              linesRead = 0;
+
+    /**
+     * @param splitter   The splitter to get chunks from.
+     * @param chunkLines Provides the lines of each chunk.
+     * @param inputSize  The number of bytes of the input.
+     */
+    public ChunkSpliterator(ChunkSplitter splitter, ChunkLines chunkLines, long inputSize) {
+        this.splitter = splitter;
+        this.chunkLines = chunkLines;
+        this.inputSize = inputSize;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Line> action) {
+        while (true) {
+            if (current != null && current.tryAdvance(action))
+                return true;
+            current = nextChunk();
+            if (current == null)
+                return false;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Line> action) {
+        do {
+            if (current != null)
+                current.forEachRemaining(action);
+            current = nextChunk();
+        } while (current != null);
+    }
+
+    @Override
+    public Spliterator<Line> trySplit() {
+        Spliterator<Line> prefix = (current != null) ? current : nextChunk();
+        current = null;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (exhausted)
+            return current == null ? 0 : current.estimateSize();
+        long remainingBytes = Math.max(0L, inputSize - bytesRead);
+        long remainingLines = (linesRead == 0 || bytesRead == 0) ? remainingBytes : remainingBytes * linesRead / bytesRead;
+        return current == null ? remainingLines : remainingLines + current.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /**
+     * @return A spliterator of the lines of the next chunk or null if there are no more chunks.
+     */
+    private Spliterator<Line> nextChunk() {
+        if (exhausted)
+            return null;
+        try {
+            TextChunk chunk = splitter.nextChunk();
+            Spliterator<Line> lines = (chunk == null) ? null : chunkLines.linesOf(chunk);
+            if (lines == null) {
+                exhausted = true;
+                return null;
+            }
+            if (chunk.size() < 0) {
+                exhausted = true;
+            } else {
+                bytesRead += chunk.size();
+                linesRead += chunk.getLineCount();
+            }
+            return lines.hasCharacteristics(SIZED) ? lines : new ChunkLinesSpliterator(lines, chunk.getLineCount());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The lines of one chunk where the size is estimated by the number of lines within the chunk.
+     */
+    private static final class ChunkLinesSpliterator implements Spliterator<Line> {
+        private final Spliterator<Line> lines;
+        private       long              estimatedSize;
+
+        private ChunkLinesSpliterator(Spliterator<Line> lines, long estimatedSize) {
+            this.lines = lines;
+            this.estimatedSize = estimatedSize;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Line> action) {
+            if (!lines.tryAdvance(action)) {
+                estimatedSize = 0;
+                return false;
+            }
+            if (estimatedSize > 0)
+                estimatedSize--;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Line> action) {
+            lines.forEachRemaining(action);
+            estimatedSize = 0;
+        }
+
+        @Override
+        public Spliterator<Line> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimatedSize;
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS;
+        }
+    }
+}
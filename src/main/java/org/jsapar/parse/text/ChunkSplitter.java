@@ -0,0 +1,148 @@
+package org.jsapar.parse.text;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Internal class. Reads a channel sequentially and splits it into {@link TextChunk} instances of approximately the
+ * chunk size. A chunk is only split at a line boundary as detected by a {@link RecordScanner}. Since the scanner sees all
+ * of the input, the number of lines before each chunk is known, which makes it possible to keep line numbers correct
+ * while the chunks are parsed independently of each other.
+ * <p>
+ * If a single line exceeds the maximum line size, the rest of the input is returned as one last chunk that reads
+ * directly from the channel. The parser of that chunk will then report the error in the same way as when parsing
+ * sequentially.
+ */
+public final class ChunkSplitter {
+
+    /**
+     * Detects the end of lines within a byte input.
+     */
+    public interface RecordScanner {
+        /**
+         * Scans the bytes for the end of the next line. The scanner keeps the state between calls so the next call will
+         * continue where the previous ended. All bytes of the current line, from its first byte up to the supplied
+         * from-index, are available in the buffer, starting at the same relative position as before.
+         *
+         * @param buffer The buffer to scan.
+         * @param from   The index of the first byte to scan.
+         * @param to     The index after the last byte to scan.
+         * @return The index after the last byte of the line or -1 if the end of the line was not found within the
+         * supplied range.
+         */
+        int nextRecordEnd(byte[] buffer, int from, int to);
+    }
+
+    private final ReadableByteChannel channel;
+    private final RecordScanner       scanner;
+    private final int                 chunkSize;
+    private final long                maxLineSize;
+
+    private byte[]  buffer;
+    private int     filled        = 0;
+    private int     scanned       = 0;
+    private int     lastBoundary  = 0;
+    private long    linesInBuffer = 0;
+    private long    linesBefore   = 0;
+    private boolean eof           = false;
+    private boolean exhausted     = false;
+
+    /**
+     * @param channel     The channel to read from. Reading starts at the current position of the channel.
+     * @param scanner     The scanner that detects the end of lines.
+     * @param chunkSize   The approximate number of bytes of each chunk.
+     * @param maxLineSize The maximum number of bytes of a single line.
+     */
+    public ChunkSplitter(ReadableByteChannel channel, RecordScanner scanner, int chunkSize, long maxLineSize) {
+        this.channel = channel;
+        this.scanner = scanner;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxLineSize = maxLineSize;
+        this.buffer = new byte[this.chunkSize];
+    }
+
+    /**
+     * @return The next chunk of the input or null if there are no more input.
+     * @throws IOException In case of error reading from the channel.
+     */
+    public TextChunk nextChunk() throws IOException {
+        if (exhausted)
+            return null;
+        while (true) {
+            scan();
+            if (eof) {
+                exhausted = true;
+                if (filled == 0)
+                    return null;
+                return makeChunk(filled, null);
+            }
+            if (filled == buffer.length) {
+                if (lastBoundary > 0)
+                    return makeChunk(lastBoundary, null);
+                if (filled > maxLineSize) {
+                    exhausted = true;
+                    return makeChunk(filled, channel);
+                }
+                byte[] larger = new byte[buffer.length * 2];
+                System.arraycopy(buffer, 0, larger, 0, filled);
+                buffer = larger;
+            }
+            int count = channel.read(ByteBuffer.wrap(buffer, filled, buffer.length - filled));
+            if (count < 0)
+                eof = true;
+            else
+                filled += count;
+        }
+    }
+
+    /**
+     * Tests if a separator can be searched for on byte level.
+     * @param s       The string to test.
+     * @param charset The character set.
+     * @return True if each character of the string is encoded as a single byte and that byte can not occur within the
+     * encoding of any other character.
+     */
+    public static boolean isSingleByte(String s, Charset charset) {
+        if (charset.equals(StandardCharsets.UTF_8) || charset.equals(StandardCharsets.US_ASCII))
+            return s.chars().allMatch(c -> c < 0x80);
+        if (!charset.canEncode() || charset.newEncoder().maxBytesPerChar() != 1.0f || !charset.newEncoder().canEncode(s))
+            return false;
+        return new String(s.getBytes(charset), charset).equals(s);
+    }
+
+    private void scan() {
+        while (scanned < filled) {
+            int end = scanner.nextRecordEnd(buffer, scanned, filled);
+            if (end < 0) {
+                scanned = filled;
+                return;
+            }
+            scanned = end;
+            lastBoundary = end;
+            linesInBuffer++;
+        }
+    }
+
+    /**
+     * Creates a chunk from the first bytes of the buffer and moves the remaining bytes into a new buffer.
+     * @param length    Number of bytes of the chunk.
+     * @param remainder If not null, the channel that contains the rest of the chunk.
+     * @return A new chunk.
+     */
+    private TextChunk makeChunk(int length, ReadableByteChannel remainder) {
+        long lines = (length == lastBoundary) ? linesInBuffer : linesInBuffer + 1;
+        TextChunk chunk = new TextChunk(buffer, length, remainder, linesBefore, linesInBuffer);
+        linesBefore += lines;
+        byte[] next = new byte[Math.max(chunkSize, filled - length)];
+        System.arraycopy(buffer, length, next, 0, filled - length);
+        buffer = next;
+        filled -= length;
+        scanned -= length;
+        lastBoundary = 0;
+        linesInBuffer = 0;
+        return chunk;
+    }
+}
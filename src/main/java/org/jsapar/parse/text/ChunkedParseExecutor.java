@@ -0,0 +1,189 @@
+package org.jsapar.parse.text;
+
+import org.jsapar.error.JSaParException;
+import org.jsapar.model.Line;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Internal class. Parses the chunks of a {@link ChunkSplitter} concurrently on an executor. Each chunk is parsed into
+ * a list of lines and errors which are then delivered to the consumers by the calling thread, either in the order of
+ * the input or in the order that the chunks are completed. The number of chunks that are parsed or waiting to be
+ * delivered at the same time is limited by the parallelism.
+ * <p>
+ * If a consumer throws an exception, parsing of the remaining chunks is cancelled and the exception is propagated to the
+ * caller.
+ * <p>
+ * If parsing of a chunk stops before the end of the chunk, the chunks that follow are not parsed and their lines and
+ * errors are discarded, the same way as a sequential parser does not parse anything after where it stopped. When
+ * lines are delivered in the order that the chunks are completed, lines of following chunks may however already have
+ * been delivered before the stop was detected.
+ */
+public final class ChunkedParseExecutor {
+
+    /**
+     * Parses one chunk.
+     */
+    @FunctionalInterface
+    public interface ChunkParser {
+        /**
+         * @param chunk         The chunk to parse.
+         * @param lineConsumer  The consumer of parsed lines.
+         * @param errorConsumer The consumer of errors.
+         * @param onStopped     To be called if parsing stopped before the end of the chunk, in which case no more chunks
+         *                      are parsed.
+         * @return Number of parsed lines.
+         * @throws IOException In case of io error.
+         */
+        long parse(TextChunk chunk, Consumer<Line> lineConsumer, Consumer<JSaParException> errorConsumer, Runnable onStopped) throws IOException;
+    }
+
+    private final int      parallelism;
+    private final boolean  ordered;
+    private final Executor executor;
+
+    /**
+     * @param parallelism The maximum number of chunks that are parsed concurrently.
+     * @param ordered     If true, lines are delivered in the order of the input.
+     * @param executor    The executor to parse chunks with.
+     */
+    public ChunkedParseExecutor(int parallelism, boolean ordered, Executor executor) {
+        this.parallelism = Math.max(1, parallelism);
+        this.ordered = ordered;
+        this.executor = executor;
+    }
+
+    /**
+     * Parses all remaining chunks of the splitter.
+     * @param splitter      The splitter to get chunks from.
+     * @param chunkParser   Parses each chunk.
+     * @param lineConsumer  Receives all parsed lines. Always called by the calling thread.
+     * @param errorConsumer Receives all errors. Always called by the calling thread.
+     * @return Number of parsed lines.
+     * @throws IOException In case of io error.
+     */
+    public long execute(ChunkSplitter splitter,
+                        ChunkParser chunkParser,
+                        Consumer<Line> lineConsumer,
+                        Consumer<JSaParException> errorConsumer) throws IOException {
+        // Chunks with a higher index than this are cancelled.
+        AtomicLong lastIndex = new AtomicLong(Long.MAX_VALUE);
+        Deque<CompletableFuture<ChunkResult>> inOrder = new ArrayDeque<>();
+        BlockingQueue<ChunkResult> completed = new LinkedBlockingQueue<>();
+        int inProgress = 0;
+        long count = 0;
+        long index = 0;
+        try {
+            TextChunk chunk;
+            while (lastIndex.get() == Long.MAX_VALUE && (chunk = splitter.nextChunk()) != null) {
+                if (inProgress >= parallelism) {
+                    count += deliver(nextCompleted(inOrder, completed), lastIndex, lineConsumer, errorConsumer);
+                    inProgress--;
+                }
+                final TextChunk toParse = chunk;
+                final long chunkIndex = index++;
+                CompletableFuture<ChunkResult> future = CompletableFuture
+                        .supplyAsync(() -> parseChunk(chunkParser, toParse, chunkIndex, lastIndex), executor)
+                        .handle((result, failure) -> result != null ? result : new ChunkResult(chunkIndex, unwrap(failure)));
+                if (ordered)
+                    inOrder.addLast(future);
+                else
+                    future.thenAccept(completed::add);
+                inProgress++;
+            }
+            for (; inProgress > 0; inProgress--) {
+                count += deliver(nextCompleted(inOrder, completed), lastIndex, lineConsumer, errorConsumer);
+            }
+            return count;
+        } finally {
+            lastIndex.set(-1L);
+        }
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    /**
+     * Delivers the result unless it belongs to a chunk that follows a chunk where parsing stopped.
+     */
+    private static long deliver(ChunkResult result, AtomicLong lastIndex, Consumer<Line> lineConsumer, Consumer<JSaParException> errorConsumer) throws IOException {
+        if (result.index > lastIndex.get())
+            return 0;
+        return result.deliver(lineConsumer, errorConsumer);
+    }
+
+    private ChunkResult nextCompleted(Deque<CompletableFuture<ChunkResult>> inOrder, BlockingQueue<ChunkResult> completed) {
+        if (ordered)
+            return inOrder.removeFirst().join();
+        try {
+            return completed.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JSaParException("Interrupted while waiting for chunk to be parsed", e);
+        }
+    }
+
+    private static ChunkResult parseChunk(ChunkParser chunkParser, TextChunk chunk, long index, AtomicLong lastIndex) {
+        ChunkResult result = new ChunkResult(index);
+        try {
+            result.count = chunkParser.parse(chunk, line -> {
+                if (index > lastIndex.get())
+                    throw new CancellationException();
+                result.events.add(line);
+            }, result.events::add, () -> lastIndex.accumulateAndGet(index, Math::min));
+        } catch (IOException | RuntimeException e) {
+            result.failure = e;
+        }
+        return result;
+    }
+
+    /**
+     * The lines and errors of one parsed chunk in the order that they occurred.
+     */
+    private static final class ChunkResult {
+        private final long         index;
+        private final List<Object> events  = new ArrayList<>();
+        private long               count   = 0;
+        private Throwable          failure = null;
+
+        private ChunkResult(long index) {
+            this.index = index;
+        }
+
+        private ChunkResult(long index, Throwable failure) {
+            this.index = index;
+            this.failure = failure;
+        }
+
+        private long deliver(Consumer<Line> lineConsumer, Consumer<JSaParException> errorConsumer) throws IOException {
+            for (Object event : events) {
+                if (event instanceof Line)
+                    lineConsumer.accept((Line) event);
+                else
+                    errorConsumer.accept((JSaParException) event);
+            }
+            if (failure instanceof IOException)
+                throw (IOException) failure;
+            if (failure instanceof RuntimeException)
+                throw (RuntimeException) failure;
+            if (failure instanceof Error)
+                throw (Error) failure;
+            if (failure != null)
+                throw new JSaParException("Failed to parse chunk", failure);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.jsapar.parse.text;
+
+import org.jsapar.schema.Schema;
+import org.jsapar.schema.SchemaCell;
+import org.jsapar.schema.SchemaLine;
+import org.jsapar.text.TextParseConfig;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Internal class. A reader that fills a number of buffers from another reader on a background thread while the
+ * characters of the buffers that have already been filled are consumed. Each time a buffer has been consumed, it is
+ * handed back to be filled again. The buffers are filled one at a time and in order, so the source reader is never
+ * read by more than one thread at a time.
+ * <p>
+ * No thread is waiting for buffers to be consumed, so a reader that is abandoned before the end of the input leaves
+ * no thread behind once the buffers that were requested have been filled.
+ * @since 2.5
+ */
+public final class ReadAheadReader extends Reader {
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "jsapar-read-ahead");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Reader                         reader;
+    private final int                            bufferCount;
+    private final int                            bufferSize;
+    private final Queue<CompletableFuture<Fill>> pending = new ArrayDeque<>();
+    private       CompletableFuture<Fill>        lastFill;
+    private       Fill                           current;
+    private       int                            position;
+
+    /**
+     * @param reader      The reader to read ahead from.
+     * @param bufferCount The number of buffers to fill ahead.
+     * @param bufferSize  The number of characters of each buffer.
+     */
+    public ReadAheadReader(Reader reader, int bufferCount, int bufferSize) {
+        if (bufferCount < 1 || bufferSize < 1)
+            throw new IllegalArgumentException("Read ahead buffer count and size need to be at least 1");
+        this.reader = reader;
+        this.bufferCount = bufferCount;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * @param reader The reader to read from.
+     * @param schema The schema to parse with.
+     * @param config The configuration that tells if and how to read ahead.
+     * @return A {@link ReadAheadReader} if the configuration has a read ahead buffer count of more than zero and if
+     * any of the lines of the schema can occur any number of times, otherwise the supplied reader.
+     */
+    public static Reader ofConfig(Reader reader, Schema<? extends SchemaLine<? extends SchemaCell>> schema, TextParseConfig config) {
+        if (config.getReadAheadBufferCount() <= 0 || reader instanceof ReadAheadReader
+                || schema.stream().noneMatch(SchemaLine::isOccursInfinitely))
+            return reader;
+        return new ReadAheadReader(reader, config.getReadAheadBufferCount(), config.getReadAheadBufferSize());
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0)
+            return 0;
+        while (current == null || position == current.length) {
+            if (current != null) {
+                if (current.error != null)
+                    throw current.error;
+                if (current.last)
+                    return -1;
+                requestFill(current.buffer);
+            } else if (lastFill == null) {
+                for (int i = 0; i < bufferCount; i++)
+                    requestFill(new char[bufferSize]);
+            }
+            current = nextFill();
+            position = 0;
+        }
+        final int count = Math.min(len, current.length - position);
+        System.arraycopy(current.buffer, position, cbuf, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public boolean ready() {
+        return current != null && position < current.length;
+    }
+
+    /**
+     * Waits for the background reading to finish, then closes the source reader.
+     * @throws IOException If there is an error while closing the source reader.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (lastFill != null)
+                lastFill.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Will be closed anyway.
+        }
+        pending.clear();
+        reader.close();
+    }
+
+    /**
+     * Requests a buffer to be filled after the buffer that was requested before it.
+     */
+    private void requestFill(char[] buffer) {
+        lastFill = lastFill == null
+                ? CompletableFuture.supplyAsync(() -> fill(buffer), EXECUTOR)
+                : lastFill.thenApplyAsync(previous -> previous.last ? new Fill(buffer, 0, true, null) : fill(buffer), EXECUTOR);
+        pending.add(lastFill);
+    }
+
+    private Fill nextFill() throws IOException {
+        try {
+            return pending.remove().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the input to be read");
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to read ahead from the input", e.getCause());
+        }
+    }
+
+    /**
+     * Fills the buffer until it is full or until end of input is reached.
+     */
+    private Fill fill(char[] buffer) {
+        int length = 0;
+        try {
+            while (length < buffer.length) {
+                int count = reader.read(buffer, length, buffer.length - length);
+                if (count < 0)
+                    return new Fill(buffer, length, true, null);
+                length += count;
+            }
+            return new Fill(buffer, length, false, null);
+        } catch (IOException e) {
+            return new Fill(buffer, length, true, e);
+        }
+    }
+
+    /**
+     * The result of filling one buffer.
+     */
+    private static final class Fill {
+        private final char[]      buffer;
+        private final int         length;
+        private final boolean     last;
+        private final IOException error;
+
+        private Fill(char[] buffer, int length, boolean last, IOException error) {
+            this.buffer = buffer;
+            this.length = length;
+            this.last = last;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.jsapar.parse.text;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+
+/**
+ * Internal class. A chunk of the input that starts at the beginning of a line and ends at the end of a line, which
+ * makes it possible to parse it independently of other chunks. Created by a {@link ChunkSplitter}.
+ */
+public final class TextChunk {
+    private final byte[]              bytes;
+    private final int                 length;
+    private final ReadableByteChannel remainder;
+    private final long                firstLineNumber;
+    private final long                lineCount;
+
+    /**
+     * @param bytes           The bytes of the chunk.
+     * @param length          Number of bytes within the array that belongs to the chunk.
+     * @param remainder       If not null, the rest of this channel belongs to this chunk after the bytes.
+     * @param firstLineNumber The number of lines within the input before this chunk.
+     * @param lineCount       The number of complete lines within the bytes of this chunk.
+     */
+    TextChunk(byte[] bytes, int length, ReadableByteChannel remainder, long firstLineNumber, long lineCount) {
+        this.bytes = bytes;
+        this.length = length;
+        this.remainder = remainder;
+        this.firstLineNumber = firstLineNumber;
+        this.lineCount = lineCount;
+    }
+
+    /**
+     * @param charset The character set to use.
+     * @return A reader that reads the characters of this chunk.
+     */
+    public Reader reader(Charset charset) {
+        return new InputStreamReader(Channels.newInputStream(channel()), charset);
+    }
+
+    /**
+     * @return A channel that reads the bytes of this chunk.
+     */
+    public ReadableByteChannel channel() {
+        return new ChunkChannel();
+    }
+
+    /**
+     * @return The number of lines within the input before this chunk. The line number of the first line within this
+     * chunk is this number plus one.
+     */
+    public long getFirstLineNumber() {
+        return firstLineNumber;
+    }
+
+    /**
+     * @return The number of complete lines within this chunk, including empty lines. If the chunk contains the rest of
+     * the input, the last line may not be included in this count.
+     */
+    public long getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * @return The number of bytes within this chunk or -1 if unknown.
+     */
+    public long size() {
+        return remainder == null ? length : -1;
+    }
+
+    /**
+     * Reads the bytes of the chunk directly from the array, then from the remainder if there is one.
+     */
+    private final class ChunkChannel implements ReadableByteChannel {
+        private int     position = 0;
+        private boolean open     = true;
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            if (!open)
+                throw new ClosedChannelException();
+            if (position < length) {
+                int count = Math.min(dst.remaining(), length - position);
+                dst.put(bytes, position, count);
+                position += count;
+                return count;
+            }
+            return remainder == null ? -1 : remainder.read(dst);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+}
@@ -2,13 +2,17 @@ package org.jsapar.parse.text;
 
 import org.jsapar.error.JSaParException;
 import org.jsapar.model.Line;
+import org.jsapar.parse.csv.CsvChunkedParser;
 import org.jsapar.parse.csv.CsvParser;
+import org.jsapar.parse.fixed.FixedWidthChunkedParser;
 import org.jsapar.parse.fixed.FixedWidthParser;
 import org.jsapar.schema.*;
 import org.jsapar.text.TextParseConfig;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -57,4 +61,23 @@ public interface TextSchemaParser {
             return new FixedWidthParser(reader, (FixedWidthSchema) schema, parseConfig);
         throw new IllegalArgumentException("Unsupported schema type: " + schema.getClass() + " while parsing.");
     }
+
+    /**
+     * Internal method to create a schema parser that reads from a file channel. If the parse configuration has a
+     * parallelism of more than one and the schema supports it, the input is parsed in parallel chunks. If the schema
+     * supports it, the stream of the parser can be split by chunks of the input.
+     * @param schema The schema to create a parser for.
+     * @param channel The channel to read from. Reading starts at the current position of the channel.
+     * @param charset The character set of the input.
+     * @param parseConfig Current parse configuration.
+     * @return Create a schema based text parser.
+     * @since 2.5
+     */
+    static TextSchemaParser ofSchema(Schema<? extends SchemaLine<? extends SchemaCell>> schema, FileChannel channel, Charset charset, TextParseConfig parseConfig) {
+        if (schema instanceof CsvSchema)
+            return new CsvChunkedParser(channel, charset, (CsvSchema) schema, parseConfig);
+        if (schema instanceof FixedWidthSchema)
+            return new FixedWidthChunkedParser(channel, charset, (FixedWidthSchema) schema, parseConfig);
+        throw new IllegalArgumentException("Unsupported schema type: " + schema.getClass() + " while parsing.");
+    }
 }
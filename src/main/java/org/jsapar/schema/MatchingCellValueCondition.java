@@ -1,5 +1,11 @@
 package org.jsapar.schema;
 
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -9,7 +15,11 @@ import java.util.regex.Pattern;
  * @see Pattern
  */
 public class MatchingCellValueCondition implements Predicate<String> {
-    private final Pattern pattern;
+    private static final String META_CHARACTERS = "\\^$.|?*+()[]{}";
+
+    private final Pattern     pattern;
+    private final Set<String> literalValues;
+    private final char[][]    literalChars;
 
     /**
      * Creates a condition based on regular expression.
@@ -18,6 +28,46 @@ public class MatchingCellValueCondition implements Predicate<String> {
      */
     public MatchingCellValueCondition(String regex) {
         this.pattern = Pattern.compile(regex);
+        this.literalValues = literalValuesOf(regex);
+        this.literalChars = literalValues == null ? null
+                : literalValues.stream().map(String::toCharArray).toArray(char[][]::new);
+    }
+
+    /**
+     * @return The complete set of values that this condition matches if the regular expression only consists of
+     * literal alternatives, for instance "A" or "B|C", otherwise empty. This makes it possible to look up
+     * conditions by value instead of testing each of them.
+     * @since 2.5
+     */
+    public Optional<Set<String>> literalValues() {
+        return Optional.ofNullable(literalValues);
+    }
+
+    /**
+     * @param regex A regular expression.
+     * @return The values of the literal alternatives of the regular expression or null if the expression contains
+     * anything else than literal characters, escaped meta characters and top level alternatives.
+     */
+    private static Set<String> literalValuesOf(String regex) {
+        Set<String> values = new HashSet<>();
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '|') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c == '\\') {
+                if (++i == regex.length() || META_CHARACTERS.indexOf(regex.charAt(i)) < 0)
+                    return null;
+                value.append(regex.charAt(i));
+            } else if (META_CHARACTERS.indexOf(c) >= 0 || Character.isSurrogate(c)) {
+                return null;
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return Collections.unmodifiableSet(values);
     }
 
     /**
@@ -32,4 +82,25 @@ public class MatchingCellValueCondition implements Predicate<String> {
         Matcher m = pattern.matcher(value);
         return m.matches();
     }
+
+    /**
+     * Tests a value directly within a character buffer, without creating a string of it. If the regular expression
+     * only consists of literal alternatives, the characters are compared directly without using the regular
+     * expression.
+     *
+     * @param buffer The buffer that contains the characters of the value.
+     * @param begin  The index of the first character of the value.
+     * @param end    The index after the last character of the value.
+     * @return True if the value matches the regular expression, the same way as {@link #test(String)}.
+     * @since 2.5
+     */
+    public boolean test(char[] buffer, int begin, int end) {
+        if (literalChars == null)
+            return pattern.matcher(CharBuffer.wrap(buffer, begin, end - begin)).matches();
+        for (char[] literal : literalChars) {
+            if (Arrays.equals(literal, 0, literal.length, buffer, begin, end))
+                return true;
+        }
+        return false;
+    }
 }
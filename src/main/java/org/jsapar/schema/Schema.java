@@ -50,6 +50,7 @@ public abstract class Schema<L extends SchemaLine<? extends SchemaCell>> impleme
 
         protected Builder(Schema<L> schema) {
             this.schemaLines.addAll(schema.schemaLines.values());
+            this.lineSeparator = schema.lineSeparator;
         }
 
         /**
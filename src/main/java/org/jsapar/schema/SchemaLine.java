@@ -1,5 +1,6 @@
 package org.jsapar.schema;
 
+import org.jsapar.model.CellIndex;
 import org.jsapar.model.Line;
 
 import java.util.*;
@@ -25,6 +26,11 @@ public abstract class SchemaLine<C extends SchemaCell> implements Cloneable, Ite
      */
     private Map<String, C> schemaCells = new LinkedHashMap<>();
 
+    /**
+     * The cell index of the schema cells. Created when first needed.
+     */
+    private CellIndex cellIndex;
+
     /**
      * The number of times this type of line occurs in the corresponding input or output.
      *
@@ -403,6 +409,7 @@ public abstract class SchemaLine<C extends SchemaCell> implements Cloneable, Ite
      */
     public void addSchemaCell(C cell) {
         this.schemaCells.put(cell.getName(), cell);
+        this.cellIndex = null;
     }
 
     /**
@@ -416,6 +423,20 @@ public abstract class SchemaLine<C extends SchemaCell> implements Cloneable, Ite
         return schemaCells.values().stream();
     }
 
+    /**
+     * @return The cell index where the positions of the cells are the same as the order of the cells of this schema
+     * line. The same instance is returned as long as the cells of this schema line are not altered.
+     * @since 2.5
+     */
+    public CellIndex getCellIndex() {
+        CellIndex index = this.cellIndex;
+        if (index == null) {
+            index = new CellIndex(new ArrayList<>(schemaCells.keySet()));
+            this.cellIndex = index;
+        }
+        return index;
+    }
+
     public Iterator<C> iterator() {
         return schemaCells.values().iterator();
     }
@@ -429,5 +450,6 @@ public abstract class SchemaLine<C extends SchemaCell> implements Cloneable, Ite
      */
     public void clear(){
         schemaCells.clear();
+        cellIndex = null;
     }
 }
@@ -0,0 +1,25 @@
+package org.jsapar.text;
+
+/**
+ * The policies that can be used for the cell caches of the parsers, see
+ * {@link TextParseConfig#setCellCachePolicy(CachePolicy)}.
+ * @since 2.5
+ */
+public enum CachePolicy {
+    /**
+     * The cache has a fixed max size and the oldest item is discarded when the max size is exceeded.
+     */
+    LIMITED_SIZE,
+    /**
+     * The max size of the cache is adjusted according to the hit rate that is observed while the cache is used. The
+     * cache is shrunk or even disabled as long as it is seldom hit and grown again up to the max size when it is
+     * frequently hit.
+     */
+    ADAPTIVE,
+    /**
+     * The cache has a fixed max size and keeps track of how frequently each value is looked up. Values that are
+     * seldom used are discarded first, and values that occur only once do not replace frequently used values.
+     * Caches with a max size of 2 or less behave as {@link #LIMITED_SIZE}.
+     */
+    FREQUENCY
+}
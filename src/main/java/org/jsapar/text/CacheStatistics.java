@@ -0,0 +1,72 @@
+package org.jsapar.text;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts hits and misses of one or several caches. Instances of this class can be shared between caches that are used
+ * by different threads.
+ * @since 2.5
+ */
+public final class CacheStatistics {
+    private final LongAdder hits   = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates an instance without any recorded hits or misses.
+     */
+    public CacheStatistics() {
+    }
+
+    /**
+     * Records that a value was found in the cache.
+     */
+    public void recordHit() {
+        hits.increment();
+    }
+
+    /**
+     * Records that a value was not found in the cache, either because it was not cached or because the cache was
+     * disabled.
+     */
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    /**
+     * @return The number of times a value was found in the cache.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of times a value was not found in the cache.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The total number of lookups.
+     */
+    public long getRequestCount() {
+        return getHitCount() + getMissCount();
+    }
+
+    /**
+     * @return The ratio of lookups that were hits, between 0.0 and 1.0. Returns 0.0 if there has not been any lookup.
+     */
+    public double getHitRate() {
+        long hitCount = getHitCount();
+        long requestCount = hitCount + getMissCount();
+        return requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics{" +
+                "hits=" + getHitCount() +
+                ", misses=" + getMissCount() +
+                '}';
+    }
+}
@@ -3,6 +3,7 @@ package org.jsapar.text;
 import org.jsapar.model.CellType;
 import org.jsapar.text.format.*;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.text.ParseException;
 import java.time.ZoneId;
@@ -40,6 +41,22 @@ public interface Format<T> {
      */
     String format(Object value) throws IllegalArgumentException;
 
+    /**
+     * Formats supplied object and appends the result to supplied target. The result is always the same as
+     * {@link #format(Object)} but some implementations, for instance for integers, implied decimals, plain decimals and
+     * dates with a fixed layout, append the characters directly without creating any intermediate string. The default
+     * implementation appends the result of {@link #format(Object)}.
+     * @param value  The value to format. Usually it should be of the type T but this method is a bit more generous and
+     *               may accept other type of objects on occasion.
+     * @param target The target to append the formatted value to.
+     * @throws IOException              If appending to the target fails.
+     * @throws IllegalArgumentException If the supplied value is of an unsupported type.
+     * @since 2.5
+     */
+    default void format(Object value, Appendable target) throws IOException, IllegalArgumentException {
+        target.append(format(value));
+    }
+
     /**
      * @param format The java.text.Format to use.
      * @param <T> The return type.
@@ -178,6 +195,17 @@ public interface Format<T> {
      */
     static  Format<TemporalAccessor>  ofInstantInstance(DateTimeFormatter formatter, ZoneId zoneId){
         return new DateTimeFormat(formatter, CellType.INSTANT, zoneId);
+    }
+
+    /**
+     * @param locale  The locale to use
+     * @param pattern The date pattern to use according to {@link DateTimeFormatter}. Required.
+     * @param zoneId The time zone id that is used when parsing and composing from an Instant.
+     * @return An instance that formats and parses Instant objects.
+     * @since 2.5
+     */
+    static  Format<TemporalAccessor>  ofInstantInstance(Locale locale, String pattern, ZoneId zoneId){
+        return new DateTimeFormat(pattern, locale, CellType.INSTANT, zoneId);
     }    
     /**
      * @param formatter  The formatter to use while formatting and parsing.
@@ -202,7 +230,7 @@ public interface Format<T> {
      * @return An instance that formats and parses date time objects.
      */
     static  Format<TemporalAccessor>  ofDateTimeInstance(Locale locale, String pattern, CellType cellType){
-        return ofDateTimeInstance(DateTimeFormatter.ofPattern(pattern, locale), cellType);
+        return new DateTimeFormat(pattern, locale, cellType, ZoneId.systemDefault());
     }    /**
      * @param locale  The locale to use
      * @param pattern The date pattern to use according to {@link DateTimeFormatter}. Required.
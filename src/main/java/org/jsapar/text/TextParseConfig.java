@@ -1,11 +1,17 @@
 package org.jsapar.text;
 
 import org.jsapar.error.ValidationAction;
+import org.jsapar.parse.cell.CellInternPool;
+import org.jsapar.schema.SchemaCell;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 /**
  * Configuration that controls behavior while parsing text.
  */
-public class TextParseConfig {
+public class TextParseConfig implements Cloneable {
 
     /**
      * The action to take if the cell value conditions of the line does not match any of the defined line types
@@ -52,6 +58,23 @@ public class TextParseConfig {
      */
     private int maxCellCacheSize = 1;
 
+    /**
+     * The policy of the cell caches, see {@link #maxCellCacheSize}. Default is {@link CachePolicy#LIMITED_SIZE}.
+     */
+    private CachePolicy cellCachePolicy = CachePolicy.LIMITED_SIZE;
+
+    /**
+     * The cell cache statistics for each schema cell or null if no statistics are collected. Shared with clones of this
+     * configuration.
+     */
+    private Map<SchemaCell, CacheStatistics> cellCacheStatistics;
+
+    /**
+     * A pool of parsed cells shared between parsers or null if no pool is used. Shared with clones of this
+     * configuration.
+     */
+    private CellInternPool cellInternPool;
+
     /**
      * The maximum number of characters that can occur on one line. Default is 8k. Since this size is used to allocate
      * buffer needed while parsing, setting a smaller number will have positive impact on memory usage and speed while
@@ -60,6 +83,47 @@ public class TextParseConfig {
      */
     private int maxLineLength = 1024 * 8;
 
+    /**
+     * The maximum number of chunks of the input that are parsed concurrently when parsing a seekable input such as a
+     * file. Default is 1, which means that the input is parsed sequentially by the calling thread. Setting a higher
+     * number splits the input into chunks at line boundaries and parses the chunks on the common
+     * {@link java.util.concurrent.ForkJoinPool}. Both CSV and fixed width input can be split into chunks, given the
+     * conditions described in {@link #setParallelism(int)}.
+     */
+    private int parallelism = 1;
+
+    /**
+     * The approximate number of bytes of each chunk when parsing in parallel. Default is 8 MB. Each chunk is held in
+     * memory together with the lines parsed from it until the lines have been delivered, so memory usage while parsing
+     * in parallel is roughly proportional to the parallelism times the chunk size.
+     */
+    private int parallelChunkSize = 1024 * 1024 * 8;
+
+    /**
+     * If true, lines parsed in parallel are delivered in the same order as they occur in the input. If false, the lines
+     * of each chunk are delivered as soon as the chunk is parsed, regardless of order between chunks. The lines within
+     * each chunk are always delivered in order. Default is true.
+     */
+    private boolean parallelOrdered = true;
+
+    /**
+     * If true, the parser reuses one line instance for each line type instead of creating a new line for each parsed
+     * line. Default is false.
+     */
+    private boolean reuseLines = false;
+
+    /**
+     * The number of buffers that are filled from the reader by a background thread ahead of the parsing. Default is 0,
+     * which means that the reader is read by the parsing thread when needed.
+     */
+    private int readAheadBufferCount = 0;
+
+    /**
+     * The number of characters of each buffer that is filled by a background thread ahead of the parsing. Default is
+     * 64k.
+     */
+    private int readAheadBufferSize = 1024 * 64;
+
     /**
      * @return The action to take if the cell value conditions of the line does not match any of the defined line types
      * within the schema. Default is to throw exception.
@@ -153,6 +217,102 @@ public class TextParseConfig {
         this.maxCellCacheSize = Math.max(maxCellCacheSize, 100);
     }
 
+    /**
+     * @return The policy of the cell caches.
+     * @see #setCellCachePolicy(CachePolicy)
+     * @since 2.5
+     */
+    public CachePolicy getCellCachePolicy() {
+        return cellCachePolicy;
+    }
+
+    /**
+     * Default is {@link CachePolicy#LIMITED_SIZE}, where each column caches the last parsed values up to the max cell
+     * cache size, see {@link #setMaxCellCacheSize(int)}.
+     * <p>
+     * With {@link CachePolicy#ADAPTIVE}, each column tunes the size of its own cache from the hit rate observed
+     * while parsing, up to the max cell cache size. The cache of a column where each value is unique is soon
+     * disabled while a column with a few repeating codes keeps its cache. This makes it possible to use a larger max
+     * cell cache size for inputs with a mix of such columns.
+     * <p>
+     * With {@link CachePolicy#FREQUENCY}, each column keeps the values that are most frequently used instead of the
+     * last parsed values. A column of a few currency or country codes then keeps its cached values even when outliers
+     * occur in between.
+     * @param cellCachePolicy The policy of the cell caches.
+     * @since 2.5
+     */
+    public void setCellCachePolicy(CachePolicy cellCachePolicy) {
+        this.cellCachePolicy = cellCachePolicy;
+    }
+
+    /**
+     * @return True if cell cache statistics are collected while parsing.
+     * @see #setCollectCellCacheStatistics(boolean)
+     * @since 2.5
+     */
+    public boolean isCollectCellCacheStatistics() {
+        return cellCacheStatistics != null;
+    }
+
+    /**
+     * Default is false. If true, the hits and misses of the cell cache of each schema cell are counted while parsing.
+     * The statistics can be fetched with {@link #getCellCacheStatistics()} after parsing and are accumulated for all
+     * inputs that are parsed with this configuration, or any clone of it, until this method is called again.
+     * @param collect If true, cell cache statistics are collected while parsing.
+     * @since 2.5
+     */
+    public void setCollectCellCacheStatistics(boolean collect) {
+        this.cellCacheStatistics = collect ? Collections.synchronizedMap(new IdentityHashMap<>()) : null;
+    }
+
+    /**
+     * @return A copy of the cell cache statistics collected so far for each schema cell, keyed by the identity of the
+     * schema cell instances. Empty if no statistics are collected.
+     * @see #setCollectCellCacheStatistics(boolean)
+     * @since 2.5
+     */
+    public Map<SchemaCell, CacheStatistics> getCellCacheStatistics() {
+        if (cellCacheStatistics == null)
+            return Collections.emptyMap();
+        synchronized (cellCacheStatistics) {
+            return new IdentityHashMap<>(cellCacheStatistics);
+        }
+    }
+
+    /**
+     * Internal method used by the parsers.
+     * @param schemaCell The schema cell to get statistics for.
+     * @return The cell cache statistics to record hits and misses of supplied schema cell to, or null if no
+     * statistics are collected.
+     * @since 2.5
+     */
+    public CacheStatistics cellCacheStatisticsOf(SchemaCell schemaCell) {
+        if (cellCacheStatistics == null)
+            return null;
+        return cellCacheStatistics.computeIfAbsent(schemaCell, c -> new CacheStatistics());
+    }
+
+    /**
+     * @return The pool of parsed cells that is shared between parsers, or null if there is none.
+     * @see #setCellInternPool(CellInternPool)
+     * @since 2.5
+     */
+    public CellInternPool getCellInternPool() {
+        return cellInternPool;
+    }
+
+    /**
+     * Default is null. Attaches a pool of parsed cells that is shared between all parsers that use this configuration,
+     * or any clone of it, also when they run on different threads. Values that are not found in the cell cache of a
+     * column are looked up in the pool before they are parsed. This is useful when parsing many small inputs with the
+     * same schema instance, since each parser otherwise starts with empty cell caches.
+     * @param cellInternPool The pool of parsed cells to use or null to not use any pool.
+     * @since 2.5
+     */
+    public void setCellInternPool(CellInternPool cellInternPool) {
+        this.cellInternPool = cellInternPool;
+    }
+
     /**
      * @return The maximum number of characters that can occur on one line.
      * @see #setMaxLineLength(int)
@@ -171,4 +331,155 @@ public class TextParseConfig {
     public void setMaxLineLength(int maxLineLength) {
         this.maxLineLength = maxLineLength;
     }
+
+    /**
+     * @return The maximum number of chunks of the input that are parsed concurrently.
+     * @see #setParallelism(int)
+     * @since 2.5
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Default is 1, which means that the input is parsed sequentially by the calling thread. Setting a higher
+     * number splits the input into chunks at line boundaries and parses the chunks on the common
+     * {@link java.util.concurrent.ForkJoinPool}. Only seekable inputs, such as files, can be parsed in parallel, see
+     * {@link org.jsapar.TextParser#parseForEach(java.nio.channels.FileChannel, java.nio.charset.Charset, java.util.function.Consumer)}.
+     * CSV input can be split into chunks only if all lines of the schema use the same cell separator and quote character.
+     * Fixed width input can be split into chunks only if the line separator of the schema is encoded as one byte per
+     * character or, if there is no line separator, if all lines of the schema have the same length and the character
+     * set uses one byte per character. Other input is parsed sequentially. Lines that are limited in number of
+     * occurrences and header lines are handled while parsing the first chunks sequentially.
+     * <p>
+     * The line consumer is always called by the calling thread, so it does not need to be thread safe.
+     * @param parallelism The maximum number of chunks of the input that are parsed concurrently.
+     * @since 2.5
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @return The approximate number of bytes of each chunk when parsing in parallel.
+     * @see #setParallelChunkSize(int)
+     * @since 2.5
+     */
+    public int getParallelChunkSize() {
+        return parallelChunkSize;
+    }
+
+    /**
+     * Default is 8 MB. Each chunk is held in memory together with the lines parsed from it until the lines have been
+     * delivered, so memory usage while parsing in parallel is roughly proportional to the parallelism times the chunk
+     * size. A chunk is always extended to the end of the line that it would otherwise split.
+     * @param parallelChunkSize The approximate number of bytes of each chunk when parsing in parallel.
+     * @since 2.5
+     */
+    public void setParallelChunkSize(int parallelChunkSize) {
+        this.parallelChunkSize = parallelChunkSize;
+    }
+
+    /**
+     * @return True if lines parsed in parallel are delivered in the same order as they occur in the input.
+     * @see #setParallelOrdered(boolean)
+     * @since 2.5
+     */
+    public boolean isParallelOrdered() {
+        return parallelOrdered;
+    }
+
+    /**
+     * Default is true. If false, the lines of each chunk are delivered as soon as the chunk is parsed, regardless of
+     * order between chunks, which keeps all threads busy even if one chunk takes longer to parse. The lines within each
+     * chunk are always delivered in order and the line number of each line is always correct.
+     * @param parallelOrdered If true, lines parsed in parallel are delivered in the same order as they occur in the input.
+     * @since 2.5
+     */
+    public void setParallelOrdered(boolean parallelOrdered) {
+        this.parallelOrdered = parallelOrdered;
+    }
+
+    /**
+     * @return True if the parser reuses one line instance for each line type.
+     * @see #setReuseLines(boolean)
+     * @since 2.5
+     */
+    public boolean isReuseLines() {
+        return reuseLines;
+    }
+
+    /**
+     * Default is false. If true, the parser reuses one line instance for each line type instead of creating a new line
+     * for each parsed line, which considerably reduces the amount of garbage while parsing large inputs. The cells of
+     * the reused lines are stored by their position within the schema line, see {@link org.jsapar.model.IndexedLine}.
+     * <p>
+     * A line that is delivered to the line consumer is only valid during that call since the same instance is
+     * overwritten by the next line of the same type. Use {@link org.jsapar.model.Line#copy()} in order to keep a line
+     * after the call. Lines are never reused when the input is parsed in parallel chunks or by the converters in
+     * {@link org.jsapar.concurrent}, which pass the lines to other threads. Nor should this be enabled when collecting
+     * lines from a stream.
+     * @param reuseLines If true, the parser reuses one line instance for each line type.
+     * @since 2.5
+     */
+    public void setReuseLines(boolean reuseLines) {
+        this.reuseLines = reuseLines;
+    }
+
+    /**
+     * @return The number of buffers that are filled from the reader by a background thread ahead of the parsing.
+     * @see #setReadAheadBufferCount(int)
+     * @since 2.5
+     */
+    public int getReadAheadBufferCount() {
+        return readAheadBufferCount;
+    }
+
+    /**
+     * Default is 0, which means that the reader is read by the parsing thread when needed. Setting a number of one or
+     * more makes a background thread fill that many buffers from the reader while the parser consumes the characters
+     * that have already been read, which hides the latency of slow readers, for instance files on a network file
+     * system. Two buffers is usually enough to keep the reading and the parsing in parallel.
+     * <p>
+     * Reading ahead is only done if at least one of the lines of the schema can occur any number of times, since the
+     * parser otherwise leaves the rest of the input unread after the last line.
+     * @param readAheadBufferCount The number of buffers that are filled from the reader ahead of the parsing.
+     * @since 2.5
+     */
+    public void setReadAheadBufferCount(int readAheadBufferCount) {
+        this.readAheadBufferCount = readAheadBufferCount;
+    }
+
+    /**
+     * @return The number of characters of each buffer that is filled by a background thread ahead of the parsing.
+     * @see #setReadAheadBufferSize(int)
+     * @since 2.5
+     */
+    public int getReadAheadBufferSize() {
+        return readAheadBufferSize;
+    }
+
+    /**
+     * Default is 64k. Only used if the read ahead buffer count is more than zero, see
+     * {@link #setReadAheadBufferCount(int)}.
+     * @param readAheadBufferSize The number of characters of each buffer that is filled ahead of the parsing.
+     * @since 2.5
+     */
+    public void setReadAheadBufferSize(int readAheadBufferSize) {
+        this.readAheadBufferSize = readAheadBufferSize;
+    }
+
+    /**
+     * @return A copy of this configuration.
+     * @since 2.5
+     */
+    @Override
+    public TextParseConfig clone() {
+        try {
+            return (TextParseConfig) super.clone();
+        } catch (CloneNotSupportedException e) {
+            // This should never happen.
+            throw new AssertionError(e);
+        }
+    }
 }
@@ -4,9 +4,6 @@ import org.jsapar.model.CellType;
 import org.jsapar.text.Format;
 
 import java.text.ParseException;
-import java.util.Arrays;
-import java.util.Optional;
-import java.util.stream.Stream;
 
 /**
  * Format class that can be used to parse or format boolean values based on a true and a false value. For instance, you
@@ -23,15 +20,21 @@ import java.util.stream.Stream;
  * </pre>
  * You can provide an array of valid true and false strings. In that case the first true and the first false strings
  * are used when formatting.
- *
+ * <p>
+ * While parsing, the valid strings are matched by character tries that are built when the format is created.
  */
 public class BooleanFormat implements Format<Boolean> {
 
     private final String trueValue;
     private final String falseValue;
-    private final String[] optionalTrue;
-    private final String[] optionalFalse;
-    private boolean ignoreCase;
+    /**
+     * Matches the exact true and false values and, if case is not ignored, the optional values.
+     */
+    private final TextMatcher<Boolean> matcher;
+    /**
+     * Matches the values while ignoring case or null if case is not ignored.
+     */
+    private final TextMatcher<Boolean> ignoreCaseMatcher;
 
     /**
      * Creates a default instance where the text "true" is the true value and "false" is the false value.
@@ -42,8 +45,7 @@ public class BooleanFormat implements Format<Boolean> {
      * @param ignoreCase If true, ignores upper/lower case.
      */
     public BooleanFormat(boolean ignoreCase) {
-        this(new String[]{"true", "on", "1", "yes", "y"}, new String[]{"false", "off", "0", "no", "n"}, true);
-        this.ignoreCase = ignoreCase;
+        this(new String[]{"true", "on", "1", "yes", "y"}, new String[]{"false", "off", "0", "no", "n"}, ignoreCase);
     }
 
     /**
@@ -53,13 +55,7 @@ public class BooleanFormat implements Format<Boolean> {
      * @param ignoreCase If true, ignores upper/lower case.
      */
     public BooleanFormat(String trueValue, String falseValue, boolean ignoreCase) {
-        this.trueValue = trueValue;
-        this.falseValue = falseValue;
-        this.ignoreCase = ignoreCase;
-        this.optionalTrue = new String[0];
-        this.optionalFalse = new String[0];
-        if (trueValue.equals(falseValue))
-            throw new IllegalArgumentException("true and false values cannot be the same");
+        this(new String[]{trueValue}, new String[]{falseValue}, ignoreCase);
     }
 
     /**
@@ -83,11 +79,23 @@ public class BooleanFormat implements Format<Boolean> {
         assert falseValues.length > 0: "falseValues needs to contain at least one value";
         this.trueValue = trueValues[0];
         this.falseValue = falseValues[0];
-        this.ignoreCase = ignoreCase;
-        this.optionalTrue = Arrays.copyOfRange(trueValues, 1, trueValues.length);
-        this.optionalFalse = Arrays.copyOfRange(falseValues, 1, falseValues.length);
         if (trueValue.equals(falseValue))
             throw new IllegalArgumentException("true and false values cannot be the same");
+        this.matcher = new TextMatcher<>(false);
+        matcher.put(trueValue, Boolean.TRUE);
+        matcher.putIfAbsent(falseValue, Boolean.FALSE);
+        // Other values are matched if the text starts with them, in the order described above.
+        TextMatcher<Boolean> prefixMatcher = matcher;
+        if (ignoreCase) {
+            prefixMatcher = new TextMatcher<>(true);
+            prefixMatcher.putPrefix(trueValue, Boolean.TRUE);
+            prefixMatcher.putPrefix(falseValue, Boolean.FALSE);
+        }
+        for (int i = 1; i < trueValues.length; i++)
+            prefixMatcher.putPrefix(trueValues[i], Boolean.TRUE);
+        for (int i = 1; i < falseValues.length; i++)
+            prefixMatcher.putPrefix(falseValues[i], Boolean.FALSE);
+        this.ignoreCaseMatcher = ignoreCase ? prefixMatcher : null;
     }
 
     /* (non-Javadoc)
@@ -126,33 +134,32 @@ public class BooleanFormat implements Format<Boolean> {
      */
     @Override
     public Boolean parse(String toParse) throws ParseException {
-        if(toParse.equals(trueValue))
-            return Boolean.TRUE;
-        if(toParse.equals(falseValue))
-            return Boolean.FALSE;
-
-        if(ignoreCase) {
-            if (toParse.regionMatches(true, 0, trueValue, 0, trueValue.length())) {
-                return Boolean.TRUE;
-            }
-            if (toParse.regionMatches(true, 0, falseValue, 0, falseValue.length())) {
-                return Boolean.FALSE;
-            }
-        }
-        Boolean theValue = matchValue(Arrays.stream(optionalTrue), Boolean.TRUE, toParse, ignoreCase)
-                .orElseGet(() -> matchValue(Arrays.stream(optionalFalse), Boolean.FALSE, toParse, ignoreCase)
-                        .orElse(null));
-        if(theValue == null)
+        Boolean value = matcher.match(toParse);
+        if (value == null && ignoreCaseMatcher != null)
+            value = ignoreCaseMatcher.match(toParse);
+        if(value == null)
             throw new ParseException("The value " + toParse + " could not be parsed into a boolean value.", 0);
-        return theValue;
+        return value;
     }
 
 
-    private Optional<Boolean> matchValue(Stream<String> values, Boolean result, String toParse, boolean ignoreCase) {
-        return values
-                .filter(v->toParse.regionMatches(ignoreCase, 0, v, 0, v.length()))
-                .map(v->result)
-                .findFirst();
+    /**
+     * Parses a boolean value directly from a range of characters. Works the same way as {@link #parse(String)}.
+     *
+     * @param buffer The buffer that contains the characters to parse.
+     * @param begin  The index of the first character to parse.
+     * @param end    The index after the last character to parse.
+     * @return The parsed value.
+     * @throws ParseException If the characters do not represent a boolean value.
+     * @since 2.5
+     */
+    public Boolean parse(char[] buffer, int begin, int end) throws ParseException {
+        Boolean value = matcher.match(buffer, begin, end);
+        if (value == null && ignoreCaseMatcher != null)
+            value = ignoreCaseMatcher.match(buffer, begin, end);
+        if (value == null)
+            throw new ParseException("The value " + new String(buffer, begin, end - begin) + " could not be parsed into a boolean value.", 0);
+        return value;
     }
 
 
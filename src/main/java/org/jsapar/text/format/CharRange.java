@@ -0,0 +1,36 @@
+package org.jsapar.text.format;
+
+/**
+ * A view of a range of characters within an array.
+ */
+final class CharRange implements CharSequence {
+    private final char[] buffer;
+    private final int    begin;
+    private final int    end;
+
+    CharRange(char[] buffer, int begin, int end) {
+        this.buffer = buffer;
+        this.begin = begin;
+        this.end = end;
+    }
+
+    @Override
+    public int length() {
+        return end - begin;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return buffer[begin + index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new CharRange(buffer, begin + start, begin + end);
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, begin, end - begin);
+    }
+}
@@ -0,0 +1,532 @@
+package org.jsapar.text.format;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+
+/**
+ * A date and time pattern with a fixed layout that is parsed by extracting digits at fixed positions and formatted by
+ * writing digits at fixed positions, without using a {@link DateTimeFormatter}. Only patterns where every field has a
+ * fixed number of digits can be compiled, for instance yyyy-MM-dd, yyyyMMdd, HH:mm:ss and the ISO formats for dates,
+ * times and instants.
+ * <p>
+ * Both parsing and formatting are restricted to values that are unambiguous, such as years between 1 and 9999 and
+ * valid days of month. Methods return null or false for all other values, in which case the caller is expected to use
+ * the {@link DateTimeFormatter} instead. That way the result is always the same as if the formatter had been used.
+ * <p>
+ * Instances of this class are immutable and can be shared between threads.
+ */
+final class CompiledDateTimePattern {
+    /**
+     * Marks a digit position within the template of a layout.
+     */
+    private static final char DIGIT = '\uFFFF';
+    private static final int  NONE  = -1;
+
+    private static final int SECONDS_PER_DAY = 86400;
+    private static final long DAYS_0000_TO_1970 = 719528L;
+    private static final int[] POWERS_OF_TEN = {1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000,
+            1000000000};
+
+    private enum IsoStyle {DATE, TIME, DATE_TIME, INSTANT}
+
+    /**
+     * The layouts to parse, indexed by the length of the text.
+     */
+    private final Layout[] layoutsByLength;
+    /**
+     * The layout to format with, or null if an ISO style is used.
+     */
+    private final Layout   formatLayout;
+    private final IsoStyle isoStyle;
+
+    private CompiledDateTimePattern(Layout[] layouts, Layout formatLayout, IsoStyle isoStyle) {
+        int maxLength = 0;
+        for (Layout layout : layouts)
+            maxLength = Math.max(maxLength, layout.template.length);
+        this.layoutsByLength = new Layout[maxLength + 1];
+        for (Layout layout : layouts)
+            layoutsByLength[layout.template.length] = layout;
+        this.formatLayout = formatLayout;
+        this.isoStyle = isoStyle;
+    }
+
+    /**
+     * Compiles a pattern as described by {@link DateTimeFormatter#ofPattern(String)}.
+     *
+     * @param pattern The pattern to compile.
+     * @return A compiled pattern or null if the pattern does not have a fixed layout or contains fields that are not
+     * supported.
+     */
+    static CompiledDateTimePattern compile(String pattern) {
+        Layout layout = Layout.compile(pattern);
+        return layout == null ? null : new CompiledDateTimePattern(new Layout[]{layout}, layout, null);
+    }
+
+    /**
+     * Compiles one of the predefined ISO formatters of {@link DateTimeFormatter}.
+     *
+     * @param formatter The formatter.
+     * @return A compiled pattern or null if the formatter is not one of the supported ISO formatters.
+     */
+    static CompiledDateTimePattern ofIsoFormatter(DateTimeFormatter formatter) {
+        if (formatter == DateTimeFormatter.ISO_DATE || formatter == DateTimeFormatter.ISO_LOCAL_DATE)
+            return new CompiledDateTimePattern(new Layout[]{Layout.compile("uuuu-MM-dd")}, null, IsoStyle.DATE);
+        if (formatter == DateTimeFormatter.ISO_TIME || formatter == DateTimeFormatter.ISO_LOCAL_TIME)
+            return new CompiledDateTimePattern(isoTimeLayouts("", ""), null, IsoStyle.TIME);
+        if (formatter == DateTimeFormatter.ISO_DATE_TIME || formatter == DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+            return new CompiledDateTimePattern(isoTimeLayouts("uuuu-MM-dd'T'", ""), null, IsoStyle.DATE_TIME);
+        if (formatter == DateTimeFormatter.ISO_INSTANT) {
+            Layout[] layouts = isoTimeLayouts("uuuu-MM-dd'T'", "'Z'");
+            Layout[] withSeconds = new Layout[layouts.length - 1];
+            for (int i = 1; i < layouts.length; i++) {
+                withSeconds[i - 1] = layouts[i];
+                layouts[i].utc = true;
+            }
+            return new CompiledDateTimePattern(withSeconds, null, IsoStyle.INSTANT);
+        }
+        return null;
+    }
+
+    private static Layout[] isoTimeLayouts(String prefix, String suffix) {
+        Layout[] layouts = new Layout[11];
+        layouts[0] = Layout.compile(prefix + "HH:mm" + suffix);
+        layouts[1] = Layout.compile(prefix + "HH:mm:ss" + suffix);
+        StringBuilder fraction = new StringBuilder(".");
+        for (int digits = 1; digits <= 9; digits++) {
+            fraction.append('S');
+            layouts[digits + 1] = Layout.compile(prefix + "HH:mm:ss" + fraction + suffix);
+        }
+        return layouts;
+    }
+
+    /**
+     * Parses a text that matches one of the layouts of this pattern.
+     *
+     * @param text The text to parse.
+     * @return A {@link LocalDate}, {@link LocalTime}, {@link LocalDateTime} or {@link Instant} depending on the fields
+     * of the pattern, or null if the text does not match the pattern or contains values that needs to be resolved by
+     * the {@link DateTimeFormatter}.
+     */
+    TemporalAccessor parse(CharSequence text) {
+        final int length = text.length();
+        if (length >= layoutsByLength.length)
+            return null;
+        Layout layout = layoutsByLength[length];
+        return layout == null ? null : layout.parse(text);
+    }
+
+    /**
+     * Formats a value into supplied string builder.
+     *
+     * @param value  The value to format.
+     * @param zoneId The time zone to use when formatting an {@link Instant} with a pattern that is not an ISO instant.
+     * @param target The string builder to append to.
+     * @return True if the value was formatted, false if nothing was appended because the value needs to be formatted by
+     * the {@link DateTimeFormatter}.
+     */
+    boolean format(Object value, ZoneId zoneId, StringBuilder target) {
+        // Only instants can be formatted by DateTimeFormatter.ISO_INSTANT, other values are left to fail there.
+        if (isoStyle == IsoStyle.INSTANT && !(value instanceof Instant))
+            return false;
+        if (value instanceof LocalDate) {
+            LocalDate date = (LocalDate) value;
+            return format(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), NONE, 0, 0, 0, target);
+        }
+        if (value instanceof LocalDateTime) {
+            LocalDateTime dateTime = (LocalDateTime) value;
+            return format(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(), dateTime.getHour(),
+                    dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano(), target);
+        }
+        if (value instanceof LocalTime) {
+            LocalTime time = (LocalTime) value;
+            return format(NONE, NONE, NONE, time.getHour(), time.getMinute(), time.getSecond(), time.getNano(), target);
+        }
+        if (value instanceof Instant) {
+            // The ISO formatters for dates and times also print the offset and zone of a zoned value.
+            if (isoStyle != null && isoStyle != IsoStyle.INSTANT)
+                return false;
+            Instant instant = (Instant) value;
+            long seconds = instant.getEpochSecond();
+            if (isoStyle == null)
+                seconds += zoneId.getRules().getOffset(instant).getTotalSeconds();
+            final long epochDay = Math.floorDiv(seconds, SECONDS_PER_DAY);
+            final int secondOfDay = Math.floorMod(seconds, SECONDS_PER_DAY);
+            final long date = civilFromEpochDay(epochDay);
+            if (date < 0)
+                return false;
+            return format((int) (date / 10000), (int) (date / 100 % 100), (int) (date % 100), secondOfDay / 3600,
+                    secondOfDay / 60 % 60, secondOfDay % 60, instant.getNano(), target);
+        }
+        return false;
+    }
+
+    private boolean format(int year, int month, int day, int hour, int minute, int second, int nano,
+                           StringBuilder target) {
+        if (year != NONE && (year < 1 || year > 9999))
+            return false;
+        if (isoStyle == null)
+            return formatLayout.format(year, month, day, hour, minute, second, nano, target);
+        switch (isoStyle) {
+        case DATE:
+            if (year == NONE)
+                return false;
+            appendDate(year, month, day, target);
+            return true;
+        case TIME:
+            if (hour == NONE)
+                return false;
+            appendTime(hour, minute, second, target);
+            appendIsoFraction(nano, target);
+            return true;
+        case DATE_TIME:
+            if (year == NONE || hour == NONE)
+                return false;
+            appendDate(year, month, day, target);
+            target.append('T');
+            appendTime(hour, minute, second, target);
+            appendIsoFraction(nano, target);
+            return true;
+        case INSTANT:
+            appendDate(year, month, day, target);
+            target.append('T');
+            appendTime(hour, minute, second, target);
+            appendInstantFraction(nano, target);
+            target.append('Z');
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private static void appendDate(int year, int month, int day, StringBuilder target) {
+        appendDigits(year, 4, target);
+        target.append('-');
+        appendDigits(month, 2, target);
+        target.append('-');
+        appendDigits(day, 2, target);
+    }
+
+    private static void appendTime(int hour, int minute, int second, StringBuilder target) {
+        appendDigits(hour, 2, target);
+        target.append(':');
+        appendDigits(minute, 2, target);
+        target.append(':');
+        appendDigits(second, 2, target);
+    }
+
+    /**
+     * Appends the fraction of second with trailing zeros removed, the same way as {@link DateTimeFormatter#ISO_TIME}.
+     */
+    private static void appendIsoFraction(int nano, StringBuilder target) {
+        if (nano == 0)
+            return;
+        int digits = 9;
+        while (nano % 10 == 0) {
+            nano /= 10;
+            digits--;
+        }
+        target.append('.');
+        appendDigits(nano, digits, target);
+    }
+
+    /**
+     * Appends the fraction of second in groups of three digits, the same way as {@link DateTimeFormatter#ISO_INSTANT}.
+     */
+    private static void appendInstantFraction(int nano, StringBuilder target) {
+        if (nano == 0)
+            return;
+        target.append('.');
+        if (nano % 1000000 == 0)
+            appendDigits(nano / 1000000, 3, target);
+        else if (nano % 1000 == 0)
+            appendDigits(nano / 1000, 6, target);
+        else
+            appendDigits(nano, 9, target);
+    }
+
+    private static void appendDigits(int value, int digits, StringBuilder target) {
+        for (int divisor = POWERS_OF_TEN[digits - 1]; divisor > 0; divisor /= 10)
+            target.append((char) ('0' + value / divisor % 10));
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+        case 2:
+            return isLeapYear(year) ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
+    /**
+     * Same algorithm as {@link LocalDate#toEpochDay()} for positive years.
+     */
+    private static long epochDay(int year, int month, int day) {
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year))
+                total--;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Same algorithm as {@link LocalDate#ofEpochDay(long)} but without creating any object.
+     *
+     * @param epochDay The epoch day.
+     * @return The date packed as year * 10000 + month * 100 + day or -1 if the year is outside of the range 1..9999.
+     */
+    private static long civilFromEpochDay(long epochDay) {
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+        if (zeroDay < 0)
+            return -1;
+        long yearEst = (400 * zeroDay + 591) / 146097;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        final int marchDoy0 = (int) doyEst;
+        final int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        final int month = (marchMonth0 + 2) % 12 + 1;
+        final int day = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        yearEst += marchMonth0 / 10;
+        if (yearEst < 1 || yearEst > 9999)
+            return -1;
+        return yearEst * 10000 + month * 100 + day;
+    }
+
+    /**
+     * One fixed layout where each field is found at a fixed position.
+     */
+    private static final class Layout {
+        private final char[] template;
+        private int     yearAt      = NONE;
+        private int     yearDigits;
+        private int     monthAt     = NONE;
+        private int     dayAt       = NONE;
+        private int     hourAt      = NONE;
+        private int     minuteAt    = NONE;
+        private int     secondAt    = NONE;
+        private int     fractionAt  = NONE;
+        private int     fractionDigits;
+        /**
+         * True if the layout is parsed into an {@link Instant} in UTC.
+         */
+        private boolean utc         = false;
+
+        private Layout(char[] template) {
+            this.template = template;
+        }
+
+        /**
+         * @param pattern A pattern as described by {@link DateTimeFormatter#ofPattern(String)}.
+         * @return The layout of the pattern or null if the pattern is not supported.
+         */
+        static Layout compile(String pattern) {
+            StringBuilder template = new StringBuilder(pattern.length());
+            int[] positions = new int[128];
+            int[] counts = new int[128];
+            Arrays.fill(positions, NONE);
+            for (int i = 0; i < pattern.length(); ) {
+                char c = pattern.charAt(i);
+                if (c == '\'') {
+                    int end = i + 1;
+                    while (true) {
+                        if (end >= pattern.length())
+                            return null;
+                        if (pattern.charAt(end) == '\'') {
+                            if (end + 1 < pattern.length() && pattern.charAt(end + 1) == '\'') {
+                                template.append('\'');
+                                end += 2;
+                                continue;
+                            }
+                            break;
+                        }
+                        if (!appendLiteral(pattern.charAt(end), template))
+                            return null;
+                        end++;
+                    }
+                    if (end == i + 1)
+                        template.append('\'');
+                    i = end + 1;
+                } else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                    int end = i + 1;
+                    while (end < pattern.length() && pattern.charAt(end) == c)
+                        end++;
+                    if (positions[c] != NONE)
+                        return null;
+                    positions[c] = template.length();
+                    counts[c] = end - i;
+                    for (int j = i; j < end; j++)
+                        template.append(DIGIT);
+                    i = end;
+                } else if (c == '[' || c == ']' || c == '{' || c == '}' || c == '#') {
+                    return null;
+                } else {
+                    if (!appendLiteral(c, template))
+                        return null;
+                    i++;
+                }
+            }
+            Layout layout = new Layout(template.toString().toCharArray());
+            for (char letter = 'A'; letter <= 'z'; letter++) {
+                if (positions[letter] != NONE && !layout.setField(letter, positions[letter], counts[letter]))
+                    return null;
+            }
+            return layout.isValid() ? layout : null;
+        }
+
+        /**
+         * Digits are not allowed as literals since a preceding year field may consume them.
+         */
+        private static boolean appendLiteral(char c, StringBuilder template) {
+            if (c >= '0' && c <= '9' || c == DIGIT)
+                return false;
+            template.append(c);
+            return true;
+        }
+
+        private boolean setField(char letter, int position, int count) {
+            switch (letter) {
+            case 'y':
+            case 'u':
+                if (yearAt != NONE || (count != 2 && count != 4))
+                    return false;
+                yearAt = position;
+                yearDigits = count;
+                return true;
+            case 'M':
+                monthAt = position;
+                return count == 2;
+            case 'd':
+                dayAt = position;
+                return count == 2;
+            case 'H':
+                hourAt = position;
+                return count == 2;
+            case 'm':
+                minuteAt = position;
+                return count == 2;
+            case 's':
+                secondAt = position;
+                return count == 2;
+            case 'S':
+                fractionAt = position;
+                fractionDigits = count;
+                return count <= 9;
+            default:
+                return false;
+            }
+        }
+
+        private boolean isValid() {
+            final boolean anyDate = yearAt != NONE || monthAt != NONE || dayAt != NONE;
+            final boolean date = yearAt != NONE && monthAt != NONE && dayAt != NONE;
+            final boolean time = hourAt != NONE;
+            if ((anyDate && !date) || (!date && !time))
+                return false;
+            if (!time && (minuteAt != NONE || secondAt != NONE || fractionAt != NONE))
+                return false;
+            if (secondAt != NONE && minuteAt == NONE)
+                return false;
+            return fractionAt == NONE || secondAt != NONE;
+        }
+
+        TemporalAccessor parse(CharSequence text) {
+            final char[] template = this.template;
+            for (int i = 0; i < template.length; i++) {
+                final char c = text.charAt(i);
+                if (template[i] == DIGIT) {
+                    if (c < '0' || c > '9')
+                        return null;
+                } else if (c != template[i]) {
+                    return null;
+                }
+            }
+            int year = 0;
+            int month = 0;
+            int day = 0;
+            if (yearAt != NONE) {
+                year = digits(text, yearAt, yearDigits);
+                if (yearDigits == 2)
+                    year += 2000;
+                month = digits(text, monthAt, 2);
+                day = digits(text, dayAt, 2);
+                if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month))
+                    return null;
+                if (hourAt == NONE)
+                    return LocalDate.of(year, month, day);
+            }
+            final int hour = digits(text, hourAt, 2);
+            final int minute = minuteAt == NONE ? 0 : digits(text, minuteAt, 2);
+            final int second = secondAt == NONE ? 0 : digits(text, secondAt, 2);
+            if (hour > 23 || minute > 59 || second > 59)
+                return null;
+            final int nano =
+                    fractionAt == NONE ? 0 : digits(text, fractionAt, fractionDigits) * POWERS_OF_TEN[9 - fractionDigits];
+            if (yearAt == NONE)
+                return LocalTime.of(hour, minute, second, nano);
+            if (utc)
+                return Instant.ofEpochSecond(
+                        epochDay(year, month, day) * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second, nano);
+            return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+        }
+
+        boolean format(int year, int month, int day, int hour, int minute, int second, int nano,
+                       StringBuilder target) {
+            if ((yearAt != NONE && year == NONE) || (hourAt != NONE && hour == NONE))
+                return false;
+            final int begin = target.length();
+            for (char c : template)
+                target.append(c);
+            if (yearAt != NONE) {
+                setDigits(target, begin + yearAt, yearDigits, yearDigits == 2 ? year % 100 : year);
+                setDigits(target, begin + monthAt, 2, month);
+                setDigits(target, begin + dayAt, 2, day);
+            }
+            if (hourAt != NONE) {
+                setDigits(target, begin + hourAt, 2, hour);
+                if (minuteAt != NONE)
+                    setDigits(target, begin + minuteAt, 2, minute);
+                if (secondAt != NONE)
+                    setDigits(target, begin + secondAt, 2, second);
+                if (fractionAt != NONE)
+                    setDigits(target, begin + fractionAt, fractionDigits, nano / POWERS_OF_TEN[9 - fractionDigits]);
+            }
+            return true;
+        }
+
+        private static int digits(CharSequence text, int begin, int count) {
+            int value = 0;
+            for (int i = begin; i < begin + count; i++)
+                value = value * 10 + (text.charAt(i) - '0');
+            return value;
+        }
+
+        private static void setDigits(StringBuilder target, int begin, int count, int value) {
+            for (int i = begin + count - 1; i >= begin; i--) {
+                target.setCharAt(i, (char) ('0' + value % 10));
+                value /= 10;
+            }
+        }
+    }
+}
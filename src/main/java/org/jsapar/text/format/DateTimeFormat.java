@@ -3,19 +3,46 @@ package org.jsapar.text.format;
 import org.jsapar.model.CellType;
 import org.jsapar.text.Format;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
 import java.util.Date;
+import java.util.Locale;
 
+/**
+ * Formats and parses date and time values. Values that match common fixed layouts, such as yyyy-MM-dd or the ISO
+ * formats, are parsed and formatted directly by digit position. All other values are parsed and formatted by the
+ * {@link DateTimeFormatter}.
+ */
 public class DateTimeFormat implements Format<TemporalAccessor> {
     private final DateTimeFormatter formatter;
     private final CellType cellType;
     private final ZoneId zoneId;
+    private final CompiledDateTimePattern compiled;
 
     public DateTimeFormat(DateTimeFormatter formatter, CellType cellType, ZoneId zoneId) {
+        this(formatter, CompiledDateTimePattern.ofIsoFormatter(formatter), cellType, zoneId);
+    }
+
+    /**
+     * Creates a format from a pattern. If the pattern has a fixed layout, parsing and formatting is done without the
+     * {@link DateTimeFormatter} whenever possible.
+     *
+     * @param pattern  The pattern as described by {@link DateTimeFormatter#ofPattern(String, Locale)}.
+     * @param locale   The locale to use.
+     * @param cellType The type of cell to parse and produce.
+     * @param zoneId   The time zone id that is used when parsing and composing from an Instant.
+     * @since 2.5
+     */
+    public DateTimeFormat(String pattern, Locale locale, CellType cellType, ZoneId zoneId) {
+        this(DateTimeFormatter.ofPattern(pattern, locale), CompiledDateTimePattern.compile(pattern), cellType, zoneId);
+    }
+
+    private DateTimeFormat(DateTimeFormatter formatter, CompiledDateTimePattern compiled, CellType cellType, ZoneId zoneId) {
         this.formatter = formatter;
+        this.compiled = compiled;
         this.zoneId = zoneId;
         if(cellType!=null && !cellType.isTemporal())
             throw new IllegalArgumentException("Only temporal cell types are allowed in DateTimeFormat. " + cellType + " does not parse or" +
@@ -34,11 +61,21 @@ public class DateTimeFormat implements Format<TemporalAccessor> {
 
     @Override
     public TemporalAccessor parse(String stringValue) {
+        if (compiled != null) {
+            TemporalAccessor value = compiled.parse(stringValue);
+            if (value != null)
+                return value;
+        }
         return formatter.parse(stringValue);
     }
 
     @Override
     public String format(Object value) {
+        if (compiled != null) {
+            StringBuilder sb = new StringBuilder(32);
+            if (compiled.format(value, zoneId, sb))
+                return sb.toString();
+        }
         if(value instanceof Instant)
             return formatter.format(((Instant) value).atZone(zoneId));
         if(value instanceof TemporalAccessor)
@@ -48,4 +85,19 @@ public class DateTimeFormat implements Format<TemporalAccessor> {
         throw new IllegalArgumentException("Unable to format a datetime value from " + value + ". Unsupported type: " + value.getClass());
 
     }
+
+    /**
+     * Values that match a fixed layout are written digit by digit directly into the target if it is a
+     * {@link StringBuilder}. Other values are formatted by {@link #format(Object)}.
+     * @param value  The value to format.
+     * @param target The target to append the formatted value to.
+     * @throws IOException If appending to the target fails.
+     * @since 2.5
+     */
+    @Override
+    public void format(Object value, Appendable target) throws IOException {
+        if (compiled != null && target instanceof StringBuilder && compiled.format(value, zoneId, (StringBuilder) target))
+            return;
+        target.append(format(value));
+    }
 }
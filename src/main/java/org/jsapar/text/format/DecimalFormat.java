@@ -3,6 +3,7 @@ package org.jsapar.text.format;
 import org.jsapar.model.CellType;
 import org.jsapar.text.Format;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.text.DecimalFormatSymbols;
 import java.text.ParseException;
@@ -14,20 +15,27 @@ import java.util.Locale;
  * able to parse the old format since they are still widely used.
  */
 public class DecimalFormat implements Format<BigDecimal> {
+    private static final String DEFAULT_PATTERN = "0.#";
+
     private final NumberFormat numberFormat;
+    private final boolean      plain;
 
     public DecimalFormat(String pattern, Locale locale) {
         this(pattern, DecimalFormatSymbols.getInstance(locale));
     }
 
     public DecimalFormat(Locale locale) {
-        this("0.#", locale);
+        this(DEFAULT_PATTERN, locale);
     }
 
     DecimalFormat(String pattern, DecimalFormatSymbols decimalFormatSymbols) {
         java.text.DecimalFormat textFormat = new java.text.DecimalFormat(pattern, decimalFormatSymbols);
         textFormat.setParseBigDecimal(true);
         this.numberFormat = new NumberFormat(textFormat, CellType.FLOAT);
+        this.plain = DEFAULT_PATTERN.equals(pattern)
+                && decimalFormatSymbols.getZeroDigit() == '0'
+                && decimalFormatSymbols.getDecimalSeparator() == '.'
+                && decimalFormatSymbols.getMinusSign() == '-';
     }
 
     @Override
@@ -40,8 +48,99 @@ public class DecimalFormat implements Format<BigDecimal> {
         return (BigDecimal) numberFormat.parse(stringValue);
     }
 
+    /**
+     * @return True if this format uses the default pattern with '.' as decimal separator and '-' as minus sign, in which
+     * case plain decimal values can be parsed by {@link #parse(char[], int, int)} without creating a string.
+     * @since 2.5
+     */
+    public boolean isPlain() {
+        return plain;
+    }
+
+    /**
+     * Parses a decimal value from a range of characters. If this format is plain, see {@link #isPlain()}, values that
+     * only consist of an optional minus sign, digits and an optional decimal separator are parsed directly from the
+     * characters. Otherwise, values with the minus sign, grouping separators and decimal separator of the locale are
+     * parsed directly from the characters as long as they have at most 17 digits.
+     *
+     * @param buffer The buffer that contains the characters to parse.
+     * @param begin  The index of the first character to parse.
+     * @param end    The index after the last character to parse.
+     * @return The parsed value.
+     * @throws ParseException If the characters do not represent a decimal value.
+     * @since 2.5
+     */
+    public BigDecimal parse(char[] buffer, int begin, int end) throws ParseException {
+        if (plain && isPlainDecimal(buffer, begin, end))
+            return new BigDecimal(buffer, begin, end - begin);
+        return (BigDecimal) numberFormat.parse(buffer, begin, end);
+    }
+
+    private static boolean isPlainDecimal(char[] buffer, int begin, int end) {
+        int i = begin;
+        if (i < end && buffer[i] == '-')
+            i++;
+        boolean digits = false;
+        boolean decimalSeparator = false;
+        for (; i < end; i++) {
+            char c = buffer[i];
+            if (c >= '0' && c <= '9')
+                digits = true;
+            else if (c == '.' && !decimalSeparator)
+                decimalSeparator = true;
+            else
+                return false;
+        }
+        return digits;
+    }
+
     @Override
     public String format(Object value) {
         return numberFormat.format(value);
     }
+
+    /**
+     * If this format is plain, see {@link #isPlain()}, the digits of integer values and of {@link BigDecimal} values
+     * with at most one decimal and at most 18 digits are appended directly to the target. Other values are formatted
+     * by {@link #format(Object)}.
+     * @param value  The value to format.
+     * @param target The target to append the formatted value to.
+     * @throws IOException If appending to the target fails.
+     * @since 2.5
+     */
+    @Override
+    public void format(Object value, Appendable target) throws IOException {
+        if (plain) {
+            if (Digits.isLongValued(value)) {
+                Digits.appendLong(((Number) value).longValue(), target);
+                return;
+            }
+            if (value instanceof BigDecimal && appendPlain((BigDecimal) value, target))
+                return;
+        }
+        target.append(format(value));
+    }
+
+    /**
+     * Appends values that are formatted the same way by the default pattern without any rounding.
+     * @return False if nothing was appended.
+     */
+    private static boolean appendPlain(BigDecimal value, Appendable target) throws IOException {
+        if (value.precision() > 18)
+            return false;
+        if (value.scale() == 0) {
+            Digits.appendLong(value.longValue(), target);
+            return true;
+        }
+        if (value.scale() != 1)
+            return false;
+        final long unscaled = value.unscaledValue().longValue();
+        if (unscaled < 0)
+            target.append('-');
+        Digits.appendLong(Math.abs(unscaled / 10), target);
+        final int decimal = (int) Math.abs(unscaled % 10);
+        if (decimal != 0)
+            target.append('.').append((char) ('0' + decimal));
+        return true;
+    }
 }
@@ -0,0 +1,56 @@
+package org.jsapar.text.format;
+
+import java.io.IOException;
+
+/**
+ * Appends the decimal digits of integer values without creating any intermediate string.
+ */
+final class Digits {
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L,
+            100000000L, 1000000000L, 10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+            1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L};
+
+    private Digits() {
+    }
+
+    /**
+     * Appends a long integer value the same way as {@link Long#toString(long)}.
+     *
+     * @param value  The value to append.
+     * @param target The target to append to.
+     * @throws IOException If appending to the target fails.
+     */
+    static void appendLong(long value, Appendable target) throws IOException {
+        // Work with the negative value in order to handle Long.MIN_VALUE.
+        if (value < 0)
+            target.append('-');
+        else
+            value = -value;
+        int digits = 1;
+        for (long limit = -10L; digits < POWERS_OF_TEN.length && value <= limit; limit *= 10)
+            digits++;
+        for (int i = digits - 1; i >= 0; i--)
+            target.append((char) ('0' - value / POWERS_OF_TEN[i] % 10));
+    }
+
+    /**
+     * @param value The value to test.
+     * @return True if the value is of one of the boxed integer types that are formatted by {@link Long#toString(long)}.
+     */
+    static boolean isLongValued(Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    /**
+     * Multiplies a value with a power of ten.
+     *
+     * @param value    The value to multiply.
+     * @param exponent The power of ten, between 0 and 18.
+     * @return The product or {@link Long#MIN_VALUE} if the product overflows.
+     */
+    static long multiplyByPowerOfTen(long value, int exponent) {
+        if (value == Long.MIN_VALUE || Math.abs(value) > Long.MAX_VALUE / POWERS_OF_TEN[exponent])
+            return Long.MIN_VALUE;
+        return value * POWERS_OF_TEN[exponent];
+    }
+}
@@ -20,12 +20,16 @@ import java.util.Map;
  * Example 2:
  * <br/>
  * {@code EnumFormat.builder(Weekdays.class).withIgnoreCase(true).withValue("fr", Weekdays.FRIDAY).build();}
+ * <br/>
+ * While parsing, text values are matched by character tries, so no string needs to be created or converted to upper
+ * case. When case is ignored, characters are compared the same way as by {@link String#equalsIgnoreCase(String)}.
  */
 public class EnumFormat<E extends Enum<E>> implements Format<E> {
     private final boolean        ignoreCase;
     private final Map<String, E> enumByValue  = new HashMap<>();
-    private final Map<String, E> enumByUValue = new HashMap<>();
     private final Map<E, String> valueByEnum  = new HashMap<>();
+    private final TextMatcher<E> matcher      = new TextMatcher<>(false);
+    private final TextMatcher<E> ignoreCaseMatcher;
     private final Class<E>       enumClass;
 
     /**
@@ -39,6 +43,7 @@ public class EnumFormat<E extends Enum<E>> implements Format<E> {
     public EnumFormat(Class<E> enumClass, boolean ignoreCase) {
         this.enumClass = enumClass;
         this.ignoreCase = ignoreCase;
+        this.ignoreCaseMatcher = ignoreCase ? new TextMatcher<>(true) : null;
         Arrays.stream(enumClass.getEnumConstants())
                 .forEach(v -> putEnumValueIfAbsent(v.name(), v));
     }
@@ -119,7 +124,9 @@ public class EnumFormat<E extends Enum<E>> implements Format<E> {
      */
     private void putEnumValueIfAbsent(String value, E enumConstant){
         this.enumByValue.putIfAbsent(value, enumConstant);
-        this.enumByUValue.putIfAbsent(value.toUpperCase(), enumConstant);
+        this.matcher.putIfAbsent(value, enumConstant);
+        if (ignoreCaseMatcher != null)
+            this.ignoreCaseMatcher.putIfAbsent(value, enumConstant);
         this.valueByEnum.putIfAbsent(enumConstant, value);
     }
 
@@ -131,7 +138,9 @@ public class EnumFormat<E extends Enum<E>> implements Format<E> {
      */
     private void putEnumValue(String value, E enumConstant){
         this.enumByValue.put(value, enumConstant);
-        this.enumByUValue.put(value.toUpperCase(), enumConstant);
+        this.matcher.put(value, enumConstant);
+        if (ignoreCaseMatcher != null)
+            this.ignoreCaseMatcher.put(value, enumConstant);
         this.valueByEnum.put(enumConstant, value);
     }
 
@@ -165,19 +174,34 @@ public class EnumFormat<E extends Enum<E>> implements Format<E> {
      */
     @Override
     public E parse(String toParse) throws ParseException {
-        E enumValue = enumByValue.get(toParse);
+        E enumValue = matcher.match(toParse);
+        if(enumValue == null && ignoreCase)
+            enumValue = ignoreCaseMatcher.match(toParse);
         if(enumValue != null)
             return enumValue;
 
-        if(ignoreCase){
-            enumValue = enumByUValue.get(toParse.toUpperCase());
-            if(enumValue != null)
-                return enumValue;
-        }
-
         throw new ParseException("There is no enum constant matching the value '" + toParse + "' for  enum class " + enumClass.getName(), 0 );
     }
 
+    /**
+     * Parses an enum value directly from a range of characters. Works the same way as {@link #parse(String)}.
+     *
+     * @param buffer The buffer that contains the characters to parse.
+     * @param begin  The index of the first character to parse.
+     * @param end    The index after the last character to parse.
+     * @return The parsed value.
+     * @throws ParseException If the characters do not match any of the text values.
+     * @since 2.5
+     */
+    public E parse(char[] buffer, int begin, int end) throws ParseException {
+        E enumValue = matcher.match(buffer, begin, end);
+        if(enumValue == null && ignoreCase)
+            enumValue = ignoreCaseMatcher.match(buffer, begin, end);
+        if(enumValue != null)
+            return enumValue;
+        return parse(new String(buffer, begin, end - begin));
+    }
+
     /**
      * @return A collection of all the text values of this enum format.
      */
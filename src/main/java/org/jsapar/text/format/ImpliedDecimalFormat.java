@@ -3,6 +3,7 @@ package org.jsapar.text.format;
 import org.jsapar.model.CellType;
 import org.jsapar.text.Format;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
@@ -12,8 +13,14 @@ import java.math.BigInteger;
  */
 public class ImpliedDecimalFormat implements Format<BigDecimal> {
 
+    private static final long MAX_EXACT_DOUBLE_INTEGER = 1L << 53;
+    /**
+     * The java.text.DecimalFormat is not thread safe so each thread uses its own instance.
+     */
+    private static final ThreadLocal<java.text.DecimalFormat> INTEGER_FORMAT =
+            ThreadLocal.withInitial(() -> new java.text.DecimalFormat("0"));
+
     private final int decimals;
-    private final java.text.DecimalFormat integerFormat = new java.text.DecimalFormat("0");
 
     /**
      * @param decimals Number of decimals to imply
@@ -53,7 +60,39 @@ public class ImpliedDecimalFormat implements Format<BigDecimal> {
             throw new IllegalArgumentException("Unable to format an implied decimal value from " + o + ". Unsupported type.");
         }
         value = value.movePointRight(decimals);
-        return integerFormat.format(value);
+        return INTEGER_FORMAT.get().format(value);
+    }
+
+    /**
+     * Appends the digits directly to the target for integer values, as well as for {@link BigDecimal} values that do
+     * not need to be rounded, as long as the result has at most 18 digits. Other values are formatted by
+     * {@link #format(Object)}.
+     * @param o      The object to format.
+     * @param target The target to append the formatted value to.
+     * @throws IOException If appending to the target fails.
+     * @since 2.5
+     */
+    @Override
+    public void format(Object o, Appendable target) throws IOException {
+        long unscaled = Long.MIN_VALUE;
+        if (decimals >= 0 && decimals < 19) {
+            if (Digits.isLongValued(o)) {
+                // Integers are exact as double values within this range.
+                final long value = ((Number) o).longValue();
+                if (Math.abs(value) <= MAX_EXACT_DOUBLE_INTEGER)
+                    unscaled = Digits.multiplyByPowerOfTen(value, decimals);
+            } else if (o instanceof BigDecimal) {
+                final BigDecimal value = (BigDecimal) o;
+                if (value.scale() == 0 && value.precision() <= 18)
+                    unscaled = Digits.multiplyByPowerOfTen(value.longValue(), decimals);
+                else if (value.scale() > 0 && value.scale() <= decimals && value.precision() <= 18)
+                    unscaled = Digits.multiplyByPowerOfTen(value.unscaledValue().longValue(), decimals - value.scale());
+            }
+        }
+        if (unscaled != Long.MIN_VALUE)
+            Digits.appendLong(unscaled, target);
+        else
+            target.append(format(o));
     }
 
     @Override
@@ -68,7 +107,49 @@ public class ImpliedDecimalFormat implements Format<BigDecimal> {
 
     @Override
     public BigDecimal parse(String s) {
-        return new BigDecimal(s).movePointLeft(decimals);
+        BigDecimal value = parseInteger(s);
+        return value != null ? value : new BigDecimal(s).movePointLeft(decimals);
+    }
+
+    /**
+     * Parses an implied decimal value directly from a range of characters. Integer values with at most 18 digits are
+     * parsed without creating any intermediate objects.
+     *
+     * @param buffer The buffer that contains the characters to parse.
+     * @param begin  The index of the first character to parse.
+     * @param end    The index after the last character to parse.
+     * @return The parsed value.
+     * @throws NumberFormatException If the characters do not represent a decimal value.
+     * @since 2.5
+     */
+    public BigDecimal parse(char[] buffer, int begin, int end) {
+        BigDecimal value = parseInteger(new CharRange(buffer, begin, end));
+        return value != null ? value : parse(new String(buffer, begin, end - begin));
+    }
+
+    /**
+     * @param s The characters to parse.
+     * @return The value with the decimal point shifted or null if the characters are not a plain integer value with at
+     * most 18 digits.
+     */
+    private BigDecimal parseInteger(CharSequence s) {
+        final int length = s.length();
+        if (decimals < 0 || length == 0)
+            return null;
+        int i = 0;
+        final boolean negative = s.charAt(0) == '-';
+        if (negative || s.charAt(0) == '+')
+            i++;
+        if (i == length || length - i > 18)
+            return null;
+        long unscaled = 0;
+        for (; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c < '0' || c > '9')
+                return null;
+            unscaled = unscaled * 10 + (c - '0');
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, decimals);
     }
 
 }
@@ -8,10 +8,14 @@ import java.text.ParsePosition;
 
 /**
  * Formats and parses using a java.text.Format. Requires that all characters are parsed from the supplied value.
+ * <p>
+ * Since java.text.Format instances are not thread safe, each thread formats and parses with its own clone of the
+ * supplied format. This makes it possible to share the same instance, for instance through a schema, between parsers
+ * and composers that run in different threads.
  * @param <T>
  */
 public class JavaTextFormat<T> implements Format<T> {
-    private final java.text.Format format;
+    private final ThreadLocal<java.text.Format> format;
     private final CellType cellType;
 
     /**
@@ -20,7 +24,9 @@ public class JavaTextFormat<T> implements Format<T> {
      */
     public JavaTextFormat(java.text.Format format, CellType cellType) {
         this.cellType = cellType;
-        this.format = format;
+        // The template is never used for formatting or parsing, so it is safe to clone it from any thread.
+        final java.text.Format template = (java.text.Format) format.clone();
+        this.format = ThreadLocal.withInitial(() -> (java.text.Format) template.clone());
     }
 
     @Override
@@ -32,7 +38,7 @@ public class JavaTextFormat<T> implements Format<T> {
     @Override
     public T parse(String stringValue) throws ParseException {
         ParsePosition pos = new ParsePosition(0);
-        T value = (T) format.parseObject(stringValue, pos);
+        T value = (T) format.get().parseObject(stringValue, pos);
         if (pos.getIndex() < stringValue.length())
             // It is not acceptable to parse only a part of the string. That can happen for instance if there is a space
             // in an integer value.
@@ -44,6 +50,6 @@ public class JavaTextFormat<T> implements Format<T> {
 
     @Override
     public String format(Object value) {
-        return format.format(value);
+        return format.get().format(value);
     }
 }
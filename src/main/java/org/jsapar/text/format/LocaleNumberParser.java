@@ -0,0 +1,228 @@
+package org.jsapar.text.format;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormatSymbols;
+
+/**
+ * Parses numbers with the locale symbols of a {@link java.text.DecimalFormat} directly from characters, without the
+ * {@link java.text.ParsePosition}, digit list and string mapping that parsing with the {@link java.text.DecimalFormat}
+ * requires. Handles minus signs, grouping separators and decimal separators of the locale, as well as any space
+ * character when the grouping separator is a space, the same way as {@link NumberFormat} does.
+ * <p>
+ * Only values with at most 17 digits that consist of an optional minus sign, digits, grouping separators between
+ * digits and one decimal separator are parsed. The parse methods return a value that indicates that the value was
+ * not parsed for all other values, in which case the caller is expected to parse with the
+ * {@link java.text.DecimalFormat} instead. That way the result is always the same as if the
+ * {@link java.text.DecimalFormat} had been used.
+ * <p>
+ * Instances of this class are immutable and can be shared between threads.
+ */
+final class LocaleNumberParser {
+    private static final long     FAILED        = -1L;
+    private static final int      SCALE_SHIFT   = 57;
+    private static final long     MAX_MANTISSA  = (1L << SCALE_SHIFT) - 1;
+    private static final int      MAX_SCALE     = 31;
+    private static final long     NEGATIVE      = 1L << 62;
+    private static final long     MAX_EXACT_DOUBLE = 1L << 53;
+    private static final long[]   LONG_POWERS_OF_TEN = new long[18];
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    static {
+        LONG_POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i < LONG_POWERS_OF_TEN.length; i++)
+            LONG_POWERS_OF_TEN[i] = LONG_POWERS_OF_TEN[i - 1] * 10;
+    }
+
+    private final String  negativePrefix;
+    private final char    decimalSeparator;
+    private final char    groupingSeparator;
+    private final boolean groupingUsed;
+    private final boolean skipSpaces;
+    private final boolean integerOnly;
+    private final boolean bigDecimal;
+
+    private LocaleNumberParser(java.text.DecimalFormat format) {
+        DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+        this.negativePrefix = format.getNegativePrefix();
+        this.decimalSeparator = symbols.getDecimalSeparator();
+        this.groupingSeparator = symbols.getGroupingSeparator();
+        this.groupingUsed = format.isGroupingUsed();
+        this.skipSpaces = Character.isSpaceChar(groupingSeparator);
+        this.integerOnly = format.isParseIntegerOnly();
+        this.bigDecimal = format.isParseBigDecimal();
+    }
+
+    /**
+     * @param format The format to parse the same way as.
+     * @return A parser or null if the format uses prefixes, suffixes, multipliers or symbols that are not supported.
+     */
+    static LocaleNumberParser of(java.text.DecimalFormat format) {
+        DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+        final char decimalSeparator = symbols.getDecimalSeparator();
+        final String negativePrefix = format.getNegativePrefix();
+        if (!format.getPositivePrefix().isEmpty() || !format.getPositiveSuffix().isEmpty()
+                || !format.getNegativeSuffix().isEmpty() || negativePrefix.isEmpty()
+                || format.getMultiplier() != 1 || symbols.getZeroDigit() != '0'
+                || Character.isDigit(decimalSeparator) || Character.isDigit(symbols.getGroupingSeparator())
+                || decimalSeparator == symbols.getGroupingSeparator() || Character.isSpaceChar(decimalSeparator))
+            return null;
+        for (int i = 0; i < negativePrefix.length(); i++) {
+            char c = negativePrefix.charAt(i);
+            if (Character.isDigit(c) || Character.isSpaceChar(c) || c == decimalSeparator)
+                return null;
+        }
+        return new LocaleNumberParser(format);
+    }
+
+    /**
+     * @param value The characters to parse.
+     * @return A {@link BigDecimal} if the format parses big decimals, otherwise a {@link Long} or a {@link Double} in
+     * the same way as {@link java.text.DecimalFormat}. Null if the value needs to be parsed by the
+     * {@link java.text.DecimalFormat}.
+     */
+    Number parse(CharSequence value) {
+        final long scanned = scan(value);
+        if (scanned == FAILED)
+            return null;
+        final long mantissa = scanned & MAX_MANTISSA;
+        final int scale = (int) (scanned >>> SCALE_SHIFT) & MAX_SCALE;
+        final boolean negative = (scanned & NEGATIVE) != 0;
+        if (bigDecimal)
+            return BigDecimal.valueOf(negative ? -mantissa : mantissa, scale);
+        final long integer = toLong(mantissa, scale, negative);
+        if (integer != FAILED)
+            return Long.valueOf(negative ? -integer : integer);
+        final double result = toDouble(mantissa, scale, negative);
+        return Double.isNaN(result) ? null : Double.valueOf(result);
+    }
+
+    /**
+     * @param value The characters to parse.
+     * @return The parsed value or NaN if the value needs to be parsed by the {@link java.text.DecimalFormat}.
+     */
+    double parseDouble(CharSequence value) {
+        final long scanned = scan(value);
+        if (scanned == FAILED)
+            return Double.NaN;
+        final long mantissa = scanned & MAX_MANTISSA;
+        final int scale = (int) (scanned >>> SCALE_SHIFT) & MAX_SCALE;
+        final boolean negative = (scanned & NEGATIVE) != 0;
+        if (mantissa == 0 && (integerOnly || bigDecimal))
+            return 0.0;
+        return toDouble(mantissa, scale, negative);
+    }
+
+    /**
+     * @param value The characters to parse.
+     * @return The parsed value or {@link Long#MIN_VALUE} if the value needs to be parsed by the
+     * {@link java.text.DecimalFormat}, which is also the case for values with non-zero decimals.
+     */
+    long parseLong(CharSequence value) {
+        final long scanned = scan(value);
+        if (scanned == FAILED)
+            return Long.MIN_VALUE;
+        final long mantissa = scanned & MAX_MANTISSA;
+        final int scale = (int) (scanned >>> SCALE_SHIFT) & MAX_SCALE;
+        final boolean negative = (scanned & NEGATIVE) != 0;
+        final long integer = toLong(mantissa, scale, false);
+        if (integer == FAILED)
+            return Long.MIN_VALUE;
+        return negative ? -integer : integer;
+    }
+
+    /**
+     * @return The integer value or FAILED if the value has non-zero decimals or is a negative zero that the
+     * {@link java.text.DecimalFormat} would parse into a double value.
+     */
+    private long toLong(long mantissa, int scale, boolean negative) {
+        if (negative && mantissa == 0 && !integerOnly)
+            return FAILED;
+        if (scale == 0)
+            return mantissa;
+        if (scale >= LONG_POWERS_OF_TEN.length)
+            return mantissa == 0 ? 0 : FAILED;
+        final long power = LONG_POWERS_OF_TEN[scale];
+        return mantissa % power == 0 ? mantissa / power : FAILED;
+    }
+
+    /**
+     * Converts if both the mantissa and the power of ten can be represented exactly as double values, in which case a
+     * single division gives a correctly rounded result.
+     */
+    private static double toDouble(long mantissa, int scale, boolean negative) {
+        if (mantissa > MAX_EXACT_DOUBLE || scale >= POWERS_OF_TEN.length)
+            return mantissa == 0 ? (negative ? -0.0 : 0.0) : Double.NaN;
+        final double result = mantissa / POWERS_OF_TEN[scale];
+        return negative ? -result : result;
+    }
+
+    /**
+     * Scans the characters of a value.
+     *
+     * @param value The characters to scan.
+     * @return The mantissa, the number of decimals and the sign packed into a long value, or FAILED if the value is not
+     * supported.
+     */
+    private long scan(CharSequence value) {
+        final int length = value.length();
+        int i = skipSpaces(value, 0);
+        boolean negative = false;
+        if (i < length && value.charAt(i) == '-') {
+            // Either the same as the negative prefix or replaced by the negative prefix by NumberFormat.
+            negative = true;
+            i++;
+        } else if (startsWith(value, i, negativePrefix)) {
+            negative = true;
+            i += negativePrefix.length();
+        }
+        long mantissa = 0;
+        int scale = 0;
+        int digits = 0;
+        boolean decimal = false;
+        boolean afterDigit = false;
+        boolean pendingGrouping = false;
+        for (; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (mantissa > MAX_MANTISSA / 10 || (decimal && scale == MAX_SCALE))
+                    return FAILED;
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (decimal)
+                    scale++;
+                afterDigit = true;
+                pendingGrouping = false;
+            } else if (skipSpaces && Character.isSpaceChar(c)) {
+                // All spaces are removed by NumberFormat before parsing.
+            } else if (c == decimalSeparator && !decimal && !integerOnly && !pendingGrouping) {
+                decimal = true;
+            } else if (c == groupingSeparator && groupingUsed && !decimal && afterDigit && !pendingGrouping) {
+                pendingGrouping = true;
+            } else {
+                return FAILED;
+            }
+        }
+        if (digits == 0 || pendingGrouping)
+            return FAILED;
+        return mantissa | ((long) scale << SCALE_SHIFT) | (negative ? NEGATIVE : 0L);
+    }
+
+    private int skipSpaces(CharSequence value, int i) {
+        if (skipSpaces) {
+            while (i < value.length() && Character.isSpaceChar(value.charAt(i)))
+                i++;
+        }
+        return i;
+    }
+
+    private static boolean startsWith(CharSequence value, int offset, String prefix) {
+        if (value.length() - offset < prefix.length())
+            return false;
+        for (int i = 0; i < prefix.length(); i++) {
+            if (value.charAt(offset + i) != prefix.charAt(i))
+                return false;
+        }
+        return true;
+    }
+}
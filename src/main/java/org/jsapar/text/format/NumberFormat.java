@@ -16,9 +16,13 @@ import java.util.function.Function;
  * Formats and parses number objects.
  * As of JDK 9 some locales have got new decimal symbols. This is implementation has a work-around to also still be
  * able to parse the old format since they are still widely used.
+ * <p>
+ * Plain values with minus sign, grouping separators and decimal separator of the locale are parsed directly from the
+ * characters. Other values are parsed by the {@link java.text.NumberFormat}.
  */
 public class NumberFormat extends JavaTextFormat<Number> implements Format<Number> {
     private final List<Function<String, String>> mappers = new ArrayList<>(3);
+    private final LocaleNumberParser             parser;
 
     /**
      * Creates an instance
@@ -42,6 +46,7 @@ public class NumberFormat extends JavaTextFormat<Number> implements Format<Numbe
                     " compose objects of type Number");
         if(numberFormat instanceof java.text.DecimalFormat) {
             DecimalFormat decimalFormat = (DecimalFormat) numberFormat;
+            this.parser = LocaleNumberParser.of(decimalFormat);
 
             char groupingSeparator = decimalFormat.getDecimalFormatSymbols().getGroupingSeparator();
 
@@ -59,6 +64,9 @@ public class NumberFormat extends JavaTextFormat<Number> implements Format<Numbe
                 mappers.add(s -> replaceExponent(s, exp));
             }
         }
+        else {
+            this.parser = null;
+        }
     }
 
     public NumberFormat(Locale locale, CellType cellType) {
@@ -80,12 +88,100 @@ public class NumberFormat extends JavaTextFormat<Number> implements Format<Numbe
 
     @Override
     public Number parse(String stringValue) throws ParseException {
+        if (parser != null) {
+            Number value = parser.parse(stringValue);
+            if (value != null)
+                return value;
+        }
         for (Function<String, String> mapper : mappers) {
             stringValue = mapper.apply(stringValue);
         }
         return super.parse(stringValue);
     }
 
+    /**
+     * Parses a number directly from a range of characters. Works the same way as {@link #parse(String)}.
+     *
+     * @param buffer The buffer that contains the characters to parse.
+     * @param begin  The index of the first character to parse.
+     * @param end    The index after the last character to parse.
+     * @return The parsed value.
+     * @throws ParseException If the characters do not represent a number.
+     * @since 2.5
+     */
+    public Number parse(char[] buffer, int begin, int end) throws ParseException {
+        if (parser != null) {
+            Number value = parser.parse(new CharRange(buffer, begin, end));
+            if (value != null)
+                return value;
+        }
+        return parse(new String(buffer, begin, end - begin));
+    }
+
+    /**
+     * Parses a long integer value. Plain values are parsed without creating any intermediate objects.
+     *
+     * @param value The characters to parse.
+     * @return The parsed value. Decimals are truncated.
+     * @throws ParseException If the characters do not represent a number.
+     * @since 2.5
+     */
+    public long parseLong(CharSequence value) throws ParseException {
+        if (parser != null) {
+            long result = parser.parseLong(value);
+            if (result != Long.MIN_VALUE)
+                return result;
+        }
+        return parse(value.toString()).longValue();
+    }
+
+    /**
+     * Parses a long integer value directly from a range of characters. Works the same way as
+     * {@link #parseLong(CharSequence)}.
+     *
+     * @param buffer The buffer that contains the characters to parse.
+     * @param begin  The index of the first character to parse.
+     * @param end    The index after the last character to parse.
+     * @return The parsed value. Decimals are truncated.
+     * @throws ParseException If the characters do not represent a number.
+     * @since 2.5
+     */
+    public long parseLong(char[] buffer, int begin, int end) throws ParseException {
+        return parseLong(new CharRange(buffer, begin, end));
+    }
+
+    /**
+     * Parses a double precision float value. Plain values are parsed without creating any intermediate objects.
+     *
+     * @param value The characters to parse.
+     * @return The parsed value.
+     * @throws ParseException If the characters do not represent a number.
+     * @since 2.5
+     */
+    public double parseDouble(CharSequence value) throws ParseException {
+        if (parser != null) {
+            double result = parser.parseDouble(value);
+            if (!Double.isNaN(result))
+                return result;
+        }
+        return parse(value.toString()).doubleValue();
+    }
+
+    /**
+     * Parses a double precision float value directly from a range of characters. Works the same way as
+     * {@link #parseDouble(CharSequence)}.
+     *
+     * @param buffer The buffer that contains the characters to parse.
+     * @param begin  The index of the first character to parse.
+     * @param end    The index after the last character to parse.
+     * @return The parsed value.
+     * @throws ParseException If the characters do not represent a number.
+     * @since 2.5
+     */
+    public double parseDouble(char[] buffer, int begin, int end) throws ParseException {
+        return parseDouble(new CharRange(buffer, begin, end));
+    }
+
     @Override
     public String toString() {
         return "NumberFormat";
@@ -0,0 +1,167 @@
+package org.jsapar.text.format;
+
+/**
+ * A character trie that maps text values to objects. Text is matched character by character directly from a
+ * {@link CharSequence} or from a range of a character array, so no string is created and no case conversion of the
+ * whole text is needed while matching.
+ * <p>
+ * A text value can be added either as an exact value, that only matches the complete text, or as a prefix value, that
+ * matches any text that starts with that value. When matching, an exact value takes precedence over prefix values and
+ * among the prefix values that match, the one that was added first takes precedence.
+ * <p>
+ * If case is ignored, characters are compared the same way as by {@link String#equalsIgnoreCase(String)}.
+ * <p>
+ * Instances of this class are not thread safe while values are added but can be shared between threads once all values
+ * have been added.
+ *
+ * @param <T> The type of the matched objects.
+ */
+final class TextMatcher<T> {
+    private static final char[] ASCII_FOLDED = new char[128];
+
+    static {
+        for (char c = 0; c < ASCII_FOLDED.length; c++)
+            ASCII_FOLDED[c] = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private final boolean ignoreCase;
+    private final Node<T> root = new Node<>();
+    private       int     prefixCount = 0;
+
+    /**
+     * @param ignoreCase If true, upper and lower case characters are considered equal.
+     */
+    TextMatcher(boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+    }
+
+    /**
+     * Adds an exact value, replacing any existing object for the same value.
+     *
+     * @param text  The text value.
+     * @param value The object to map the text value to.
+     */
+    void put(String text, T value) {
+        nodeOf(text).exact = value;
+    }
+
+    /**
+     * Adds an exact value unless there already is an object for the same value.
+     *
+     * @param text  The text value.
+     * @param value The object to map the text value to.
+     */
+    void putIfAbsent(String text, T value) {
+        Node<T> node = nodeOf(text);
+        if (node.exact == null)
+            node.exact = value;
+    }
+
+    /**
+     * Adds a prefix value unless the same prefix value already has been added.
+     *
+     * @param text  The text value that the matched text should start with.
+     * @param value The object to map the text value to.
+     */
+    void putPrefix(String text, T value) {
+        Node<T> node = nodeOf(text);
+        if (node.prefix == null) {
+            node.prefix = value;
+            node.prefixOrder = prefixCount++;
+        }
+    }
+
+    /**
+     * @param text The text to match.
+     * @return The object of the matching value or null if there is no matching value.
+     */
+    T match(CharSequence text) {
+        Node<T> node = root;
+        Node<T> prefix = root.prefix != null ? root : null;
+        final int length = text.length();
+        for (int i = 0; i < length; i++) {
+            node = node.child(fold(text.charAt(i)));
+            if (node == null)
+                return prefix != null ? prefix.prefix : null;
+            if (node.prefix != null && (prefix == null || node.prefixOrder < prefix.prefixOrder))
+                prefix = node;
+        }
+        if (node.exact != null)
+            return node.exact;
+        return prefix != null ? prefix.prefix : null;
+    }
+
+    /**
+     * @param buffer The buffer that contains the characters to match.
+     * @param begin  The index of the first character to match.
+     * @param end    The index after the last character to match.
+     * @return The object of the matching value or null if there is no matching value.
+     */
+    T match(char[] buffer, int begin, int end) {
+        Node<T> node = root;
+        Node<T> prefix = root.prefix != null ? root : null;
+        for (int i = begin; i < end; i++) {
+            node = node.child(fold(buffer[i]));
+            if (node == null)
+                return prefix != null ? prefix.prefix : null;
+            if (node.prefix != null && (prefix == null || node.prefixOrder < prefix.prefixOrder))
+                prefix = node;
+        }
+        if (node.exact != null)
+            return node.exact;
+        return prefix != null ? prefix.prefix : null;
+    }
+
+    private Node<T> nodeOf(String text) {
+        Node<T> node = root;
+        for (int i = 0; i < text.length(); i++)
+            node = node.addChild(fold(text.charAt(i)));
+        return node;
+    }
+
+    private char fold(char c) {
+        if (!ignoreCase)
+            return c;
+        if (c < ASCII_FOLDED.length)
+            return ASCII_FOLDED[c];
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private static final class Node<T> {
+        private char[]    chars    = new char[0];
+        private Node<?>[] children = new Node<?>[0];
+        private T         exact;
+        private T         prefix;
+        private int       prefixOrder;
+
+        Node<T> child(char c) {
+            final char[] chars = this.chars;
+            for (int i = 0; i < chars.length; i++) {
+                if (chars[i] == c) {
+                    // Only nodes of the same type are added as children, see addChild().
+                    @SuppressWarnings("unchecked")
+                    Node<T> child = (Node<T>) children[i];
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        Node<T> addChild(char c) {
+            Node<T> child = child(c);
+            if (child != null)
+                return child;
+            child = new Node<>();
+            final int size = chars.length;
+            char[] newChars = new char[size + 1];
+            Node<?>[] newChildren = new Node<?>[size + 1];
+            System.arraycopy(chars, 0, newChars, 0, size);
+            System.arraycopy(children, 0, newChildren, 0, size);
+            newChars[size] = c;
+            newChildren[size] = child;
+            chars = newChars;
+            children = newChildren;
+            return child;
+        }
+    }
+}
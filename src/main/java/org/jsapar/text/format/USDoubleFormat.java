@@ -6,6 +6,10 @@ import org.jsapar.text.Format;
 import java.text.ParseException;
 
 public class USDoubleFormat implements Format<Number> {
+    private static final int      MAX_SIGNIFICANT_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN          = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
     @Override
     public CellType cellType() {
         return CellType.FLOAT;
@@ -20,6 +24,115 @@ public class USDoubleFormat implements Format<Number> {
         }
     }
 
+    /**
+     * Parses a double precision float value. Plain decimal values with at most 15 significant digits and a small
+     * exponent are converted without creating any intermediate objects. All other values are parsed by
+     * {@link Double#parseDouble(String)}, which gives the same result for all values.
+     *
+     * @param value The characters to parse.
+     * @return The parsed value.
+     * @throws ParseException If the characters do not represent a float number.
+     * @since 2.5
+     */
+    public double parseDouble(CharSequence value) throws ParseException {
+        double fast = parseSimpleDouble(value);
+        if (!Double.isNaN(fast))
+            return fast;
+        try {
+            return Double.parseDouble(value.toString());
+        }catch (NumberFormatException e){
+            throw new ParseException("Failed to parse float number from value [" + value+"]", 0);
+        }
+    }
+
+    /**
+     * Parses a double precision float value directly from a range of characters. Works the same way as
+     * {@link #parseDouble(CharSequence)}.
+     *
+     * @param buffer The buffer that contains the characters to parse.
+     * @param begin  The index of the first character to parse.
+     * @param end    The index after the last character to parse.
+     * @return The parsed value.
+     * @throws ParseException If the characters do not represent a float number.
+     * @since 2.5
+     */
+    public double parseDouble(char[] buffer, int begin, int end) throws ParseException {
+        return parseDouble(new CharRange(buffer, begin, end));
+    }
+
+    /**
+     * Parses values where both the significant digits and the power of ten can be represented exactly as double values,
+     * in which case a single multiplication or division gives a correctly rounded result.
+     *
+     * @param value The characters to parse.
+     * @return The parsed value or NaN if the value is not simple enough to be parsed by this method.
+     */
+    private static double parseSimpleDouble(CharSequence value) {
+        final int length = value.length();
+        int i = 0;
+        boolean negative = false;
+        if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+            negative = value.charAt(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean decimalPoint = false;
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+                if (mantissa != 0 || c != '0')
+                    significantDigits++;
+                if (significantDigits > MAX_SIGNIFICANT_DIGITS)
+                    return Double.NaN;
+                mantissa = mantissa * 10 + (c - '0');
+                if (decimalPoint)
+                    exponent--;
+            } else if (c == '.' && !decimalPoint) {
+                decimalPoint = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0)
+            return Double.NaN;
+        if (i < length) {
+            char c = value.charAt(i++);
+            if (c != 'e' && c != 'E' || i == length)
+                return Double.NaN;
+            boolean negativeExponent = false;
+            if (value.charAt(i) == '-' || value.charAt(i) == '+') {
+                negativeExponent = value.charAt(i) == '-';
+                i++;
+            }
+            if (i == length || length - i > 3)
+                return Double.NaN;
+            int explicitExponent = 0;
+            for (; i < length; i++) {
+                c = value.charAt(i);
+                if (c < '0' || c > '9')
+                    return Double.NaN;
+                explicitExponent = explicitExponent * 10 + (c - '0');
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        double result;
+        if (mantissa == 0)
+            result = 0.0;
+        else if (exponent == 0)
+            result = mantissa;
+        else if (exponent > 0 && exponent < POWERS_OF_TEN.length)
+            result = mantissa * POWERS_OF_TEN[exponent];
+        else if (exponent < 0 && -exponent < POWERS_OF_TEN.length)
+            result = mantissa / POWERS_OF_TEN[-exponent];
+        else
+            return Double.NaN;
+        return negative ? -result : result;
+    }
+
     @Override
     public String format(Object value) throws IllegalArgumentException {
         return value.toString();
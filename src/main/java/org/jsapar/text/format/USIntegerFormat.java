@@ -3,6 +3,7 @@ package org.jsapar.text.format;
 import org.jsapar.model.CellType;
 import org.jsapar.text.Format;
 
+import java.io.IOException;
 import java.text.ParseException;
 
 public class USIntegerFormat implements Format<Number> {
@@ -21,11 +22,77 @@ public class USIntegerFormat implements Format<Number> {
         }
     }
 
+    /**
+     * Parses a long integer value without creating any intermediate objects.
+     *
+     * @param value The characters to parse.
+     * @return The parsed value.
+     * @throws ParseException If the characters do not represent a long integer value.
+     * @since 2.5
+     */
+    public long parseLong(CharSequence value) throws ParseException {
+        try {
+            return Long.parseLong(value, 0, value.length(), 10);
+        }catch (NumberFormatException e){
+            throw new ParseException("Failed to parse integer from value [" + value+"]", 0);
+        }
+    }
+
+    /**
+     * Parses a long integer value directly from a range of characters without creating any intermediate objects.
+     *
+     * @param buffer The buffer that contains the characters to parse.
+     * @param begin  The index of the first character to parse.
+     * @param end    The index after the last character to parse.
+     * @return The parsed value.
+     * @throws ParseException If the characters do not represent a long integer value.
+     * @since 2.5
+     */
+    public long parseLong(char[] buffer, int begin, int end) throws ParseException {
+        int i = begin;
+        boolean negative = false;
+        if (i < end && (buffer[i] == '-' || buffer[i] == '+')) {
+            negative = buffer[i] == '-';
+            i++;
+        }
+        if (i == end)
+            return parseLong(new String(buffer, begin, end - begin));
+        // Accumulate negatively in order to handle Long.MIN_VALUE, the same way as Long.parseLong() does.
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplyLimit = limit / 10;
+        long result = 0;
+        for (; i < end; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit || result * 10 < limit + digit) {
+                // Let Long.parseLong() handle other digits than ASCII and produce the error.
+                return parseLong(new String(buffer, begin, end - begin));
+            }
+            result = result * 10 - digit;
+        }
+        return negative ? result : -result;
+    }
+
     @Override
     public String format(Object value) throws IllegalArgumentException {
         return value.toString();
     }
 
+    /**
+     * Appends the digits of long, integer, short and byte values directly to the target. Other values are formatted
+     * by {@link #format(Object)}.
+     * @param value  The value to format.
+     * @param target The target to append the formatted value to.
+     * @throws IOException If appending to the target fails.
+     * @since 2.5
+     */
+    @Override
+    public void format(Object value, Appendable target) throws IOException {
+        if (Digits.isLongValued(value))
+            Digits.appendLong(((Number) value).longValue(), target);
+        else
+            target.append(format(value));
+    }
+
     @Override
     public String toString() {
         return "USIntegerFormat";
@@ -6,6 +6,28 @@ import java.util.function.IntPredicate;
 public class StringUtils {
 
 
+    /**
+     * Copies characters from a character sequence into a buffer, the same way as {@link String#getChars(int, int,
+     * char[], int)} but for any type of character sequence.
+     *
+     * @param source      The characters to copy from.
+     * @param sourceBegin The index of the first character to copy.
+     * @param sourceEnd   The index after the last character to copy.
+     * @param destination The buffer to copy to.
+     * @param destBegin   The index within the buffer to copy the first character to.
+     * @since 2.5
+     */
+    public static void getChars(CharSequence source, int sourceBegin, int sourceEnd, char[] destination, int destBegin) {
+        if (source instanceof String) {
+            ((String) source).getChars(sourceBegin, sourceEnd, destination, destBegin);
+        } else if (source instanceof StringBuilder) {
+            ((StringBuilder) source).getChars(sourceBegin, sourceEnd, destination, destBegin);
+        } else {
+            for (int i = sourceBegin; i < sourceEnd; i++)
+                destination[destBegin++] = source.charAt(i);
+        }
+    }
+
     /**
      * Removes all characters that are regarded as white-space according to
      * Character.isWhitespace(int codePoint) function.
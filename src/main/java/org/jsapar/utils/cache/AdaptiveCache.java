@@ -0,0 +1,120 @@
+package org.jsapar.utils.cache;
+
+import org.jsapar.text.CacheStatistics;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A cache that adjusts its max size according to the hit rate observed while it is used. Lookups are sampled in
+ * groups of {@value #SAMPLE_SIZE}. After each sample:
+ * <ul>
+ * <li>If less than 10% of the lookups were hits, the max size is halved. When it becomes zero, the cache is disabled
+ * and lookups no longer cost anything but a counter.</li>
+ * <li>If at least half of the lookups were hits but there were still misses, the max size is doubled, up to the max
+ * size supplied to the constructor.</li>
+ * </ul>
+ * A disabled cache is enabled again with a small size after {@value #PROBE_INTERVAL} samples in order to detect if the
+ * values have started to repeat.
+ * <p>
+ * When the max size is exceeded, the oldest item is discarded. Instances of this class are not thread safe.
+ * @param <K> The key type
+ * @param <V> The value type
+ * @since 2.5
+ */
+public class AdaptiveCache<K, V> implements Cache<K, V> {
+    static final int    SAMPLE_SIZE    = 256;
+    static final int    PROBE_INTERVAL = 64;
+    static final int    PROBE_SIZE     = 8;
+    private static final double SHRINK_BELOW = 0.1;
+    private static final double GROW_ABOVE   = 0.5;
+
+    private final int                 maxSize;
+    private final CacheStatistics     statistics;
+    private final LinkedHashMap<K, V> elements;
+    private       int                 currentMaxSize;
+    private       int                 sampleLookups   = 0;
+    private       int                 sampleHits      = 0;
+    private       int                 disabledSamples = 0;
+
+    /**
+     * @param maxSize The maximum number of items that are ever cached.
+     */
+    public AdaptiveCache(int maxSize) {
+        this(maxSize, null);
+    }
+
+    /**
+     * @param maxSize    The maximum number of items that are ever cached.
+     * @param statistics Statistics to record hits and misses to. Can be null if no statistics should be recorded.
+     */
+    public AdaptiveCache(int maxSize, CacheStatistics statistics) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("Max size of adaptive cache needs to be at least 1");
+        this.maxSize = maxSize;
+        this.currentMaxSize = maxSize;
+        this.statistics = statistics;
+        this.elements = new LinkedHashMap<>(Math.min((maxSize * 4 / 3) + 1, 1024)) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > currentMaxSize;
+            }
+        };
+    }
+
+    @Override
+    public V get(K key) {
+        V value = currentMaxSize == 0 ? null : elements.get(key);
+        if (value != null) {
+            sampleHits++;
+            if (statistics != null)
+                statistics.recordHit();
+        } else if (statistics != null) {
+            statistics.recordMiss();
+        }
+        if (++sampleLookups == SAMPLE_SIZE)
+            adapt();
+        return value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        if (currentMaxSize > 0)
+            elements.put(key, value);
+    }
+
+    /**
+     * @return The current max size of this cache. Zero if the cache is currently disabled.
+     */
+    public int getCurrentMaxSize() {
+        return currentMaxSize;
+    }
+
+    private void adapt() {
+        if (currentMaxSize == 0) {
+            if (++disabledSamples >= PROBE_INTERVAL) {
+                disabledSamples = 0;
+                currentMaxSize = Math.min(PROBE_SIZE, maxSize);
+            }
+        } else if (sampleHits < SAMPLE_SIZE * SHRINK_BELOW) {
+            currentMaxSize /= 2;
+            if (currentMaxSize == 0)
+                elements.clear();
+            else
+                trim();
+        } else if (sampleHits >= SAMPLE_SIZE * GROW_ABOVE && sampleHits < SAMPLE_SIZE) {
+            currentMaxSize = (int) Math.min(maxSize, currentMaxSize * 2L);
+        }
+        sampleLookups = 0;
+        sampleHits = 0;
+    }
+
+    private void trim() {
+        Iterator<V> iterator = elements.values().iterator();
+        while (elements.size() > currentMaxSize) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
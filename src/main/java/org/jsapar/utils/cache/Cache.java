@@ -1,5 +1,8 @@
 package org.jsapar.utils.cache;
 
+import org.jsapar.text.CachePolicy;
+import org.jsapar.text.CacheStatistics;
+
 /**
  * Saves the value related to a number of keys. There is no expiration time but if max size is reached old items are
  * discarded as new values are entered.
@@ -44,4 +47,28 @@ public interface Cache<K, V> {
                 return new LimitedSizeCache<>(maxSize);
         }
     }
+
+    /**
+     * Creates a new cache according to supplied policy.
+     *
+     * @param policy     The cache policy to use.
+     * @param maxSize    The max cache size. The value 0 disables the cache regardless of policy.
+     * @param statistics Statistics to record hits and misses to. Can be null if no statistics should be recorded.
+     * @param <K>        The key type
+     * @param <V>        The value type
+     * @return A new cache according to supplied policy.
+     * @since 2.5
+     */
+    static <K, V> Cache<K, V> of(CachePolicy policy, int maxSize, CacheStatistics statistics) {
+        final Cache<K, V> cache;
+        if (maxSize <= 0)
+            cache = new DisabledCache<>();
+        else if (policy == CachePolicy.ADAPTIVE)
+            return new AdaptiveCache<>(maxSize, statistics);
+        else if (policy == CachePolicy.FREQUENCY && maxSize > 2)
+            cache = new FrequencyCache<>(maxSize);
+        else
+            cache = ofMaxSize(maxSize);
+        return statistics == null ? cache : new RecordingCache<>(cache, statistics);
+    }
 }
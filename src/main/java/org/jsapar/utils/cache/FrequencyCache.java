@@ -0,0 +1,185 @@
+package org.jsapar.utils.cache;
+
+/**
+ * A frequency aware cache where frequently used items are kept even though other values occur in between. Eviction
+ * uses the CLOCK algorithm: each item has a small use counter that is incremented, up to {@value #MAX_USE}, each time
+ * the item is fetched. When the cache is full, a clock hand sweeps over the items, decrementing the counters, and the
+ * first item found with a counter of zero becomes the victim.
+ * <p>
+ * A new item only replaces the victim if it is estimated to be looked up more frequently than the victim (TinyLFU
+ * admission). The estimates are kept in a small count-min sketch of all recent lookups, including misses, which is
+ * periodically aged by halving all counters. This means that a scan of values that occur only once does not flush
+ * the frequently used values out of the cache.
+ * <p>
+ * Items are stored in parallel arrays that are looked up by an open addressing hash table with linear probing, so
+ * that no memory is allocated per item when putting values into the cache.
+ * <p>
+ * Instances of this class are not thread safe.
+ * @param <K> The key type
+ * @param <V> The value type
+ * @since 2.5
+ */
+public class FrequencyCache<K, V> implements Cache<K, V> {
+    static final int MAX_USE = 3;
+    private static final int MAX_ESTIMATE = 15;
+
+    private final Object[] keys;
+    private final Object[] values;
+    private final int[]    hashes;
+    private final byte[]   uses;
+    /**
+     * The index of each item plus one, zero if the slot is empty.
+     */
+    private final int[]    table;
+    private final int      mask;
+    private final byte[]   sketch;
+    private final int      sketchMask;
+    private final int      sampleSize;
+    private       int      sampleCount = 0;
+    private       int      size        = 0;
+    private       int      hand        = 0;
+
+    /**
+     * @param maxSize The maximum number of items to cache.
+     */
+    public FrequencyCache(int maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("Max size of cache needs to be at least 1");
+        keys = new Object[maxSize];
+        values = new Object[maxSize];
+        hashes = new int[maxSize];
+        uses = new byte[maxSize];
+        // Keep the load factor of the table at most 0.5
+        table = new int[Integer.highestOneBit(maxSize) << 2];
+        mask = table.length - 1;
+        sketch = new byte[Math.max(64, Integer.highestOneBit(maxSize) << 4)];
+        sketchMask = sketch.length - 1;
+        sampleSize = Math.max(64, maxSize * 10);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        final int hash = hash(key);
+        increment(hash);
+        final int index = indexOf(key, hash);
+        if (index < 0)
+            return null;
+        if (uses[index] < MAX_USE)
+            uses[index]++;
+        return (V) values[index];
+    }
+
+    @Override
+    public void put(K key, V value) {
+        final int hash = hash(key);
+        int index = indexOf(key, hash);
+        if (index >= 0) {
+            values[index] = value;
+            return;
+        }
+        if (size < keys.length) {
+            index = size++;
+        } else {
+            index = nextVictim();
+            if (estimate(hash) <= estimate(hashes[index]))
+                return;
+            removeFromTable(index);
+        }
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = hash;
+        uses[index] = 0;
+        int slot = hash & mask;
+        while (table[slot] != 0)
+            slot = (slot + 1) & mask;
+        table[slot] = index + 1;
+    }
+
+    /**
+     * @return The number of items in this cache.
+     */
+    public int size() {
+        return size;
+    }
+
+    private static int hash(Object key) {
+        final int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private int indexOf(Object key, int hash) {
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            final int entry = table[slot];
+            if (entry == 0)
+                return -1;
+            final int index = entry - 1;
+            if (hashes[index] == hash && key.equals(keys[index]))
+                return index;
+        }
+    }
+
+    private static int rehash(int hash) {
+        final int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 15);
+    }
+
+    /**
+     * Increments the estimated frequency of a hash in both rows of the sketch. Halves all counters when a sample of
+     * lookups has been counted so that old frequencies fade.
+     * @param hash The hash of a key.
+     */
+    private void increment(int hash) {
+        final int first = hash & sketchMask;
+        final int second = rehash(hash) & sketchMask;
+        if (sketch[first] < MAX_ESTIMATE)
+            sketch[first]++;
+        if (sketch[second] < MAX_ESTIMATE)
+            sketch[second]++;
+        if (++sampleCount == sampleSize) {
+            sampleCount = 0;
+            for (int i = 0; i < sketch.length; i++)
+                sketch[i] >>= 1;
+        }
+    }
+
+    private int estimate(int hash) {
+        return Math.min(sketch[hash & sketchMask], sketch[rehash(hash) & sketchMask]);
+    }
+
+    /**
+     * Moves the clock hand to the next item that has not been used since last time the hand passed it.
+     * @return The index of that item.
+     */
+    private int nextVictim() {
+        while (uses[hand] > 0) {
+            uses[hand]--;
+            hand = (hand + 1) % keys.length;
+        }
+        final int index = hand;
+        hand = (hand + 1) % keys.length;
+        return index;
+    }
+
+    /**
+     * Removes an item from the hash table by shifting subsequent entries of the same probe sequence backwards, which
+     * keeps the table free from deletion markers.
+     * @param index The index of the item to remove.
+     */
+    private void removeFromTable(int index) {
+        int slot = hashes[index] & mask;
+        while (table[slot] != index + 1)
+            slot = (slot + 1) & mask;
+        table[slot] = 0;
+        for (int next = (slot + 1) & mask; table[next] != 0; next = (next + 1) & mask) {
+            final int home = hashes[table[next] - 1] & mask;
+            // Leave the entry if its home slot is cyclically within (slot, next]
+            final boolean inPlace = slot <= next ? (slot < home && home <= next) : (slot < home || home <= next);
+            if (!inPlace) {
+                table[slot] = table[next];
+                table[next] = 0;
+                slot = next;
+            }
+        }
+    }
+}
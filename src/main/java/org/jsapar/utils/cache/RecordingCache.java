@@ -0,0 +1,33 @@
+package org.jsapar.utils.cache;
+
+import org.jsapar.text.CacheStatistics;
+
+/**
+ * Records hits and misses of another cache.
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+final class RecordingCache<K, V> implements Cache<K, V> {
+    private final Cache<K, V>     cache;
+    private final CacheStatistics statistics;
+
+    RecordingCache(Cache<K, V> cache, CacheStatistics statistics) {
+        this.cache = cache;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public V get(K key) {
+        V value = cache.get(key);
+        if (value != null)
+            statistics.recordHit();
+        else
+            statistics.recordMiss();
+        return value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        cache.put(key, value);
+    }
+}
@@ -12,8 +12,12 @@ import org.junit.Test;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 
 public class Text2BeanConverterTest {
@@ -45,6 +49,40 @@ public class Text2BeanConverterTest {
         }
     }
 
+    @Test
+    public void publisher() throws IOException {
+        CsvSchema schema = makeTestCsvSchema();
+        String input = "John;Doe\nJane;Roe";
+        Text2BeanConverter<TstPerson> converter = new Text2BeanConverter<>(schema);
+        List<TstPerson> persons = new ArrayList<>();
+        try (Reader reader = new StringReader(input)) {
+            converter.publisher(reader).subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(TstPerson item) {
+                    persons.add(item);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    throw new AssertionError(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    persons.add(null);
+                }
+            });
+        }
+        assertEquals(3, persons.size());
+        assertEquals("Roe", persons.get(1).getLastName());
+        assertNull(persons.get(2));
+    }
+
     protected CsvSchema makeTestCsvSchema() {
         return CsvSchema.builder()
                 .withLine(CsvSchemaLine.builder("org.jsapar.TstPerson")
@@ -6,8 +6,11 @@ import org.jsapar.schema.*;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.Assert.*;
 
@@ -54,6 +57,24 @@ public class TextComposerTest {
         assertEquals(sExpected, writer.toString());
     }
 
+    @Test
+    public void testWriteCsv_outputStream() throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .withLineSeparator("\n")
+                .withLine(CsvSchemaLine.builder("org.jsapar.TstPerson")
+                        .withCells("FirstName", "LastName")
+                        .build())
+                .build();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (TextComposer composer = new TextComposer(schema, out, StandardCharsets.ISO_8859_1)) {
+            composer.composeLine(new Line("org.jsapar.TstPerson").addCell(new StringCell("FirstName", "Åsa"))
+                    .addCell(new StringCell("LastName", "Öberg")));
+            composer.composeLine(new Line("org.jsapar.TstPerson").addCell(new StringCell("FirstName", "Frida")));
+        }
+        assertEquals("Åsa;Öberg\nFrida;", out.toString(StandardCharsets.ISO_8859_1));
+    }
+
     @Test
     public final void testWriteCsv() {
         String sExpected = "Jonas;Stenberg" + System.getProperty("line.separator") + "Frida;Bergsten";
@@ -1,9 +1,13 @@
 package org.jsapar;
 
+import org.jsapar.error.JSaParException;
 import org.jsapar.error.ValidationAction;
 import org.jsapar.model.Cell;
+import org.jsapar.model.CellType;
 import org.jsapar.model.Line;
+import org.jsapar.model.LineUtils;
 import org.jsapar.schema.CsvSchema;
+import org.jsapar.schema.FixedWidthSchema;
 import org.jsapar.schema.Schema;
 import org.jsapar.text.TextParseConfig;
 import org.junit.Test;
@@ -11,8 +15,14 @@ import org.junit.Test;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Flow;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
@@ -31,6 +41,47 @@ public class TextParserTest {
     }
 
 
+    @Test
+    public void publisher() throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .withLine("a", l->l.withCells("a", "b"))
+                .build();
+        TextParser parser = new TextParser(schema);
+        List<Line> result = new ArrayList<>();
+        try(Reader reader = new StringReader("A;1\nB;2\nC;3")) {
+            parser.publisher(reader).subscribe(new Flow.Subscriber<>() {
+                private Flow.Subscription subscription;
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onNext(Line item) {
+                    result.add(item);
+                    if (result.size() == 2)
+                        subscription.cancel();
+                    else
+                        subscription.request(1);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    throw new AssertionError(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    throw new AssertionError("Should be cancelled before completed");
+                }
+            });
+        }
+        assertEquals(2, result.size());
+        assertEquals("2", result.get(1).getCell("b").map(Cell::getStringValue).orElse(null));
+    }
+
     @Test
     public void stream() throws IOException {
         CsvSchema schema = CsvSchema.builder()
@@ -50,6 +101,112 @@ public class TextParserTest {
         }
     }
 
+    @Test
+    public void parseForEach_path_parallel() throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("a", l->l.withCells("id", "text"))
+                .build();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 1000; i++)
+            text.append(i).append(";\"line\n").append(i).append("\"\n");
+        Path file = Files.createTempFile("jsapar", ".csv");
+        try {
+            Files.write(file, text.toString().getBytes(StandardCharsets.UTF_8));
+            TextParseConfig config = new TextParseConfig();
+            config.setParallelism(4);
+            config.setParallelChunkSize(256);
+            TextParser parser = new TextParser(schema, config);
+            List<Line> result = new ArrayList<>();
+            assertEquals(1000, parser.parseForEach(file, StandardCharsets.UTF_8, result::add));
+            assertEquals(1000, result.size());
+            for (int i = 0; i < 1000; i++) {
+                Line line = result.get(i);
+                assertEquals(i + 1, line.getLineNumber());
+                assertEquals("line\n" + i, line.getCell("text").map(Cell::getStringValue).orElse(null));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void stream_path_parallel() throws IOException {
+        FixedWidthSchema schema = FixedWidthSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("a", l->l.withCell("id", 6, c->c.withType(CellType.INTEGER)).withCell("text", 10))
+                .build();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 1000; i++)
+            text.append(String.format("%6dline %-5d\n", i, i));
+        Path file = Files.createTempFile("jsapar", ".txt");
+        try {
+            Files.write(file, text.toString().getBytes(StandardCharsets.UTF_8));
+            TextParseConfig config = new TextParseConfig();
+            config.setParallelChunkSize(256);
+            TextParser parser = new TextParser(schema, config);
+            try (Stream<Line> stream = parser.stream(file, StandardCharsets.UTF_8)) {
+                List<Line> result = stream.parallel().filter(line -> line.getLineNumber() % 2 == 0).collect(Collectors.toList());
+                assertEquals(500, result.size());
+                for (int i = 0; i < 500; i++) {
+                    Line line = result.get(i);
+                    assertEquals(2 * i + 2, line.getLineNumber());
+                    assertEquals(2 * i + 1, LineUtils.getIntCellValue(line, "id", -1));
+                }
+            }
+            try (Stream<Line> stream = parser.stream(file, StandardCharsets.UTF_8)) {
+                assertEquals(999 * 1000 / 2, stream.parallel().mapToInt(line -> LineUtils.getIntCellValue(line, "id", 0)).sum());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void stream_path_errors_in_same_order_as_reader() throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("a", l->l.withCell("id", c->c.withType(CellType.INTEGER)).withCell("text"))
+                .build();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 300; i++)
+            text.append(i % 100 == 99 ? "x" : String.valueOf(i)).append(";line ").append(i).append('\n');
+        Path file = Files.createTempFile("jsapar", ".csv");
+        try {
+            Files.write(file, text.toString().getBytes(StandardCharsets.UTF_8));
+            TextParser parser = new TextParser(schema);
+            List<String> expected = new ArrayList<>();
+            try (Stream<Line> stream = parser.stream(new StringReader(text.toString()))) {
+                stream.forEach(line -> expected.add(line.toString()));
+            } catch (JSaParException e) {
+                expected.add(e.getMessage());
+            }
+            assertEquals(100, expected.size());
+            List<String> actual = new ArrayList<>();
+            try (Stream<Line> stream = parser.stream(file, StandardCharsets.UTF_8)) {
+                stream.forEach(line -> actual.add(line.toString()));
+            } catch (JSaParException e) {
+                actual.add(e.getMessage());
+            }
+            assertEquals(expected, actual);
+
+            List<String> expectedEvents = new ArrayList<>();
+            parser.setErrorConsumer(e -> expectedEvents.add(e.getMessage()));
+            try (Stream<Line> stream = parser.stream(new StringReader(text.toString()))) {
+                stream.forEach(line -> expectedEvents.add(line.toString()));
+            }
+            assertEquals(303, expectedEvents.size());
+            List<String> actualEvents = new ArrayList<>();
+            parser.setErrorConsumer(e -> actualEvents.add(e.getMessage()));
+            try (Stream<Line> stream = parser.stream(file, StandardCharsets.UTF_8)) {
+                stream.forEach(line -> actualEvents.add(line.toString()));
+            }
+            assertEquals(expectedEvents, actualEvents);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
     private Schema<?> makeInputSchema() {
         return CsvSchema.builder().build();
     }
@@ -0,0 +1,116 @@
+package org.jsapar.compose;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ChunkedEncodingWriterTest {
+
+    private static final Charset[] CHARSETS = {StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1,
+            StandardCharsets.UTF_16LE, Charset.forName("windows-1252")};
+
+    @Test
+    public void write_same_as_OutputStreamWriter() throws IOException {
+        Random random = new Random(123);
+        for (Charset charset : CHARSETS) {
+            for (int bufferSize : new int[]{2, 3, 7, 100}) {
+                for (int i = 0; i < 20; i++) {
+                    String text = randomText(random);
+                    assertEquals(charset + " " + bufferSize + " " + text,
+                            new String(expected(text, charset), StandardCharsets.ISO_8859_1),
+                            new String(written(text, charset, bufferSize, random), StandardCharsets.ISO_8859_1));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void write_channel() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Writer writer = new ChunkedEncodingWriter(Channels.newChannel(out), StandardCharsets.UTF_8, 4)) {
+            writer.write("Åsa;Öberg\n");
+            writer.write('€');
+        }
+        assertEquals("Åsa;Öberg\n€", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void flush() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Writer writer = new ChunkedEncodingWriter(out, StandardCharsets.UTF_8, 1000);
+        writer.write("abc");
+        assertEquals(0, out.size());
+        writer.flush();
+        assertEquals("abc", out.toString(StandardCharsets.UTF_8));
+        writer.close();
+    }
+
+    @Test(expected = IOException.class)
+    public void write_closed() throws IOException {
+        Writer writer = new ChunkedEncodingWriter(new ByteArrayOutputStream(), StandardCharsets.UTF_8);
+        writer.close();
+        writer.write("abc");
+    }
+
+    private static String randomText(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int length = random.nextInt(50);
+        for (int i = 0; i < length; i++) {
+            switch (random.nextInt(6)) {
+            case 0:
+                sb.append((char) ('a' + random.nextInt(26)));
+                break;
+            case 1:
+                sb.append((char) (0x80 + random.nextInt(0x180)));
+                break;
+            case 2:
+                sb.append((char) (0x800 + random.nextInt(0x1000)));
+                break;
+            case 3:
+                sb.appendCodePoint(0x10000 + random.nextInt(0x1000));
+                break;
+            case 4:
+                sb.append((char) (0xD800 + random.nextInt(0x800))); // Lone surrogate
+                break;
+            default:
+                sb.append("€;\n");
+            }
+        }
+        return sb.toString();
+    }
+
+    private static byte[] expected(String text, Charset charset) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(out, charset)) {
+            writer.write(text);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] written(String text, Charset charset, int bufferSize, Random random) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Writer writer = new ChunkedEncodingWriter(out, charset, bufferSize)) {
+            int i = 0;
+            while (i < text.length()) {
+                int n = Math.min(text.length() - i, random.nextInt(5));
+                if (n == 1)
+                    writer.write(text.charAt(i));
+                else if (random.nextBoolean())
+                    writer.write(text, i, n);
+                else
+                    writer.write(text.toCharArray(), i, n);
+                i += n;
+            }
+        }
+        return out.toByteArray();
+    }
+}
@@ -128,6 +128,23 @@ public class CsvCellComposerTest {
         assertEquals("123456", writer.toString());
     }
 
+    @Test
+    public final void testOutput_int_reused_maxLength() throws IOException, SchemaException {
+        CsvSchemaCell schemaElement = CsvSchemaCell.builder("Integer")
+                .withType(CellType.INTEGER)
+                .build();
+
+        CsvCellComposer composer = new CsvCellComposer(schemaElement, new NeverQuote(4));
+        Writer writer = new StringWriter();
+        composer.compose(writer, new IntegerCell("Integer", -123456));
+        writer.write(';');
+        composer.compose(writer, new IntegerCell("Integer", 7));
+        writer.write(';');
+        composer.compose(writer, new IntegerCell("Integer", 1234567890123456789L));
+
+        assertEquals("-123;7;1234", writer.toString());
+    }
+
     @Test
     public final void testOutput_Boolean() throws IOException, SchemaException {
         CsvSchemaCell schemaElement = CsvSchemaCell.builder("Loves")
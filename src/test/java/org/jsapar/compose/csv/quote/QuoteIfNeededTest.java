@@ -3,7 +3,9 @@ package org.jsapar.compose.csv.quote;
 import org.jsapar.schema.QuoteSyntax;
 import org.junit.Test;
 
+import java.io.IOException;
 import java.io.StringWriter;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 
@@ -58,4 +60,38 @@ public class QuoteIfNeededTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void writeValue_chars_same_as_string() throws IOException {
+        Random random = new Random(23);
+        String alphabet = "ab\"\";;:\r\n\u00e5\u20ac";
+        for (int maxLength : new int[]{-1, 0, 1, 2, 3, 5, 8}) {
+            for (String[] separators : new String[][]{{";", "\n"}, {";:", "\r\n"}, {"\u20ac", "\u00e5"}}) {
+                Quoter[] quoters = {
+                        new QuoteIfNeeded('"', maxLength, separators[0], separators[1], QuoteSyntax.RFC4180),
+                        new QuoteIfNeeded('"', maxLength, separators[0], separators[1], QuoteSyntax.FIRST_LAST),
+                        new QuoteIfNeeded(';', maxLength, separators[0], separators[1], QuoteSyntax.RFC4180),
+                        new AlwaysQuote('"', maxLength, QuoteSyntax.RFC4180),
+                        new AlwaysQuote('"', maxLength, QuoteSyntax.FIRST_LAST),
+                        new NeverQuoteButReplace(maxLength, separators[0], separators[1], "\u00A0"),
+                        new NeverQuote(maxLength)};
+                for (int i = 0; i < 300; i++) {
+                    StringBuilder sb = new StringBuilder();
+                    int length = random.nextInt(10);
+                    for (int j = 0; j < length; j++)
+                        sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                    String value = sb.toString();
+                    char[] buffer = (value + "xyz").toCharArray();
+                    for (Quoter quoter : quoters) {
+                        StringWriter expected = new StringWriter();
+                        quoter.writeValue(expected, value);
+                        StringWriter actual = new StringWriter();
+                        quoter.writeValue(actual, buffer, value.length());
+                        assertEquals(quoter.getClass().getSimpleName() + " [" + value + "] " + maxLength,
+                                expected.toString(), actual.toString());
+                    }
+                }
+            }
+        }
+    }
+
+}
@@ -3,11 +3,14 @@ package org.jsapar.compose.fixed;
 import org.jsapar.error.JSaParException;
 import org.jsapar.model.Line;
 import org.jsapar.model.StringCell;
+import org.jsapar.schema.FixedWidthSchemaCell;
 import org.jsapar.schema.FixedWidthSchemaLine;
 import org.junit.Test;
 
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 
@@ -83,5 +86,33 @@ public class FixedWidthLineComposerTest {
         assertEquals("     Stenberg", sResult);
     }
 
+    @Test
+    public void testOutput_oneWritePerLine() throws JSaParException {
+        FixedWidthSchemaLine schemaLine = FixedWidthSchemaLine.builder("Person")
+                .withMinLength(20)
+                .withPadCharacter('.')
+                .withCell("First name", 6)
+                .withCell("Last name", 6, c -> c.withAlignment(FixedWidthSchemaCell.Alignment.RIGHT))
+                .withCell("City", 5, c -> c.withDefaultValue("Paris"))
+                .build();
 
-}
\ No newline at end of file
+        List<String> writes = new ArrayList<>();
+        Writer writer = new StringWriter() {
+            @Override
+            public void write(char[] cbuf, int off, int len) {
+                writes.add(new String(cbuf, off, len));
+            }
+        };
+        FixedWidthLineComposer composer = new FixedWidthLineComposer(writer, schemaLine);
+        Line line1 = new Line("Person");
+        line1.addCell(new StringCell("First name", "Jonas"));
+        line1.addCell(new StringCell("Last name", "Stenberg"));
+        line1.addCell(new StringCell("City", "Stockholm"));
+        composer.compose(line1);
+        Line line2 = new Line("Person");
+        line2.addCell(new StringCell("Last name", "Ek"));
+        composer.compose(line2);
+
+        assertEquals(List.of("Jonas.enbergStock   ", "..........EkParis   "), writes);
+    }
+}
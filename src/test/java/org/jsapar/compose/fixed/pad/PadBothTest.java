@@ -41,4 +41,17 @@ public class PadBothTest {
         assertEquals("*12**", writer.toString());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void fit_buffer() {
+        char[] buffer = "........".toCharArray();
+        new PadBoth('*', 3).fit(buffer, 2, "123456");
+        assertEquals("..234...", new String(buffer));
+    }
+
+    @Test
+    public void pad_buffer() {
+        char[] buffer = "........".toCharArray();
+        new PadBoth('*', 5).pad(buffer, 1, "12");
+        assertEquals(".*12**..", new String(buffer));
+    }
+}
@@ -24,4 +24,18 @@ public class PadLeftTest {
         pad.pad(writer, "12");
         assertEquals("**12", writer.toString());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void fit_buffer() {
+        char[] buffer = "........".toCharArray();
+        new PadLeft('*', 4).fit(buffer, 2, "12345");
+        assertEquals("..2345..", new String(buffer));
+    }
+
+    @Test
+    public void pad_buffer() {
+        char[] buffer = "........".toCharArray();
+        new PadLeft('*', 4).pad(buffer, 2, "12");
+        assertEquals("..**12..", new String(buffer));
+    }
+}
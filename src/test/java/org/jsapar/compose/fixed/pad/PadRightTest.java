@@ -24,4 +24,18 @@ public class PadRightTest {
         pad.pad(writer, "12");
         assertEquals("12**", writer.toString());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void fit_buffer() {
+        char[] buffer = "........".toCharArray();
+        new PadRight('*', 4).fit(buffer, 2, "12345");
+        assertEquals("..1234..", new String(buffer));
+    }
+
+    @Test
+    public void pad_buffer() {
+        char[] buffer = "........".toCharArray();
+        new PadRight('*', 4).pad(buffer, 2, "12");
+        assertEquals("..12**..", new String(buffer));
+    }
+}
@@ -0,0 +1,40 @@
+package org.jsapar.compose.line;
+
+import org.jsapar.model.CellIndex;
+import org.jsapar.model.IndexedLine;
+import org.jsapar.model.Line;
+import org.jsapar.model.StringCell;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CellLocatorTest {
+
+    @Test
+    public void find_indexedLine() {
+        CellLocator locator = new CellLocator(List.of("c", "a", "x"));
+        IndexedLine line = new IndexedLine("test", new CellIndex(List.of("a", "b", "c")), 1);
+        line.addCell(new StringCell("a", "A"));
+        line.addCell(new StringCell("c", "C"));
+        line.addCell(new StringCell("x", "X"));
+        assertEquals("C", locator.find(line, 0).getStringValue());
+        assertEquals("A", locator.find(line, 1).getStringValue());
+        assertEquals("X", locator.find(line, 2).getStringValue());
+
+        IndexedLine other = new IndexedLine("test", new CellIndex(List.of("c")), 2);
+        other.addCell(new StringCell("c", "C2"));
+        assertEquals("C2", locator.find(other, 0).getStringValue());
+        assertNull(locator.find(other, 1));
+    }
+
+    @Test
+    public void find_line() {
+        CellLocator locator = new CellLocator(List.of("a", "b"));
+        Line line = new Line("test");
+        line.addCell(new StringCell("b", "B"));
+        assertNull(locator.find(line, 0));
+        assertEquals("B", locator.find(line, 1).getStringValue());
+    }
+}
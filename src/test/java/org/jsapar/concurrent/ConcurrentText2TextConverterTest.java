@@ -2,6 +2,7 @@ package org.jsapar.concurrent;
 
 import org.jsapar.error.JSaParException;
 import org.jsapar.schema.*;
+import org.jsapar.text.TextParseConfig;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -43,4 +44,27 @@ public class ConcurrentText2TextConverterTest {
 
     }
 
+    @Test
+    public void testConvert_reuseLines() throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .withLine(CsvSchemaLine.builder("Row")
+                        .withCells("A", "B")
+                        .build())
+                .withLineSeparator("|")
+                .build();
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            if (i > 0)
+                input.append('|');
+            input.append(i).append(';').append(i * 10);
+        }
+        TextParseConfig parseConfig = new TextParseConfig();
+        parseConfig.setReuseLines(true);
+        ConcurrentText2TextConverter converter = new ConcurrentText2TextConverter(schema, schema, parseConfig);
+        StringWriter writer = new StringWriter();
+        converter.convert(new StringReader(input.toString()), writer);
+        Assert.assertEquals(input.toString(), writer.toString());
+        Assert.assertTrue(parseConfig.isReuseLines());
+    }
+
 }
\ No newline at end of file
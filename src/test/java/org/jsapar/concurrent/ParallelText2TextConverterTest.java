@@ -0,0 +1,253 @@
+package org.jsapar.concurrent;
+
+import org.jsapar.Text2TextConverter;
+import org.jsapar.model.CellType;
+import org.jsapar.model.StringCell;
+import org.jsapar.schema.*;
+import org.jsapar.text.Format;
+import org.jsapar.text.TextParseConfig;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Locale;
+import java.util.Random;
+
+public class ParallelText2TextConverterTest {
+
+    private final CsvSchema inputSchema = CsvSchema.builder()
+            .withLine(CsvSchemaLine.builder("A")
+                    .withCell("Type", c -> c.withLineCondition("A"::equals))
+                    .withCell("Number", c -> c.withType(CellType.INTEGER))
+                    .withCell("Name")
+                    .build())
+            .withLine(CsvSchemaLine.builder("B")
+                    .withCell("Type", c -> c.withLineCondition("B"::equals))
+                    .withCell("Number", c -> c.withType(CellType.INTEGER))
+                    .withCell("Name")
+                    .build())
+            .withLine(CsvSchemaLine.builder("C")
+                    .withCell("Type", c -> c.withLineCondition("C"::equals))
+                    .withCell("Number", c -> c.withType(CellType.INTEGER))
+                    .withCell("Name")
+                    .build())
+            .withLineSeparator("\n")
+            .build();
+
+    @Test
+    public void testConvert() throws IOException {
+        String toParse = "A;1;Jonas\nB;2;Frida\nA;3;Erik";
+        CsvSchema outputSchema = CsvSchema.builder()
+                .withLine(CsvSchemaLine.builder("A")
+                        .withCells("Number", "Name")
+                        .withCellSeparator(",")
+                        .build())
+                .withLine(CsvSchemaLine.builder("B")
+                        .withCells("Name", "Number")
+                        .withCellSeparator("|")
+                        .build())
+                .withLineSeparator("\n")
+                .build();
+
+        ParallelText2TextConverter converter = new ParallelText2TextConverter(inputSchema, outputSchema);
+        converter.setThreadCount(2);
+        converter.setBatchSize(1);
+        StringWriter writer = new StringWriter();
+        Assert.assertEquals(3, converter.convert(new StringReader(toParse), writer));
+        Assert.assertEquals("1,Jonas\nFrida|2\n3,Erik", writer.toString());
+    }
+
+    @Test
+    public void testConvert_same_as_sequential_csv_with_headers() throws IOException {
+        CsvSchema outputSchema = CsvSchema.builder()
+                .withLine(CsvSchemaLine.builder("A")
+                        .withCells("Number", "Name")
+                        .withFirstLineAsSchema(true)
+                        .build())
+                .withLine(CsvSchemaLine.builder("B")
+                        .withCells("Name", "Number")
+                        .withCellSeparator(",")
+                        .withFirstLineAsSchema(true)
+                        .build())
+                .withLineSeparator("\r\n")
+                .build();
+        assertSameAsSequential(outputSchema, makeInput(1000, "B", "A", "C", "A", "B", "A", "A"));
+        assertSameAsSequential(outputSchema, makeInput(1000, "C", "C", "A", "C", "C", "B", "C"));
+        assertSameAsSequential(outputSchema, makeInput(10, "C"));
+        assertSameAsSequential(outputSchema, makeInput(0, "A"));
+    }
+
+    @Test
+    public void testConvert_same_as_sequential_fixed_width() throws IOException {
+        FixedWidthSchema outputSchema = FixedWidthSchema.builder()
+                .withLine(FixedWidthSchemaLine.builder("A")
+                        .withCell("Number", 6, c -> c.withType(CellType.INTEGER).withAlignment(FixedWidthSchemaCell.Alignment.RIGHT))
+                        .withCell("Name", 10)
+                        .build())
+                .withLine(FixedWidthSchemaLine.builder("C")
+                        .withCell("Name", 12)
+                        .build())
+                .withLineSeparator("\n")
+                .build();
+        assertSameAsSequential(outputSchema, makeInput(1000, "A", "B", "C", "B", "B"));
+    }
+
+    @Test
+    public void testConvert_manipulators() throws IOException {
+        CsvSchema outputSchema = CsvSchema.builder()
+                .withLine(CsvSchemaLine.builder("A")
+                        .withCells("Number", "Name")
+                        .withFirstLineAsSchema(true)
+                        .build())
+                .withLine(CsvSchemaLine.builder("B")
+                        .withCells("Number", "Name")
+                        .build())
+                .withLineSeparator("\n")
+                .build();
+        String input = makeInput(1000, "A", "B", "B", "C");
+        Text2TextConverter sequential = new Text2TextConverter(inputSchema, outputSchema);
+        addManipulators(sequential);
+        String expected = convert(sequential, input);
+
+        ParallelText2TextConverter converter = new ParallelText2TextConverter(inputSchema, outputSchema);
+        converter.setThreadCount(4);
+        converter.setBatchSize(7);
+        addManipulators(converter);
+        Assert.assertEquals(expected, convert(converter, input));
+    }
+
+    @Test
+    public void testConvert_transformer() throws IOException {
+        CsvSchema outputSchema = CsvSchema.builder()
+                .withLine(CsvSchemaLine.builder("A")
+                        .withCells("Number", "Name")
+                        .build())
+                .withLineSeparator("\n")
+                .build();
+        ParallelText2TextConverter converter = new ParallelText2TextConverter(inputSchema, outputSchema);
+        converter.setThreadCount(3);
+        converter.setBatchSize(2);
+        converter.setTransformer(line -> java.util.List.of(line, line));
+        String input = makeInput(3, "A", "B");
+        Text2TextConverter sequential = new Text2TextConverter(inputSchema, outputSchema);
+        sequential.setTransformer(line -> java.util.List.of(line, line));
+        Assert.assertEquals(convert(sequential, input), convert(converter, input));
+        Assert.assertEquals("0;Name 0\n0;Name 0\n2;Name 2\n2;Name 2", convert(converter, input));
+    }
+
+    @Test
+    public void testConvert_reuseLines() throws IOException {
+        CsvSchema outputSchema = CsvSchema.builder()
+                .withLine(CsvSchemaLine.builder("A")
+                        .withCells("Number", "Name")
+                        .build())
+                .withLine(CsvSchemaLine.builder("B")
+                        .withCells("Name", "Number")
+                        .build())
+                .withLineSeparator("\n")
+                .build();
+        String input = makeInput(1000, "A", "B", "A");
+        String expected = convert(new Text2TextConverter(inputSchema, outputSchema), input);
+
+        TextParseConfig parseConfig = new TextParseConfig();
+        parseConfig.setReuseLines(true);
+        ParallelText2TextConverter converter = new ParallelText2TextConverter(inputSchema, outputSchema, parseConfig);
+        converter.setThreadCount(4);
+        converter.setBatchSize(10);
+        Assert.assertEquals(expected, convert(converter, input));
+    }
+
+    @Test
+    public void testConvert_java_text_formats_same_as_sequential() throws IOException {
+        CsvSchema decimalSchema = CsvSchema.builder()
+                .withLine(CsvSchemaLine.builder("A")
+                        .withCell("Amount", c -> c.withType(CellType.DECIMAL))
+                        .withCell("Implied", c -> c.withType(CellType.DECIMAL))
+                        .withCell("Date", c -> c.withType(CellType.DATE).withPattern("yyyy-MM-dd HH:mm:ss"))
+                        .build())
+                .withLineSeparator("\n")
+                .build();
+        CsvSchema outputSchema = CsvSchema.builder()
+                .withLine(CsvSchemaLine.builder("A")
+                        .withCell("Amount", c -> c.withType(CellType.DECIMAL).withPattern("#,##0.00").withLocale(Locale.GERMANY))
+                        .withCell("Implied", c -> c.withFormat(Format.ofImpliedDecimalInstance(2)))
+                        .withCell("Date", c -> c.withType(CellType.DATE).withPattern("dd.MM.yyyy HH:mm"))
+                        .build())
+                .withLineSeparator("\n")
+                .build();
+        Random random = new Random(4711);
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            input.append(String.format(Locale.US, "%.4f;%.5f;%04d-%02d-%02d %02d:%02d:%02d\n",
+                    (random.nextDouble() - 0.5) * 2e6, (random.nextDouble() - 0.5) * 2e4,
+                    1900 + random.nextInt(200), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60)));
+        }
+        String expected = convert(new Text2TextConverter(decimalSchema, outputSchema), input.toString());
+
+        ParallelText2TextConverter converter = new ParallelText2TextConverter(decimalSchema, outputSchema);
+        converter.setThreadCount(4);
+        converter.setBatchSize(16);
+        Assert.assertEquals(expected, convert(converter, input.toString()));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testConvert_exception_in_manipulator() throws IOException {
+        CsvSchema outputSchema = CsvSchema.builder()
+                .withLine(CsvSchemaLine.builder("A")
+                        .withCells("Number", "Name")
+                        .build())
+                .withLineSeparator("\n")
+                .build();
+        ParallelText2TextConverter converter = new ParallelText2TextConverter(inputSchema, outputSchema);
+        converter.setThreadCount(2);
+        converter.setBatchSize(5);
+        converter.addLineManipulator(line -> {
+            if (line.getLineNumber() == 42)
+                throw new IllegalStateException("Failed on purpose");
+            return true;
+        });
+        convert(converter, makeInput(1000, "A"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetBatchSize_zero() {
+        new ParallelText2TextConverter(inputSchema, inputSchema).setBatchSize(0);
+    }
+
+    private void assertSameAsSequential(Schema<?> outputSchema, String input) throws IOException {
+        String expected = convert(new Text2TextConverter(inputSchema, outputSchema), input);
+        for (int batchSize : new int[]{1, 3, 64, 5000}) {
+            ParallelText2TextConverter converter = new ParallelText2TextConverter(inputSchema, outputSchema);
+            converter.setThreadCount(4);
+            converter.setBatchSize(batchSize);
+            Assert.assertEquals("Batch size " + batchSize, expected, convert(converter, input));
+        }
+    }
+
+    private static void addManipulators(Text2TextConverter converter) {
+        converter.addLineManipulator(line -> line.getLineNumber() % 5 != 0);
+        converter.addLineManipulator(line -> {
+            line.putCell(new StringCell("Name", line.getCell("Name").map(c -> c.getStringValue().toUpperCase()).orElse("")));
+            return true;
+        });
+    }
+
+    private static String convert(Text2TextConverter converter, String input) throws IOException {
+        StringWriter writer = new StringWriter();
+        converter.convert(new StringReader(input), writer);
+        return writer.toString();
+    }
+
+    private static String makeInput(int count, String... lineTypes) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0)
+                sb.append('\n');
+            sb.append(lineTypes[i % lineTypes.length]).append(';').append(i).append(";Name ").append(i);
+        }
+        return sb.toString();
+    }
+}
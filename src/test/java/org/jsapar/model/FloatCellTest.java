@@ -32,4 +32,15 @@ public class FloatCellTest {
         //noinspection EqualsWithItself
         assertEquals(0, c1.compareTo(c1));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void of() {
+        FloatCell cell = FloatCell.of("test", 3.25);
+        assertEquals(3.25, cell.doubleValue(), 0.0);
+        assertEquals(3L, cell.longValue());
+        assertEquals(Double.valueOf(3.25), cell.getValue());
+        assertEquals("3.25", cell.getStringValue());
+        assertEquals(new FloatCell("test", 3.25), cell);
+        assertTrue(cell.compareValueTo(IntegerCell.of("test", 4)) < 0);
+    }
+}
@@ -0,0 +1,104 @@
+package org.jsapar.model;
+
+import org.jsapar.parse.CellParseException;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class IndexedLineTest {
+
+    private final CellIndex cellIndex = new CellIndex(List.of("a", "b", "c"));
+
+    @Test
+    public void testAddCell_getCell() {
+        IndexedLine line = new IndexedLine("type", cellIndex, 3);
+        line.addCell(new StringCell("c", "C")).addCell(new StringCell("a", "A")).addCell(new StringCell("other", "O"));
+        assertEquals(3, line.size());
+        assertEquals("A", line.getCell("a").orElseThrow().getStringValue());
+        assertEquals("C", line.getCellAt(2).getStringValue());
+        assertNull(line.getCellAt(1));
+        assertFalse(line.getCell("b").isPresent());
+        assertEquals("O", line.getCell("other").orElseThrow().getStringValue());
+        assertEquals(3, line.getLineNumber());
+        assertEquals("type", line.getLineType());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAddCell_already_exists() {
+        IndexedLine line = new IndexedLine("type", cellIndex, 3);
+        line.addCell(new StringCell("a", "A")).addCell(new StringCell("a", "A2"));
+    }
+
+    @Test
+    public void testIterator_index_order() {
+        IndexedLine line = new IndexedLine("type", cellIndex, 1);
+        line.addCell(new StringCell("other", "O")).addCell(new StringCell("c", "C")).addCell(new StringCell("a", "A"));
+        assertEquals(List.of("a", "c", "other"), line.stream().map(Cell::getName).collect(Collectors.toList()));
+        assertEquals(List.of("a", "c", "other"), line.getCells().stream().map(Cell::getName).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testPutCell_removeCell() {
+        IndexedLine line = new IndexedLine("type", cellIndex, 1);
+        assertFalse(line.putCell(new StringCell("b", "B")).isPresent());
+        assertEquals("B", line.putCell(new StringCell("b", "B2")).orElseThrow().getStringValue());
+        assertEquals(1, line.size());
+        assertEquals("B2", line.removeCell("b").orElseThrow().getStringValue());
+        assertFalse(line.removeCell("b").isPresent());
+        assertEquals(0, line.size());
+        LineUtils.setIntCellValue(line, "c", 42);
+        assertEquals(42, LineUtils.getIntCellValue(line, "c", -1));
+        LineUtils.setStringCellValue(line, "c", null);
+        assertFalse(line.isCellSet("c"));
+    }
+
+    @Test
+    public void testReset() {
+        IndexedLine line = new IndexedLine("type", cellIndex, 1);
+        line.addCell(new StringCell("a", "A")).addCell(new StringCell("other", "O"));
+        line.addCellError(new CellParseException("a", "A", null, "error"));
+        assertTrue(line.hasCellErrors());
+        assertSame(line, line.reset(2));
+        assertEquals(0, line.size());
+        assertEquals(2, line.getLineNumber());
+        assertFalse(line.hasCellErrors());
+        assertFalse(line.iterator().hasNext());
+    }
+
+    @Test
+    public void testCopy() {
+        IndexedLine line = new IndexedLine("type", cellIndex, 1);
+        line.addCell(new StringCell("a", "A")).addCell(new StringCell("other", "O"));
+        Line copy = line.copy();
+        line.reset(2).addCell(new StringCell("b", "B"));
+        assertEquals(2, copy.size());
+        assertEquals(1, copy.getLineNumber());
+        assertEquals("A", copy.getCell("a").orElseThrow().getStringValue());
+        assertFalse(copy.getCell("b").isPresent());
+    }
+
+    @Test
+    public void testCellIndex() {
+        CellIndex index = new CellIndex(List.of("a", "b", "a"));
+        assertEquals(0, index.indexOf("a"));
+        assertEquals(1, index.indexOf("b"));
+        assertEquals(-1, index.indexOf("c"));
+        assertEquals("b", index.nameAt(1));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void testGetLongAt_getDoubleAt() {
+        IndexedLine line = new IndexedLine("type", cellIndex, 1);
+        line.addCell(IntegerCell.of("a", 42)).addCell(new StringCell("b", "17")).addCell(FloatCell.of("c", 2.5));
+        assertEquals(42L, line.getLongAt(0, -1));
+        assertEquals(17L, line.getLongAt(1, -1));
+        assertEquals(2.5, line.getDoubleAt(2, -1.0), 0.0);
+        assertEquals(42.0, line.getDoubleAt(0, -1.0), 0.0);
+        line.removeCell("a");
+        assertEquals(-1L, line.getLongAt(0, -1));
+    }
+}
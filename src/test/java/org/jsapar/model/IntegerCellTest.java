@@ -38,4 +38,15 @@ public class IntegerCellTest {
         assertTrue(c3.compareValueTo(c1) <0);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void of() {
+        IntegerCell cell = IntegerCell.of("test", 123456789012L);
+        assertEquals(123456789012L, cell.longValue());
+        assertEquals(Long.valueOf(123456789012L), cell.getValue());
+        assertEquals("123456789012", cell.getStringValue());
+        assertEquals(new IntegerCell("test", 123456789012L), cell);
+        assertEquals(new IntegerCell("test", 123456789012L).hashCode(), cell.hashCode());
+        assertEquals(0, cell.compareValueTo(new FloatCell("test", 123456789012.0)));
+        assertEquals(cell, cell.cloneWithName("test"));
+    }
+}
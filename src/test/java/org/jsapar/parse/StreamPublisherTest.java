@@ -0,0 +1,139 @@
+package org.jsapar.parse;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class StreamPublisherTest {
+
+    @Test
+    public void subscribe_demand() {
+        AtomicInteger pulled = new AtomicInteger();
+        AtomicBoolean closed = new AtomicBoolean();
+        StreamPublisher<Integer> publisher = new StreamPublisher<>(() -> Stream.iterate(0, i -> i + 1)
+                .peek(i -> pulled.incrementAndGet())
+                .limit(10)
+                .onClose(() -> closed.set(true)));
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+        assertEquals(0, pulled.get());
+
+        subscriber.subscription.request(3);
+        assertEquals(List.of(0, 1, 2), subscriber.items);
+        assertEquals(3, pulled.get());
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(100);
+        assertEquals(10, subscriber.items.size());
+        assertTrue(subscriber.completed);
+        assertTrue(closed.get());
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    public void subscribe_request_from_onNext() {
+        StreamPublisher<Integer> publisher = new StreamPublisher<>(() -> Stream.of(1, 2, 3, 4));
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>() {
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                subscription.request(1);
+            }
+        };
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertEquals(List.of(1, 2, 3, 4), subscriber.items);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void cancel() {
+        AtomicBoolean closed = new AtomicBoolean();
+        StreamPublisher<Integer> publisher = new StreamPublisher<>(() -> Stream.of(1, 2, 3).onClose(() -> closed.set(true)));
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(5);
+        assertEquals(List.of(1), subscriber.items);
+        assertTrue(closed.get());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void error() {
+        StreamPublisher<Integer> publisher = new StreamPublisher<>(() -> Stream.of(1, 2).map(i -> {
+            if (i == 2)
+                throw new UncheckedIOException(new IOException("Failed"));
+            return i;
+        }));
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(5);
+        assertEquals(List.of(1), subscriber.items);
+        assertTrue(subscriber.error instanceof UncheckedIOException);
+
+        StreamPublisher<Integer> failing = new StreamPublisher<>(() -> {
+            throw new IOException("Failed");
+        });
+        RecordingSubscriber<Integer> subscriber2 = new RecordingSubscriber<>();
+        failing.subscribe(subscriber2);
+        subscriber2.subscription.request(1);
+        assertTrue(subscriber2.error instanceof IOException);
+    }
+
+    @Test
+    public void invalid_request() {
+        StreamPublisher<Integer> publisher = new StreamPublisher<>(() -> Stream.of(1, 2));
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(0);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertTrue(subscriber.items.isEmpty());
+    }
+
+    @Test
+    public void subscribe_twice() {
+        StreamPublisher<Integer> publisher = new StreamPublisher<>(() -> Stream.of(1, 2));
+        publisher.subscribe(new RecordingSubscriber<>());
+        RecordingSubscriber<Integer> second = new RecordingSubscriber<>();
+        publisher.subscribe(second);
+        assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    private static class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+        final List<T>     items = new ArrayList<>();
+        Flow.Subscription subscription;
+        Throwable         error;
+        boolean           completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.jsapar.parse.cell;
+
+import org.jsapar.model.Cell;
+import org.jsapar.model.StringCell;
+import org.jsapar.schema.SchemaCell;
+import org.jsapar.schema.StringSchemaCell;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+public class CellInternPoolTest {
+
+    private final SchemaCell schemaCell = StringSchemaCell.builder("a").build();
+
+    @Test
+    public void get() {
+        CellInternPool pool = new CellInternPool(16);
+        assertNull(pool.get(schemaCell, "x"));
+        Cell<?> cell = new StringCell("a", "x");
+        pool.put(schemaCell, "x", cell);
+        assertSame(cell, pool.get(schemaCell, "x"));
+        assertNull(pool.get(schemaCell, "y"));
+        // Schema cells are compared by identity
+        assertNull(pool.get(StringSchemaCell.builder("a").build(), "x"));
+        pool.put(schemaCell, "x", new StringCell("a", "x"));
+        assertSame(cell, pool.get(schemaCell, "x"));
+        pool.clear();
+        assertNull(pool.get(schemaCell, "x"));
+    }
+
+    @Test
+    public void put_bounded() {
+        CellInternPool pool = new CellInternPool(10);
+        assertEquals(16, pool.capacity());
+        for (int i = 0; i < 1000; i++)
+            pool.put(schemaCell, String.valueOf(i), new StringCell("a", String.valueOf(i)));
+        int found = 0;
+        for (int i = 0; i < 1000; i++) {
+            Cell<?> cell = pool.get(schemaCell, String.valueOf(i));
+            if (cell != null) {
+                assertEquals(String.valueOf(i), cell.getStringValue());
+                found++;
+            }
+        }
+        assertTrue(found <= 16);
+        assertTrue(found > 0);
+    }
+
+    @Test
+    public void get_put_concurrently() throws Exception {
+        CellInternPool pool = new CellInternPool(256);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20000; i++) {
+                        String value = String.valueOf(i % 500);
+                        Cell<?> cell = pool.get(schemaCell, value);
+                        if (cell == null)
+                            pool.put(schemaCell, value, new StringCell("a", value));
+                        else
+                            assertEquals(value, cell.getStringValue());
+                    }
+                }));
+            }
+            for (Future<?> future : futures)
+                future.get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
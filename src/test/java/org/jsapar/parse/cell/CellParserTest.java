@@ -158,6 +158,41 @@ public class CellParserTest {
         assertEquals("A number", cell.getName());
     }
 
+    @Test
+    public void testParse_chars() {
+        SchemaCell schemaCell = StringSchemaCell.builder("A number")
+                .withType(CellType.INTEGER)
+                .withDefaultValue("42")
+                .build();
+        CellParser<?> cellParser = new CellParser<>(schemaCell, 0);
+        assertTrue(cellParser.isParseFromChars());
+        char[] buffer = ";-17;x;".toCharArray();
+        CollectingConsumer<JSaParException> errors = new CollectingConsumer<>();
+        assertEquals(-17L, cellParser.parse(buffer, 1, 4, errors).getValue());
+        assertEquals(42L, cellParser.parse(buffer, 1, 1, errors).getValue());
+        assertNull(cellParser.parse(buffer, 5, 6, errors));
+        assertEquals(1, errors.size());
+    }
+
+    @Test
+    public void testParse_chars_not_supported() {
+        SchemaCell schemaCell = StringSchemaCell.builder("test").withType(CellType.LOCAL_DATE).withPattern("yyyy-MM-dd").build();
+        CellParser<?> cellParser = new CellParser<>(schemaCell, 0);
+        assertFalse(cellParser.isParseFromChars());
+        char[] buffer = "2024-02-29".toCharArray();
+        assertEquals(LocalDate.of(2024, 2, 29), cellParser.parse(buffer, 0, 10, e -> fail()).getValue());
+    }
+
+    @Test
+    public void testParse_chars_locale() {
+        SchemaCell schemaCell = StringSchemaCell.builder("test").withType(CellType.FLOAT).withPattern("#.00").withLocale("sv","SE").build();
+        CellParser<?> cellParser = new CellParser<>(schemaCell, 0);
+        assertTrue(cellParser.isParseFromChars());
+        char[] buffer = "3,14;\u22121 234,5".toCharArray();
+        assertEquals(3.14, cellParser.parse(buffer, 0, 4, e -> fail()).getValue());
+        assertEquals(-1234.5, cellParser.parse(buffer, 5, 13, e -> fail()).getValue());
+    }
+
     @Test(expected = ParseException.class)
     public void testMakeCell_UnfinishedFloat() throws ParseException {
         Locale locale = Locale.UK;
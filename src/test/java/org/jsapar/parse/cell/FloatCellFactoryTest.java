@@ -31,4 +31,16 @@ public class FloatCellFactoryTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testMakeCell_US() throws ParseException {
+        FloatCell cell = (FloatCell) cellFactory.makeCell("test", "-3141.59", cellFactory.makeFormat(Locale.US));
+        Assert.assertEquals(-3141.59, cell.doubleValue(), 0.0);
+        cell = (FloatCell) cellFactory.makeCell("test", "1.5E3", cellFactory.makeFormat(Locale.US));
+        Assert.assertEquals(1500.0, cell.doubleValue(), 0.0);
+    }
+
+    @Test(expected = ParseException.class)
+    public void testMakeCell_US_invalid() throws ParseException {
+        cellFactory.makeCell("test", "3,14", cellFactory.makeFormat(Locale.US));
+    }
+}
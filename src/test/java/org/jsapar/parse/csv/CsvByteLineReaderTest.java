@@ -0,0 +1,137 @@
+package org.jsapar.parse.csv;
+
+import org.jsapar.parse.LineParseException;
+import org.jsapar.schema.CsvSchema;
+import org.jsapar.schema.QuoteSyntax;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class CsvByteLineReaderTest {
+
+    @Test
+    public void testReadLine() throws IOException {
+        CsvByteLineReader item = makeReader("First;line|second,'line'|third,line||fifth;one", "|", StandardCharsets.UTF_8, 32, QuoteSyntax.FIRST_LAST);
+        assertArrayEquals(new String[]{"First", "line"}, item.readLine(";", (char) 0).toArray());
+        assertArrayEquals(new String[]{"second", "line"}, item.readLine(",", '\'').toArray());
+        assertArrayEquals(new String[]{"third", "line"}, item.readLine(",", '\'').toArray());
+        assertArrayEquals(new String[]{}, item.readLine(",", '\'').toArray());
+        assertArrayEquals(new String[]{"fifth", "one"}, item.readLine(";", (char) 0).toArray());
+        assertTrue(item.eofReached());
+        assertEquals(5, item.currentLineNumber());
+    }
+
+    @Test
+    public void testReset() throws IOException {
+        CsvByteLineReader item = makeReader("First;line|second,'line'|third,line||fifth;one", "|", StandardCharsets.UTF_8, 64, QuoteSyntax.FIRST_LAST);
+        assertArrayEquals(new String[]{"First", "line"}, item.readLine(";", (char) 0).toArray());
+        assertArrayEquals(new String[]{"second,'line'"}, item.readLine(";", (char) 0).toArray());
+        item.reset();
+        assertArrayEquals(new String[]{"second", "line"}, item.readLine(",", '\'').toArray());
+        item.reset();
+        assertArrayEquals(new String[]{"second", "line"}, item.readLine(",", '\'').toArray());
+        assertArrayEquals(new String[]{"third", "line"}, item.readLine(",", '\'').toArray());
+        assertArrayEquals(new String[]{}, item.readLine(",", '\'').toArray());
+        assertArrayEquals(new String[]{"fifth;one"}, item.readLine(" ", (char) 0).toArray());
+        assertTrue(item.eofReached());
+        item.reset();
+        assertFalse(item.eofReached());
+        assertArrayEquals(new String[]{"fifth", "one"}, item.readLine(";", (char) 0).toArray());
+        assertTrue(item.eofReached());
+    }
+
+    @Test
+    public void testReadLine_multi_byte_characters() throws IOException {
+        CsvByteLineReader item = makeReader("åäö;\"ö;€\";\"\"\"x\"\"\"\r\n日本;語\n", "\r\n", StandardCharsets.UTF_8, 32, QuoteSyntax.RFC4180);
+        assertArrayEquals(new String[]{"åäö", "ö;€", "\"x\""}, item.readLine(";", '"').toArray());
+        assertArrayEquals(new String[]{"日本", "語"}, item.readLine(";", '"').toArray());
+    }
+
+    @Test
+    public void testReadLine_iso_8859_1() throws IOException {
+        CsvByteLineReader item = makeReader("åäö;ÅÄÖ\n", "\n", StandardCharsets.ISO_8859_1, 16, QuoteSyntax.FIRST_LAST);
+        assertArrayEquals(new String[]{"åäö", "ÅÄÖ"}, item.readLine(";", '"').toArray());
+    }
+
+    @Test(expected = LineParseException.class)
+    public void testReadLine_max_line_length_exceeded() throws IOException {
+        CsvByteLineReader item = makeReader("abcdefghijklmnopqrstuvwxyz\n", "\n", StandardCharsets.ISO_8859_1, 10, QuoteSyntax.FIRST_LAST);
+        item.readLine(";", '"');
+    }
+
+    @Test
+    public void testIsSupported() {
+        CsvSchema schema = CsvSchema.builder().withLine("a", l -> l.withCellSeparator(";").withCell("a")).build();
+        assertTrue(CsvByteLineReader.isSupported(schema, StandardCharsets.UTF_8));
+        assertTrue(CsvByteLineReader.isSupported(schema, StandardCharsets.ISO_8859_1));
+        assertFalse(CsvByteLineReader.isSupported(schema, StandardCharsets.UTF_16));
+        CsvSchema euroSchema = CsvSchema.builder().withLine("a", l -> l.withCellSeparator("€").withCell("a")).build();
+        assertFalse(CsvByteLineReader.isSupported(euroSchema, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads random input with both this implementation and {@link CsvLineReaderStates} and verifies that the result
+     * is the same, including when the maximum line length is exceeded. Uses a small buffer in order to test that the
+     * buffer is shifted while reading. Longer runs of cell content make sure that bulk scanning is tested.
+     */
+    @Test
+    public void testReadLine_same_as_char_reader() throws IOException {
+        final String alphabet = "ab \";|~\r\nåé";
+        final String content = "abcdefgh0123456789.,";
+        final String[] lineSeparators = {"\n", "\r\n", "~\n"};
+        final String[] cellSeparators = {";", "|~", "\";"};
+        Random random = new Random(42);
+        for (int i = 0; i < 3000; i++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(80);
+            for (int j = 0; j < length; j++) {
+                // Add some longer runs without any separators.
+                if (random.nextInt(8) == 0)
+                    text.append(content, 0, random.nextInt(content.length()));
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String lineSeparator = lineSeparators[random.nextInt(lineSeparators.length)];
+            String cellSeparator = cellSeparators[random.nextInt(cellSeparators.length)];
+            QuoteSyntax quoteSyntax = random.nextBoolean() ? QuoteSyntax.FIRST_LAST : QuoteSyntax.RFC4180;
+            Charset charset = random.nextBoolean() ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1;
+
+            CsvLineReader charReader = new CsvLineReaderStates(lineSeparator, new StringReader(text.toString()), true, 48, quoteSyntax);
+            List<Object> expected;
+            try {
+                expected = readAll(charReader, cellSeparator);
+            } catch (IndexOutOfBoundsException e) {
+                // CsvLineReaderStates fails on some malformed cells that contain escaped quotes.
+                continue;
+            }
+            List<Object> actual = readAll(makeReader(text.toString(), lineSeparator, charset, 48, quoteSyntax), cellSeparator);
+            assertEquals("Input: " + text, expected, actual);
+        }
+    }
+
+    private static List<Object> readAll(CsvLineReader lineReader, String cellSeparator) throws IOException {
+        List<Object> lines = new ArrayList<>();
+        try {
+            while (!lineReader.eofReached())
+                lines.add(new ArrayList<>(lineReader.readLine(cellSeparator, '"')));
+        } catch (LineParseException e) {
+            lines.add("Line too long at line " + e.getLineNumber());
+        }
+        return lines;
+    }
+
+    private static CsvByteLineReader makeReader(String text, String lineSeparator, Charset charset, int maxLineLength, QuoteSyntax quoteSyntax) {
+        ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(text.getBytes(charset)));
+        return new CsvByteLineReader(lineSeparator, channel, charset, maxLineLength, quoteSyntax, 0);
+    }
+}
@@ -0,0 +1,381 @@
+package org.jsapar.parse.csv;
+
+import org.jsapar.error.JSaParException;
+import org.jsapar.model.CellType;
+import org.jsapar.model.Line;
+import org.jsapar.parse.LineParseException;
+import org.jsapar.schema.CsvSchema;
+import org.jsapar.schema.QuoteSyntax;
+import org.jsapar.text.TextParseConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class CsvChunkedParserTest {
+
+    private Path            file;
+    private ExecutorService executor;
+    private TextParseConfig config;
+    private long            sequentialCount;
+    private long            chunkedCount;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("jsapar", ".csv");
+        executor = Executors.newFixedThreadPool(4);
+        config = new TextParseConfig();
+        config.setParallelism(4);
+        config.setParallelChunkSize(16);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        executor.shutdownNow();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void parse_quoted_cells_with_line_separators() throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("row", l -> l.withCells("a", "b", "c"))
+                .build();
+        String text = "1;\"two\nlines\";3\n" +
+                "4;\"a;b\";6\n" +
+                "\n" +
+                "7;\"quoted\"\"within\";9\n" +
+                "10;\"x\"y;12\n" +
+                "13;åäö;15\n" +
+                "16;\"\n\n\";18\n" +
+                "19;20;21";
+        assertSameAsSequential(schema, text, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void parse_rfc4180() throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .withLineSeparator("\r\n")
+                .withQuoteSyntax(QuoteSyntax.RFC4180)
+                .withLine("row", l -> l.withCells("a", "b"))
+                .build();
+        String text = "1;\"a \"\"quoted\"\"\r\nvalue\"\r\n" +
+                "2;\"\"\"\"\r\n" +
+                "3;\"x\"\"\r\n\"\"y\"\r\n" +
+                "4;last\r\n";
+        assertSameAsSequential(schema, text, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void parse_custom_line_separator_and_multi_character_cell_separator() throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .withLineSeparator("|~")
+                .withLine("row", l -> l.withCellSeparator("::").withCells("a", "b"))
+                .build();
+        String text = "1::one|~2::\"t|~o\"|~3::|three|~4::f~our|~";
+        assertSameAsSequential(schema, text, StandardCharsets.ISO_8859_1);
+    }
+
+    @Test
+    public void parse_firstLineAsSchema() throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("row", l -> l.withFirstLineAsSchema(true)
+                        .withCell("count", c -> c.withType(CellType.INTEGER)))
+                .build();
+        StringBuilder text = new StringBuilder("name;count;extra\n");
+        for (int i = 0; i < 100; i++)
+            text.append("name").append(i).append(';').append(i).append(";x\n");
+        List<Line> lines = assertSameAsSequential(schema, text.toString(), StandardCharsets.UTF_8);
+        assertEquals(100, lines.size());
+        assertEquals(CellType.INTEGER, lines.get(99).getCell("count").orElseThrow().getCellType());
+        assertEquals(101, lines.get(99).getLineNumber());
+    }
+
+    @Test
+    public void parse_typed_cells() throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("row", l -> l
+                        .withCell("i", c -> c.withType(CellType.INTEGER))
+                        .withCell("f", c -> c.withType(CellType.FLOAT))
+                        .withCell("d", c -> c.withType(CellType.DECIMAL))
+                        .withCell("b", c -> c.withType(CellType.BOOLEAN))
+                        .withCell("s"))
+                .build();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100; i++)
+            text.append(-i).append(';').append(i).append(".5;").append(i).append(".25;")
+                    .append(i % 2 == 0 ? "true" : "no").append(";åäö").append(i).append('\n');
+        text.append("\"7\";\"1e3\";\"1\"\"\";\"yes\";x\n");
+                List<Line> lines = new ArrayList<>();
+        List<JSaParException> errors = new ArrayList<>();
+        Files.write(file, text.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(file)) {
+            new CsvChunkedParser(channel, StandardCharsets.UTF_8, schema, config, executor).parse(lines::add, errors::add);
+        }
+        List<Line> expected = new ArrayList<>();
+        List<JSaParException> expectedErrors = new ArrayList<>();
+        new CsvParser(new StringReader(text.toString()), schema, config).parse(expected::add, expectedErrors::add);
+        assertEquals(toStrings(expected), toStrings(lines));
+        assertEquals(1, errors.size());
+        assertEquals(expectedErrors.size(), errors.size());
+        assertEquals(-99L, lines.get(99).getCell("i").orElseThrow().getValue());
+        assertEquals(99.5, lines.get(99).getCell("f").orElseThrow().getValue());
+        assertEquals(new BigDecimal("99.25"), lines.get(99).getCell("d").orElseThrow().getValue());
+        assertEquals(Boolean.FALSE, lines.get(99).getCell("b").orElseThrow().getValue());
+        assertEquals(1000.0, lines.get(100).getCell("f").orElseThrow().getValue());
+        assertEquals(Boolean.TRUE, lines.get(100).getCell("b").orElseThrow().getValue());
+    }
+
+    @Test
+    public void parse_finite_lines_before_and_after() throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("header", l -> l.withOccurs(2).withCells("h1", "h2"))
+                .withLine("row", l -> l.withCell("type", c -> c.withLineCondition("R"::equals)).withCells("value"))
+                .withLine("footer", l -> l.withOccurs(1).withCell("type", c -> c.withLineCondition("F"::equals)).withCells("count"))
+                .build();
+        StringBuilder text = new StringBuilder("H;1\nH;2\n");
+        for (int i = 0; i < 50; i++)
+            text.append("R;").append(i).append('\n');
+        text.append("F;50\n");
+        List<Line> lines = assertSameAsSequential(schema, text.toString(), StandardCharsets.UTF_8);
+        assertEquals(53, lines.size());
+        assertEquals("footer", lines.get(52).getLineType());
+    }
+
+    @Test
+    public void parse_different_cell_separators_are_parsed_sequentially() throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("a", l -> l.withCellSeparator(",").withCell("type", c -> c.withLineCondition("A"::equals)).withCells("value"))
+                .withLine("b", l -> l.withCellSeparator(";").withCell("type", c -> c.withLineCondition("B"::equals)).withCells("value"))
+                .build();
+        assertSameAsSequential(schema, "A,1\nB;2\nA,3\nB;4\n", StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void parse_unordered() throws IOException {
+        config.setParallelOrdered(false);
+        CsvSchema schema = CsvSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("row", l -> l.withCells("a", "b"))
+                .build();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 200; i++)
+            text.append(i).append(";\"value\n").append(i).append("\"\n");
+        List<Line> lines = parseChunked(schema, text.toString(), StandardCharsets.UTF_8);
+        lines.sort(Comparator.comparingLong(Line::getLineNumber));
+        assertEquals(toStrings(parseSequential(schema, text.toString())), toStrings(lines));
+    }
+
+    @Test
+    public void parse_cell_error_is_thrown() throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("row", l -> l.withCell("number", c -> c.withType(CellType.INTEGER)))
+                .build();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100; i++)
+            text.append(i == 60 ? "x" : String.valueOf(i)).append('\n');
+        Files.write(file, text.toString().getBytes(StandardCharsets.UTF_8));
+        List<Line> lines = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file)) {
+            new CsvChunkedParser(channel, StandardCharsets.UTF_8, schema, config, executor).parse(lines::add, e -> {
+                throw e;
+            });
+            fail("Should throw exception");
+        } catch (JSaParException e) {
+            assertEquals(60, lines.size());
+        }
+    }
+
+    @Test
+    public void stream_trySplit() throws IOException {
+        config.setParallelChunkSize(20);
+        CsvSchema schema = CsvSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("row", l -> l.withCells("a", "b"))
+                .build();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20; i++)
+            text.append(i).append(";value").append(i).append('\n');
+        Files.write(file, text.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(file)) {
+            Spliterator<Line> spliterator = new CsvChunkedParser(channel, StandardCharsets.UTF_8, schema, config, executor)
+                    .stream(e -> {
+                        throw e;
+                    }).spliterator();
+            assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+            assertEquals(text.length(), spliterator.estimateSize());
+            Spliterator<Line> first = spliterator.trySplit();
+            assertNotNull(first);
+            assertEquals(2, first.estimateSize());
+            Spliterator<Line> second = spliterator.trySplit();
+            assertNotNull(second);
+            assertEquals(2, second.estimateSize());
+            List<Line> lines = new ArrayList<>();
+            first.forEachRemaining(lines::add);
+            second.forEachRemaining(lines::add);
+            spliterator.forEachRemaining(lines::add);
+            assertEquals(20, lines.size());
+            assertEquals(1, lines.get(0).getLineNumber());
+            assertEquals(20, lines.get(19).getLineNumber());
+            assertEquals("value19", lines.get(19).getCell("b").map(c -> c.getStringValue()).orElse(null));
+            assertNull(spliterator.trySplit());
+            assertEquals(0, spliterator.estimateSize());
+        }
+    }
+
+    @Test
+    public void parse_reuse_lines_is_ignored_for_chunks() throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("row", l -> l.withCells("a", "b"))
+                .build();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 40; i++)
+            text.append(i).append(";value").append(i).append('\n');
+        config.setReuseLines(true);
+        List<Line> lines = parseChunked(schema, text.toString(), StandardCharsets.UTF_8);
+        assertEquals(40, lines.size());
+        assertEquals(40, lines.stream().distinct().count());
+        assertEquals("value39", lines.get(39).getCell("b").map(c -> c.getStringValue()).orElse(null));
+    }
+
+    @Test
+    public void parse_stops_at_line_without_cells_same_as_sequential() throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("row", l -> l.withCellSeparator(",")
+                        .withCell("b", c -> c.withType(CellType.BOOLEAN))
+                        .withCell("d", c -> c.withType(CellType.DECIMAL)))
+                .build();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100; i++)
+            text.append(i == 37 ? "\"q\",\"q\"" : (i % 2 == 0 ? "true," : "false,") + i + ".5").append('\n');
+        List<Line> expected = new ArrayList<>();
+        List<JSaParException> expectedErrors = new ArrayList<>();
+        long expectedCount = new CsvParser(new StringReader(text.toString()), schema, config).parse(expected::add, expectedErrors::add);
+        assertEquals(37, expected.size());
+        Files.write(file, text.toString().getBytes(StandardCharsets.UTF_8));
+        for (int chunkSize : new int[]{8, 16, 33, 100, 10000}) {
+            config.setParallelChunkSize(chunkSize);
+            for (int parallelism : new int[]{1, 3}) {
+                config.setParallelism(parallelism);
+                List<Line> lines = new ArrayList<>();
+                List<JSaParException> errors = new ArrayList<>();
+                long count;
+                try (FileChannel channel = FileChannel.open(file)) {
+                    count = new CsvChunkedParser(channel, StandardCharsets.UTF_8, schema, config, executor).parse(lines::add, errors::add);
+                }
+                String message = "Chunk size " + chunkSize + ", parallelism " + parallelism;
+                assertEquals(message, toStrings(expected), toStrings(lines));
+                assertEquals(message, expectedErrors.size(), errors.size());
+                assertEquals(message, expectedCount, count);
+                try (FileChannel channel = FileChannel.open(file)) {
+                    errors.clear();
+                    List<String> streamed = new CsvChunkedParser(channel, StandardCharsets.UTF_8, schema, config, executor)
+                            .stream(errors::add).map(Line::toString).collect(Collectors.toList());
+                    assertEquals(message, toStrings(expected), streamed);
+                    assertEquals(message, expectedErrors.size(), errors.size());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void parse_java_text_formats_same_as_sequential() throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("row", l -> l.withCellSeparator(";")
+                        .withCell("decimal", c -> c.withType(CellType.DECIMAL).withPattern("#,##0.00").withLocale(Locale.GERMANY))
+                        .withCell("integer", c -> c.withType(CellType.INTEGER).withPattern("#,##0 'st'").withLocale(Locale.GERMANY))
+                        .withCell("date", c -> c.withType(CellType.DATE).withPattern("dd.MM.yyyy HH:mm:ss")))
+                .build();
+        Random random = new Random(4711);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            text.append(String.format(Locale.GERMANY, "%,.2f;%,d st;%02d.%02d.%04d %02d:%02d:%02d\n",
+                    (random.nextDouble() - 0.5) * 2e6, random.nextInt(),
+                    1 + random.nextInt(28), 1 + random.nextInt(12), 1900 + random.nextInt(200),
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60)));
+        }
+        config.setParallelChunkSize(4096);
+        assertSameAsSequential(schema, text.toString(), StandardCharsets.UTF_8);
+    }
+
+    @Test(expected = LineParseException.class)
+    public void parse_line_too_long() throws IOException {
+        config.setMaxLineLength(20);
+        CsvSchema schema = CsvSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("row", l -> l.withCells("a", "b"))
+                .build();
+        String text = "1;2\n3;\"unterminated quote\n5;6\n7;8\n9;10\n11;12\n13;14\n15;16\n";
+        parseChunked(schema, text, StandardCharsets.UTF_8);
+    }
+
+    private List<Line> assertSameAsSequential(CsvSchema schema, String text, Charset charset) throws IOException {
+        List<Line> expected = parseSequential(schema, text);
+        List<Line> actual = parseChunked(schema, text, charset);
+        assertEquals(toStrings(expected), toStrings(actual));
+        assertEquals(sequentialCount, chunkedCount);
+        assertEquals(toStrings(expected), streamChunked(schema, charset, false));
+        assertEquals(toStrings(expected), streamChunked(schema, charset, true));
+        return actual;
+    }
+
+    private List<Line> parseSequential(CsvSchema schema, String text) throws IOException {
+        List<Line> lines = new ArrayList<>();
+        sequentialCount = new CsvParser(new StringReader(text), schema, config).parse(lines::add, e -> {
+            throw e;
+        });
+        return lines;
+    }
+
+    private List<Line> parseChunked(CsvSchema schema, String text, Charset charset) throws IOException {
+        Files.write(file, text.getBytes(charset));
+        List<Line> lines = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file)) {
+            chunkedCount = new CsvChunkedParser(channel, charset, schema, config, executor).parse(lines::add, e -> {
+                throw e;
+            });
+        }
+        return lines;
+    }
+
+    private List<String> streamChunked(CsvSchema schema, Charset charset, boolean parallel) throws IOException {
+        try (FileChannel channel = FileChannel.open(file)) {
+            Stream<Line> stream = new CsvChunkedParser(channel, charset, schema, config, executor).stream(e -> {
+                throw e;
+            });
+            return (parallel ? stream.parallel() : stream).map(Line::toString).collect(Collectors.toList());
+        }
+    }
+
+    private static List<String> toStrings(List<Line> lines) {
+        return lines.stream().map(Line::toString).collect(Collectors.toList());
+    }
+}
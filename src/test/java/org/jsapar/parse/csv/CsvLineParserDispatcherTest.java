@@ -0,0 +1,90 @@
+package org.jsapar.parse.csv;
+
+import org.jsapar.model.Line;
+import org.jsapar.schema.CsvSchema;
+import org.jsapar.schema.CsvSchemaLine;
+import org.jsapar.schema.MatchingCellValueCondition;
+import org.jsapar.text.TextParseConfig;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CsvLineParserDispatcherTest {
+
+    @Test
+    public void of() {
+        assertNotNull(CsvLineParserDispatcher.of(List.of(matcher("A", 0, "A"), matcher("B", 0, "B|C"))));
+    }
+
+    @Test
+    public void of_not_dispatchable() {
+        assertNull(CsvLineParserDispatcher.of(List.of(matcher("A", 0, "A"))));
+        assertNull(CsvLineParserDispatcher.of(List.of(matcher("A", 0, "A"), matcher("B", 1, "B"))));
+        assertNull(CsvLineParserDispatcher.of(List.of(matcher("A", 0, "A"), matcher("B", 0, "B|A"))));
+        assertNull(CsvLineParserDispatcher.of(List.of(matcher("A", 0, "A"), matcher("B", 0, "B."))));
+        CsvSchemaLine noCondition = CsvSchemaLine.builder("C").withCells("type", "value").build();
+        assertNull(CsvLineParserDispatcher.of(List.of(matcher("A", 0, "A"),
+                new CsvLineParserMatcher(noCondition, new TextParseConfig()))));
+        CsvSchemaLine predicate = CsvSchemaLine.builder("D")
+                .withCell("type", c -> c.withLineCondition(v -> v.equals("D")))
+                .build();
+        assertNull(CsvLineParserDispatcher.of(List.of(matcher("A", 0, "A"),
+                new CsvLineParserMatcher(predicate, new TextParseConfig()))));
+    }
+
+    @Test
+    public void of_subclassed_condition_not_dispatchable() {
+        CsvSchemaLine subclassed = CsvSchemaLine.builder("B")
+                .withCell("type", c -> c.withLineCondition(new MatchingCellValueCondition("B") {
+                    @Override
+                    public boolean test(String value) {
+                        return super.test(value.toUpperCase());
+                    }
+                }))
+                .build();
+        CsvLineParserMatcher matcher = new CsvLineParserMatcher(subclassed, new TextParseConfig());
+        assertTrue(matcher.singleControlCellValues().isEmpty());
+        assertNull(CsvLineParserDispatcher.of(List.of(matcher("A", 0, "A"), matcher)));
+    }
+
+    @Test
+    public void parse_empty_line_same_as_without_dispatcher() throws IOException {
+        String text = "A;1\n\nA;2\nB;3\n\n\nB;4\nA;5";
+        List<String> dispatched = parse(text, "A", "B");
+        assertEquals(List.of("A:1", "A:2", "B:3", "B:4", "A:5"), dispatched);
+        assertEquals(dispatched, parse(text, "A.*", "B"));
+        assertEquals(dispatched, parse(text, "A", "B.*"));
+    }
+
+    private static List<String> parse(String text, String conditionA, String conditionB) throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("A", l -> l.withCell("type", c -> c.withLineCondition(new MatchingCellValueCondition(conditionA))).withCells("value"))
+                .withLine("B", l -> l.withCell("type", c -> c.withLineCondition(new MatchingCellValueCondition(conditionB))).withCells("value"))
+                .build();
+        List<Line> lines = new ArrayList<>();
+        new CsvParser(new StringReader(text), schema, new TextParseConfig()).parse(lines::add, e -> {
+            throw e;
+        });
+        return lines.stream()
+                .map(line -> line.getLineType() + ":" + line.getCell("value").map(c -> c.getStringValue()).orElse(""))
+                .collect(Collectors.toList());
+    }
+
+    private static CsvLineParserMatcher matcher(String lineType, int controlPos, String regex) {
+        CsvSchemaLine.Builder builder = CsvSchemaLine.builder(lineType);
+        for (int i = 0; i < controlPos; i++)
+            builder.withCell("cell" + i);
+        builder.withCell("type", c -> c.withLineCondition(new MatchingCellValueCondition(regex)));
+        return new CsvLineParserMatcher(builder.build(), new TextParseConfig());
+    }
+}
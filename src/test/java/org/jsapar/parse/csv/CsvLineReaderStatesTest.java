@@ -64,6 +64,14 @@ public class CsvLineReaderStatesTest {
     }
 
 
+    @Test
+    public void testReadLine_escaped_quote_when_buffer_is_shifted() throws IOException {
+        Reader reader = new StringReader("aaaaaaaaaa\n\"b\"\"c\"\n");
+        CsvLineReaderStates lineReader = new CsvLineReaderStates("\n", reader, true, 16, QuoteSyntax.RFC4180);
+        assertArrayEquals(new String[]{"aaaaaaaaaa"}, lineReader.readLine(";", '"').toArray());
+        assertArrayEquals(new String[]{"b\"c"}, lineReader.readLine(";", '"').toArray());
+    }
+
     @Test
     public void testReadLine_unquoted() throws IOException {
         Reader reader = new StringReader("A;B;;C");
@@ -1,21 +1,32 @@
 package org.jsapar.parse.csv;
 
+import org.jsapar.error.JSaParException;
 import org.jsapar.error.ValidationAction;
 import org.jsapar.model.Cell;
+import org.jsapar.model.CellType;
 import org.jsapar.model.Line;
 import org.jsapar.schema.CsvSchema;
 import org.jsapar.schema.CsvSchemaCell;
 import org.jsapar.schema.CsvSchemaLine;
+import org.jsapar.schema.MatchingCellValueCondition;
+import org.jsapar.parse.cell.CellInternPool;
+import org.jsapar.schema.SchemaCell;
+import org.jsapar.text.CachePolicy;
+import org.jsapar.text.CacheStatistics;
 import org.jsapar.text.TextParseConfig;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 public class CsvParserTest {
 
@@ -54,6 +65,130 @@ public class CsvParserTest {
                 e -> {throw e;});
     }
 
+    @Test
+    public void parse_reuseLines() throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .withLine("a", l->l
+                        .withCell("type", c->c.withLineCondition(v->v.equals("A")))
+                        .withCell("value"))
+                .withLine("b", l->l
+                        .withCell("type", c->c.withLineCondition(v->v.equals("B")))
+                        .withCell("other"))
+                .build();
+
+        String text = "A;1\nB;2\nA;3\nA;4";
+        TextParseConfig config = new TextParseConfig();
+        config.setReuseLines(true);
+        List<Line> instances = new ArrayList<>();
+        List<Line> copies = new ArrayList<>();
+        new CsvParser(new StringReader(text), schema, config).parse(line -> {
+                    instances.add(line);
+                    copies.add(line.copy());
+                },
+                e -> {throw e;});
+        assertEquals(4, copies.size());
+        assertSame(instances.get(0), instances.get(2));
+        assertSame(instances.get(0), instances.get(3));
+        assertNotSame(instances.get(0), instances.get(1));
+        assertEquals("1", copies.get(0).getCell("value").map(Cell::getStringValue).orElse(null));
+        assertEquals("2", copies.get(1).getCell("other").map(Cell::getStringValue).orElse(null));
+        assertEquals("3", copies.get(2).getCell("value").map(Cell::getStringValue).orElse(null));
+        assertEquals(3, copies.get(2).getLineNumber());
+        assertEquals(4, instances.get(0).getLineNumber());
+        assertEquals("4", instances.get(0).getCell("value").map(Cell::getStringValue).orElse(null));
+    }
+
+    @Test
+    public void parse_lineTypes_by_literal_control_value() throws IOException {
+        CsvSchema.Builder builder = CsvSchema.builder();
+        for (int i = 0; i < 20; i++) {
+            final String type = "T" + i;
+            builder.withLine(type, l -> l
+                    .withCell("type", c -> c.withLineCondition(new MatchingCellValueCondition(type)))
+                    .withCell("value"));
+        }
+        CsvSchema schema = builder
+                .withLine("header", l -> l
+                        .withOccurs(1)
+                        .withCell("type", c -> c.withLineCondition(new MatchingCellValueCondition("H|HEAD")))
+                        .withCell("title"))
+                .build();
+
+        String text = "HEAD;title\nT19;1\nT3;2\nX;3\n\nT0;4\nH;5";
+        List<Line> lines = new ArrayList<>();
+        List<JSaParException> errors = new ArrayList<>();
+        TextParseConfig config = new TextParseConfig();
+        config.setOnUndefinedLineType(ValidationAction.ERROR);
+        new CsvParser(new StringReader(text), schema, config).parse(lines::add, errors::add);
+        assertEquals(List.of("header", "T19", "T3", "T0"),
+                lines.stream().map(Line::getLineType).collect(Collectors.toList()));
+        assertEquals("title", lines.get(0).getCell("title").map(Cell::getStringValue).orElse(null));
+        assertEquals("4", lines.get(3).getCell("value").map(Cell::getStringValue).orElse(null));
+        assertEquals(2, errors.size());
+    }
+
+    @Test
+    public void parse_typed_cells_small_buffer() throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .withLine("a", l->l
+                        .withCell("i", c->c.withType(CellType.INTEGER))
+                        .withCell("s")
+                        .withCell("f", c->c.withType(CellType.FLOAT)))
+                .build();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 200; i++)
+            text.append(i).append(";\"a;b\";").append(i).append(".5\n");
+        TextParseConfig config = new TextParseConfig();
+        config.setMaxLineLength(20);
+        List<Line> lines = new ArrayList<>();
+        new CsvParser(new StringReader(text.toString()), schema, config).parse(lines::add, e -> {throw e;});
+        assertEquals(200, lines.size());
+        for (int i = 0; i < 200; i++) {
+            Line line = lines.get(i);
+            assertEquals((long) i, line.getCell("i").map(Cell::getValue).orElse(null));
+            assertEquals("a;b", line.getCell("s").map(Cell::getStringValue).orElse(null));
+            assertEquals(i + 0.5, line.getCell("f").map(Cell::getValue).orElse(null));
+        }
+    }
+
+    @Test
+    public void parse_adaptive_cell_cache_statistics() throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .withLine("a", l->l.withCells("id", "code"))
+                .build();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 2000; i++)
+            text.append(i).append(';').append("ABC".charAt(i % 3)).append('\n');
+        TextParseConfig config = new TextParseConfig();
+        config.setMaxCellCacheSize(100);
+        config.setCellCachePolicy(CachePolicy.ADAPTIVE);
+        config.setCollectCellCacheStatistics(true);
+        long count = new CsvParser(new StringReader(text.toString()), schema, config).parse(l -> {}, e -> {throw e;});
+        assertEquals(2000, count);
+        Map<SchemaCell, CacheStatistics> statistics = config.getCellCacheStatistics();
+        CsvSchemaLine schemaLine = schema.getSchemaLine("a").orElseThrow();
+        CacheStatistics idStatistics = statistics.get(schemaLine.getSchemaCell("id"));
+        CacheStatistics codeStatistics = statistics.get(schemaLine.getSchemaCell("code"));
+        assertEquals(2000, idStatistics.getRequestCount());
+        assertEquals(0, idStatistics.getHitCount());
+        assertEquals(3, codeStatistics.getMissCount());
+        assertEquals(1997, codeStatistics.getHitCount());
+    }
+
+    @Test
+    public void parse_cellInternPool_shared_between_parsers() throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .withLine("a", l->l.withCell("date", c->c.withType(CellType.LOCAL_DATE).withPattern("yyyy-MM-dd")))
+                .build();
+        TextParseConfig config = new TextParseConfig();
+        config.setCellInternPool(new CellInternPool(64));
+        List<Line> first = new ArrayList<>();
+        new CsvParser(new StringReader("2024-01-31\n2024-02-29"), schema, config).parse(first::add, e -> {throw e;});
+        List<Line> second = new ArrayList<>();
+        new CsvParser(new StringReader("2024-02-29"), schema, config.clone()).parse(second::add, e -> {throw e;});
+        assertSame(first.get(1).getCell("date").orElseThrow(), second.get(0).getCell("date").orElseThrow());
+    }
+
     @Test
     public void parse_CommaAsSeparator_defaultBySchema() throws IOException {
         CsvSchema schema = CsvSchema.builder()
@@ -0,0 +1,168 @@
+package org.jsapar.parse.fixed;
+
+import org.jsapar.model.Line;
+import org.jsapar.schema.FixedWidthSchema;
+import org.jsapar.text.TextParseConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+
+public class FixedWidthChunkedParserTest {
+
+    private Path            file;
+    private ExecutorService executor;
+    private TextParseConfig config;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("jsapar", ".txt");
+        executor = Executors.newFixedThreadPool(4);
+        config = new TextParseConfig();
+        config.setParallelism(4);
+        config.setParallelChunkSize(16);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        executor.shutdownNow();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void parse_line_separator() throws IOException {
+        FixedWidthSchema schema = FixedWidthSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("row", l -> l.withCell("a", 3).withCell("b", 4))
+                .build();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 50; i++)
+            text.append(String.format("%3dåäö%d\n", i, i % 10));
+        text.append("\n  1\n");
+        List<Line> lines = assertSameAsSequential(schema, text.toString(), StandardCharsets.UTF_8);
+        assertEquals(51, lines.size());
+        assertEquals(52, lines.get(50).getLineNumber());
+    }
+
+    @Test
+    public void parse_custom_line_separator() throws IOException {
+        FixedWidthSchema schema = FixedWidthSchema.builder()
+                .withLineSeparator("|~")
+                .withLine("row", l -> l.withCell("a", 2).withCell("b", 3))
+                .build();
+        assertSameAsSequential(schema, "1 one|~2 t~o|~3 |th|~4 four|~", StandardCharsets.ISO_8859_1);
+    }
+
+    @Test
+    public void parse_flat() throws IOException {
+        FixedWidthSchema schema = FixedWidthSchema.builder()
+                .withLineSeparator("")
+                .withLine("row", l -> l.withCell("a", 3).withCell("b", 4))
+                .build();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 40; i++)
+            text.append(String.format("%3dval%d", i, i % 10));
+        List<Line> lines = assertSameAsSequential(schema, text.toString(), StandardCharsets.ISO_8859_1);
+        assertEquals(40, lines.size());
+    }
+
+    @Test
+    public void parse_finite_lines_first() throws IOException {
+        FixedWidthSchema schema = FixedWidthSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("header", l -> l.withOccurs(3).withCell("h", 4))
+                .withLine("row", l -> l.withCell("type", 1, c -> c.withLineCondition("R"::equals)).withCell("value", 3))
+                .withLine("other", l -> l.withCell("type", 1, c -> c.withLineCondition("O"::equals)).withCell("value", 3))
+                .build();
+        StringBuilder text = new StringBuilder("H001\nH002\nH003\n");
+        for (int i = 0; i < 60; i++)
+            text.append(i % 3 == 0 ? 'O' : 'R').append(String.format("%03d", i)).append('\n');
+        List<Line> lines = assertSameAsSequential(schema, text.toString(), StandardCharsets.UTF_8);
+        assertEquals(63, lines.size());
+        assertEquals("other", lines.get(3).getLineType());
+        assertEquals("row", lines.get(62).getLineType());
+    }
+
+    @Test
+    public void parse_different_line_lengths_when_flat_are_parsed_sequentially() throws IOException {
+        FixedWidthSchema schema = FixedWidthSchema.builder()
+                .withLineSeparator("")
+                .withLine("a", l -> l.withCell("type", 1, c -> c.withLineCondition("A"::equals)).withCell("value", 3))
+                .withLine("b", l -> l.withCell("type", 1, c -> c.withLineCondition("B"::equals)).withCell("value", 5))
+                .build();
+        assertSameAsSequential(schema, "A123B12345A456B67890A789", StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void stream_trySplit() throws IOException {
+        FixedWidthSchema schema = FixedWidthSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("row", l -> l.withCell("a", 3))
+                .build();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100; i++)
+            text.append(String.format("%3d\n", i));
+        Files.write(file, text.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(file)) {
+            Spliterator<Line> spliterator = new FixedWidthChunkedParser(channel, StandardCharsets.UTF_8, schema, config, executor)
+                    .stream(e -> {
+                        throw e;
+                    }).spliterator();
+            List<Spliterator<Line>> chunks = new ArrayList<>();
+            Spliterator<Line> chunk;
+            while ((chunk = spliterator.trySplit()) != null)
+                chunks.add(chunk);
+            assertEquals(25, chunks.size());
+            List<Line> lines = new ArrayList<>();
+            chunks.forEach(c -> c.forEachRemaining(lines::add));
+            assertEquals(100, lines.size());
+            for (int i = 0; i < 100; i++)
+                assertEquals(i + 1, lines.get(i).getLineNumber());
+        }
+    }
+
+    private List<Line> assertSameAsSequential(FixedWidthSchema schema, String text, Charset charset) throws IOException {
+        List<Line> expected = new ArrayList<>();
+        long expectedCount = new FixedWidthParser(new StringReader(text), schema, config).parse(expected::add, e -> {
+            throw e;
+        });
+        Files.write(file, text.getBytes(charset));
+        List<Line> actual = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file)) {
+            long count = new FixedWidthChunkedParser(channel, charset, schema, config, executor).parse(actual::add, e -> {
+                throw e;
+            });
+            assertEquals(expectedCount, count);
+        }
+        assertEquals(toStrings(expected), toStrings(actual));
+        for (boolean parallel : new boolean[]{false, true}) {
+            try (FileChannel channel = FileChannel.open(file)) {
+                Stream<Line> stream = new FixedWidthChunkedParser(channel, charset, schema, config, executor).stream(e -> {
+                    throw e;
+                });
+                assertEquals(toStrings(expected), (parallel ? stream.parallel() : stream).map(Line::toString).collect(Collectors.toList()));
+            }
+        }
+        return actual;
+    }
+
+    private static List<String> toStrings(List<Line> lines) {
+        return lines.stream().map(Line::toString).collect(Collectors.toList());
+    }
+}
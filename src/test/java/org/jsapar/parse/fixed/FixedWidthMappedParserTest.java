@@ -0,0 +1,217 @@
+package org.jsapar.parse.fixed;
+
+import org.jsapar.model.CellType;
+import org.jsapar.model.Line;
+import org.jsapar.model.LineUtils;
+import org.jsapar.parse.LineParseException;
+import org.jsapar.schema.FixedWidthSchema;
+import org.jsapar.text.TextParseConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class FixedWidthMappedParserTest {
+
+    private Path            file;
+    private TextParseConfig config;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("jsapar", ".txt");
+        config = new TextParseConfig();
+        config.setMaxLineLength(40);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void parse_line_separator() throws IOException {
+        FixedWidthSchema schema = FixedWidthSchema.builder()
+                .withLineSeparator("\r\n")
+                .withLine("row", l -> l.withCell("a", 3).withCell("skip", 5, c -> c.withIgnoreRead(true)).withCell("b", 4))
+                .build();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 50; i++)
+            text.append(String.format("%3dxxxxxåäö%d\r\n", i, i % 10));
+        text.append("\r\n  1\r\n 2  3\n");
+        List<Line> lines = assertSameAsReader(schema, text.toString(), StandardCharsets.ISO_8859_1);
+        assertEquals(52, lines.size());
+        assertEquals("åäö9", LineUtils.getStringCellValue(lines.get(49), "b"));
+        assertFalse(lines.get(0).isCellSet("skip"));
+    }
+
+    @Test
+    public void parse_custom_line_separator() throws IOException {
+        FixedWidthSchema schema = FixedWidthSchema.builder()
+                .withLineSeparator("|~")
+                .withLine("row", l -> l.withCell("a", 2).withCell("b", 3))
+                .build();
+        assertSameAsReader(schema, "1 one|~2 t~o|~3 |th|~4 four|~5", StandardCharsets.ISO_8859_1);
+    }
+
+    @Test
+    public void parse_flat() throws IOException {
+        FixedWidthSchema schema = FixedWidthSchema.builder()
+                .withLineSeparator("")
+                .withLine("row", l -> l.withCell("a", 3).withCell("b", 4))
+                .build();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 40; i++)
+            text.append(String.format("%3dval%d", i, i % 10));
+        text.append("12");
+        List<Line> lines = assertSameAsReader(schema, text.toString(), StandardCharsets.US_ASCII);
+        assertEquals(41, lines.size());
+    }
+
+    @Test
+    public void parse_typed_cells() throws IOException {
+        FixedWidthSchema schema = FixedWidthSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("row", l -> l.withCell("i", 4, c -> c.withType(CellType.INTEGER))
+                        .withCell("f", 6, c -> c.withType(CellType.FLOAT))
+                        .withCell("b", 5, c -> c.withType(CellType.BOOLEAN)))
+                .build();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 30; i++)
+            text.append(String.format(Locale.US, "%4d%6.1f%-5s\n", -i, i + 0.5, i % 2 == 0));
+        text.append("        \n");
+        List<Line> lines = assertSameAsReader(schema, text.toString(), StandardCharsets.ISO_8859_1);
+        assertEquals(-29L, lines.get(29).getCell("i").orElseThrow().getValue());
+        assertEquals(29.5, lines.get(29).getCell("f").orElseThrow().getValue());
+        assertEquals(Boolean.FALSE, lines.get(29).getCell("b").orElseThrow().getValue());
+        assertTrue(lines.get(30).getCell("f").orElseThrow().isEmpty());
+    }
+
+    @Test
+    public void parse_ebcdic() throws IOException {
+        Charset charset = Charset.forName("IBM037");
+        FixedWidthSchema schema = FixedWidthSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("header", l -> l.withOccurs(1).withCell("h", 6))
+                .withLine("row", l -> l.withCell("a", 3).withCell("b", 4))
+                .build();
+        List<Line> lines = assertSameAsReader(schema, "HEADER\n  1abcd\n  2efgh\n", charset);
+        assertEquals("efgh", LineUtils.getStringCellValue(lines.get(2), "b"));
+    }
+
+    @Test
+    public void stream() throws IOException {
+        FixedWidthSchema schema = FixedWidthSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("row", l -> l.withCell("a", 3))
+                .build();
+        Files.write(file, "  1\n  2\n  3\n".getBytes(StandardCharsets.ISO_8859_1));
+        try (FileChannel channel = FileChannel.open(file)) {
+            List<String> values = new FixedWidthMappedParser(channel, StandardCharsets.ISO_8859_1, schema, config, 16)
+                    .stream(e -> {
+                        throw e;
+                    }).map(line -> LineUtils.getStringCellValue(line, "a")).collect(Collectors.toList());
+            assertEquals(List.of("  1", "  2", "  3"), values);
+        }
+    }
+
+    @Test
+    public void parseLine_random_access() throws IOException {
+        FixedWidthSchema schema = FixedWidthSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("header", l -> l.withOccurs(1).withCell("type", 1, c -> c.withLineCondition("H"::equals)).withCell("h", 5))
+                .withLine("row", l -> l.withCell("type", 1, c -> c.withLineCondition("R"::equals)).withCell("a", 3).withCell("b", 2))
+                .build();
+        StringBuilder text = new StringBuilder("HHEAD1\n");
+        for (int i = 1; i < 100; i++)
+            text.append(String.format("R%3d%02d\n", i, i % 100));
+        Files.write(file, text.toString().getBytes(StandardCharsets.ISO_8859_1));
+        try (FileChannel channel = FileChannel.open(file)) {
+            FixedWidthMappedParser parser = new FixedWidthMappedParser(channel, StandardCharsets.ISO_8859_1, schema, config, 16);
+            assertTrue(parser.isRandomAccess());
+            assertEquals(100, parser.getLineCount());
+            Line line = parser.parseLine(73, e -> {
+                throw e;
+            }).orElseThrow();
+            assertEquals("row", line.getLineType());
+            assertEquals(74, line.getLineNumber());
+            assertEquals(" 73", LineUtils.getStringCellValue(line, "a"));
+            assertEquals("header", parser.parseLine(0, e -> {
+                throw e;
+            }).orElseThrow().getLineType());
+            assertEquals(" 99", LineUtils.getStringCellValue(parser.parseLine(99, e -> {
+                throw e;
+            }).orElseThrow(), "a"));
+            assertEquals("header", parser.parseLine(0, e -> {
+                throw e;
+            }).orElseThrow().getLineType());
+        }
+    }
+
+    @Test(expected = LineParseException.class)
+    public void parseLine_different_line_lengths() throws IOException {
+        FixedWidthSchema schema = FixedWidthSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("row", l -> l.withCell("a", 3))
+                .build();
+        Files.write(file, "  1\n 2\n  3\n  4\n".getBytes(StandardCharsets.ISO_8859_1));
+        try (FileChannel channel = FileChannel.open(file)) {
+            new FixedWidthMappedParser(channel, StandardCharsets.ISO_8859_1, schema, config).parseLine(2, e -> {
+                throw e;
+            });
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void getLineCount_different_line_lengths_in_schema() throws IOException {
+        FixedWidthSchema schema = FixedWidthSchema.builder()
+                .withLineSeparator("\n")
+                .withLine("a", l -> l.withCell("type", 1, c -> c.withLineCondition("A"::equals)).withCell("a", 3))
+                .withLine("b", l -> l.withCell("type", 1, c -> c.withLineCondition("B"::equals)).withCell("b", 5))
+                .build();
+        try (FileChannel channel = FileChannel.open(file)) {
+            new FixedWidthMappedParser(channel, StandardCharsets.ISO_8859_1, schema, config).getLineCount();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_multi_byte_charset() throws IOException {
+        try (FileChannel channel = FileChannel.open(file)) {
+            new FixedWidthMappedParser(channel, StandardCharsets.UTF_8, FixedWidthSchema.builder().build(), config);
+        }
+    }
+
+    private List<Line> assertSameAsReader(FixedWidthSchema schema, String text, Charset charset) throws IOException {
+        List<Line> expected = new ArrayList<>();
+        long expectedCount = new FixedWidthParser(new StringReader(text), schema, config).parse(expected::add, e -> {
+            throw e;
+        });
+        Files.write(file, text.getBytes(charset));
+        List<Line> actual = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file)) {
+            // Use small window in order to test that the file is re-mapped.
+            long count = new FixedWidthMappedParser(channel, charset, schema, config, 16).parse(actual::add, e -> {
+                throw e;
+            });
+            assertEquals(expectedCount, count);
+        }
+        assertEquals(toStrings(expected), toStrings(actual));
+        return actual;
+    }
+
+    private static List<String> toStrings(List<Line> lines) {
+        return lines.stream().map(Line::toString).collect(Collectors.toList());
+    }
+}
@@ -2,6 +2,7 @@ package org.jsapar.parse.fixed;
 
 import org.jsapar.error.ExceptionErrorConsumer;
 import org.jsapar.error.ValidationAction;
+import org.jsapar.model.Cell;
 import org.jsapar.model.Document;
 import org.jsapar.parse.DocumentBuilderLineConsumer;
 import org.jsapar.parse.LineParseException;
@@ -90,6 +91,38 @@ public class FixedWidthParserControlCellTest {
         assertEquals("Bergsten", doc.getLine(2).getCell("Last name").orElseThrow(() -> new AssertionError("Should be set")).getStringValue());
     }
 
+    @Test
+    public void testParse_subclassed_condition() throws IOException {
+        String toParse = "nJonasStenberg   \r\naStorgatan 123 45          \r\nnFred Bergsten\r\n";
+        FixedWidthSchema schema = FixedWidthSchema.builder()
+                .withLine("Name", l->l
+                        .withCell("Type", 1, c->c.withLineCondition(new IgnoreCaseCondition("N")))
+                        .withCell("First name", 5)
+                        .withCell("Last name", 8))
+                .withLine("Address", l->l
+                        .withCell("Type", 1, c->c.withLineCondition(new IgnoreCaseCondition("A")))
+                        .withCell("Street", 10)
+                        .withCell("Zip code", 6))
+                .withLineSeparator("\r\n")
+                .build();
+
+        checkResult(build(new StringReader(toParse), schema));
+    }
+
+    /**
+     * Overrides how values are tested, so the values of the condition cannot be looked up literally.
+     */
+    private static class IgnoreCaseCondition extends MatchingCellValueCondition {
+        IgnoreCaseCondition(String regex) {
+            super(regex);
+        }
+
+        @Override
+        public boolean test(String value) {
+            return super.test(value.toUpperCase());
+        }
+    }
+
     @Test
     public void testParse_spaceInLineType() throws IOException {
         String toParse = "N JonasStenberg   \r\nAAStorgatan 123 45          \r\nN Fred Bergsten";
@@ -130,6 +163,63 @@ public class FixedWidthParserControlCellTest {
         assertEquals("Bergsten", doc.getLine(1).getCell("Last name").orElseThrow(() -> new AssertionError("Should be set")).getStringValue());
     }
 
+    @Test
+    public void testParse_manyLineTypes_occurs() throws IOException {
+        FixedWidthSchema.Builder builder = FixedWidthSchema.builder().withLineSeparator("\n");
+        for (int i = 0; i < 20; i++) {
+            final String type = String.valueOf(i);
+            builder.withLine("Type" + i, l -> l
+                    .withCell("Type", 2, c -> c.withLineCondition(new MatchingCellValueCondition(type)))
+                    .withCell("Value", 4));
+        }
+        FixedWidthSchema schema = builder
+                .withLine("Header", l -> l
+                        .withOccurs(1)
+                        .withCell("Type", 2, c -> c.withLineCondition(new MatchingCellValueCondition("H|HD")))
+                        .withCell("Title", 4))
+                .build();
+
+        Document doc = build(new StringReader("HDabcd\n191\n3 2\n0 4\n"), schema);
+        assertEquals(4, doc.size());
+        assertEquals("Header", doc.getLine(0).getLineType());
+        assertEquals("abcd", doc.getLine(0).getCell("Title").map(Cell::getStringValue).orElse(null));
+        assertEquals("Type19", doc.getLine(1).getLineType());
+        assertEquals("Type3", doc.getLine(2).getLineType());
+        assertEquals("Type0", doc.getLine(3).getLineType());
+        assertEquals("4", doc.getLine(3).getCell("Value").map(Cell::getStringValue).orElse(null));
+    }
+
+    @Test
+    public void testParse_regexControlCell() throws IOException {
+        FixedWidthSchema schema = FixedWidthSchema.builder().withLineSeparator("\n")
+                .withLine("Name", l -> l
+                        .withCell("Type", 2, c -> c.withLineCondition(new MatchingCellValueCondition("N[0-9]")))
+                        .withCell("Name", 4))
+                .withLine("Other", l -> l
+                        .withCell("Type", 2, c -> c.withLineCondition(new MatchingCellValueCondition("A")))
+                        .withCell("Value", 4))
+                .build();
+        Document doc = build(new StringReader("N1John\nA abcd\nN2Anna\n"), schema);
+        assertEquals(3, doc.size());
+        assertEquals("Name", doc.getLine(0).getLineType());
+        assertEquals("Other", doc.getLine(1).getLineType());
+        assertEquals("Anna", doc.getLine(2).getCell("Name").map(Cell::getStringValue).orElse(null));
+    }
+
+    @Test(expected = LineParseException.class)
+    public void testParse_manyLineTypes_occursExceeded() throws IOException {
+        FixedWidthSchema schema = FixedWidthSchema.builder().withLineSeparator("\n")
+                .withLine("Header", l -> l
+                        .withOccurs(1)
+                        .withCell("Type", 1, c -> c.withLineCondition(new MatchingCellValueCondition("H")))
+                        .withCell("Title", 4))
+                .withLine("Name", l -> l
+                        .withCell("Type", 1, c -> c.withLineCondition(new MatchingCellValueCondition("N")))
+                        .withCell("Name", 4))
+                .build();
+        build(new StringReader("Habcd\nNJohn\nHabcd\n"), schema);
+    }
+
     private Document build(Reader reader, FixedWidthSchema schema) throws IOException {
         TextParseConfig config = new TextParseConfig();
         config.setMaxLineLength(32);
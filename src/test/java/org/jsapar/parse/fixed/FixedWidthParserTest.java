@@ -14,10 +14,12 @@ import org.junit.Test;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class FixedWidthParserTest {
 
@@ -68,6 +70,32 @@ public class FixedWidthParserTest {
         assertEquals("Stenberg", LineUtils.getStringCellValue(lines.get(1), "Last name"));
     }
 
+    @Test
+    public void parse_reuseLines() throws IOException {
+        String toParse = "JonasStenbergFridaStenberg";
+        FixedWidthSchema schema = FixedWidthSchema.builder()
+                .withLineSeparator("")
+                .withLine("Person", line->line
+                        .withOccurs(2)
+                        .withCell("First name", 5)
+                        .withCell("Last name", 8)
+                ).build();
+
+        TextParseConfig config = new TextParseConfig();
+        config.setReuseLines(true);
+        FixedWidthParser parser = new FixedWidthParser(new StringReader(toParse), schema, config);
+        List<Line> instances = new ArrayList<>();
+        List<String> firstNames = new ArrayList<>();
+        parser.parse(line -> {
+            instances.add(line);
+            firstNames.add(LineUtils.getStringCellValue(line, "First name"));
+        }, new ExceptionErrorConsumer());
+        assertEquals(2, instances.size());
+        assertSame(instances.get(0), instances.get(1));
+        assertEquals(List.of("Jonas", "Frida"), firstNames);
+        assertEquals(2, instances.get(1).getLineNumber());
+    }
+
     @Test
     public void parse_IgnoreUndefinedLine() throws IOException {
         FixedWidthSchema schema = FixedWidthSchema.builder()
@@ -0,0 +1,100 @@
+package org.jsapar.parse.text;
+
+import org.jsapar.TextParser;
+import org.jsapar.model.Cell;
+import org.jsapar.model.Line;
+import org.jsapar.schema.CsvSchema;
+import org.jsapar.text.TextParseConfig;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ReadAheadReaderTest {
+
+    @Test
+    public void read() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 10000; i++)
+            text.append(i).append(';');
+        try (Reader reader = new ReadAheadReader(new StringReader(text.toString()), 3, 17)) {
+            StringBuilder result = new StringBuilder();
+            char[] buffer = new char[23];
+            int count;
+            while ((count = reader.read(buffer, 0, buffer.length)) >= 0)
+                result.append(buffer, 0, count);
+            assertEquals(text.toString(), result.toString());
+            assertEquals(-1, reader.read(buffer, 0, buffer.length));
+        }
+    }
+
+    @Test
+    public void read_empty() throws IOException {
+        try (Reader reader = new ReadAheadReader(new StringReader(""), 2, 10)) {
+            assertEquals(-1, reader.read(new char[5], 0, 5));
+        }
+    }
+
+    @Test
+    public void read_error() throws IOException {
+        Reader failing = new Reader() {
+            private boolean first = true;
+
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                if (!first)
+                    throw new IOException("Failed");
+                first = false;
+                cbuf[off] = 'A';
+                return 1;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        try (Reader reader = new ReadAheadReader(failing, 2, 10)) {
+            char[] buffer = new char[5];
+            assertEquals(1, reader.read(buffer, 0, 5));
+            assertEquals('A', buffer[0]);
+            try {
+                reader.read(buffer, 0, 5);
+                fail("Expected exception");
+            } catch (IOException e) {
+                assertEquals("Failed", e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void ofConfig() {
+        CsvSchema infinite = CsvSchema.builder().withLine("A", l -> l.withCells("a", "b")).build();
+        CsvSchema limited = CsvSchema.builder().withLine("A", l -> l.withOccurs(1).withCells("a", "b")).build();
+        TextParseConfig config = new TextParseConfig();
+        Reader reader = new StringReader("");
+        assertSame(reader, ReadAheadReader.ofConfig(reader, infinite, config));
+        config.setReadAheadBufferCount(2);
+        assertTrue(ReadAheadReader.ofConfig(reader, infinite, config) instanceof ReadAheadReader);
+        assertSame(reader, ReadAheadReader.ofConfig(reader, limited, config));
+    }
+
+    @Test
+    public void parse() throws IOException {
+        CsvSchema schema = CsvSchema.builder().withLine("A", l -> l.withCells("a", "b")).build();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 1000; i++)
+            text.append(i).append(";value").append(i).append('\n');
+        TextParseConfig config = new TextParseConfig();
+        config.setReadAheadBufferCount(2);
+        config.setReadAheadBufferSize(100);
+        List<Line> lines = new ArrayList<>();
+        new TextParser(schema, config).parseForEach(new StringReader(text.toString()), lines::add);
+        assertEquals(1000, lines.size());
+        assertEquals("value999", lines.get(999).getCell("b").map(Cell::getStringValue).orElse(null));
+    }
+}
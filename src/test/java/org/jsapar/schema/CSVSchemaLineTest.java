@@ -32,4 +32,15 @@ public class CSVSchemaLineTest  {
         assertTrue(schemaLine.findSchemaCell("First Name").isPresent());
         
     }
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testGetCellIndex() {
+        CsvSchemaLine schemaLine = CsvSchemaLine.builder("A")
+                .withCells("a", "b")
+                .build();
+        assertSame(schemaLine.getCellIndex(), schemaLine.getCellIndex());
+        assertEquals(1, schemaLine.getCellIndex().indexOf("b"));
+        schemaLine.addSchemaCell(CsvSchemaCell.builder("c").build());
+        assertEquals(2, schemaLine.getCellIndex().indexOf("c"));
+    }
 }
@@ -20,6 +20,19 @@ public class CsvSchemaTest {
 
         assertNotSame(schemaLine, clone.iterator().next());
     }
+    @Test
+    public void builder_copy() {
+        CsvSchema schema = CsvSchema.builder()
+                .withLineSeparator("|")
+                .withQuoteSyntax(QuoteSyntax.RFC4180)
+                .withLine(CsvSchemaLine.builder("Joho").build())
+                .build();
+        CsvSchema copy = CsvSchema.builder(schema).build();
+        assertEquals("|", copy.getLineSeparator());
+        assertEquals(QuoteSyntax.RFC4180, copy.getQuoteSyntax());
+        assertEquals(1, copy.size());
+    }
+
     @Test
     public void empty() {
         CsvSchema schema = CsvSchema.builder().build();
@@ -0,0 +1,50 @@
+package org.jsapar.schema;
+
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class MatchingCellValueConditionTest {
+
+    @Test
+    public void test() {
+        MatchingCellValueCondition condition = new MatchingCellValueCondition("B|CD");
+        assertTrue(condition.test("B"));
+        assertTrue(condition.test("CD"));
+        assertFalse(condition.test("BCD"));
+    }
+
+    @Test
+    public void literalValues() {
+        assertEquals(Optional.of(Set.of("A")), new MatchingCellValueCondition("A").literalValues());
+        assertEquals(Optional.of(Set.of("B", "CD", "")), new MatchingCellValueCondition("B|CD|").literalValues());
+        assertEquals(Optional.of(Set.of("1.5", "a|b")), new MatchingCellValueCondition("1\\.5|a\\|b").literalValues());
+    }
+
+    @Test
+    public void test_chars() {
+        char[] buffer = "xxBCDxx".toCharArray();
+        MatchingCellValueCondition literal = new MatchingCellValueCondition("B|CD");
+        assertTrue(literal.test(buffer, 2, 3));
+        assertTrue(literal.test(buffer, 3, 5));
+        assertFalse(literal.test(buffer, 2, 5));
+        assertFalse(literal.test(buffer, 3, 3));
+        MatchingCellValueCondition regex = new MatchingCellValueCondition("[A-C]D?");
+        assertTrue(regex.test(buffer, 2, 3));
+        assertTrue(regex.test(buffer, 3, 5));
+        assertFalse(regex.test(buffer, 2, 5));
+    }
+
+    @Test
+    public void literalValues_not_literal() {
+        assertFalse(new MatchingCellValueCondition("A.").literalValues().isPresent());
+        assertFalse(new MatchingCellValueCondition("[AB]").literalValues().isPresent());
+        assertFalse(new MatchingCellValueCondition("(A|B)C").literalValues().isPresent());
+        assertFalse(new MatchingCellValueCondition("A+").literalValues().isPresent());
+        assertFalse(new MatchingCellValueCondition("\\d").literalValues().isPresent());
+        assertFalse(new MatchingCellValueCondition("^A$").literalValues().isPresent());
+    }
+}
@@ -4,7 +4,11 @@ import org.jsapar.model.CellType;
 import org.jsapar.text.format.DateTimeFormat;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -32,6 +36,23 @@ public class DateTimeFormatTest {
         assertEquals("2023-05-22T16:35:19Z", format.format(Instant.ofEpochSecond(1684773319)));
     }
 
+    @Test
+    public void format_appendable() throws IOException {
+        DateTimeFormat format = new DateTimeFormat("yyyy-MM-dd HH:mm", Locale.US, CellType.INSTANT, ZoneId.of("UTC"));
+        StringBuilder sb = new StringBuilder("x");
+        format.format(Instant.ofEpochSecond(1684773319), sb);
+        assertEquals("x2023-05-22 16:35", sb.toString());
+
+        StringWriter writer = new StringWriter();
+        format.format(Instant.ofEpochSecond(1684773319), writer);
+        assertEquals("2023-05-22 16:35", writer.toString());
+
+        DateTimeFormat dateFormat = new DateTimeFormat("yyyy-MM-dd", Locale.US, CellType.LOCAL_DATE, ZoneId.of("UTC"));
+        sb.setLength(0);
+        dateFormat.format(LocalDate.of(12345, 1, 2), sb);
+        assertEquals(dateFormat.format(LocalDate.of(12345, 1, 2)), sb.toString());
+    }
+
     @Test
     public void format_pattern() {
         DateTimeFormat format = new DateTimeFormat(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm", Locale.US), CellType.INSTANT,
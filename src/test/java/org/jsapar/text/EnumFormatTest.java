@@ -52,4 +52,23 @@ public class EnumFormatTest {
         assertEquals(TestEnum.BB, enumFormat.parse("bB"));
         assertEquals(TestEnum.CCC, enumFormat.parse("ccc"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void parse_chars() throws ParseException {
+        EnumFormat<TestEnum> enumFormat = EnumFormat.builder(TestEnum.class)
+                .withIgnoreCase(true)
+                .withValue("b", TestEnum.BB)
+                .build();
+        char[] buffer = ";A;b;B;cCc;".toCharArray();
+        assertEquals(TestEnum.A, enumFormat.parse(buffer, 1, 2));
+        assertEquals(TestEnum.BB, enumFormat.parse(buffer, 3, 4));
+        assertEquals(TestEnum.BB, enumFormat.parse(buffer, 5, 6));
+        assertEquals(TestEnum.CCC, enumFormat.parse(buffer, 7, 10));
+    }
+
+    @Test(expected = ParseException.class)
+    public void parse_chars_case_sensitive() throws ParseException {
+        EnumFormat<TestEnum> enumFormat = EnumFormat.builder(TestEnum.class).build();
+        enumFormat.parse("bb".toCharArray(), 0, 2);
+    }
+}
@@ -3,9 +3,11 @@ package org.jsapar.text;
 import org.jsapar.text.Format;
 import org.junit.Test;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.text.ParseException;
+import java.util.Random;
 
 import static org.junit.Assert.*;
 
@@ -22,6 +24,30 @@ public class ImpliedDecimalFormatTest {
         assertEquals("500", format.format("5"));
     }
 
+    @Test
+    public void format_appendable() throws IOException {
+        Random random = new Random(17);
+        for (int decimals = 0; decimals < 4; decimals++) {
+            Format<BigDecimal> format = Format.ofImpliedDecimalInstance(decimals);
+            Object[] values = {0, 1L, -1, (short) 7, (byte) -3, Long.MAX_VALUE, Long.MIN_VALUE, 1L << 53, -(1L << 53) - 1,
+                    new BigDecimal("3.14"), new BigDecimal("-3.145"), new BigDecimal("1E+3"), new BigDecimal("0.000"),
+                    new BigDecimal("123456789012345678"), new BigDecimal("-12345678901234567.8"), new BigInteger("1"),
+                    3.14D, "5"};
+            for (Object value : values)
+                assertFormatAppendable(format, value);
+            for (int i = 0; i < 2000; i++) {
+                assertFormatAppendable(format, random.nextLong() >> random.nextInt(64));
+                assertFormatAppendable(format, BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(6) - 1));
+            }
+        }
+    }
+
+    private static void assertFormatAppendable(Format<BigDecimal> format, Object value) throws IOException {
+        StringBuilder sb = new StringBuilder("x");
+        format.format(value, sb);
+        assertEquals(String.valueOf(value), "x" + format.format(value), sb.toString());
+    }
+
     @Test
     public void parse() throws ParseException {
         Format<BigDecimal> format = Format.ofImpliedDecimalInstance(2);
@@ -0,0 +1,65 @@
+package org.jsapar.text.format;
+
+import org.junit.Test;
+
+import java.text.ParseException;
+
+import static org.junit.Assert.*;
+
+public class BooleanFormatTest {
+
+    @Test
+    public void parse_chars() throws ParseException {
+        BooleanFormat format = new BooleanFormat(new String[]{"true", "yes"}, new String[]{"false", "no"}, false);
+        char[] buffer = ";yes;no;false;".toCharArray();
+        assertTrue(format.parse(buffer, 1, 4));
+        assertFalse(format.parse(buffer, 5, 7));
+        assertFalse(format.parse(buffer, 8, 13));
+    }
+
+    @Test
+    public void parse_chars_ignoreCase() throws ParseException {
+        BooleanFormat format = new BooleanFormat(true);
+        char[] buffer = "TRUE".toCharArray();
+        assertTrue(format.parse(buffer, 0, buffer.length));
+    }
+
+    @Test
+    public void parse_chars_same_as_string() {
+        BooleanFormat format = new BooleanFormat("Y", "N", true);
+        for (String value : new String[]{"y", "N", "Yes", "no", "x", " y"}) {
+            Object expected;
+            try {
+                expected = format.parse(value);
+            } catch (ParseException e) {
+                expected = ParseException.class;
+            }
+            Object actual;
+            try {
+                actual = format.parse(value.toCharArray(), 0, value.length());
+            } catch (ParseException e) {
+                actual = ParseException.class;
+            }
+            assertEquals(value, expected, actual);
+        }
+    }
+
+    @Test(expected = ParseException.class)
+    public void parse_chars_invalid() throws ParseException {
+        char[] buffer = "maybe".toCharArray();
+        new BooleanFormat(false).parse(buffer, 0, buffer.length);
+    }
+
+    @Test
+    public void parse_in_order() throws ParseException {
+        BooleanFormat format = new BooleanFormat(new String[]{"Y", "JA"}, new String[]{"N", "J"}, true);
+        assertTrue(format.parse("Y"));
+        assertTrue(format.parse("yes"));
+        assertFalse(format.parse("no"));
+        assertTrue(format.parse("ja"));
+        assertFalse(format.parse("jo"));
+        assertFalse(format.parse("J"));
+        char[] buffer = "jahaa".toCharArray();
+        assertTrue(format.parse(buffer, 0, buffer.length));
+    }
+}
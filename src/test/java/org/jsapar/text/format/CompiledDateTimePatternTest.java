@@ -0,0 +1,194 @@
+package org.jsapar.text.format;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class CompiledDateTimePatternTest {
+
+    private static final String[] PATTERNS = {"yyyy-MM-dd", "yyyyMMdd", "dd/MM/yy", "HH:mm:ss", "HH:mm",
+            "yyyy-MM-dd HH:mm", "yyyy-MM-dd'T'HH:mm:ss.SSS", "uuuuMMddHHmmssSSSSSS", "'Date: 'dd.MM.yyyy' at 'HH''mm"};
+
+    @Test
+    public void compile_unsupported() {
+        assertNull(CompiledDateTimePattern.compile("yyyy-MMM-dd"));
+        assertNull(CompiledDateTimePattern.compile("d/M/yyyy"));
+        assertNull(CompiledDateTimePattern.compile("yyyy-MM-dd[ HH:mm]"));
+        assertNull(CompiledDateTimePattern.compile("yyyy-MM"));
+        assertNull(CompiledDateTimePattern.compile("yyyy-MM-dd HH:mm XXX"));
+        assertNull(CompiledDateTimePattern.compile("yyyy'1'MMdd"));
+        assertNull(CompiledDateTimePattern.compile("mm:ss"));
+        assertNull(CompiledDateTimePattern.ofIsoFormatter(DateTimeFormatter.ISO_ZONED_DATE_TIME));
+    }
+
+    @Test
+    public void parse() {
+        assertEquals(LocalDate.of(2023, 5, 22), CompiledDateTimePattern.compile("yyyy-MM-dd").parse("2023-05-22"));
+        assertEquals(LocalDate.of(2023, 5, 22), CompiledDateTimePattern.compile("yyyyMMdd").parse("20230522"));
+        assertEquals(LocalTime.of(16, 35, 19), CompiledDateTimePattern.compile("HH:mm:ss").parse("16:35:19"));
+        assertEquals(LocalDateTime.of(2023, 5, 22, 16, 35, 19, 120000000),
+                CompiledDateTimePattern.compile("yyyy-MM-dd HH:mm:ss.SS").parse("2023-05-22 16:35:19.12"));
+        assertEquals(Instant.ofEpochSecond(1684773319, 5000000),
+                CompiledDateTimePattern.ofIsoFormatter(DateTimeFormatter.ISO_INSTANT).parse("2023-05-22T16:35:19.005Z"));
+    }
+
+    @Test
+    public void parse_leaves_to_formatter() {
+        CompiledDateTimePattern pattern = CompiledDateTimePattern.compile("yyyy-MM-dd HH:mm");
+        assertNull(pattern.parse("2023-02-29 10:00"));
+        assertNull(pattern.parse("2023-13-01 10:00"));
+        assertNull(pattern.parse("2023-01-01 24:00"));
+        assertNull(pattern.parse("2023-01-01 10:0x"));
+        assertNull(pattern.parse("2023-01-01T10:00"));
+        assertNull(pattern.parse("12023-01-01 10:00"));
+        assertNull(pattern.parse(""));
+    }
+
+    @Test
+    public void parse_same_as_formatter() {
+        Random random = new Random(4711);
+        for (String patternText : PATTERNS) {
+            CompiledDateTimePattern pattern = CompiledDateTimePattern.compile(patternText);
+            assertNotNull(patternText, pattern);
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(patternText, Locale.US);
+            for (int i = 0; i < 1000; i++) {
+                String text = formatter.format(randomDateTime(random));
+                assertParsedSame(text, formatter, pattern.parse(text));
+            }
+        }
+    }
+
+    @Test
+    public void parse_iso_same_as_formatter() {
+        Random random = new Random(42);
+        DateTimeFormatter[] formatters = {DateTimeFormatter.ISO_DATE, DateTimeFormatter.ISO_LOCAL_DATE,
+                DateTimeFormatter.ISO_TIME, DateTimeFormatter.ISO_LOCAL_DATE_TIME, DateTimeFormatter.ISO_DATE_TIME};
+        for (DateTimeFormatter formatter : formatters) {
+            CompiledDateTimePattern pattern = CompiledDateTimePattern.ofIsoFormatter(formatter);
+            for (int i = 0; i < 1000; i++) {
+                String text = formatter.format(randomDateTime(random));
+                assertParsedSame(text, formatter, pattern.parse(text));
+            }
+        }
+        CompiledDateTimePattern instantPattern = CompiledDateTimePattern.ofIsoFormatter(DateTimeFormatter.ISO_INSTANT);
+        for (int i = 0; i < 1000; i++) {
+            String text = DateTimeFormatter.ISO_INSTANT.format(randomDateTime(random).atZone(ZoneId.of("UTC")));
+            assertEquals(text, Instant.parse(text), instantPattern.parse(text));
+        }
+    }
+
+    @Test
+    public void format_same_as_formatter() {
+        Random random = new Random(17);
+        ZoneId zoneId = ZoneId.of("Europe/Stockholm");
+        for (String patternText : PATTERNS) {
+            CompiledDateTimePattern pattern = CompiledDateTimePattern.compile(patternText);
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(patternText, Locale.US);
+            for (int i = 0; i < 1000; i++) {
+                LocalDateTime dateTime = randomDateTime(random);
+                assertFormattedSame(formatter, pattern, dateTime, zoneId);
+                assertFormattedSame(formatter, pattern, dateTime.toLocalDate(), zoneId);
+                assertFormattedSame(formatter, pattern, dateTime.toLocalTime(), zoneId);
+                assertFormattedSame(formatter, pattern, dateTime.atZone(zoneId).toInstant(), zoneId);
+            }
+        }
+    }
+
+    @Test
+    public void format_iso_same_as_formatter() {
+        Random random = new Random(4);
+        ZoneId zoneId = ZoneId.of("UTC");
+        DateTimeFormatter[] formatters = {DateTimeFormatter.ISO_DATE, DateTimeFormatter.ISO_LOCAL_DATE,
+                DateTimeFormatter.ISO_TIME, DateTimeFormatter.ISO_LOCAL_TIME, DateTimeFormatter.ISO_LOCAL_DATE_TIME,
+                DateTimeFormatter.ISO_DATE_TIME, DateTimeFormatter.ISO_INSTANT};
+        for (DateTimeFormatter formatter : formatters) {
+            CompiledDateTimePattern pattern = CompiledDateTimePattern.ofIsoFormatter(formatter);
+            for (int i = 0; i < 1000; i++) {
+                LocalDateTime dateTime = randomDateTime(random);
+                assertFormattedSame(formatter, pattern, dateTime, zoneId);
+                assertFormattedSame(formatter, pattern, dateTime.toLocalDate(), zoneId);
+                assertFormattedSame(formatter, pattern, dateTime.toLocalTime(), zoneId);
+                assertFormattedSame(formatter, pattern, dateTime.atZone(zoneId).toInstant(), zoneId);
+            }
+        }
+    }
+
+    @Test
+    public void format_leaves_to_formatter() {
+        CompiledDateTimePattern pattern = CompiledDateTimePattern.compile("yyyy-MM-dd");
+        StringBuilder sb = new StringBuilder();
+        assertFalse(pattern.format(LocalDate.of(10000, 1, 1), ZoneId.of("UTC"), sb));
+        assertFalse(pattern.format(LocalTime.of(10, 0), ZoneId.of("UTC"), sb));
+        assertFalse(pattern.format(LocalDate.of(2023, 1, 1).atStartOfDay(ZoneId.of("UTC")), ZoneId.of("UTC"), sb));
+        assertEquals(0, sb.length());
+    }
+
+    @Test
+    public void dateTimeFormat() {
+        DateTimeFormat format = new DateTimeFormat("dd.MM.yyyy", Locale.US, null, ZoneId.of("UTC"));
+        assertEquals(LocalDate.of(2024, 2, 29), format.parse("29.02.2024"));
+        assertEquals(LocalDate.of(2023, 2, 28), LocalDate.from(format.parse("31.02.2023")));
+        assertEquals("29.02.2024", format.format(LocalDate.of(2024, 2, 29)));
+        assertEquals("01.01.+10000", format.format(LocalDate.of(10000, 1, 1)));
+    }
+
+    private static LocalDateTime randomDateTime(Random random) {
+        long epochSecond = LocalDate.of(1, 1, 1).toEpochDay() * 86400L
+                + (long) (random.nextDouble() * 9999L * 365 * 86400);
+        int nano;
+        switch (random.nextInt(4)) {
+        case 0:
+            nano = 0;
+            break;
+        case 1:
+            nano = random.nextInt(1000) * 1000000;
+            break;
+        case 2:
+            nano = random.nextInt(1000000) * 1000;
+            break;
+        default:
+            nano = random.nextInt(1000000000);
+        }
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    private static void assertParsedSame(String text, DateTimeFormatter formatter, TemporalAccessor parsed) {
+        assertNotNull(text, parsed);
+        TemporalAccessor expected = formatter.parse(text);
+        if (parsed instanceof LocalDateTime)
+            assertEquals(text, LocalDateTime.from(expected), parsed);
+        else if (parsed instanceof LocalDate)
+            assertEquals(text, LocalDate.from(expected), parsed);
+        else
+            assertEquals(text, LocalTime.from(expected), parsed);
+    }
+
+    private static void assertFormattedSame(DateTimeFormatter formatter,
+                                            CompiledDateTimePattern pattern,
+                                            TemporalAccessor value,
+                                            ZoneId zoneId) {
+        String expected;
+        try {
+            expected = formatter.format(value instanceof Instant ? ((Instant) value).atZone(zoneId) : value);
+        } catch (DateTimeException e) {
+            expected = null;
+        }
+        StringBuilder sb = new StringBuilder();
+        if (pattern.format(value, zoneId, sb))
+            assertEquals(value.toString(), expected, sb.toString());
+        else
+            assertEquals(value.toString(), 0, sb.length());
+    }
+}
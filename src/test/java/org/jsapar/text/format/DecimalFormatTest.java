@@ -0,0 +1,76 @@
+package org.jsapar.text.format;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class DecimalFormatTest {
+
+    @Test
+    public void isPlain() {
+        assertTrue(new DecimalFormat(Locale.US).isPlain());
+        assertFalse(new DecimalFormat("#,##0.00", Locale.US).isPlain());
+        assertFalse(new DecimalFormat(Locale.GERMANY).isPlain());
+    }
+
+    @Test
+    public void format_appendable() throws IOException {
+        DecimalFormat format = new DecimalFormat(Locale.US);
+        Random random = new Random(13);
+        Object[] values = {0, -1L, Long.MIN_VALUE, new BigDecimal("-0.5"), new BigDecimal("0.0"), new BigDecimal("-12.0"),
+                new BigDecimal("12.25"), new BigDecimal("1E+2"), new BigDecimal("1234567890123456789"), 1.5D};
+        for (Object value : values)
+            assertFormatAppendable(format, value);
+        for (int i = 0; i < 5000; i++) {
+            assertFormatAppendable(format, random.nextLong() >> random.nextInt(64));
+            assertFormatAppendable(format, BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(4) - 1));
+        }
+        assertFormatAppendable(new DecimalFormat(Locale.GERMANY), new BigDecimal("-12.5"));
+    }
+
+    private static void assertFormatAppendable(DecimalFormat format, Object value) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        format.format(value, sb);
+        assertEquals(String.valueOf(value), format.format(value), sb.toString());
+    }
+
+    @Test
+    public void parse_chars() throws ParseException {
+        DecimalFormat format = new DecimalFormat(Locale.US);
+        char[] buffer = ";-123.4500;".toCharArray();
+        assertEquals(new BigDecimal("-123.4500"), format.parse(buffer, 1, 10));
+    }
+
+    @Test
+    public void parse_chars_same_as_string() {
+        DecimalFormat format = new DecimalFormat(Locale.US);
+        Random random = new Random(11);
+        String alphabet = "00123456789.-,e ";
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = 1 + random.nextInt(12);
+            for (int j = 0; j < length; j++)
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            String value = sb.toString();
+            Object expected;
+            try {
+                expected = format.parse(value);
+            } catch (ParseException e) {
+                expected = ParseException.class;
+            }
+            Object actual;
+            try {
+                actual = format.parse(value.toCharArray(), 0, value.length());
+            } catch (ParseException e) {
+                actual = ParseException.class;
+            }
+            assertEquals(value, expected, actual);
+        }
+    }
+}
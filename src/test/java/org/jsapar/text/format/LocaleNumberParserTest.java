@@ -0,0 +1,115 @@
+package org.jsapar.text.format;
+
+import org.jsapar.utils.StringUtils;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormatSymbols;
+import java.text.ParsePosition;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class LocaleNumberParserTest {
+
+    private static final Locale[] LOCALES = {Locale.US, Locale.GERMANY, Locale.FRANCE, new Locale("sv", "SE"),
+            new Locale("de", "CH"), new Locale("fi", "FI")};
+
+    private static final String[] TRICKY = {"0", "-0", "-0,0", "-0.0", "00", "1,0", "1.0", "12,", "12.", ",5", ".5",
+            "1.2.3", "1,2,3", "1 234", "1 234", "1 234,5", " 12 ", "−5", "-−5", "1e3", "1E3", "abc",
+            "", "-", "12-", "1..0", "1,,0", "9223372036854775807", "99999999999999999", "0,000000000000000000000001",
+            "123456789012345,67", "1'234.5", "1’234.5"};
+
+    @Test
+    public void parse_unsupported_format() {
+        assertNull(LocaleNumberParser.of(new java.text.DecimalFormat("#,##0.00 ¤",
+                DecimalFormatSymbols.getInstance(Locale.GERMANY))));
+        assertNull(LocaleNumberParser.of(new java.text.DecimalFormat("0.0%", DecimalFormatSymbols.getInstance(Locale.US))));
+        assertNull(LocaleNumberParser.of(new java.text.DecimalFormat("0;(0)", DecimalFormatSymbols.getInstance(Locale.US))));
+        assertNotNull(LocaleNumberParser.of(new java.text.DecimalFormat("#,##0.00", DecimalFormatSymbols.getInstance(Locale.GERMANY))));
+    }
+
+    @Test
+    public void parse() {
+        LocaleNumberParser parser = LocaleNumberParser.of(
+                (java.text.DecimalFormat) java.text.NumberFormat.getInstance(Locale.GERMANY));
+        assertEquals(1234567L, parser.parse("1.234.567"));
+        assertEquals(-1234.5, parser.parse("-1.234,5"));
+        assertEquals(-1234.5, parser.parseDouble("-1.234,5"), 0.0);
+        assertEquals(-1234L, parser.parseLong("-1.234"));
+        assertEquals(Long.MIN_VALUE, parser.parseLong("-1.234,5"));
+        assertNull(parser.parse("1.234.567E3"));
+        assertTrue(Double.isNaN(parser.parseDouble("12.")));
+    }
+
+    @Test
+    public void parse_same_as_java_format() {
+        Random random = new Random(1234);
+        for (Locale locale : LOCALES) {
+            for (java.text.DecimalFormat format : formatsOf(locale)) {
+                LocaleNumberParser parser = LocaleNumberParser.of(format);
+                assertNotNull(locale.toString(), parser);
+                for (String value : TRICKY)
+                    assertSameAsJava(format, parser, value);
+                for (int i = 0; i < 2000; i++) {
+                    assertSameAsJava(format, parser, format.format(randomNumber(random)));
+                    assertSameAsJava(format, parser, Long.toString(random.nextLong() % 100000000L));
+                }
+            }
+        }
+    }
+
+    private static java.text.DecimalFormat[] formatsOf(Locale locale) {
+        java.text.DecimalFormat number = (java.text.DecimalFormat) java.text.NumberFormat.getInstance(locale);
+        java.text.DecimalFormat integer = (java.text.DecimalFormat) java.text.NumberFormat.getIntegerInstance(locale);
+        integer.setGroupingUsed(false);
+        java.text.DecimalFormat decimal = new java.text.DecimalFormat("#,##0.00", DecimalFormatSymbols.getInstance(locale));
+        decimal.setParseBigDecimal(true);
+        java.text.DecimalFormat plain = new java.text.DecimalFormat("0.#", DecimalFormatSymbols.getInstance(locale));
+        plain.setParseBigDecimal(true);
+        return new java.text.DecimalFormat[]{number, integer, decimal, plain};
+    }
+
+    private static double randomNumber(Random random) {
+        switch (random.nextInt(4)) {
+        case 0:
+            return random.nextInt(2000) - 1000;
+        case 1:
+            return (random.nextLong() % 10000000000L) / 100.0;
+        case 2:
+            return random.nextGaussian() * 1e6;
+        default:
+            return random.nextDouble() - 0.5;
+        }
+    }
+
+    /**
+     * Parses the same way as {@link NumberFormat} does without the locale number parser.
+     */
+    private static Number javaParse(java.text.DecimalFormat format, String value) {
+        if (Character.isSpaceChar(format.getDecimalFormatSymbols().getGroupingSeparator()))
+            value = StringUtils.removeAllSpaces(value);
+        if (!format.getNegativePrefix().equals("-") && value.startsWith("-"))
+            value = format.getNegativePrefix() + value.substring(1);
+        ParsePosition position = new ParsePosition(0);
+        Number number = (Number) format.parseObject(value, position);
+        return position.getIndex() < value.length() ? null : number;
+    }
+
+    private static void assertSameAsJava(java.text.DecimalFormat format, LocaleNumberParser parser, String value) {
+        Number expected = javaParse(format, value);
+        Number actual = parser.parse(value);
+        if (actual != null) {
+            assertEquals(value, expected, actual);
+            if (expected instanceof BigDecimal)
+                assertEquals(value, ((BigDecimal) expected).scale(), ((BigDecimal) actual).scale());
+        }
+        double actualDouble = parser.parseDouble(value);
+        if (!Double.isNaN(actualDouble))
+            assertEquals(value, Double.valueOf(expected.doubleValue()), Double.valueOf(actualDouble));
+        long actualLong = parser.parseLong(value);
+        if (actualLong != Long.MIN_VALUE)
+            assertEquals(value, expected.longValue(), actualLong);
+    }
+}
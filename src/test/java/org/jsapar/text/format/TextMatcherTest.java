@@ -0,0 +1,48 @@
+package org.jsapar.text.format;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TextMatcherTest {
+
+    @Test
+    public void match() {
+        TextMatcher<Integer> matcher = new TextMatcher<>(false);
+        matcher.put("abc", 1);
+        matcher.put("abd", 2);
+        matcher.putIfAbsent("abd", 3);
+        matcher.put("", 4);
+        assertEquals(Integer.valueOf(1), matcher.match("abc"));
+        assertEquals(Integer.valueOf(2), matcher.match("abd"));
+        assertEquals(Integer.valueOf(4), matcher.match(""));
+        assertNull(matcher.match("ab"));
+        assertNull(matcher.match("abcd"));
+        assertNull(matcher.match("ABC"));
+        assertEquals(Integer.valueOf(2), matcher.match("xabdx".toCharArray(), 1, 4));
+    }
+
+    @Test
+    public void match_ignoreCase() {
+        TextMatcher<Integer> matcher = new TextMatcher<>(true);
+        matcher.put("Straße", 1);
+        matcher.put("ÅÄÖ", 2);
+        assertEquals(Integer.valueOf(1), matcher.match("STRAßE"));
+        assertEquals(Integer.valueOf(2), matcher.match("åäö"));
+        assertNull(matcher.match("STRASSE"));
+    }
+
+    @Test
+    public void match_prefix() {
+        TextMatcher<Integer> matcher = new TextMatcher<>(false);
+        matcher.putPrefix("abc", 1);
+        matcher.putPrefix("a", 2);
+        matcher.putPrefix("a", 3);
+        matcher.put("abcd", 4);
+        assertEquals(Integer.valueOf(1), matcher.match("abcx"));
+        assertEquals(Integer.valueOf(2), matcher.match("ab"));
+        assertEquals(Integer.valueOf(4), matcher.match("abcd"));
+        assertNull(matcher.match("b"));
+        assertNull(matcher.match(""));
+    }
+}
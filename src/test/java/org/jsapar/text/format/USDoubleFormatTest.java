@@ -0,0 +1,87 @@
+package org.jsapar.text.format;
+
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class USDoubleFormatTest {
+
+    private final USDoubleFormat format = new USDoubleFormat();
+
+    @Test
+    public void parseDouble() throws ParseException {
+        assertEquals(3.14159, format.parseDouble("3.14159"), 0.0);
+        assertEquals(-0.5, format.parseDouble("-.5"), 0.0);
+        assertEquals(1200.0, format.parseDouble("+1.2e3"), 0.0);
+        assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(format.parseDouble("-0")));
+        assertEquals(1e300, format.parseDouble("1e300"), 0.0);
+        assertEquals(0.1, format.parseDouble(" 0.1 "), 0.0);
+        assertEquals(Double.NaN, format.parseDouble("NaN"), 0.0);
+    }
+
+    @Test(expected = ParseException.class)
+    public void parseDouble_invalid() throws ParseException {
+        format.parseDouble("1.2.3");
+    }
+
+    @Test
+    public void parseDouble_same_as_Double() throws ParseException {
+        Random random = new Random(17);
+        String alphabet = "0123456789012345678901234567890123456789.-+eE";
+        for (int i = 0; i < 100000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = 1 + random.nextInt(22);
+            for (int j = 0; j < length; j++)
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            String value = sb.toString();
+            double expected;
+            try {
+                expected = Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            assertEquals(value, Double.doubleToLongBits(expected), Double.doubleToLongBits(format.parseDouble(value)));
+        }
+    }
+
+    @Test
+    public void parseLong() throws ParseException {
+        assertEquals(-9223372036854775808L, new USIntegerFormat().parseLong("-9223372036854775808"));
+        assertEquals(42L, new USIntegerFormat().parseLong(new StringBuilder("+42")));
+    }
+
+    @Test(expected = ParseException.class)
+    public void parseLong_invalid() throws ParseException {
+        new USIntegerFormat().parseLong("4.2");
+    }
+
+    @Test
+    public void parseDouble_chars() throws ParseException {
+        char[] buffer = "x-12.5e2;".toCharArray();
+        assertEquals(-1250.0, format.parseDouble(buffer, 1, 8), 0.0);
+    }
+
+    @Test
+    public void parseLong_chars() throws ParseException {
+        USIntegerFormat integerFormat = new USIntegerFormat();
+        char[] buffer = ";-9223372036854775808;9223372036854775807;+42;".toCharArray();
+        assertEquals(Long.MIN_VALUE, integerFormat.parseLong(buffer, 1, 21));
+        assertEquals(Long.MAX_VALUE, integerFormat.parseLong(buffer, 22, 41));
+        assertEquals(42L, integerFormat.parseLong(buffer, 42, 45));
+    }
+
+    @Test(expected = ParseException.class)
+    public void parseLong_chars_overflow() throws ParseException {
+        char[] buffer = "9223372036854775808".toCharArray();
+        new USIntegerFormat().parseLong(buffer, 0, buffer.length);
+    }
+
+    @Test(expected = ParseException.class)
+    public void parseLong_chars_invalid() throws ParseException {
+        char[] buffer = "12a".toCharArray();
+        new USIntegerFormat().parseLong(buffer, 0, buffer.length);
+    }
+}
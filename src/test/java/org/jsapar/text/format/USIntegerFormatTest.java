@@ -0,0 +1,31 @@
+package org.jsapar.text.format;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class USIntegerFormatTest {
+
+    @Test
+    public void format_appendable() throws IOException {
+        USIntegerFormat format = new USIntegerFormat();
+        Object[] values = {0, 9, 10, -10, 99L, 100L, Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE,
+                Long.MAX_VALUE, 999999999999999999L, 1000000000000000000L, (short) -32768, (byte) 127,
+                new BigInteger("123456789012345678901234567890")};
+        for (Object value : values)
+            assertFormatAppendable(format, value);
+        Random random = new Random(7);
+        for (int i = 0; i < 5000; i++)
+            assertFormatAppendable(format, random.nextLong() >> random.nextInt(64));
+    }
+
+    private static void assertFormatAppendable(USIntegerFormat format, Object value) throws IOException {
+        StringBuilder sb = new StringBuilder("x");
+        format.format(value, sb);
+        assertEquals("x" + format.format(value), sb.toString());
+    }
+}
@@ -0,0 +1,82 @@
+package org.jsapar.utils.cache;
+
+import org.jsapar.text.CachePolicy;
+import org.jsapar.text.CacheStatistics;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AdaptiveCacheTest {
+
+    @Test
+    public void get_repeating_values_keeps_cache() {
+        CacheStatistics statistics = new CacheStatistics();
+        AdaptiveCache<String, String> cache = new AdaptiveCache<>(16, statistics);
+        for (int i = 0; i < 10000; i++) {
+            String key = String.valueOf(i % 4);
+            if (cache.get(key) == null)
+                cache.put(key, key);
+        }
+        assertEquals(16, cache.getCurrentMaxSize());
+        assertEquals(4, statistics.getMissCount());
+        assertEquals(10000, statistics.getRequestCount());
+        assertTrue(statistics.getHitRate() > 0.99);
+    }
+
+    @Test
+    public void get_unique_values_disables_cache() {
+        CacheStatistics statistics = new CacheStatistics();
+        AdaptiveCache<String, String> cache = new AdaptiveCache<>(64, statistics);
+        int i = 0;
+        for (; i < AdaptiveCache.SAMPLE_SIZE * 7; i++) {
+            String key = String.valueOf(i);
+            if (cache.get(key) == null)
+                cache.put(key, key);
+        }
+        assertEquals(0, cache.getCurrentMaxSize());
+        assertEquals(0, statistics.getHitCount());
+        cache.put("x", "x");
+        assertNull(cache.get("x"));
+
+        // Probes again after a while
+        for (; i < AdaptiveCache.SAMPLE_SIZE * (7 + AdaptiveCache.PROBE_INTERVAL); i++)
+            cache.get(String.valueOf(i));
+        assertEquals(AdaptiveCache.PROBE_SIZE, cache.getCurrentMaxSize());
+    }
+
+    @Test
+    public void get_grows_when_frequently_hit() {
+        AdaptiveCache<String, String> cache = new AdaptiveCache<>(64);
+        // Let it shrink first
+        for (int i = 0; i < AdaptiveCache.SAMPLE_SIZE * 2; i++)
+            cache.get(String.valueOf(i));
+        assertEquals(16, cache.getCurrentMaxSize());
+        // 20 distinct values does not fit in 16 but most of them are hits.
+        for (int i = 0; i < AdaptiveCache.SAMPLE_SIZE * 4; i++) {
+            String key = String.valueOf(i % 40 < 30 ? i % 10 : i % 20);
+            if (cache.get(key) == null)
+                cache.put(key, key);
+        }
+        assertEquals(64, cache.getCurrentMaxSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_zero_size() {
+        new AdaptiveCache<String, String>(0);
+    }
+
+    @Test
+    public void of() {
+        CacheStatistics statistics = new CacheStatistics();
+        assertTrue(Cache.of(CachePolicy.ADAPTIVE, 10, null) instanceof AdaptiveCache);
+        Cache<String, String> cache = Cache.of(CachePolicy.LIMITED_SIZE, 10, statistics);
+        cache.put("a", "A");
+        assertEquals("A", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(0.5, statistics.getHitRate(), 0.0);
+        assertNull(Cache.of(CachePolicy.ADAPTIVE, 0, statistics).get("a"));
+        assertEquals(2, statistics.getMissCount());
+    }
+}
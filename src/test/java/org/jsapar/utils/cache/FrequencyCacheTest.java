@@ -0,0 +1,110 @@
+package org.jsapar.utils.cache;
+
+import org.jsapar.text.CachePolicy;
+import org.jsapar.text.CacheStatistics;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class FrequencyCacheTest {
+
+    @Test
+    public void get() {
+        FrequencyCache<String, String> cache = new FrequencyCache<>(3);
+        assertNull(cache.get("one"));
+        cache.put("one", "1");
+        cache.put("two", "2");
+        cache.put("three", "3");
+        assertEquals("1", cache.get("one"));
+        assertEquals("3", cache.get("three"));
+        assertNull(cache.get("four"));
+        cache.put("four", "4");
+        assertEquals("4", cache.get("four")); // Looked up twice, which is more than "two"
+        assertNull(cache.get("two")); // The only one that was not used.
+        assertEquals("1", cache.get("one"));
+        assertEquals("3", cache.get("three"));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void put_not_admitted() {
+        FrequencyCache<String, String> cache = new FrequencyCache<>(3);
+        for (String key : new String[]{"one", "two", "three"}) {
+            cache.get(key);
+            cache.get(key);
+            cache.put(key, key);
+        }
+        cache.put("four", "4"); // Never looked up, less frequent than the others
+        assertNull(cache.get("four"));
+        assertEquals("one", cache.get("one"));
+        assertEquals("two", cache.get("two"));
+        assertEquals("three", cache.get("three"));
+    }
+
+    @Test
+    public void put_replaces_value() {
+        FrequencyCache<String, String> cache = new FrequencyCache<>(2);
+        cache.put("one", "1");
+        cache.put("one", "one");
+        assertEquals("one", cache.get("one"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void get_frequent_values_survive_outliers() {
+        CacheStatistics frequencyStatistics = new CacheStatistics();
+        CacheStatistics limitedStatistics = new CacheStatistics();
+        Cache<String, String> frequencyCache = Cache.of(CachePolicy.FREQUENCY, 8, frequencyStatistics);
+        Cache<String, String> limitedCache = Cache.of(CachePolicy.LIMITED_SIZE, 8, limitedStatistics);
+        String[] codes = {"SEK", "EUR", "USD", "NOK", "DKK"};
+        for (int i = 0; i < 10000; i++) {
+            String key = i % 2 == 0 ? "X" + i : codes[i % codes.length];
+            for (Cache<String, String> cache : List.of(frequencyCache, limitedCache)) {
+                if (cache.get(key) == null)
+                    cache.put(key, key);
+            }
+        }
+        // Half of the lookups are unique outliers, the codes should almost always be hit while the oldest
+        // ones are always discarded from the limited size cache before being hit again.
+        assertTrue(frequencyStatistics.getHitRate() > 0.45);
+        assertEquals(0, limitedStatistics.getHitCount());
+    }
+
+    @Test
+    public void get_same_as_map() {
+        Random random = new Random(3);
+        FrequencyCache<Integer, Integer> cache = new FrequencyCache<>(37);
+        Map<Integer, Integer> map = new HashMap<>();
+        for (int i = 0; i < 200000; i++) {
+            Integer key = random.nextInt(random.nextBoolean() ? 50 : 5000);
+            Integer value = cache.get(key);
+            if (value == null) {
+                value = random.nextInt();
+                cache.put(key, value);
+                map.put(key, value);
+            } else {
+                assertEquals(map.get(key), value);
+            }
+            assertTrue(cache.size() <= 37);
+        }
+        int found = 0;
+        for (Map.Entry<Integer, Integer> entry : map.entrySet()) {
+            Integer value = cache.get(entry.getKey());
+            if (value != null) {
+                assertEquals(entry.getValue(), value);
+                found++;
+            }
+        }
+        assertEquals(37, found);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_zero_size() {
+        new FrequencyCache<String, String>(0);
+    }
+}